@@ -157,6 +157,26 @@ public class RedPreferencesTest {
         assertThat(preferences.getMessageLogViewLimit()).contains(1000);
     }
 
+    @Test
+    public void messageLogSpillLimitIsTakenFromStore_1() {
+        final IPreferenceStore store = mock(IPreferenceStore.class);
+        when(store.getBoolean(RedPreferences.SPILL_MSG_LOG_OUTPUT)).thenReturn(false);
+        when(store.getInt(RedPreferences.SPILL_MSG_LOG_LENGTH)).thenReturn(1000);
+
+        final RedPreferences preferences = new RedPreferences(store);
+        assertThat(preferences.getMessageLogSpillLimit()).isEmpty();
+    }
+
+    @Test
+    public void messageLogSpillLimitIsTakenFromStore_2() {
+        final IPreferenceStore store = mock(IPreferenceStore.class);
+        when(store.getBoolean(RedPreferences.SPILL_MSG_LOG_OUTPUT)).thenReturn(true);
+        when(store.getInt(RedPreferences.SPILL_MSG_LOG_LENGTH)).thenReturn(1000);
+
+        final RedPreferences preferences = new RedPreferences(store);
+        assertThat(preferences.getMessageLogSpillLimit()).contains(1000);
+    }
+
     @Test
     public void turnOffValidationIsTakenFromStore_1() {
         final IPreferenceStore store = mock(IPreferenceStore.class);
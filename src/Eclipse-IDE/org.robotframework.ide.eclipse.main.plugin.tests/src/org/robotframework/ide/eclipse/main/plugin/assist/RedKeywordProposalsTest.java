@@ -8,6 +8,9 @@ package org.robotframework.ide.eclipse.main.plugin.assist;
 import static com.google.common.collect.Iterables.transform;
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.robotframework.ide.eclipse.main.plugin.assist.AssistProposalPredicates.alwaysTrue;
 import static org.robotframework.ide.eclipse.main.plugin.assist.Commons.firstProposalContaining;
 import static org.robotframework.ide.eclipse.main.plugin.assist.Commons.prefixesMatcher;
@@ -149,6 +152,30 @@ public class RedKeywordProposalsTest {
                 "c_kw3 - file.robot");
     }
 
+    @Test
+    public void keywordsAreLocatedOnlyOnce_whenProposalsAreNarrowedDownByLongerInputs() throws Exception {
+        final IFile resFile = projectProvider.getFile("res.robot");
+        final IFile file = projectProvider.createFile("file.robot",
+                "*** Settings ***",
+                "Resource  res.robot",
+                "*** Keywords ***",
+                "a_kw1",
+                "*** Test Cases ***");
+        final RobotModel spiedModel = spy(new RobotModel());
+        final RobotSuiteFile suiteFile = spiedModel.createSuiteFile(file);
+
+        final RedKeywordProposals provider = new RedKeywordProposals(spiedModel, suiteFile);
+        for (final String input : newArrayList("", "a", "a_", "a_res", "a_res_kw1")) {
+            final List<? extends AssistProposal> proposals = provider.getKeywordProposals(input);
+            final List<? extends AssistProposal> expected = new RedKeywordProposals(robotModel,
+                    robotModel.createSuiteFile(file)).getKeywordProposals(input);
+
+            assertThat(transform(proposals, AssistProposal::getLabel))
+                    .containsExactlyElementsOf(transform(expected, AssistProposal::getLabel));
+        }
+        verify(spiedModel, times(1)).createSuiteFile(resFile);
+    }
+
     @Test
     public void allLocalKeywordsAreProvidedInOrderInducedByGivenComparator_whenCustomComparatorIsProvided()
             throws Exception {
@@ -618,6 +645,51 @@ public class RedKeywordProposalsTest {
         }
     }
 
+    @Test
+    public void proposalsForNarrowedInputAreProvided_whenSameProviderIsAskedForSubsequentInputs() throws Exception {
+        final IFile file = projectProvider.createFile("file.robot",
+                "*** Keywords ***",
+                "a_kw1",
+                "ab_kw2",
+                "abc_kw3",
+                "*** Test Cases ***");
+        final RobotSuiteFile suiteFile = robotModel.createSuiteFile(file);
+
+        final RedKeywordProposals provider = new RedKeywordProposals(robotModel, suiteFile);
+
+        assertThat(transform(provider.getKeywordProposals("a"), AssistProposal::getLabel))
+                .containsExactly("a_kw1 - file.robot", "ab_kw2 - file.robot", "abc_kw3 - file.robot");
+        assertThat(transform(provider.getKeywordProposals("ab"), AssistProposal::getLabel))
+                .containsExactly("ab_kw2 - file.robot", "abc_kw3 - file.robot");
+        assertThat(transform(provider.getKeywordProposals("abc"), AssistProposal::getLabel))
+                .containsExactly("abc_kw3 - file.robot");
+        assertThat(transform(provider.getKeywordProposals("a_"), AssistProposal::getLabel))
+                .containsExactly("a_kw1 - file.robot");
+    }
+
+    @Test
+    public void qualifiedNameIsAddedToInputForConflictingProposals_whenSameProviderIsAskedForSubsequentInputs()
+            throws Exception {
+        final RobotProject robotProject = robotModel.createRobotProject(projectProvider.getProject());
+        robotProject.setStandardLibraries(Libraries.createStdLib("stdLib", "b_res_kw2", "x_lib_kw"));
+
+        final IFile file = projectProvider.createFile("file.robot",
+                "*** Settings ***",
+                "Library  stdLib",
+                "Resource  res.robot",
+                "*** Test Cases ***");
+        final RobotSuiteFile suiteFile = robotModel.createSuiteFile(file);
+
+        final RedKeywordProposals provider = new RedKeywordProposals(robotModel, suiteFile);
+
+        assertThat(transform(provider.getKeywordProposals("b_"), AssistProposal::getContent))
+                .containsOnly("b_res_kw2", "stdLib.b_res_kw2");
+        assertThat(transform(provider.getKeywordProposals("b_res"), AssistProposal::getContent))
+                .containsOnly("b_res_kw2", "stdLib.b_res_kw2");
+        assertThat(transform(provider.getKeywordProposals("x_"), AssistProposal::getContent))
+                .containsExactly("x_lib_kw");
+    }
+
     @Test
     public void onlyKeywordsFromImportedLibrariesOrAccessibleWithoutImportAreProvided_whenKeywordFromNotImportedLibraryPreferenceIsDisabled()
             throws Exception {
@@ -27,6 +27,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
+import org.rf.ide.core.execution.debug.BreakpointHolders;
 import org.robotframework.red.junit.ProjectProvider;
 
 public class RobotBreakpointsTest {
@@ -133,6 +134,46 @@ public class RobotBreakpointsTest {
         assertThat(foundBreakpoint).isEmpty();
     }
 
+    @Test
+    public void testsHoldingEnabledBreakpointsAreCollected() throws Exception {
+        final IMarker marker1 = createMarker(file, true);
+        marker1.setAttribute(IMarker.LINE_NUMBER, 3);
+        final IMarker marker2 = createMarker(file, false);
+        marker2.setAttribute(IMarker.LINE_NUMBER, 1);
+
+        final RobotLineBreakpoint bp1 = new RobotLineBreakpoint(marker1);
+        final RobotLineBreakpoint bp2 = new RobotLineBreakpoint(marker2);
+        when(breakpointManager.isEnabled()).thenReturn(true);
+        when(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID))
+                .thenReturn(new IBreakpoint[] { bp1, bp2 });
+
+        final BreakpointHolders holders = breakpoints.collectBreakpointHolders();
+        assertThat(holders.isKnown()).isTrue();
+        assertThat(holders.getTests()).containsExactly("case");
+        assertThat(holders.getKeywords()).isEmpty();
+    }
+
+    @Test
+    public void holdersAreUnknown_whenBreakpointIsNotPlacedInFile() throws Exception {
+        final RobotLineBreakpoint bp = new RobotLineBreakpoint(createMarker(true));
+        when(breakpointManager.isEnabled()).thenReturn(true);
+        when(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID)).thenReturn(new IBreakpoint[] { bp });
+
+        assertThat(breakpoints.collectBreakpointHolders().isKnown()).isFalse();
+    }
+
+    @Test
+    public void thereAreNoHolders_whenBreakpointsAreGloballyDisabled() throws Exception {
+        final IMarker marker = createMarker(file, true);
+        marker.setAttribute(IMarker.LINE_NUMBER, 3);
+
+        final RobotLineBreakpoint bp = new RobotLineBreakpoint(marker);
+        when(breakpointManager.isEnabled()).thenReturn(false);
+        when(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID)).thenReturn(new IBreakpoint[] { bp });
+
+        assertThat(breakpoints.collectBreakpointHolders()).isEqualTo(BreakpointHolders.none());
+    }
+
     @Test
     public void robotLineBreakpointsAreEnabled_ifTheyWereDisabledDueToHitCountStop() throws Exception {
         final IBreakpoint bp1 = mock(IBreakpoint.class);
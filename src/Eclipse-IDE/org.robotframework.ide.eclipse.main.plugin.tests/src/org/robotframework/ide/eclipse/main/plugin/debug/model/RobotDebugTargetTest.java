@@ -26,6 +26,7 @@ import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.ILineBreakpoint;
 import org.junit.Test;
 import org.mockito.ArgumentMatcher;
+import org.rf.ide.core.execution.agent.event.ValueSummary;
 import org.rf.ide.core.execution.debug.StackFrame;
 import org.rf.ide.core.execution.debug.StackFrameVariable;
 import org.rf.ide.core.execution.debug.Stacktrace;
@@ -310,6 +311,22 @@ public class RobotDebugTargetTest {
         verify(controller).changeVariableInnerValue(frame, variable, newArrayList("p1", "p2"), newArrayList("a", "b"));
     }
 
+    @Test
+    public void variableExpansionRequestsAreSendThroughUserController() {
+        final ILaunch launch = mock(ILaunch.class);
+        final Stacktrace stack = new Stacktrace();
+        final UserProcessDebugController controller = mock(UserProcessDebugController.class);
+
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.GLOBAL, false, "var", "list",
+                new ValueSummary(1000));
+        final StackFrame frame = mock(StackFrame.class);
+
+        final RobotDebugTarget target = new RobotDebugTarget("target", launch, stack, controller);
+        target.expandVariable(frame, variable, newArrayList("p1", 2));
+
+        verify(controller).expandVariable(frame, variable, newArrayList("p1", 2));
+    }
+
     @Test
     public void robotDebugTargetDoesNotSupportMemoryRetrieval() {
         final ILaunch launch = mock(ILaunch.class);
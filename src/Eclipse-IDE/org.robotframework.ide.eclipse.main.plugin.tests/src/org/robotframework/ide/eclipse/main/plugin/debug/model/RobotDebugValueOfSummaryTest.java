@@ -0,0 +1,68 @@
+/*
+* Copyright 2017 Nokia Solutions and Networks
+* Licensed under the Apache License, Version 2.0,
+* see license.txt file for details.
+*/
+package org.robotframework.ide.eclipse.main.plugin.debug.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import org.junit.Test;
+import org.rf.ide.core.execution.agent.event.ValueSummary;
+import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugVariable.RobotDebugVariableVisitor;
+
+public class RobotDebugValueOfSummaryTest {
+
+    @Test
+    public void summaryPropertiesCheck() {
+        final RobotDebugValueOfSummary summaryValue = RobotDebugValueOfSummary.create(mock(RobotDebugVariable.class),
+                "list", new ValueSummary(1000));
+
+        assertThat(summaryValue.getReferenceTypeName()).isEqualTo("list");
+        assertThat(summaryValue.getValueString()).isEqualTo("list[1000]");
+        assertThat(summaryValue.getDetailedValue()).isEqualTo("...");
+        assertThat(summaryValue.isAllocated()).isTrue();
+        assertThat(summaryValue.hasVariables()).isTrue();
+    }
+
+    @Test
+    public void summaryOfEmptyValueHasNoVariables() {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugValueOfSummary summaryValue = RobotDebugValueOfSummary.create(parent, "dict",
+                new ValueSummary(0));
+
+        assertThat(summaryValue.hasVariables()).isFalse();
+        assertThat(summaryValue.getVariables()).isEmpty();
+        verify(parent).getDebugTarget();
+        verifyNoMoreInteractions(parent);
+    }
+
+    @Test
+    public void expansionIsRequestedOnce_whenVariablesAreAskedFor() {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugValueOfSummary summaryValue = RobotDebugValueOfSummary.create(parent, "list",
+                new ValueSummary(1000));
+
+        assertThat(summaryValue.getVariables()).isEmpty();
+        assertThat(summaryValue.getVariables()).isEmpty();
+        verify(parent).expandValue();
+    }
+
+    @Test
+    public void visitorDoesNotVisitAnythingAndExpansionIsNotRequested() {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugValueOfSummary summaryValue = RobotDebugValueOfSummary.create(parent, "list",
+                new ValueSummary(1000));
+
+        final RobotDebugVariableVisitor visitor = mock(RobotDebugVariableVisitor.class);
+        summaryValue.visitAllVariables(visitor);
+
+        verifyZeroInteractions(visitor);
+        verify(parent).getDebugTarget();
+        verifyNoMoreInteractions(parent);
+    }
+}
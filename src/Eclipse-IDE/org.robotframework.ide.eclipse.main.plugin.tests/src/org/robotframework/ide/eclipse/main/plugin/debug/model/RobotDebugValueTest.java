@@ -11,6 +11,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
 import org.junit.Test;
+import org.rf.ide.core.execution.agent.event.ValueSummary;
 import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugVariable.RobotDebugVariableVisitor;
 
@@ -30,6 +31,9 @@ public class RobotDebugValueTest {
         final RobotDebugValue val4 = RobotDebugValue.createFromValue(mock(RobotDebugVariable.class), "dict",
                 ImmutableMap.of("x", new VariableTypedValue("int", 1), "y", new VariableTypedValue("string", "z")));
         assertThat(val4).isInstanceOf(RobotDebugValueOfDictionary.class);
+        final RobotDebugValue val5 = RobotDebugValue.createFromValue(mock(RobotDebugVariable.class), "list",
+                new ValueSummary(1000));
+        assertThat(val5).isInstanceOf(RobotDebugValueOfSummary.class);
     }
 
     @Test
@@ -21,6 +21,7 @@ import java.util.List;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IValue;
 import org.junit.Test;
+import org.rf.ide.core.execution.agent.event.ValueSummary;
 import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.debug.StackFrameVariable;
 import org.rf.ide.core.testdata.model.table.variables.AVariable.VariableScope;
@@ -473,6 +474,50 @@ public class RobotDebugVariableTest {
                 eq(newArrayList("a", "b", "c")));
     }
 
+    @Test
+    public void summarizedValuesCannotBeEdited() {
+        final StackFrameVariable stackVar = new StackFrameVariable(VariableScope.GLOBAL, false, "var", "list",
+                newArrayList(new VariableTypedValue("list", new ValueSummary(1000))));
+        final RobotDebugVariable topLevelList = new RobotDebugVariable(mock(RobotStackFrame.class), stackVar);
+        final RobotDebugVariable innerSummary = topLevelList.getValue().getVariable("[0]");
+
+        assertThat(topLevelList.supportsValueModification()).isTrue();
+        assertThat(innerSummary.supportsValueModification()).isFalse();
+    }
+
+    @Test
+    public void topLevelSummarizedValueIsExpandedOnceWhenItsChildrenAreRequested() {
+        final RobotStackFrame frame = mock(RobotStackFrame.class);
+
+        final StackFrameVariable stackVar = new StackFrameVariable(VariableScope.GLOBAL, false, "var", "list",
+                new ValueSummary(1000));
+        final RobotDebugVariable topLevelSummary = new RobotDebugVariable(frame, stackVar);
+
+        assertThat(topLevelSummary.getValue().hasVariables()).isTrue();
+        assertThat(topLevelSummary.getValue().getVariables()).isEmpty();
+        assertThat(topLevelSummary.getValue().getVariables()).isEmpty();
+
+        verify(frame).getDebugTarget();
+        verify(frame).expandVariable(same(stackVar), eq(newArrayList()));
+        verifyNoMoreInteractions(frame);
+    }
+
+    @Test
+    public void innerLevelSummarizedValueIsExpandedWhenItsChildrenAreRequested() {
+        final RobotStackFrame frame = mock(RobotStackFrame.class);
+
+        final StackFrameVariable stackVar = new StackFrameVariable(VariableScope.GLOBAL, false, "var", "dict",
+                ImmutableMap.of("f", new VariableTypedValue("int", 1), "g", new VariableTypedValue("list",
+                        newArrayList(new VariableTypedValue("int", 2), new VariableTypedValue("dict",
+                                new ValueSummary(1000))))));
+        final RobotDebugVariable topLevelDict = new RobotDebugVariable(frame, stackVar);
+        final RobotDebugVariable innerSummary = topLevelDict.getValue().getVariable("g").getValue().getVariable("[1]");
+
+        assertThat(innerSummary.getValue().getVariables()).isEmpty();
+
+        verify(frame).expandVariable(same(stackVar), eq(newArrayList("g", 1)));
+    }
+
     @Test
     public void topLevelVariablesEqualityTest() {
         final RobotStackFrame frame = mock(RobotStackFrame.class);
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.Path;
+import org.junit.Before;
+import org.junit.Test;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotElementChange.Kind;
+
+public class RobotModelTest {
+
+    private final IProject project = mock(IProject.class);
+
+    private final IFolder folder = mock(IFolder.class);
+
+    private final IFile file = mock(IFile.class);
+
+    @Before
+    public void beforeTest() {
+        when(project.getFullPath()).thenReturn(new Path("/project"));
+
+        when(folder.getProject()).thenReturn(project);
+        when(folder.getParent()).thenReturn(project);
+        when(folder.getFullPath()).thenReturn(new Path("/project/folder"));
+
+        when(file.getProject()).thenReturn(project);
+        when(file.getParent()).thenReturn(folder);
+        when(file.getFullPath()).thenReturn(new Path("/project/folder/suite.robot"));
+    }
+
+    @Test
+    public void sameElementsAreReturned_whenCreatedForSameResources() {
+        final RobotModel model = new RobotModel();
+
+        final RobotSuiteFile suiteFile = model.createSuiteFile(file);
+        final RobotFolder robotFolder = model.createRobotSuite(folder);
+        final RobotProject robotProject = model.createRobotProject(project);
+
+        assertThat(model.createSuiteFile(file)).isSameAs(suiteFile);
+        assertThat(model.createRobotSuite(folder)).isSameAs(robotFolder);
+        assertThat(model.createRobotProject(project)).isSameAs(robotProject);
+
+        assertThat(model.getChildren()).containsExactly(robotProject);
+        assertThat(robotProject.getChildren()).containsExactly(robotFolder);
+        assertThat(robotFolder.getChildren()).containsExactly(suiteFile);
+        assertThat(suiteFile.getParent()).isSameAs(robotFolder);
+    }
+
+    @Test
+    public void singleElementIsCreated_whenCreatedConcurrently() throws Exception {
+        final RobotModel model = new RobotModel();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<RobotSuiteFile>> tasks = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                tasks.add(() -> model.createSuiteFile(file));
+            }
+            final List<Future<RobotSuiteFile>> results = executor.invokeAll(tasks);
+            final RobotSuiteFile suiteFile = results.get(0).get();
+            for (final Future<RobotSuiteFile> result : results) {
+                assertThat(result.get()).isSameAs(suiteFile);
+            }
+            assertThat(model.createRobotSuite(folder).getChildren()).containsExactly(suiteFile);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void removedFileIsRemovedFromModel_whenChangesAreSynchronized() {
+        final RobotModel model = new RobotModel();
+        final RobotSuiteFile suiteFile = model.createSuiteFile(file);
+        final RobotFolder robotFolder = model.createRobotSuite(folder);
+
+        final IResourceDelta delta = mock(IResourceDelta.class);
+        final IResourceDelta projectDelta = prepareDelta(IResourceDelta.CHANGED, IResourceDelta.CONTENT);
+        final IResourceDelta folderDelta = prepareDelta(IResourceDelta.CHANGED, IResourceDelta.CONTENT);
+        final IResourceDelta fileDelta = prepareDelta(IResourceDelta.REMOVED, 0);
+        when(delta.findMember(project.getFullPath())).thenReturn(projectDelta);
+        when(delta.findMember(folder.getFullPath())).thenReturn(folderDelta);
+        when(delta.findMember(file.getFullPath())).thenReturn(fileDelta);
+
+        final List<RobotElementChange> changes = model.synchronizeChanges(delta);
+
+        assertThat(changes).hasSize(3);
+        assertThat(changes.get(1).getElement()).isSameAs(robotFolder);
+        assertThat(changes.get(1).getKind()).isEqualTo(Kind.CHANGED);
+        assertThat(changes.get(2).getElement()).isSameAs(suiteFile);
+        assertThat(changes.get(2).getKind()).isEqualTo(Kind.REMOVED);
+
+        assertThat(robotFolder.getChildren()).isEmpty();
+        final RobotSuiteFile newSuiteFile = model.createSuiteFile(file);
+        assertThat(newSuiteFile).isNotSameAs(suiteFile);
+        assertThat(robotFolder.getChildren()).containsExactly(newSuiteFile);
+    }
+
+    @Test
+    public void removedProjectIsRemovedFromModel() {
+        final RobotModel model = new RobotModel();
+        final RobotProject robotProject = model.createRobotProject(project);
+
+        final List<RobotElementChange> changes = model.removeProject(project);
+
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0).getElement()).isSameAs(robotProject);
+        assertThat(changes.get(0).getKind()).isEqualTo(Kind.REMOVED);
+        assertThat(model.getChildren()).isEmpty();
+        assertThat(model.createRobotProject(project)).isNotSameAs(robotProject);
+    }
+
+    private static IResourceDelta prepareDelta(final int kind, final int flags) {
+        final IResourceDelta delta = mock(IResourceDelta.class);
+        when(delta.getKind()).thenReturn(kind);
+        when(delta.getFlags()).thenReturn(flags);
+        return delta;
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 
 import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditor;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.ui.IWorkbench;
 import org.junit.Rule;
 import org.junit.Test;
@@ -35,16 +36,20 @@ public class AutoDiscoveringPreferencePageTest {
     }
 
     @Test
-    public void checkIfEditorForRecursiveModulesAdditionIsDefined() throws Exception {
+    public void checkIfEditorsForRecursiveModulesAdditionAndDryRunAgentsAreDefined() throws Exception {
         final AutoDiscoveringPreferencePage page = new AutoDiscoveringPreferencePage();
         page.createControl(shellProvider.getShell());
 
         final List<FieldEditor> editors = FieldEditorPreferencePageHelper.getEditors(page);
-        assertThat(editors).hasSize(1);
+        assertThat(editors).hasSize(2);
 
         final FieldEditor editor = editors.get(0);
         assertThat(editor).isInstanceOf(BooleanFieldEditor.class);
         assertThat(editor.getPreferenceName())
                 .isEqualTo(RedPreferences.PROJECT_MODULES_RECURSIVE_ADDITION_ON_VIRTUALENV_ENABLED);
+
+        final FieldEditor agentsEditor = editors.get(1);
+        assertThat(agentsEditor).isInstanceOf(IntegerFieldEditor.class);
+        assertThat(agentsEditor.getPreferenceName()).isEqualTo(RedPreferences.AUTODISCOVERY_DRY_RUN_AGENTS);
     }
 }
@@ -46,7 +46,8 @@ public class LaunchingPreferencePageTest {
 
         assertThat(prefNames).containsOnly(RedPreferences.LAUNCH_USE_ARGUMENT_FILE,
                 RedPreferences.LAUNCH_USE_SINGLE_FILE_DATA_SOURCE,
-                RedPreferences.LAUNCH_USE_SINGLE_COMMAND_LINE_ARGUMENT, RedPreferences.LIMIT_MSG_LOG_OUTPUT);
+                RedPreferences.LAUNCH_USE_SINGLE_COMMAND_LINE_ARGUMENT, RedPreferences.LIMIT_MSG_LOG_OUTPUT,
+                RedPreferences.SPILL_MSG_LOG_OUTPUT);
 
     }
 
@@ -60,6 +61,6 @@ public class LaunchingPreferencePageTest {
                 .map(FieldEditor::getPreferenceName)
                 .collect(toList());
 
-        assertThat(prefNames).containsOnly(RedPreferences.LIMIT_MSG_LOG_LENGTH);
+        assertThat(prefNames).containsOnly(RedPreferences.LIMIT_MSG_LOG_LENGTH, RedPreferences.SPILL_MSG_LOG_LENGTH);
     }
 }
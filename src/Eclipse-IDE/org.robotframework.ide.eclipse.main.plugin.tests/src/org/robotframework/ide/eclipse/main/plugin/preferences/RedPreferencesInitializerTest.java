@@ -92,6 +92,8 @@ public class RedPreferencesInitializerTest {
         verify(preferences).putBoolean(RedPreferences.LAUNCH_USE_SINGLE_FILE_DATA_SOURCE, false);
         verify(preferences).putBoolean(RedPreferences.LIMIT_MSG_LOG_OUTPUT, false);
         verify(preferences).putInt(RedPreferences.LIMIT_MSG_LOG_LENGTH, 80_000);
+        verify(preferences).putBoolean(RedPreferences.SPILL_MSG_LOG_OUTPUT, true);
+        verify(preferences).putInt(RedPreferences.SPILL_MSG_LOG_LENGTH, 50_000_000);
         verify(preferences).put(RedPreferences.LAUNCH_AGENT_CONNECTION_HOST, "127.0.0.1");
         verify(preferences).putInt(RedPreferences.LAUNCH_AGENT_CONNECTION_PORT, 43_981);
         verify(preferences).putInt(RedPreferences.LAUNCH_AGENT_CONNECTION_TIMEOUT, 30);
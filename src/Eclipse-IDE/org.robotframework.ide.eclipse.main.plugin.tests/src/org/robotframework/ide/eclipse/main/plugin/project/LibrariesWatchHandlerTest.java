@@ -40,6 +40,7 @@ import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibrary;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
@@ -99,7 +100,7 @@ public class LibrariesWatchHandlerTest {
         assertEquals(pythonLibraryFile.getParentFile().getPath(), registeredPaths.get(PYTHON_LIBRARY_FILE_NAME));
         assertEquals(new Path(pythonLibraryFile.getPath()).toPortableString(),
                 librariesWatchHandler.getRegisteredRefLibraries().get(referencedLibrary));
-        assertEquals(newArrayList(pythonLibraryFile.getName()),
+        assertEquals(newArrayList(watchedPath(pythonLibraryFile)),
                 librariesWatchHandler.getLibrarySpecifications().get(libSpec));
     }
 
@@ -117,7 +118,7 @@ public class LibrariesWatchHandlerTest {
         assertEquals(pythonLibraryFile.getParentFile().getPath(), registeredPaths.get(PYTHON_LIBRARY_FILE_NAME));
         assertEquals(new Path(pythonLibraryFile.getPath()).toPortableString(),
                 librariesWatchHandler.getRegisteredRefLibraries().get(referencedLibrary));
-        assertEquals(newArrayList(pythonLibraryFile.getName()),
+        assertEquals(newArrayList(watchedPath(pythonLibraryFile)),
                 librariesWatchHandler.getLibrarySpecifications().get(libSpec));
     }
 
@@ -147,11 +148,11 @@ public class LibrariesWatchHandlerTest {
                 librariesWatchHandler.getRegisteredRefLibraries().get(referencedLibrary2));
         assertEquals(new Path(pythonLibraryFile.getPath()).toPortableString(),
                 librariesWatchHandler.getRegisteredRefLibraries().get(referencedLibrary3));
-        assertEquals(newArrayList(pythonLibraryFile.getName()),
+        assertEquals(newArrayList(watchedPath(pythonLibraryFile)),
                 librariesWatchHandler.getLibrarySpecifications().get(libSpec1));
-        assertEquals(newArrayList(pythonLibraryFile.getName()),
+        assertEquals(newArrayList(watchedPath(pythonLibraryFile)),
                 librariesWatchHandler.getLibrarySpecifications().get(libSpec2));
-        assertEquals(newArrayList(pythonLibraryFile.getName()),
+        assertEquals(newArrayList(watchedPath(pythonLibraryFile)),
                 librariesWatchHandler.getLibrarySpecifications().get(libSpec3));
     }
 
@@ -170,10 +171,10 @@ public class LibrariesWatchHandlerTest {
         assertEquals(pythonModuleLibraryFolder.getPath(), registeredPaths.get(PYTHON_MODULE_LIBRARY_FILE_NAME));
         assertEquals(new Path(pythonModuleLibraryInitFile.getPath()).toPortableString(),
                 librariesWatchHandler.getRegisteredRefLibraries().get(referencedLibrary));
-        final List<String> moduleFilesNames = librariesWatchHandler.getLibrarySpecifications().get(libSpec);
-        assertTrue(moduleFilesNames.size() == 2);
-        assertTrue(moduleFilesNames.contains(pythonModuleLibraryFile.getName()));
-        assertTrue(moduleFilesNames.contains(pythonModuleLibraryInitFile.getName()));
+        final List<java.nio.file.Path> moduleFiles = librariesWatchHandler.getLibrarySpecifications().get(libSpec);
+        assertTrue(moduleFiles.size() == 2);
+        assertTrue(moduleFiles.contains(watchedPath(pythonModuleLibraryFile)));
+        assertTrue(moduleFiles.contains(watchedPath(pythonModuleLibraryInitFile)));
     }
 
     @Test
@@ -190,7 +191,7 @@ public class LibrariesWatchHandlerTest {
         assertEquals(javaLibraryFile.getParentFile().getPath(), registeredPaths.get(JAVA_LIBRARY_FILE_NAME));
         assertEquals(new Path(javaLibraryFile.getPath()).toPortableString(),
                 librariesWatchHandler.getRegisteredRefLibraries().get(referencedLibrary));
-        assertEquals(newArrayList(javaLibraryFile.getName()),
+        assertEquals(newArrayList(watchedPath(javaLibraryFile)),
                 librariesWatchHandler.getLibrarySpecifications().get(libSpec));
     }
 
@@ -246,7 +247,7 @@ public class LibrariesWatchHandlerTest {
         final ListMultimap<LibrarySpecification, String> librarySpecifications = librariesWatchHandler
                 .getLibrarySpecifications();
         assertTrue(librarySpecifications.size() == 1);
-        assertEquals(newArrayList(pythonLibraryFile.getName()), librarySpecifications.get(libSpec));
+        assertEquals(newArrayList(watchedPath(pythonLibraryFile)), librarySpecifications.get(libSpec));
         assertEquals(kwSpec, librarySpecifications.keySet().iterator().next().getKeywords().get(0));
     }
 
@@ -305,7 +306,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
 
         librariesWatchHandler.setRebuildTasksQueueSizeBeforeBuilderInvoke(1);
-        librariesWatchHandler.handleModifyEvent(PYTHON_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonLibraryFile)));
 
         librariesWatchHandler.execAllAwaitingMessages();
         assertTrue(librariesWatchHandler.getSpecificationsToRebuild().size() == 2);
@@ -325,7 +326,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
         librariesWatchHandler.setRebuildTasksQueueSizeBeforeBuilderInvoke(1);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_INIT_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonModuleLibraryInitFile)));
 
         librariesWatchHandler.execAllAwaitingMessages();
         assertThat(librariesWatchHandler.getSpecificationsToRebuild().size()).isEqualTo(1);
@@ -335,7 +336,7 @@ public class LibrariesWatchHandlerTest {
 
         librariesWatchHandler.getSpecificationsToRebuild().clear();
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonModuleLibraryFile)));
 
         librariesWatchHandler.execAllAwaitingMessages();
         assertThat(librariesWatchHandler.getSpecificationsToRebuild().size()).isEqualTo(1);
@@ -359,9 +360,9 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
 
         librariesWatchHandler.setRebuildTasksQueueSizeBeforeBuilderInvoke(8);
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonModuleLibraryFile)));
         for (int i = 1; i <= 7; i++) {
-            librariesWatchHandler.handleModifyEvent(PYTHON_LIBRARY_FILE_NAME);
+            librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonLibraryFile)));
         }
 
         librariesWatchHandler.execAllAwaitingMessages();
@@ -389,7 +390,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary1, libSpec1);
         librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonLibraryFile)));
 
         librariesWatchHandler.execAllAwaitingMessages();
         assertTrue(librariesWatchHandler.isLibSpecDirty(libSpec1));
@@ -416,7 +417,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
 
         for (int i = 1; i <= 5; i++) {
-            librariesWatchHandler.handleModifyEvent(PYTHON_LIBRARY_FILE_NAME);
+            librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonLibraryFile)));
         }
 
         librariesWatchHandler.execAllAwaitingMessages();
@@ -439,8 +440,8 @@ public class LibrariesWatchHandlerTest {
         final DummyLibrariesWatchHandler librariesWatchHandler = new DummyLibrariesWatchHandler(robotProject);
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_INIT_FILE_NAME);
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonModuleLibraryInitFile)));
+        librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonModuleLibraryFile)));
 
         librariesWatchHandler.execAllAwaitingMessages();
         assertTrue(librariesWatchHandler.isLibSpecDirty(libSpec));
@@ -448,6 +449,51 @@ public class LibrariesWatchHandlerTest {
         verify(robotProject, times(1)).getReferencedLibraries();
     }
 
+    @Test
+    public void testHandleModifyEvents_whenAutoReloadIsEnabledAndFilesOfManyLibrariesAreModified() {
+        final IProject project = createNewProjectMock(true);
+        final RobotProject robotProject = createNewRobotProjectSpy(project, true);
+        final DummyLibrariesWatchHandler librariesWatchHandler = new DummyLibrariesWatchHandler(robotProject);
+        final ReferencedLibrary referencedLibrary1 = createNewReferencedLibrary(PYTHON_LIBRARY_NAME,
+                pythonLibraryFile.getParentFile().getPath(), LibraryType.PYTHON);
+        final LibrarySpecification libSpec1 = createNewLibSpec(referencedLibrary1);
+        librariesWatchHandler.registerLibrary(referencedLibrary1, libSpec1);
+        final ReferencedLibrary referencedLibrary2 = createNewReferencedLibrary(PYTHON_MODULE_LIBRARY_NAME,
+                pythonModuleLibraryFolder.getParentFile().getPath(), LibraryType.PYTHON);
+        final LibrarySpecification libSpec2 = createNewLibSpec(referencedLibrary2);
+        librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
+        librariesWatchHandler.setRebuildTasksQueueSizeBeforeBuilderInvoke(1);
+
+        librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonLibraryFile),
+                watchedPath(pythonModuleLibraryInitFile), watchedPath(pythonModuleLibraryFile)));
+
+        librariesWatchHandler.execAllAwaitingMessages();
+        assertThat(librariesWatchHandler.getSpecificationsToRebuild().get(project)).containsExactly(libSpec1,
+                libSpec2);
+        assertThat(librariesWatchHandler.getRebuildTasksQueueSizeAfterEachBuilderInvoke()).containsExactly(1);
+        assertThat(librariesWatchHandler.getRebuildTasksQueueSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testHandleModifyEvents_whenFileWithSameNameInOtherDirectoryIsModified() {
+        final ReferencedLibrary referencedLibrary = createNewReferencedLibrary(PYTHON_LIBRARY_NAME,
+                pythonLibraryFile.getParentFile().getPath(), LibraryType.PYTHON);
+        final LibrarySpecification libSpec = createNewLibSpec(referencedLibrary);
+        final Map<LibraryDescriptor, LibrarySpecification> refLibs = new HashMap<>();
+        refLibs.put(LibraryDescriptor.ofReferencedLibrary(referencedLibrary), libSpec);
+        final IProject project = createNewProjectMock(true);
+        final RobotProject robotProject = createNewRobotProjectSpy(project, false, refLibs);
+        final DummyLibrariesWatchHandler librariesWatchHandler = new DummyLibrariesWatchHandler(robotProject);
+        librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
+
+        librariesWatchHandler.handleModifyEvents(
+                ImmutableSet.of(watchedPath(new File(pythonModuleLibraryFolder, PYTHON_LIBRARY_FILE_NAME))));
+
+        librariesWatchHandler.execAllAwaitingMessages();
+        assertFalse(librariesWatchHandler.isLibSpecDirty(libSpec));
+        assertFalse(libSpec.isModified());
+    }
+
     @Test
     public void testRemoveDirtySpecs() {
         final ReferencedLibrary referencedLibrary = createNewReferencedLibrary(PYTHON_MODULE_LIBRARY_NAME,
@@ -459,7 +505,7 @@ public class LibrariesWatchHandlerTest {
         final RobotProject robotProject = createNewRobotProjectSpy(project, false, refLibs);
         final DummyLibrariesWatchHandler librariesWatchHandler = new DummyLibrariesWatchHandler(robotProject);
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_INIT_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonModuleLibraryInitFile)));
         librariesWatchHandler.execAllAwaitingMessages();
 
         assertTrue(librariesWatchHandler.isLibSpecDirty(libSpec));
@@ -481,13 +527,17 @@ public class LibrariesWatchHandlerTest {
         final LibrarySpecification libSpec = createNewLibSpec(referencedLibrary);
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(ImmutableSet.of(watchedPath(pythonLibraryFile)));
 
         assertTrue(librariesWatchHandler.getSpecificationsToRebuild().isEmpty());
         assertTrue(librariesWatchHandler.getLibrarySpecifications().isEmpty());
         assertTrue(librariesWatchHandler.getRegisteredRefLibraries().isEmpty());
     }
 
+    private static java.nio.file.Path watchedPath(final File file) {
+        return file.toPath().toAbsolutePath().normalize();
+    }
+
     private IProject createNewProjectMock(final boolean projectExists) {
         final IProject project = mock(IProject.class);
         when(project.exists()).thenReturn(projectExists);
@@ -548,13 +598,13 @@ public class LibrariesWatchHandlerTest {
         }
 
         @Override
-        public void registerPath(final java.nio.file.Path dir, final String fileName) {
-            registeredPaths.put(fileName, dir.toString());
+        public void registerPath(final java.nio.file.Path file) {
+            registeredPaths.put(file.getFileName().toString(), file.getParent().toString());
         }
 
         @Override
-        public void unregisterFile(final String fileName) {
-            unregisteredFiles.add(fileName);
+        public void unregisterFile(final java.nio.file.Path file) {
+            unregisteredFiles.add(file.getFileName().toString());
         }
 
         @Override
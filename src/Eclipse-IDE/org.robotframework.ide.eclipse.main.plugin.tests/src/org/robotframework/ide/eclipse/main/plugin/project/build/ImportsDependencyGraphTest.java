@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+public class ImportsDependencyGraphTest {
+
+    private final IFile suite1 = mock(IFile.class);
+
+    private final IFile suite2 = mock(IFile.class);
+
+    private final IFile resource1 = mock(IFile.class);
+
+    private final IFile resource2 = mock(IFile.class);
+
+    private final IFile variables = mock(IFile.class);
+
+    @Test
+    public void thereAreNoDependentFiles_whenGraphIsEmpty() {
+        final ImportsDependencyGraph graph = new ImportsDependencyGraph();
+
+        assertThat(graph.getDependentFiles(ImmutableSet.of(resource1))).isEmpty();
+    }
+
+    @Test
+    public void directAndTransitiveImportersAreDependentFiles() {
+        final ImportsDependencyGraph graph = new ImportsDependencyGraph();
+        graph.update(suite1, ImmutableSet.of(resource1));
+        graph.update(suite2, ImmutableSet.of(resource2));
+        graph.update(resource1, ImmutableSet.of(resource2, variables));
+
+        assertThat(graph.getDependentFiles(ImmutableSet.of(suite1))).isEmpty();
+        assertThat(graph.getDependentFiles(ImmutableSet.of(resource1))).containsOnly(suite1);
+        assertThat(graph.getDependentFiles(ImmutableSet.of(resource2))).containsOnly(suite1, suite2, resource1);
+        assertThat(graph.getDependentFiles(ImmutableSet.of(variables))).containsOnly(suite1, resource1);
+    }
+
+    @Test
+    public void importsAreReplaced_whenFileIsUpdatedAgain() {
+        final ImportsDependencyGraph graph = new ImportsDependencyGraph();
+        graph.update(suite1, ImmutableSet.of(resource1));
+        graph.update(suite1, ImmutableSet.of(resource2));
+
+        assertThat(graph.getDependentFiles(ImmutableSet.of(resource1))).isEmpty();
+        assertThat(graph.getDependentFiles(ImmutableSet.of(resource2))).containsOnly(suite1);
+    }
+
+    @Test
+    public void importsAreRemoved_whenFileIsRemoved() {
+        final ImportsDependencyGraph graph = new ImportsDependencyGraph();
+        graph.update(suite1, ImmutableSet.of(resource1));
+        graph.update(resource1, ImmutableSet.of(resource2));
+        graph.remove(resource1);
+
+        assertThat(graph.getDependentFiles(ImmutableSet.of(resource1))).containsOnly(suite1);
+        assertThat(graph.getDependentFiles(ImmutableSet.of(resource2))).isEmpty();
+    }
+
+    @Test
+    public void importCyclesAreHandled() {
+        final ImportsDependencyGraph graph = new ImportsDependencyGraph();
+        graph.update(resource1, ImmutableSet.of(resource2));
+        graph.update(resource2, ImmutableSet.of(resource1));
+
+        assertThat(graph.getDependentFiles(ImmutableSet.of(resource1))).containsOnly(resource1, resource2);
+    }
+
+    @Test
+    public void dependentFilesAreFoundInGraphsOfAllProjects() {
+        final ImportsDependencyGraph graph1 = new ImportsDependencyGraph();
+        final ImportsDependencyGraph graph2 = new ImportsDependencyGraph();
+        graph1.update(suite1, ImmutableSet.of(resource1));
+        graph2.update(resource1, ImmutableSet.of(resource2));
+        graph2.update(suite2, ImmutableSet.of(variables));
+
+        assertThat(ImportsDependencyGraph.getDependentFiles(ImmutableList.of(graph1, graph2),
+                ImmutableSet.of(resource2))).containsOnly(resource1, suite1);
+        assertThat(ImportsDependencyGraph.getDependentFiles(ImmutableList.of(graph1, graph2),
+                ImmutableSet.of(variables))).containsOnly(suite2);
+        assertThat(graph1.getDependentFiles(ImmutableSet.of(resource2))).isEmpty();
+    }
+
+    @Test
+    public void graphIsForgotten_whenProjectIsRemoved() {
+        final IProject project = mock(IProject.class);
+        final ImportsDependencyGraph graph = ImportsDependencyGraph.forProject(project);
+        graph.update(suite1, ImmutableSet.of(resource1));
+
+        assertThat(ImportsDependencyGraph.forProject(project)).isSameAs(graph);
+
+        ImportsDependencyGraph.removeProject(project);
+
+        final ImportsDependencyGraph newGraph = ImportsDependencyGraph.forProject(project);
+        assertThat(newGraph).isNotSameAs(graph);
+        assertThat(newGraph.getDependentFiles(ImmutableSet.of(resource1))).isEmpty();
+        ImportsDependencyGraph.removeProject(project);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.robotframework.ide.eclipse.main.plugin.project.editor.libraries.Libraries.createStdLib;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.resources.IFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.rf.ide.core.libraries.LibraryDescriptor;
+import org.rf.ide.core.libraries.LibrarySpecification;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
+import org.robotframework.red.junit.ProjectProvider;
+
+public class AccessibleKeywordsCacheTest {
+
+    @ClassRule
+    public static ProjectProvider projectProvider = new ProjectProvider(AccessibleKeywordsCacheTest.class);
+
+    private RobotModel model;
+
+    @Before
+    public void beforeTest() throws Exception {
+        projectProvider.configure();
+        model = spy(new RobotModel());
+        model.createRobotProject(projectProvider.getProject()).setStandardLibraries(createStdLib("BuiltIn", "log"));
+    }
+
+    @After
+    public void afterTest() throws Exception {
+        projectProvider.deconfigure();
+    }
+
+    @Test
+    public void keywordsFromSuiteResourcesAndLibrariesAreCollected() throws Exception {
+        projectProvider.createFile("res.robot",
+                "*** Keywords ***",
+                "reskw");
+        final IFile suite = projectProvider.createFile("suite.robot",
+                "*** Settings ***",
+                "Resource  res.robot",
+                "*** Keywords ***",
+                "suitekw");
+
+        final Map<String, Collection<KeywordEntity>> keywords = new AccessibleKeywordsCache(model)
+                .collectAccessibleKeywords(suite);
+
+        assertThat(keywords).containsKeys("suitekw", "reskw", "log");
+    }
+
+    @Test
+    public void filesAreNotReadAgain_whenKeywordsAreCollectedRepeatedly() throws Exception {
+        final IFile resource = projectProvider.createFile("res.robot",
+                "*** Keywords ***",
+                "reskw");
+        final IFile suite1 = projectProvider.createFile("suite1.robot",
+                "*** Settings ***",
+                "Resource  res.robot");
+        final IFile suite2 = projectProvider.createFile("suite2.robot",
+                "*** Settings ***",
+                "Resource  res.robot");
+
+        final AccessibleKeywordsCache cache = new AccessibleKeywordsCache(model);
+        final Map<String, Collection<KeywordEntity>> firstKeywords = cache.collectAccessibleKeywords(suite1);
+        final Map<String, Collection<KeywordEntity>> secondKeywords = cache.collectAccessibleKeywords(suite1);
+        cache.collectAccessibleKeywords(suite2);
+
+        assertThat(secondKeywords).isEqualTo(firstKeywords);
+        assertThat(secondKeywords.get("reskw")).containsExactlyElementsOf(firstKeywords.get("reskw"));
+        verify(model, times(1)).createSuiteFile(suite1);
+        verify(model, times(1)).createSuiteFile(suite2);
+        verify(model, times(1)).createSuiteFile(resource);
+    }
+
+    @Test
+    public void resourceIsReadAgain_whenItWasModified() throws Exception {
+        final IFile resource = projectProvider.createFile("res.robot",
+                "*** Keywords ***",
+                "reskw");
+        final IFile suite = projectProvider.createFile("suite.robot",
+                "*** Settings ***",
+                "Resource  res.robot");
+
+        final AccessibleKeywordsCache cache = new AccessibleKeywordsCache(model);
+        assertThat(cache.collectAccessibleKeywords(suite)).containsKey("reskw").doesNotContainKey("newreskw");
+
+        projectProvider.createFile(resource,
+                "*** Keywords ***",
+                "newreskw");
+        model.createSuiteFile(resource).dispose();
+
+        assertThat(cache.collectAccessibleKeywords(suite)).containsKey("newreskw").doesNotContainKey("reskw");
+        verify(model, times(1)).createSuiteFile(suite);
+    }
+
+    @Test
+    public void suiteIsReadAgain_whenItsImportsWereChanged() throws Exception {
+        projectProvider.createFile("res1.robot",
+                "*** Keywords ***",
+                "res1kw");
+        projectProvider.createFile("res2.robot",
+                "*** Keywords ***",
+                "res2kw");
+        final IFile suite = projectProvider.createFile("suite.robot",
+                "*** Settings ***",
+                "Resource  res1.robot");
+
+        final AccessibleKeywordsCache cache = new AccessibleKeywordsCache(model);
+        assertThat(cache.collectAccessibleKeywords(suite)).containsKey("res1kw").doesNotContainKey("res2kw");
+
+        projectProvider.createFile(suite,
+                "*** Settings ***",
+                "Resource  res2.robot");
+        model.createSuiteFile(suite).dispose();
+
+        assertThat(cache.collectAccessibleKeywords(suite)).containsKey("res2kw").doesNotContainKey("res1kw");
+    }
+
+    @Test
+    public void filesAreReadAgain_whenLibrariesWereChanged() throws Exception {
+        final IFile suite = projectProvider.createFile("suite.robot",
+                "*** Settings ***",
+                "Library  Collections");
+
+        final AccessibleKeywordsCache cache = new AccessibleKeywordsCache(model);
+        assertThat(cache.collectAccessibleKeywords(suite)).containsOnlyKeys("log");
+
+        final RobotProject robotProject = model.createRobotProject(projectProvider.getProject());
+        final Map<LibraryDescriptor, LibrarySpecification> libraries = createStdLib("BuiltIn", "log");
+        libraries.putAll(createStdLib("Collections", "Append To List"));
+        robotProject.setStandardLibraries(libraries);
+
+        assertThat(cache.collectAccessibleKeywords(suite)).containsOnlyKeys("log", "appendtolist");
+        verify(model, times(2)).createSuiteFile(suite);
+    }
+
+    @Test
+    public void sameKeywordsAreCollected_whenCacheIsAccessedConcurrently() throws Exception {
+        final List<IFile> suites = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            projectProvider.createFile("res" + i + ".robot",
+                    "*** Settings ***",
+                    "Resource  common.robot",
+                    "*** Keywords ***",
+                    "res" + i + "kw");
+            suites.add(projectProvider.createFile("suite" + i + ".robot",
+                    "*** Settings ***",
+                    "Resource  res" + i + ".robot",
+                    "Resource  common.robot"));
+        }
+        projectProvider.createFile("common.robot",
+                "*** Keywords ***",
+                "commonkw");
+
+        final AccessibleKeywordsCache cache = new AccessibleKeywordsCache(model);
+        final List<Callable<Map<String, Collection<KeywordEntity>>>> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final IFile suite = suites.get(i % suites.size());
+            tasks.add(() -> cache.collectAccessibleKeywords(suite));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Map<String, Collection<KeywordEntity>>> results = new ArrayList<>();
+            for (final Future<Map<String, Collection<KeywordEntity>>> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                final String resourceKeyword = "res" + (i % suites.size()) + "kw";
+                assertThat(results.get(i)).containsOnlyKeys(resourceKeyword, "commonkw", "log");
+                assertThat(results.get(i).get("commonkw")).hasSize(1);
+            }
+            final List<Map<String, Collection<KeywordEntity>>> sameSuiteResults = results.stream()
+                    .filter(keywords -> keywords.containsKey("res0kw"))
+                    .collect(toList());
+            assertThat(sameSuiteResults).hasSize(5).containsOnly(sameSuiteResults.get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
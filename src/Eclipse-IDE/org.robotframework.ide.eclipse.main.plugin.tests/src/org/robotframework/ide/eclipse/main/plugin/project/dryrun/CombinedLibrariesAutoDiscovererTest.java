@@ -9,6 +9,7 @@ import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -50,9 +51,11 @@ import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibrary;
 import org.rf.ide.core.project.RobotProjectConfig.RemoteLocation;
 import org.rf.ide.core.project.RobotProjectConfig.SearchPath;
 import org.rf.ide.core.project.RobotProjectConfig.VariableMapping;
+import org.robotframework.ide.eclipse.main.plugin.RedPreferences;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.red.junit.PreferenceUpdater;
 import org.robotframework.red.junit.ProjectProvider;
 import org.robotframework.red.junit.ResourceCreator;
 
@@ -71,6 +74,9 @@ public class CombinedLibrariesAutoDiscovererTest {
     @Rule
     public ResourceCreator resourceCreator = new ResourceCreator();
 
+    @Rule
+    public PreferenceUpdater preferenceUpdater = new PreferenceUpdater();
+
     @Mock
     private Consumer<Collection<RobotDryRunLibraryImport>> summaryHandler;
 
@@ -568,6 +574,58 @@ public class CombinedLibrariesAutoDiscovererTest {
         verifyNoMoreInteractions(summaryHandler);
     }
 
+    @Test
+    public void librariesAreDiscoveredByParallelDryRunAgents_whenMoreThanOneAgentIsPreferred() throws Exception {
+        preferenceUpdater.setValue(RedPreferences.AUTODISCOVERY_DRY_RUN_AGENTS, 2);
+
+        final RobotSuiteFile suite = model.createSuiteFile(projectProvider.createFile("suite.robot",
+                "*** Settings ***",
+                "Library  SomePathLib",
+                "Library  ErrorLib",
+                "*** Test Cases ***"));
+
+        final CombinedLibrariesAutoDiscoverer discoverer = new CombinedLibrariesAutoDiscoverer(robotProject,
+                newArrayList(suite), summaryHandler);
+        discoverer.start().join();
+
+        assertThat(robotProject.getRobotProjectConfig().getLibraries()).hasSize(1);
+        assertThat(robotProject.getRobotProjectConfig().getLibraries().get(0))
+                .has(sameFieldsAs(ReferencedLibrary.create(LibraryType.PYTHON, "SomePathLib", PROJECT_NAME + "/libs")));
+
+        verify(summaryHandler).accept(argThat(hasLibImports(
+                createImport(ADDED, "SomePathLib", projectProvider.getFile("libs/SomePathLib.py"),
+                        newHashSet(suite.getFile())),
+                createImport(NOT_ADDED, "ErrorLib", newHashSet(suite.getFile())))));
+        verifyNoMoreInteractions(summaryHandler);
+    }
+
+    @Test
+    public void dryRunIsNotStartedAgain_whenLibrariesWereAlreadyDiscoveredAndWereNotModified() throws Exception {
+        final RobotSuiteFile suite = model.createSuiteFile(projectProvider.createFile("suite.robot",
+                "*** Settings ***",
+                "Library  SomePathLib",
+                "*** Test Cases ***"));
+
+        new CombinedLibrariesAutoDiscoverer(robotProject, newArrayList(suite), libImports -> {}).start().join();
+        robotProject.clearConfiguration();
+        projectProvider.configure();
+
+        final CombinedLibrariesAutoDiscoverer discovererSpy = spy(
+                new CombinedLibrariesAutoDiscoverer(robotProject, newArrayList(suite), summaryHandler));
+        discovererSpy.start().join();
+
+        verify(discovererSpy).startDryRunDiscovering(any(), eq(newHashSet("SomePathLib")));
+        verify(discovererSpy, times(0)).startDryRunClient(anyInt(), any());
+
+        assertThat(robotProject.getRobotProjectConfig().getLibraries()).hasSize(1);
+        assertThat(robotProject.getRobotProjectConfig().getLibraries().get(0))
+                .has(sameFieldsAs(ReferencedLibrary.create(LibraryType.PYTHON, "SomePathLib", PROJECT_NAME + "/libs")));
+
+        verify(summaryHandler).accept(argThat(hasLibImports(createImport(ADDED, "SomePathLib",
+                projectProvider.getFile("libs/SomePathLib.py"), newHashSet(suite.getFile())))));
+        verifyNoMoreInteractions(summaryHandler);
+    }
+
     private static File getFile(final File root, final String... path) {
         if (path == null || path.length == 0) {
             return root;
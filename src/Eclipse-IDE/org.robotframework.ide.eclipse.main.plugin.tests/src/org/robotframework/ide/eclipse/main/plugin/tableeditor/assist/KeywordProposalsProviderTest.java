@@ -103,6 +103,23 @@ public class KeywordProposalsProviderTest {
         assertThat(text.getText()).isEqualTo("kw1");
     }
 
+    @Test
+    public void keywordsAreLocatedOncePerEditedCell_whenProposalsAreNarrowedDown() throws Exception {
+        final RobotSuiteFile suiteFile = robotModel.createSuiteFile(projectProvider.createFile("narrowed_suite.robot",
+                "*** Keywords ***",
+                "kw1",
+                "kw2"));
+        final KeywordProposalsProvider provider = new KeywordProposalsProvider(suiteFile, null);
+        final AssistantContext context = new NatTableAssistantContext(0, 0);
+
+        assertThat(provider.getProposals("k", 1, context)).hasSize(2);
+
+        suiteFile.reparseEverything(String.join("\n", "*** Keywords ***", "kw1", "kw2", "kw3"));
+
+        assertThat(provider.getProposals("kw", 2, context)).hasSize(2);
+        assertThat(provider.getProposals("kw", 2, new NatTableAssistantContext(0, 0))).hasSize(3);
+    }
+
     @Test
     public void thereAreOperationsToPerformAfterAccepting_onlyForNotAccessibleKeywordProposals() throws Exception {
         preferenceUpdater.setValue(RedPreferences.ASSISTANT_KEYWORD_FROM_NOT_IMPORTED_LIBRARY_ENABLED, true);
@@ -15,6 +15,7 @@ import java.util.Optional;
 
 import org.junit.Test;
 import org.rf.ide.core.execution.agent.Status;
+import org.robotframework.ide.eclipse.main.plugin.views.execution.ExecutionStatusStore.ExecutionTreeChanges;
 import org.robotframework.ide.eclipse.main.plugin.views.execution.ExecutionTreeNode.ElementKind;
 
 public class ExecutionStatusStoreTest {
@@ -321,4 +322,126 @@ public class ExecutionStatusStoreTest {
         assertThat(store.getCurrent()).isNull();
         assertThat(store.isDisposed()).isTrue();
     }
+
+    @Test
+    public void changedNodesAreCoalesced_untilChangesAreTaken() throws Exception {
+        final ExecutionStatusStore store = new ExecutionStatusStore();
+        store.open();
+
+        assertThat(store.takeChanges()).isEmpty();
+
+        store.suiteStarted("suite", new URI("file:///suite"), 2, new ArrayList<>(), newArrayList("t1", "t2"));
+        final ExecutionTreeNode root = store.getExecutionTree();
+        final ExecutionTreeNode t1 = root.getChildren().get(0);
+        final ExecutionTreeNode t2 = root.getChildren().get(1);
+        store.testStarted();
+        store.elementEnded(100, Status.PASS, "");
+        store.testStarted();
+
+        final ExecutionTreeChanges changes = store.takeChanges().get();
+        assertThat(changes.getChangedNodes()).containsExactly(root, t1, t2);
+        assertThat(changes.getNodesWithNewChildren()).containsExactly(root);
+        assertThat(store.takeChanges()).isEmpty();
+
+        store.elementEnded(100, Status.FAIL, "");
+        store.elementEnded(300, Status.FAIL, "");
+
+        final ExecutionTreeChanges nextChanges = store.takeChanges().get();
+        assertThat(nextChanges.getChangedNodes()).containsExactly(t2, root);
+        assertThat(nextChanges.getNodesWithNewChildren()).isEmpty();
+        assertThat(store.getCurrent()).isNull();
+
+        assertThat(store.getProcessedEventsCount()).isEqualTo(6);
+        assertThat(store.getTakenChangesCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void whenManyProcessesStartRootSuite_rootsAreMergedAndTotalTestsAreSummed() throws Exception {
+        final ExecutionStatusStore store = new ExecutionStatusStore();
+        store.open();
+        store.open();
+
+        store.suiteStarted(1, "suite", new URI("file:///suite"), 2, newArrayList("s1", "s2"), new ArrayList<>());
+        store.suiteStarted(2, "suite", new URI("file:///suite"), 3, newArrayList("s2", "s3"), new ArrayList<>());
+
+        final ExecutionTreeNode root = store.getExecutionTree();
+        assertThat(store.getTotalTests()).isEqualTo(5);
+        assertThat(root.getName()).isEqualTo("suite");
+        assertThat(root.getChildren().stream().map(ExecutionTreeNode::getName).collect(toList()))
+                .containsExactly("s1", "s2", "s3");
+        assertThat(store.getCurrent(1)).isSameAs(root.getChildren().get(0));
+        assertThat(store.getCurrent(2)).isSameAs(root.getChildren().get(1));
+    }
+
+    @Test
+    public void whenManyProcessesRunTests_eachProcessVisitsOnlyItsOwnChildren() throws Exception {
+        final ExecutionStatusStore store = new ExecutionStatusStore();
+        store.open();
+        store.open();
+
+        store.suiteStarted(1, "suite", new URI("file:///suite"), 2, new ArrayList<>(), newArrayList("t1", "t2"));
+        store.suiteStarted(2, "suite", new URI("file:///suite"), 2, new ArrayList<>(), newArrayList("t3", "t4"));
+        final ExecutionTreeNode root = store.getExecutionTree();
+
+        store.testStarted(1);
+        store.testStarted(2);
+        store.elementEnded(1, 100, Status.PASS, "");
+        store.elementEnded(2, 100, Status.FAIL, "error");
+
+        assertThat(store.getCurrent(1).getName()).isEqualTo("t2");
+        assertThat(store.getCurrent(2).getName()).isEqualTo("t4");
+
+        store.testStarted(1);
+        store.testStarted(2);
+        store.elementEnded(1, 100, Status.PASS, "");
+        store.elementEnded(2, 100, Status.PASS, "");
+
+        assertThat(store.getCurrent(1)).isSameAs(root);
+        assertThat(store.getCurrent(2)).isSameAs(root);
+        assertThat(store.getCurrentTest()).isEqualTo(4);
+        assertThat(store.getPassedTests()).isEqualTo(3);
+        assertThat(store.getFailedTests()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenSuiteIsRunByManyProcesses_itIsRunningUntilAllProcessesEndIt_andFailsWhenAnyProcessFailed()
+            throws Exception {
+        final ExecutionStatusStore store = new ExecutionStatusStore();
+        store.open();
+        store.open();
+
+        store.suiteStarted(1, "suite", new URI("file:///suite"), 1, new ArrayList<>(), newArrayList("t1"));
+        store.suiteStarted(2, "suite", new URI("file:///suite"), 1, new ArrayList<>(), newArrayList("t2"));
+        final ExecutionTreeNode root = store.getExecutionTree();
+
+        store.testStarted(1);
+        store.elementEnded(1, 100, Status.FAIL, "error");
+        store.elementEnded(1, 300, Status.FAIL, "suite error");
+
+        assertThat(root.getStatus()).isEqualTo(Optional.of(Status.RUNNING));
+        assertThat(store.getCurrent(1)).isNull();
+
+        store.testStarted(2);
+        store.elementEnded(2, 100, Status.PASS, "");
+        store.elementEnded(2, 200, Status.PASS, "");
+
+        assertThat(root.getStatus()).isEqualTo(Optional.of(Status.FAIL));
+        assertThat(root.getMessage()).isEqualTo("suite error");
+        assertThat(root.getElapsedTime()).isEqualTo(300);
+        assertThat(store.getCurrent(2)).isNull();
+    }
+
+    @Test
+    public void storeIsOpen_untilAllProcessesCloseIt() {
+        final ExecutionStatusStore store = new ExecutionStatusStore();
+        store.open();
+        store.open();
+        assertThat(store.isOpen()).isTrue();
+
+        store.close();
+        assertThat(store.isOpen()).isTrue();
+
+        store.close();
+        assertThat(store.isOpen()).isFalse();
+    }
 }
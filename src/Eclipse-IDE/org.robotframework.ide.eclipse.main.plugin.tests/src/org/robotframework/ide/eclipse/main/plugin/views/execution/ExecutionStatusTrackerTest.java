@@ -71,7 +71,27 @@ public class ExecutionStatusTrackerTest {
         tracker.handleSuiteStarted(new SuiteStartedEvent("suite", new URI("file:///suite.robot"), false, 2,
                 new ArrayList<>(), new ArrayList<>()));
 
-        verify(store).suiteStarted("suite", new URI("file:///suite.robot"), 2, new ArrayList<>(), new ArrayList<>());
+        verify(store).suiteStarted(ExecutionStatusStore.SINGLE_PROCESS_ID, "suite", new URI("file:///suite.robot"), 2,
+                new ArrayList<>(), new ArrayList<>());
+        verifyNoMoreInteractions(store);
+    }
+
+    @Test
+    public void storeIsNotifiedWithProcessId_whenTrackerIsCreatedForOneOfManyProcesses() throws Exception {
+        final ExecutionStatusStore store = mock(ExecutionStatusStore.class);
+
+        final RobotTestsLaunch context = new RobotTestsLaunch(null);
+        context.getExecutionData(ExecutionStatusStore.class, () -> store);
+
+        final ExecutionStatusTracker tracker = new ExecutionStatusTracker(context, 3);
+        tracker.handleSuiteStarted(new SuiteStartedEvent("suite", new URI("file:///suite.robot"), false, 2,
+                new ArrayList<>(), new ArrayList<>()));
+        tracker.handleTestStarted(new TestStartedEvent("test", "teeeeest", null));
+        tracker.handleTestEnded(new TestEndedEvent("test", "teeeeest", 100, Status.FAIL, "error"));
+
+        verify(store).suiteStarted(3, "suite", new URI("file:///suite.robot"), 2, new ArrayList<>(), new ArrayList<>());
+        verify(store).testStarted(3);
+        verify(store).elementEnded(3, 100, Status.FAIL, "error");
         verifyNoMoreInteractions(store);
     }
 
@@ -85,7 +105,7 @@ public class ExecutionStatusTrackerTest {
         final ExecutionStatusTracker tracker = new ExecutionStatusTracker(context);
         tracker.handleSuiteEnded(new SuiteEndedEvent("suite", 100, Status.PASS, ""));
 
-        verify(store).elementEnded(100, Status.PASS, "");
+        verify(store).elementEnded(ExecutionStatusStore.SINGLE_PROCESS_ID, 100, Status.PASS, "");
         verifyNoMoreInteractions(store);
     }
 
@@ -99,7 +119,7 @@ public class ExecutionStatusTrackerTest {
         final ExecutionStatusTracker tracker = new ExecutionStatusTracker(context);
         tracker.handleTestStarted(new TestStartedEvent("test", "teeeeest", null));
 
-        verify(store).testStarted();
+        verify(store).testStarted(ExecutionStatusStore.SINGLE_PROCESS_ID);
         verifyNoMoreInteractions(store);
     }
 
@@ -113,7 +133,7 @@ public class ExecutionStatusTrackerTest {
         final ExecutionStatusTracker tracker = new ExecutionStatusTracker(context);
         tracker.handleTestEnded(new TestEndedEvent("test", "teeeeest", 100, Status.FAIL, "error"));
 
-        verify(store).elementEnded(100, Status.FAIL, "error");
+        verify(store).elementEnded(ExecutionStatusStore.SINGLE_PROCESS_ID, 100, Status.FAIL, "error");
         verifyNoMoreInteractions(store);
     }
 
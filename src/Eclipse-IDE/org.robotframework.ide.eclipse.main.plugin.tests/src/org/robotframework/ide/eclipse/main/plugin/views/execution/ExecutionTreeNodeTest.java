@@ -51,6 +51,21 @@ public class ExecutionTreeNodeTest {
         assertThat(node.getChildren()).containsExactly(c1, c2);
     }
 
+    @Test
+    public void nextSiblingIsFound_forChildrenAddedInManyBatches() {
+        final ExecutionTreeNode node = new ExecutionTreeNode(null, ElementKind.SUITE, "");
+        final ExecutionTreeNode c1 = new ExecutionTreeNode(node, ElementKind.SUITE, "c1");
+        final ExecutionTreeNode c2 = new ExecutionTreeNode(node, ElementKind.SUITE, "c2");
+        final ExecutionTreeNode c3 = new ExecutionTreeNode(node, ElementKind.TEST, "c3");
+        node.addChildren(newArrayList(c1, c2));
+        node.addChildren(newArrayList(c3));
+
+        assertThat(node.getNextSibling()).isEmpty();
+        assertThat(c1.getNextSibling()).hasValue(c2);
+        assertThat(c2.getNextSibling()).hasValue(c3);
+        assertThat(c3.getNextSibling()).isEmpty();
+    }
+
     @Test
     public void executionStatusIsSetProperly() {
         final ExecutionTreeNode node = new ExecutionTreeNode(null, ElementKind.SUITE, "");
@@ -7,11 +7,19 @@ package org.robotframework.ide.eclipse.main.plugin.views.message;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.robotframework.ide.eclipse.main.plugin.RedPreferences;
+import org.robotframework.ide.eclipse.main.plugin.views.message.ExecutionMessagesStore.MessagesFragment;
 import org.robotframework.red.junit.PreferenceUpdater;
 
 public class ExecutionMessagesStoreTest {
@@ -89,4 +97,225 @@ public class ExecutionMessagesStoreTest {
         store.append("2");
         assertThat(store.getMessage()).isEqualTo("e12");
     }
+
+    @Test
+    public void onlyNewMessagesAreReturned_whenAskedForMessagesSinceSequence() {
+        store.open();
+
+        store.append("msg1");
+        final MessagesFragment first = store.getMessagesSince(0);
+        assertThat(first.getText()).isEqualTo("msg1");
+        assertThat(first.replacesPrevious()).isFalse();
+
+        store.append("msg2");
+        store.append("msg3");
+        final MessagesFragment second = store.getMessagesSince(first.getEndSequence());
+        assertThat(second.getText()).isEqualTo("msg2msg3");
+        assertThat(second.replacesPrevious()).isFalse();
+        assertThat(second.getStoredLength()).isEqualTo(12);
+
+        final MessagesFragment third = store.getMessagesSince(second.getEndSequence());
+        assertThat(third.getText()).isEmpty();
+        assertThat(third.replacesPrevious()).isFalse();
+    }
+
+    @Test
+    public void allStoredMessagesAreReturned_whenAskedForMessagesWhichWereAlreadyEvicted() {
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_OUTPUT, true);
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_LENGTH, 5);
+
+        store.open();
+        store.append("msg1");
+        final long sequence = store.getMessagesSince(0).getEndSequence();
+        store.append("msg2");
+
+        final MessagesFragment fragment = store.getMessagesSince(sequence);
+        assertThat(fragment.getText()).isEqualTo("msg2");
+        assertThat(fragment.replacesPrevious()).isFalse();
+
+        store.append("msg3");
+        final MessagesFragment replacing = store.getMessagesSince(sequence);
+        assertThat(replacing.getText()).isEqualTo("2msg3");
+        assertThat(replacing.replacesPrevious()).isTrue();
+    }
+
+    @Test
+    public void onlyMessagesAppendedAfterClearAreReturned_whenStoreWasCleared() {
+        store.open();
+        store.append("msg1");
+        final long sequence = store.getMessagesSince(0).getEndSequence();
+
+        store.clear();
+        store.append("msg2");
+
+        final MessagesFragment fragment = store.getMessagesSince(sequence);
+        assertThat(fragment.getText()).isEqualTo("msg2");
+        assertThat(fragment.replacesPrevious()).isFalse();
+    }
+
+    @Test
+    public void storeOnlyRemembersLastCharacters_whenMessagesSpanMultipleChunks() {
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_OUTPUT, true);
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_LENGTH, ExecutionMessagesStore.CHUNK_SIZE + 10);
+
+        store.open();
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 3 * ExecutionMessagesStore.CHUNK_SIZE / 7; i++) {
+            final String msg = String.format("%06d\n", i);
+            store.append(msg);
+            expected.append(msg);
+        }
+        final String expectedTail = expected.substring(expected.length() - ExecutionMessagesStore.CHUNK_SIZE - 10);
+
+        assertThat(store.getMessage()).isEqualTo(expectedTail);
+        assertThat(store.getMessagesSince(0).getText()).isEqualTo(expectedTail);
+    }
+
+    @Test
+    public void wholeLogContainsEvictedMessages_whenEvictedMessagesAreSpilled() throws IOException {
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_OUTPUT, true);
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_LENGTH, 5);
+
+        store.open();
+        store.append("msg1");
+        store.append("msg2");
+        store.append("msg3");
+        store.close();
+
+        final StringWriter writer = new StringWriter();
+        store.writeWholeLog(writer);
+
+        assertThat(store.getMessage()).isEqualTo("2msg3");
+        assertThat(writer.toString()).isEqualTo("msg1msg2msg3");
+    }
+
+    @Test
+    public void wholeLogContainsOnlyStoredMessages_whenEvictedMessagesAreNotSpilled() throws IOException {
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_OUTPUT, true);
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_LENGTH, 5);
+        preferenceUpdater.setValue(RedPreferences.SPILL_MSG_LOG_OUTPUT, false);
+
+        final ExecutionMessagesStore notSpillingStore = new ExecutionMessagesStore();
+        try {
+            notSpillingStore.open();
+            notSpillingStore.append("msg1");
+            notSpillingStore.append("msg2");
+
+            final StringWriter writer = new StringWriter();
+            notSpillingStore.writeWholeLog(writer);
+
+            assertThat(writer.toString()).isEqualTo("1msg2");
+        } finally {
+            notSpillingStore.dispose();
+        }
+    }
+
+    @Test
+    public void wholeLogMarksMessagesEvictedAfterSpillLimitWasReached() throws IOException {
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_OUTPUT, true);
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_LENGTH, 5);
+        preferenceUpdater.setValue(RedPreferences.SPILL_MSG_LOG_OUTPUT, true);
+        preferenceUpdater.setValue(RedPreferences.SPILL_MSG_LOG_LENGTH, 4);
+
+        store.open();
+        store.append("msg1");
+        store.append("msg2");
+        store.append("msg3");
+        store.append("msg4");
+        store.close();
+
+        final StringWriter writer = new StringWriter();
+        store.writeWholeLog(writer);
+
+        assertThat(store.getMessage()).isEqualTo("3msg4");
+        assertThat(writer.toString()).isEqualTo("msg1[7 characters of older messages were lost]\n3msg4");
+    }
+
+    @Test
+    public void messagesCanBeAppended_whileWholeLogIsWritten() throws Exception {
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_OUTPUT, true);
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_LENGTH, 5);
+
+        store.open();
+        store.append("msg1");
+        store.append("msg2");
+        store.append("msg3");
+
+        final StringWriter writer = new StringWriter() {
+
+            @Override
+            public void write(final char[] chars, final int offset, final int length) {
+                super.write(chars, offset, length);
+                try {
+                    CompletableFuture.runAsync(() -> store.append("msg4")).get(10, TimeUnit.SECONDS);
+                } catch (final Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        store.writeWholeLog(writer);
+
+        assertThat(writer.toString()).isEqualTo("msg1msg2msg3");
+        assertThat(store.getMessage()).isEqualTo("3msg4");
+    }
+
+    @Test
+    public void wholeLogMarksLostMessages_andNoMoreMessagesAreSpilled_whenSpillingFails() throws IOException {
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_OUTPUT, true);
+        preferenceUpdater.setValue(RedPreferences.LIMIT_MSG_LOG_LENGTH, 5);
+
+        final AtomicInteger openedWriters = new AtomicInteger(0);
+        final ExecutionMessagesStore failingStore = new ExecutionMessagesStore() {
+
+            @Override
+            Writer openSpillWriter() {
+                openedWriters.incrementAndGet();
+                return new FailingWriter(1);
+            }
+        };
+        try {
+            failingStore.open();
+            failingStore.append("msg1");
+            failingStore.append("msg2");
+            failingStore.append("msg3");
+            failingStore.append("msg4");
+            failingStore.close();
+
+            final StringWriter writer = new StringWriter();
+            failingStore.writeWholeLog(writer);
+
+            assertThat(openedWriters.get()).isEqualTo(1);
+            assertThat(failingStore.getMessage()).isEqualTo("3msg4");
+            assertThat(writer.toString()).isEqualTo("[11 characters of older messages were lost]\n3msg4");
+        } finally {
+            failingStore.dispose();
+        }
+    }
+
+    private static class FailingWriter extends Writer {
+
+        private int successfulWrites;
+
+        FailingWriter(final int successfulWrites) {
+            this.successfulWrites = successfulWrites;
+        }
+
+        @Override
+        public void write(final char[] chars, final int offset, final int length) throws IOException {
+            if (successfulWrites == 0) {
+                throw new IOException("No space left on device");
+            }
+            successfulWrites--;
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
 }
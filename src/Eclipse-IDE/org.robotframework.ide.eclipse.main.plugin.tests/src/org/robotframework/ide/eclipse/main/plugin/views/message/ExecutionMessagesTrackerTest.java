@@ -118,4 +118,19 @@ public class ExecutionMessagesTrackerTest {
         assertThat(store.getMessage()).isEmpty();
     }
 
+    @Test
+    public void messagesArePrefixedWithProcessId_whenTrackerIsCreatedForOneOfManyProcesses() {
+        final RobotTestsLaunch launchContext = new RobotTestsLaunch(null);
+        final ExecutionMessagesStore store = launchContext.getExecutionData(ExecutionMessagesStore.class,
+                ExecutionMessagesStore::new);
+
+        final ExecutionMessagesTracker tracker = new ExecutionMessagesTracker(launchContext, 3);
+        tracker.eventsProcessingAboutToStart();
+        tracker.handleTestStarted(new TestStartedEvent("tc", "test_case", null));
+        tracker.handleLogMessage(new MessageEvent("msg", LogLevel.INFO, "stamp"));
+
+        assertThat(store.getMessage())
+                .isEqualTo("Process 3 : Starting test: test_case\nProcess 3 : stamp : INFO : msg\n");
+    }
+
 }
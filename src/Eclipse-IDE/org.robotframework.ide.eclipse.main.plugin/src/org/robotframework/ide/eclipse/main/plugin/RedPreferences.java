@@ -69,6 +69,7 @@ public class RedPreferences {
     public static final String ASSISTANT_KEYWORD_FROM_NOT_IMPORTED_LIBRARY_ENABLED = "red.editor.assistant.keywordFromNotImportedLibrary";
 
     public static final String PROJECT_MODULES_RECURSIVE_ADDITION_ON_VIRTUALENV_ENABLED = "projectModulesRecursiveAdditionOnVirtualenvEnabled";
+    public static final String AUTODISCOVERY_DRY_RUN_AGENTS = "red.autodiscovery.dryRunAgents";
 
     public static final String SYNTAX_COLORING = "red.editor.syntaxColoring";
 
@@ -86,6 +87,8 @@ public class RedPreferences {
 
     public static final String LIMIT_MSG_LOG_OUTPUT = "red.launch.msgLogLimitEnabled";
     public static final String LIMIT_MSG_LOG_LENGTH = "red.launch.msgLogLimit";
+    public static final String SPILL_MSG_LOG_OUTPUT = "red.launch.msgLogSpillEnabled";
+    public static final String SPILL_MSG_LOG_LENGTH = "red.launch.msgLogSpillLimit";
 
     public static final String DEBUGGER_SUSPEND_ON_ERROR = "red.launch.debug.suspsendOnError";
     public static final String DEBUGGER_OMIT_LIB_KEYWORDS = "red.launch.debug.omitLibraryKeywords";
@@ -201,6 +204,10 @@ public class RedPreferences {
         return store.getBoolean(PROJECT_MODULES_RECURSIVE_ADDITION_ON_VIRTUALENV_ENABLED);
     }
 
+    public int getAutodiscoveryDryRunAgents() {
+        return store.getInt(AUTODISCOVERY_DRY_RUN_AGENTS);
+    }
+
     public EnumSet<FoldableElements> getFoldableElements() {
         final EnumSet<FoldableElements> elements = EnumSet.noneOf(FoldableElements.class);
         if (store.getBoolean(FOLDABLE_SECTIONS)) {
@@ -233,6 +240,13 @@ public class RedPreferences {
         return Optional.empty();
     }
 
+    public Optional<Integer> getMessageLogSpillLimit() {
+        if (store.getBoolean(SPILL_MSG_LOG_OUTPUT)) {
+            return Optional.of(store.getInt(SPILL_MSG_LOG_LENGTH));
+        }
+        return Optional.empty();
+    }
+
     public String getLaunchAdditionalInterpreterArguments() {
         return store.getString(LAUNCH_ADDITIONAL_INTERPRETER_ARGUMENTS);
     }
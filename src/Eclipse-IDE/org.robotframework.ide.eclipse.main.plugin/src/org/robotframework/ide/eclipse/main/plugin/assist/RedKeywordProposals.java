@@ -19,7 +19,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 import org.rf.ide.core.libraries.KeywordSpecification;
@@ -52,6 +51,13 @@ public class RedKeywordProposals {
 
     private final AssistProposalPredicate<LibrarySpecification> libraryPredicate;
 
+    // keywords are located once and then matched against each content asked for
+    private List<KeywordCandidate> keywordCandidates;
+
+    private AccessibleKeywordsEntities allAccessibleKeywordsEntities;
+
+    private final Map<String, ListMultimap<KeywordScope, KeywordEntity>> collisionGroups = new HashMap<>();
+
     public RedKeywordProposals(final RobotSuiteFile suiteFile) {
         this(RedPlugin.getModelManager().getModel(), suiteFile, ProposalMatchers.keywordsMatcher(),
                 AssistProposalPredicates.reservedLibraryPredicate());
@@ -89,8 +95,7 @@ public class RedKeywordProposals {
     }
 
     public Optional<RedKeywordProposal> getBestMatchingKeywordProposal(final String keywordName) {
-        final AccessibleKeywordsEntities accessibleKeywordsEntities = getAccessibleKeywordsEntities(suiteFile, "");
-        final ListMultimap<KeywordScope, KeywordEntity> keywords = accessibleKeywordsEntities
+        final ListMultimap<KeywordScope, KeywordEntity> keywords = getAllAccessibleKeywordsEntities()
                 .getPossibleKeywords(keywordName, false);
 
         for (final KeywordScope scope : KeywordScope.defaultOrder()) {
@@ -104,10 +109,17 @@ public class RedKeywordProposals {
     private AccessibleKeywordsEntities getAccessibleKeywordsEntities(final RobotSuiteFile suite,
             final String userContent) {
         final AccessibleKeywordsCollector collector = new ProposalsKeywordCollector(shouldUseQualifiedName(),
-                shouldIncludeNotImportedLibraries(), userContent);
+                userContent);
         return new AccessibleKeywordsEntities(suite.getFile().getFullPath(), collector);
     }
 
+    private AccessibleKeywordsEntities getAllAccessibleKeywordsEntities() {
+        if (allAccessibleKeywordsEntities == null) {
+            allAccessibleKeywordsEntities = getAccessibleKeywordsEntities(suiteFile, "");
+        }
+        return allAccessibleKeywordsEntities;
+    }
+
     private Predicate<RedKeywordProposal> shouldUseQualifiedName() {
         return proposal -> {
             final boolean isAutoPrefixEnabled = RedPlugin.getDefault()
@@ -127,9 +139,8 @@ public class RedKeywordProposals {
     }
 
     private boolean keywordProposalIsConflicting(final RedKeywordProposal keywordEntity) {
-        final AccessibleKeywordsEntities accessibleKeywordsEntities = getAccessibleKeywordsEntities(suiteFile, "");
-        final ListMultimap<KeywordScope, KeywordEntity> keywords = accessibleKeywordsEntities
-                .getPossibleKeywords(keywordEntity.getNameFromDefinition(), false);
+        final ListMultimap<KeywordScope, KeywordEntity> keywords = getCollisionGroups(
+                keywordEntity.getNameFromDefinition());
 
         for (final KeywordScope scope : KeywordScope.defaultOrder()) {
             final List<KeywordEntity> kwsInScope = keywords.get(scope);
@@ -148,131 +159,149 @@ public class RedKeywordProposals {
         return false;
     }
 
+    private ListMultimap<KeywordScope, KeywordEntity> getCollisionGroups(final String keywordName) {
+        // many proposals share the name (aliased libraries, keywords overridden in resources), so
+        // accessible keywords matching the name are searched only once per name
+        return collisionGroups.computeIfAbsent(keywordName,
+                name -> getAllAccessibleKeywordsEntities().getPossibleKeywords(name, false));
+    }
+
+    private List<KeywordCandidate> getKeywordCandidates() {
+        if (keywordCandidates == null) {
+            keywordCandidates = collectKeywordCandidates();
+        }
+        return keywordCandidates;
+    }
+
+    private List<KeywordCandidate> collectKeywordCandidates() {
+        final List<KeywordCandidate> candidates = new ArrayList<>();
+        new KeywordDefinitionLocator(suiteFile.getFile(), model, shouldIncludeNotImportedLibraries())
+                .locateKeywordDefinition(new KeywordDetector() {
+
+                    @Override
+                    public ContinueDecision nonAccessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
+                            final KeywordSpecification kwSpec, final RobotSuiteFile exposingFile) {
+                        if (!libraryPredicate.test(libSpec)) {
+                            return ContinueDecision.CONTINUE;
+                        }
+
+                        final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
+                        candidates.add(new KeywordCandidate(kwSpec.getName(), libSpec.getName(),
+                                (bddPrefix, shouldUseQualifiedName, match) -> createNotAccessibleLibraryKeywordProposal(
+                                        libSpec, kwSpec, bddPrefix, scope, Optional.empty(),
+                                        exposingFile.getFile().getFullPath(), shouldUseQualifiedName, match)));
+
+                        return ContinueDecision.CONTINUE;
+                    }
+
+                    @Override
+                    public ContinueDecision accessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
+                            final KeywordSpecification kwSpec, final Collection<Optional<String>> libraryAliases,
+                            final RobotSuiteFile exposingFile) {
+                        if (!libraryPredicate.test(libSpec)) {
+                            return ContinueDecision.CONTINUE;
+                        }
+
+                        final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
+                        for (final Optional<String> alias : libraryAliases) {
+                            candidates.add(new KeywordCandidate(kwSpec.getName(), alias.orElse(libSpec.getName()),
+                                    (bddPrefix, shouldUseQualifiedName, match) -> createLibraryKeywordProposal(libSpec,
+                                            kwSpec, bddPrefix, scope, alias, exposingFile.getFile().getFullPath(),
+                                            shouldUseQualifiedName, match)));
+                        }
+
+                        return ContinueDecision.CONTINUE;
+                    }
+
+                    @Override
+                    public ContinueDecision keywordDetected(final RobotSuiteFile file,
+                            final RobotKeywordDefinition keyword) {
+                        final KeywordScope scope = suiteFile == file ? KeywordScope.LOCAL : KeywordScope.RESOURCE;
+                        candidates.add(new KeywordCandidate(keyword.getName(),
+                                Files.getNameWithoutExtension(file.getName()),
+                                (bddPrefix, shouldUseQualifiedName, match) -> createUserKeywordProposal(keyword,
+                                        bddPrefix, scope, shouldUseQualifiedName, match)));
+
+                        return ContinueDecision.CONTINUE;
+                    }
+                });
+        return candidates;
+    }
+
+    /**
+     * Collects proposals matching given user content out of keyword candidates, which are located
+     * only once for all the contents asked by this proposals provider.
+     */
     private final class ProposalsKeywordCollector implements AccessibleKeywordsCollector {
 
         private final Predicate<RedKeywordProposal> shouldUseQualifiedName;
 
-        private final boolean includeNotImportedLibraries;
-
         private final String userContent;
 
         private ProposalsKeywordCollector(final Predicate<RedKeywordProposal> shouldUseQualifiedName,
-                final boolean includeNotImportedLibraries, final String userContent) {
+                final String userContent) {
             this.shouldUseQualifiedName = shouldUseQualifiedName;
-            this.includeNotImportedLibraries = includeNotImportedLibraries;
             this.userContent = userContent;
         }
 
         @Override
         public Map<String, Collection<KeywordEntity>> collect() {
-            return collectAccessibleKeywords();
+            final Map<String, Collection<KeywordEntity>> accessibleKeywords = new HashMap<>();
+            final BddMatchesHelper bddMatchesHelper = new BddMatchesHelper(matcher);
+            for (final KeywordCandidate candidate : getKeywordCandidates()) {
+                matchKeyword(bddMatchesHelper, candidate).ifPresent(proposal -> accessibleKeywords
+                        .computeIfAbsent(candidate.unifiedName, name -> new LinkedHashSet<>())
+                        .add(proposal));
+            }
+            return accessibleKeywords;
         }
 
-        private Map<String, Collection<KeywordEntity>> collectAccessibleKeywords() {
-            final Map<String, Collection<KeywordEntity>> accessibleKeywords = new HashMap<>();
-            new KeywordDefinitionLocator(suiteFile.getFile(), model, includeNotImportedLibraries)
-                    .locateKeywordDefinition(new KeywordDetector() {
-
-                        @Override
-                        public ContinueDecision nonAccessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
-                                final KeywordSpecification kwSpec, final RobotSuiteFile exposingFile) {
-                            if (!libraryPredicate.test(libSpec)) {
-                                return ContinueDecision.CONTINUE;
-                            }
-
-                            final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
-                            final String keywordName = kwSpec.getName();
-                            final String sourcePrefix = libSpec.getName();
-
-                            matchKeyword(keywordName, sourcePrefix,
-                                    (bddPrefix, match) -> createNotAccessibleLibraryKeywordProposal(libSpec, kwSpec,
-                                            bddPrefix, scope, Optional.empty(), exposingFile.getFile().getFullPath(),
-                                            shouldUseQualifiedName, match),
-                                    (bddPrefix, match) -> createNotAccessibleLibraryKeywordProposal(libSpec, kwSpec,
-                                            bddPrefix, scope, Optional.empty(), exposingFile.getFile().getFullPath(),
-                                            AssistProposalPredicates.alwaysTrue(), match));
+        private Optional<RedKeywordProposal> matchKeyword(final BddMatchesHelper bddMatchesHelper,
+                final KeywordCandidate candidate) {
+            final String keywordName = candidate.keywordName;
+            final String sourcePrefix = candidate.sourcePrefix;
 
-                            return ContinueDecision.CONTINUE;
-                        }
+            final BddAwareProposalMatch keywordMatch = bddMatchesHelper.findBddAwareMatch(userContent, keywordName);
+            if (keywordMatch.getMatch().isPresent()) {
+                return Optional.of(candidate.factory.create(keywordMatch.getBddPrefix(), shouldUseQualifiedName,
+                        keywordMatch.getMatch().get()));
+            }
 
-                        @Override
-                        public ContinueDecision accessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
-                                final KeywordSpecification kwSpec, final Collection<Optional<String>> libraryAliases,
-                                final RobotSuiteFile exposingFile) {
-                            if (!libraryPredicate.test(libSpec)) {
-                                return ContinueDecision.CONTINUE;
-                            }
-
-                            final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
-                            final String keywordName = kwSpec.getName();
-
-                            for (final Optional<String> alias : libraryAliases) {
-                                matchKeyword(keywordName, alias.orElse(libSpec.getName()),
-                                        (bddPrefix, match) -> createLibraryKeywordProposal(libSpec, kwSpec, bddPrefix,
-                                                scope, alias, exposingFile.getFile().getFullPath(),
-                                                shouldUseQualifiedName, match),
-                                        (bddPrefix, match) -> createLibraryKeywordProposal(libSpec, kwSpec, bddPrefix,
-                                                scope, alias, exposingFile.getFile().getFullPath(),
-                                                AssistProposalPredicates.alwaysTrue(), match));
-                            }
+            final String qualifiedName = sourcePrefix + "." + keywordName;
+            final BddAwareProposalMatch qualifiedKeywordMatch = bddMatchesHelper.findBddAwareMatch(userContent,
+                    qualifiedName);
+            if (qualifiedKeywordMatch.getMatch().isPresent()) {
+                final ProposalMatch match = qualifiedKeywordMatch.getMatch().get();
+                return match.mapAndShiftToFragment(sourcePrefix.length() + 1, keywordName.length())
+                        .map(inLabelMatch -> candidate.factory.create(qualifiedKeywordMatch.getBddPrefix(),
+                                AssistProposalPredicates.alwaysTrue(), inLabelMatch));
+            }
+            return Optional.empty();
+        }
+    }
 
-                            return ContinueDecision.CONTINUE;
-                        }
+    private static final class KeywordCandidate {
 
-                        @Override
-                        public ContinueDecision keywordDetected(final RobotSuiteFile file,
-                                final RobotKeywordDefinition keyword) {
-                            final KeywordScope scope = suiteFile == file ? KeywordScope.LOCAL : KeywordScope.RESOURCE;
-                            final String keywordName = keyword.getName();
-                            final String sourcePrefix = Files.getNameWithoutExtension(file.getName());
+        private final String keywordName;
 
-                            matchKeyword(keywordName, sourcePrefix,
-                                    (bddPrefix, match) -> createUserKeywordProposal(keyword, bddPrefix, scope,
-                                            shouldUseQualifiedName, match),
-                                    (bddPrefix, match) -> createUserKeywordProposal(keyword, bddPrefix, scope,
-                                            AssistProposalPredicates.alwaysTrue(), match));
+        private final String unifiedName;
 
-                            return ContinueDecision.CONTINUE;
-                        }
+        private final String sourcePrefix;
 
-                        private void matchKeyword(final String keywordName, final String sourcePrefix,
-                                final BiFunction<String, ProposalMatch, RedKeywordProposal> matchFunction,
-                                final BiFunction<String, ProposalMatch, RedKeywordProposal> prefixMatchFunction) {
-                            final BddMatchesHelper bddMatchesHelper = new BddMatchesHelper(matcher);
-                            final BddAwareProposalMatch keywordMatch = bddMatchesHelper.findBddAwareMatch(userContent,
-                                    keywordName);
-
-                            if (keywordMatch.getMatch().isPresent()) {
-                                final RedKeywordProposal proposal = matchFunction.apply(keywordMatch.getBddPrefix(),
-                                        keywordMatch.getMatch().get());
-                                addAccessibleKeyword(keywordName, proposal);
-                            } else {
-                                final String qualifiedName = sourcePrefix + "." + keywordName;
-                                final BddAwareProposalMatch qualifiedKeywordMatch = bddMatchesHelper
-                                        .findBddAwareMatch(userContent, qualifiedName);
-                                if (qualifiedKeywordMatch.getMatch().isPresent()) {
-                                    final ProposalMatch match = qualifiedKeywordMatch.getMatch().get();
-                                    final Optional<ProposalMatch> inLabelMatch = match
-                                            .mapAndShiftToFragment(sourcePrefix.length() + 1, keywordName.length());
-
-                                    if (inLabelMatch.isPresent()) {
-                                        final RedKeywordProposal proposal = prefixMatchFunction
-                                                .apply(qualifiedKeywordMatch.getBddPrefix(), inLabelMatch.get());
-                                        addAccessibleKeyword(keywordName, proposal);
-                                    }
-                                }
-                            }
-                        }
+        private final ProposalFactory factory;
 
-                        private void addAccessibleKeyword(final String keywordName, final RedKeywordProposal keyword) {
-                            final String unifiedName = QualifiedKeywordName.unifyDefinition(keywordName);
-                            if (!accessibleKeywords.containsKey(unifiedName)) {
-                                accessibleKeywords.put(unifiedName, new LinkedHashSet<>());
-                            }
-                            accessibleKeywords.get(unifiedName).add(keyword);
-                        }
-                    });
-            return accessibleKeywords;
+        private KeywordCandidate(final String keywordName, final String sourcePrefix, final ProposalFactory factory) {
+            this.keywordName = keywordName;
+            this.unifiedName = QualifiedKeywordName.unifyDefinition(keywordName);
+            this.sourcePrefix = sourcePrefix;
+            this.factory = factory;
         }
     }
+
+    @FunctionalInterface
+    private interface ProposalFactory {
+
+        RedKeywordProposal create(String bddPrefix, Predicate<RedKeywordProposal> shouldUseQualifiedName,
+                ProposalMatch match);
+    }
 }
@@ -8,10 +8,16 @@ package org.robotframework.ide.eclipse.main.plugin.debug.model;
 import java.net.URI;
 import java.util.Optional;
 
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBreakpointManager;
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.rf.ide.core.execution.debug.BreakpointHolders;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -51,6 +57,41 @@ public class RobotBreakpoints {
         return Optional.empty();
     }
 
+    public BreakpointHolders collectBreakpointHolders() {
+        if (!breakpointManager.isEnabled()) {
+            return BreakpointHolders.none();
+        }
+
+        final BreakpointHolders.Builder holders = new BreakpointHolders.Builder();
+        for (final IBreakpoint breakpoint : breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID)) {
+            if (breakpoint instanceof RobotLineBreakpoint) {
+                final RobotLineBreakpoint lineBreakpoint = (RobotLineBreakpoint) breakpoint;
+
+                try {
+                    if (lineBreakpoint.isEnabled()) {
+                        final IResource resource = lineBreakpoint.getMarker().getResource();
+                        final RobotFile model = resource instanceof IFile ? parse((IFile) resource) : null;
+                        if (model != null) {
+                            holders.addHolderOf(model, lineBreakpoint.getLineNumber());
+                        } else {
+                            holders.addUnknownHolder();
+                        }
+                    }
+                } catch (final CoreException e) {
+                    // agent will have to ask at every keyword, as this breakpoint may be anywhere
+                    holders.addUnknownHolder();
+                }
+            }
+        }
+        return holders.build();
+    }
+
+    private static RobotFile parse(final IFile file) {
+        final RobotSuiteFile suiteFile = RedPlugin.getModelManager().createSuiteFile(file);
+        suiteFile.parse();
+        return suiteFile.getLinkedElement();
+    }
+
     public void enableBreakpointsDisabledByHitCounter() {
         for (final IBreakpoint breakpoint : breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID)) {
             if (breakpoint instanceof RobotLineBreakpoint) {
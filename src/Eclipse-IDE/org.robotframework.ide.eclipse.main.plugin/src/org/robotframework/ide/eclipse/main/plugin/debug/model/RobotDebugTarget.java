@@ -188,6 +188,10 @@ public class RobotDebugTarget extends RobotDebugElement implements IDebugTarget
         userController.changeVariableInnerValue(frame, variable, path, arguments);
     }
 
+    void expandVariable(final StackFrame frame, final StackFrameVariable variable, final List<Object> path) {
+        userController.expandVariable(frame, variable, path);
+    }
+
     @Override
     public void breakpointAdded(final IBreakpoint breakpoint) {
         // nothing to do
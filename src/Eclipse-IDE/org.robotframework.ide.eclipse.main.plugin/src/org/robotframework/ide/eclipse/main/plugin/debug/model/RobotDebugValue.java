@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.debug.core.model.IValue;
+import org.rf.ide.core.execution.agent.event.ValueSummary;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugVariable.RobotDebugVariableVisitor;
 
 /**
@@ -30,7 +31,10 @@ public abstract class RobotDebugValue extends RobotDebugElement implements IValu
     public static RobotDebugValue createFromValue(final RobotDebugVariable parent, final String type,
             final Object value) {
 
-        if (value instanceof List<?>) {
+        if (value instanceof ValueSummary) {
+            return RobotDebugValueOfSummary.create(parent, type, (ValueSummary) value);
+
+        } else if (value instanceof List<?>) {
             return RobotDebugValueOfList.create(parent, type, (List<?>) value);
 
         } else if (value instanceof Map<?, ?>) {
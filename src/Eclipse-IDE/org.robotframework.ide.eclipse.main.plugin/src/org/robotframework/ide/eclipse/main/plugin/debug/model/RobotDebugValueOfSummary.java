@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.debug.model;
+
+import org.rf.ide.core.execution.agent.event.ValueSummary;
+import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugVariable.RobotDebugVariableVisitor;
+
+/**
+ * Value of list or dictionary which children were not sent by agent. Children are requested when
+ * they are asked for at the first time; once agent sends them, the whole frame is refreshed.
+ */
+public class RobotDebugValueOfSummary extends RobotDebugValue {
+
+    public static RobotDebugValueOfSummary create(final RobotDebugVariable parent, final String type,
+            final ValueSummary summary) {
+        final String val = type == null ? "" : type + "[" + summary.getSize() + "]";
+        return new RobotDebugValueOfSummary(parent, type, val, summary.getSize());
+    }
+
+
+    private final RobotDebugVariable parent;
+
+    private final int size;
+
+    private boolean expansionRequested;
+
+    private RobotDebugValueOfSummary(final RobotDebugVariable parent, final String type, final String value,
+            final int size) {
+        super(parent.getDebugTarget(), type, value);
+        this.parent = parent;
+        this.size = size;
+        this.expansionRequested = false;
+    }
+
+    @Override
+    public String getDetailedValue() {
+        return "...";
+    }
+
+    @Override
+    public boolean hasVariables() {
+        return size > 0;
+    }
+
+    @Override
+    public synchronized RobotDebugVariable[] getVariables() {
+        if (!expansionRequested && hasVariables()) {
+            expansionRequested = true;
+            parent.expandValue();
+        }
+        return new RobotDebugVariable[0];
+    }
+
+    @Override
+    public void visitAllVariables(final RobotDebugVariableVisitor visitor) {
+        // children are not known until expanded, visiting should not request them
+    }
+}
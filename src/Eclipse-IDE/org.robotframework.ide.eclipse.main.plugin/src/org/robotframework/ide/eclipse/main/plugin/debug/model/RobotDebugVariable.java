@@ -135,8 +135,9 @@ public class RobotDebugVariable extends RobotDebugElement implements IVariable {
     @Override
     public boolean supportsValueModification() {
         // artificial nodes are not modifiable as well as children
-        // of tuples (since tuples are immutable)
-        return !isArtificial() && !Optional.ofNullable(parent)
+        // of tuples (since tuples are immutable) and summarized values
+        // which children were not sent yet
+        return !isArtificial() && !(value instanceof RobotDebugValueOfSummary) && !Optional.ofNullable(parent)
                 .map(RobotDebugVariable::getValue)
                 .map(RobotDebugValue::isTuple)
                 .orElse(false);
@@ -195,6 +196,20 @@ public class RobotDebugVariable extends RobotDebugElement implements IVariable {
         throw new IllegalStateException("Every non-artificial IVariable has to have real variable in some predecessor");
     }
 
+    void expandValue() {
+        final List<Object> path = newArrayList();
+        RobotDebugVariable current = this;
+        while (current != null) {
+            if (current.stackVariable != null) {
+                frame.expandVariable(current.stackVariable, path);
+                return;
+            }
+            path.add(0, extractIndexOrKey(current.name));
+            current = current.parent;
+        }
+        throw new IllegalStateException("Every non-artificial IVariable has to have real variable in some predecessor");
+    }
+
     private static String typeIdentifierOf(final RobotDebugVariable variable) {
         if (variable.value instanceof RobotDebugValueOfDictionary) {
             return "dict";
@@ -242,7 +257,7 @@ public class RobotDebugVariable extends RobotDebugElement implements IVariable {
             return RedImages.getElementImage();
         } else if (value instanceof RobotDebugValueOfScalar) {
             return RedImages.VARIABLES.getDebugScalarVariableImage();
-        } else if (value instanceof RobotDebugValueOfList) {
+        } else if (value instanceof RobotDebugValueOfList || value instanceof RobotDebugValueOfSummary) {
             return RedImages.VARIABLES.getDebugListVariableImage();
         } else if (value instanceof RobotDebugValueOfDictionary) {
             return RedImages.VARIABLES.getDebugDictionaryVariableImage();
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -35,11 +36,14 @@ public class AgentConnectionServerJob extends Job {
 
     private final List<RobotAgentEventListener> agentEventListeners;
 
+    private final IntFunction<List<RobotAgentEventListener>> clientEventListenersFactory;
+
     private AgentConnectionServer agentServer;
 
     private AgentConnectionServerJob(final String host, final int port, final int timeout, final TimeUnit timeoutUnit,
             final List<AgentServerStatusListener> serverStatusListeners,
-            final List<RobotAgentEventListener> agentEventListeners) {
+            final List<RobotAgentEventListener> agentEventListeners,
+            final IntFunction<List<RobotAgentEventListener>> clientEventListenersFactory) {
         super("Agent connection server");
         setSystem(true);
 
@@ -49,6 +53,7 @@ public class AgentConnectionServerJob extends Job {
         this.timeoutUnit = timeoutUnit;
         this.serverListeners = serverStatusListeners;
         this.agentEventListeners = agentEventListeners;
+        this.clientEventListenersFactory = clientEventListenersFactory;
     }
 
     public static AgentConnectionServerJobBuilder setupServerAt(final String host, final int port) {
@@ -62,7 +67,15 @@ public class AgentConnectionServerJob extends Job {
             for (final AgentServerStatusListener serverStatusListener : serverListeners) {
                 agentServer.addStatusListener(serverStatusListener);
             }
-            agentServer.start(agentEventListeners.toArray(new RobotAgentEventListener[0]));
+            if (clientEventListenersFactory == null) {
+                agentServer.start(agentEventListeners.toArray(new RobotAgentEventListener[0]));
+            } else {
+                agentServer.startForManyClients(clientNumber -> {
+                    final List<RobotAgentEventListener> listeners = new ArrayList<>(agentEventListeners);
+                    listeners.addAll(clientEventListenersFactory.apply(clientNumber));
+                    return listeners;
+                });
+            }
             return Status.OK_STATUS;
         } catch (final UnknownHostException e) {
             return new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
@@ -105,6 +118,8 @@ public class AgentConnectionServerJob extends Job {
 
         private final List<RobotAgentEventListener> agentEventListeners = new ArrayList<>();
 
+        private IntFunction<List<RobotAgentEventListener>> clientEventListenersFactory;
+
         public AgentConnectionServerJobBuilder(final String host, final int port) {
             this.host = host;
             this.port = port;
@@ -138,8 +153,21 @@ public class AgentConnectionServerJob extends Job {
             return this;
         }
 
+        /**
+         * Makes the server accept many concurrent agent connections (e.g. from robot processes
+         * executing tests in parallel). Events of each connection are handled by listeners added
+         * with {@link #agentEventsListenedBy} methods, which are shared by all connections, and by
+         * listeners created for given connection, which are numbered starting from 1.
+         */
+        public AgentConnectionServerJobBuilder agentEventsOfEachClientListenedBy(
+                final IntFunction<List<RobotAgentEventListener>> listenersFactory) {
+            this.clientEventListenersFactory = listenersFactory;
+            return this;
+        }
+
         public AgentConnectionServerJob createJob() {
-            return new AgentConnectionServerJob(host, port, timeout, timeoutUnit, serverListeners, agentEventListeners);
+            return new AgentConnectionServerJob(host, port, timeout, timeoutUnit, serverListeners, agentEventListeners,
+                    clientEventListenersFactory);
         }
 
         public AgentConnectionServerJob start() {
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.launch;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointListener;
+import org.eclipse.debug.core.IBreakpointManager;
+import org.eclipse.debug.core.IBreakpointManagerListener;
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.rf.ide.core.execution.agent.RobotAgentEventListener.RobotAgentEventsListenerException;
+import org.rf.ide.core.execution.debug.UserProcessDebugController;
+import org.rf.ide.core.execution.server.DefaultAgentServerStatusListener;
+import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotBreakpoints;
+import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugElement;
+
+/**
+ * Keeps tests and keywords holding breakpoints up to date in debug controller, so that agent
+ * asks whether to pause only at keywords which may hit a breakpoint.
+ */
+public class BreakpointHoldersUpdater extends DefaultAgentServerStatusListener
+        implements IBreakpointListener, IBreakpointManagerListener {
+
+    private final UserProcessDebugController userController;
+
+    private final IBreakpointManager breakpointManager;
+
+    public BreakpointHoldersUpdater(final UserProcessDebugController userController) {
+        this.userController = userController;
+        this.breakpointManager = DebugPlugin.getDefault().getBreakpointManager();
+    }
+
+    @Override
+    public void serverEstablished(final String host, final int port) {
+        breakpointManager.addBreakpointListener(this);
+        breakpointManager.addBreakpointManagerListener(this);
+        updateHolders();
+    }
+
+    @Override
+    public void clientConnectionClosed(final int clientId) {
+        stopUpdating();
+    }
+
+    @Override
+    public void clientConnectionTimedOut(final SocketTimeoutException e) {
+        stopUpdating();
+    }
+
+    @Override
+    public void clientConnectionError(final IOException e) {
+        stopUpdating();
+    }
+
+    @Override
+    public void clientEventHandlingError(final RobotAgentEventsListenerException e) {
+        stopUpdating();
+    }
+
+    private void stopUpdating() {
+        breakpointManager.removeBreakpointListener(this);
+        breakpointManager.removeBreakpointManagerListener(this);
+    }
+
+    @Override
+    public void breakpointAdded(final IBreakpoint breakpoint) {
+        updateHoldersIfNeeded(breakpoint);
+    }
+
+    @Override
+    public void breakpointRemoved(final IBreakpoint breakpoint, final IMarkerDelta delta) {
+        updateHoldersIfNeeded(breakpoint);
+    }
+
+    @Override
+    public void breakpointChanged(final IBreakpoint breakpoint, final IMarkerDelta delta) {
+        updateHoldersIfNeeded(breakpoint);
+    }
+
+    @Override
+    public void breakpointManagerEnablementChanged(final boolean enabled) {
+        updateHolders();
+    }
+
+    private void updateHoldersIfNeeded(final IBreakpoint breakpoint) {
+        if (RobotDebugElement.DEBUG_MODEL_ID.equals(breakpoint.getModelIdentifier())) {
+            updateHolders();
+        }
+    }
+
+    private void updateHolders() {
+        userController.setBreakpointHolders(new RobotBreakpoints().collectBreakpointHolders());
+    }
+}
@@ -5,6 +5,7 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.launch;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 import org.eclipse.debug.core.model.IDisconnect;
@@ -20,7 +21,7 @@ public interface IRobotProcess extends IProcess, IDisconnect, ISuspendResume {
 
     void onTerminate(Runnable operation);
 
-    void setInterruptionData(String pythonExecutablePath, Supplier<Long> pidSupplier);
+    void setInterruptionData(String pythonExecutablePath, Supplier<List<Long>> pidsSupplier);
 
     void setConnectedToTests(boolean isConnected);
 
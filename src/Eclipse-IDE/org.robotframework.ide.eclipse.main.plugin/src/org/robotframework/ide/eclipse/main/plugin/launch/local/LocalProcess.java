@@ -5,6 +5,9 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.launch.local;
 
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -23,7 +26,7 @@ public class LocalProcess extends RuntimeProcess implements IRobotProcess {
 
     private String pythonExecutablePath;
 
-    private Supplier<Long> pidSupplier;
+    private Supplier<List<Long>> pidsSupplier;
 
     private UserProcessController userProcessController;
 
@@ -42,9 +45,9 @@ public class LocalProcess extends RuntimeProcess implements IRobotProcess {
     }
 
     @Override
-    public void setInterruptionData(final String pythonExecutablePath, final Supplier<Long> pidSupplier) {
+    public void setInterruptionData(final String pythonExecutablePath, final Supplier<List<Long>> pidsSupplier) {
         this.pythonExecutablePath = pythonExecutablePath;
-        this.pidSupplier = pidSupplier;
+        this.pidsSupplier = pidsSupplier;
     }
 
     @Override
@@ -97,11 +100,13 @@ public class LocalProcess extends RuntimeProcess implements IRobotProcess {
         // we need to resume if suspended, so that the agent will be able to handle signal
         final Runnable additionalOp = isSuspended() ? this::resume : () -> {};
         new Thread(() -> {
-            final Long pid = pidSupplier.get();
+            // all the processes executing tests in parallel are interrupted
+            final List<Long> pids = pidsSupplier.get()
+                    .stream()
+                    .filter(pid -> pid != null && pid.longValue() != -1)
+                    .collect(toList());
             try {
-                if (pid != null && pid.longValue() != -1) {
-                    new OSProcessHelper().interruptProcess(pid.longValue(), pythonExecutablePath);
-                } else {
+                if (pids.isEmpty()) {
                     final Process systemProcess = getSystemProcess();
                     if (systemProcess != null) {
                         new OSProcessHelper().interruptProcess(systemProcess, pythonExecutablePath);
@@ -109,6 +114,12 @@ public class LocalProcess extends RuntimeProcess implements IRobotProcess {
                 }
             } catch (final ProcessHelperException e) {
             }
+            for (final Long pid : pids) {
+                try {
+                    new OSProcessHelper().interruptProcess(pid.longValue(), pythonExecutablePath);
+                } catch (final ProcessHelperException e) {
+                }
+            }
             additionalOp.run();
             SwtThread.asyncExec(() -> fireEvent(DebugEvent.CHANGE));
         }).start();
@@ -13,7 +13,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
@@ -26,6 +29,7 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.rf.ide.core.execution.agent.RobotAgentEventListener;
 import org.rf.ide.core.execution.agent.TestsMode;
 import org.rf.ide.core.execution.debug.ExecutionPauseContinueListener;
+import org.rf.ide.core.execution.debug.ParallelClientsUserProcessController;
 import org.rf.ide.core.execution.debug.Stacktrace;
 import org.rf.ide.core.execution.debug.StacktraceBuilder;
 import org.rf.ide.core.execution.debug.UserProcessController;
@@ -51,6 +55,8 @@ import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotBreakpoints;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugTarget;
 import org.robotframework.ide.eclipse.main.plugin.launch.AbstractRobotLaunchConfigurationDelegate;
 import org.robotframework.ide.eclipse.main.plugin.launch.AgentConnectionServerJob;
+import org.robotframework.ide.eclipse.main.plugin.launch.AgentConnectionServerJob.AgentConnectionServerJobBuilder;
+import org.robotframework.ide.eclipse.main.plugin.launch.BreakpointHoldersUpdater;
 import org.robotframework.ide.eclipse.main.plugin.launch.BreakpointsEnabler;
 import org.robotframework.ide.eclipse.main.plugin.launch.DebuggerErrorDecider;
 import org.robotframework.ide.eclipse.main.plugin.launch.EclipseElementsLocator;
@@ -88,17 +94,43 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
 
             final LaunchExecution launchExecution;
             if (testsMode == TestsMode.RUN) {
-                userController = new UserProcessController();
+                final ParallelClientsUserProcessController controller = new ParallelClientsUserProcessController();
+                userController = controller;
 
                 final ArrayList<AgentServerStatusListener> additionalServerListeners = newArrayList(
                         new ProcessConnectingInRunServerListener(launch));
 
                 final List<RobotAgentEventListener> additionalAgentListeners = new ArrayList<>();
                 additionalAgentListeners.add(new AgentServerVersionsChecker());
-                additionalAgentListeners.add(testsStarter);
 
-                launchExecution = doLaunch(robotConfig, launch, testsLaunchContext, host, port, timeout, userController,
-                        additionalServerListeners, additionalAgentListeners);
+                // tests may be executed in parallel by several robot processes (e.g. when pabot is
+                // used as executable file), so each of them is tracked by its own listeners, gets
+                // every user action and is interrupted using its own pid
+                final boolean mayRunInParallel = !robotConfig.getExecutableFilePath().isEmpty();
+                final List<TestsPidReader> pidReaders = new CopyOnWriteArrayList<>();
+                final IntFunction<List<RobotAgentEventListener>> clientAgentListeners = clientNumber -> {
+                    final List<RobotAgentEventListener> listeners = createTrackingListeners(testsLaunchContext,
+                            clientNumber, mayRunInParallel);
+                    final TestsPidReader pidReader = new TestsPidReader();
+                    pidReaders.add(pidReader);
+                    listeners.add(pidReader);
+                    listeners.add(new ExecutionPauseContinueListener(controller.createClientController()));
+                    if (clientNumber == 1) {
+                        listeners.add(testsStarter);
+                    } else {
+                        final AgentServerTestsStarter parallelTestsStarter = new AgentServerTestsStarter(testsMode);
+                        parallelTestsStarter.allowClientTestsStart();
+                        listeners.add(parallelTestsStarter);
+                    }
+                    return listeners;
+                };
+
+                final Supplier<List<Long>> pidsSupplier = () -> pidReaders.stream()
+                        .map(TestsPidReader::getPid)
+                        .collect(toList());
+
+                launchExecution = doLaunch(robotConfig, launch, testsLaunchContext, host, port, timeout, pidsSupplier,
+                        additionalServerListeners, additionalAgentListeners, clientAgentListeners);
                 testsStarter.allowClientTestsStart();
             } else {
                 final Stacktrace stacktrace = new Stacktrace();
@@ -113,7 +145,10 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
                 final EclipseElementsLocator elementsLocator = new EclipseElementsLocator(robotConfig.getProject());
 
                 final List<AgentServerStatusListener> additionalServerListeners = newArrayList(
-                        new ProcessConnectingInDebugServerListener(launch), new BreakpointsEnabler());
+                        new ProcessConnectingInDebugServerListener(launch), new BreakpointsEnabler(),
+                        new BreakpointHoldersUpdater((UserProcessDebugController) userController));
+
+                final TestsPidReader pidReader = new TestsPidReader();
 
                 final List<RobotAgentEventListener> additionalAgentListeners = new ArrayList<>();
                 additionalAgentListeners.add(new AgentServerVersionsDebugChecker());
@@ -121,9 +156,12 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
                 additionalAgentListeners.add(new StacktraceBuilder(stacktrace, elementsLocator,
                         (uri, line) -> new RobotBreakpoints().getBreakpointAtLine(line, uri)));
                 additionalAgentListeners.add(new RobotEvaluationErrorsHandler());
+                additionalAgentListeners.add(pidReader);
+                additionalAgentListeners.add(new ExecutionPauseContinueListener(userController));
 
-                launchExecution = doLaunch(robotConfig, launch, testsLaunchContext, host, port, timeout, userController,
-                        additionalServerListeners, additionalAgentListeners);
+                launchExecution = doLaunch(robotConfig, launch, testsLaunchContext, host, port, timeout,
+                        () -> newArrayList(pidReader.getPid()), additionalServerListeners, additionalAgentListeners,
+                        null);
                 TestsExecutionTerminationSupport.installTerminationSupport(launchExecution.getServerJob(), debugTarget);
                 testsStarter.allowClientTestsStart();
 
@@ -144,27 +182,26 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
 
     private LaunchExecution doLaunch(final RobotLaunchConfiguration robotConfig, final ILaunch launch,
             final RobotTestsLaunch testsLaunchContext, final String host, final int port, final int timeout,
-            final UserProcessController userController, final List<AgentServerStatusListener> additionalServerListeners,
-            final List<RobotAgentEventListener> additionalAgentListeners)
+            final Supplier<List<Long>> pidsSupplier, final List<AgentServerStatusListener> additionalServerListeners,
+            final List<RobotAgentEventListener> additionalAgentListeners,
+            final IntFunction<List<RobotAgentEventListener>> clientAgentListeners)
             throws InterruptedException, CoreException, IOException {
 
         final RobotModel model = RedPlugin.getModelManager().getModel();
         final RobotProject robotProject = model.createRobotProject(robotConfig.getProject());
         final ConsoleData consoleData = ConsoleData.create(robotConfig, robotProject);
 
-        final TestsPidReader pidReader = new TestsPidReader();
-        final AgentConnectionServerJob serverJob = AgentConnectionServerJob.setupServerAt(host, port)
+        final AgentConnectionServerJobBuilder serverJobBuilder = AgentConnectionServerJob.setupServerAt(host, port)
                 .withConnectionTimeout(timeout, TimeUnit.SECONDS)
                 .serverStatusHandledBy(new ServerProblemsHandler())
                 .serverStatusHandledBy(additionalServerListeners)
-                .agentEventsListenedBy(additionalAgentListeners)
-                .agentEventsListenedBy(pidReader)
-                .agentEventsListenedBy(new ExecutionPauseContinueListener(userController))
-                .agentEventsListenedBy(new ExecutionMessagesTracker(testsLaunchContext))
-                .agentEventsListenedBy(new ExecutionStatusTracker(testsLaunchContext))
-                .agentEventsListenedBy(new AgentServerKeepAlive())
-                .start()
-                .waitForServer();
+                .agentEventsListenedBy(additionalAgentListeners);
+        if (clientAgentListeners == null) {
+            serverJobBuilder.agentEventsListenedBy(createTrackingListeners(testsLaunchContext, 1, false));
+        } else {
+            serverJobBuilder.agentEventsOfEachClientListenedBy(clientAgentListeners);
+        }
+        final AgentConnectionServerJob serverJob = serverJobBuilder.start().waitForServer();
 
         if (serverJob.getResult() != null && !serverJob.getResult().isOK()) {
             return new LaunchExecution(serverJob, null, null);
@@ -179,7 +216,7 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
         final String projectInterpreterPath = robotProject.getRuntimeEnvironment() != null
                 ? robotProject.getRuntimeEnvironment().getPythonExecutablePath()
                 : null;
-        robotProcess.setInterruptionData(projectInterpreterPath, pidReader::getPid);
+        robotProcess.setInterruptionData(projectInterpreterPath, pidsSupplier);
 
         robotProcess.onTerminate(serverJob::stopServer);
 
@@ -191,6 +228,25 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
         return new LaunchExecution(serverJob, execProcess, robotProcess);
     }
 
+    private static List<RobotAgentEventListener> createTrackingListeners(final RobotTestsLaunch testsLaunchContext,
+            final int clientNumber, final boolean mayRunInParallel) {
+        final List<RobotAgentEventListener> listeners = new ArrayList<>();
+        // messages of all the processes which may run in parallel are prefixed with process number,
+        // otherwise there is only the usual robot process
+        if (mayRunInParallel) {
+            listeners.add(new ExecutionMessagesTracker(testsLaunchContext, clientNumber));
+        } else {
+            listeners.add(new ExecutionMessagesTracker(testsLaunchContext));
+        }
+        if (clientNumber == 1) {
+            listeners.add(new ExecutionStatusTracker(testsLaunchContext));
+        } else {
+            listeners.add(new ExecutionStatusTracker(testsLaunchContext, clientNumber));
+        }
+        listeners.add(new AgentServerKeepAlive());
+        return listeners;
+    }
+
     @VisibleForTesting
     RunCommandLine prepareCommandLine(final RobotLaunchConfiguration robotConfig, final RobotProject robotProject,
             final int port, final RedPreferences preferences) throws CoreException, IOException {
@@ -7,6 +7,7 @@ package org.robotframework.ide.eclipse.main.plugin.launch.remote;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -54,7 +55,7 @@ public class RemoteProcess implements IRobotProcess, IDisconnect {
     }
 
     @Override
-    public void setInterruptionData(final String pythonExecutablePath, final Supplier<Long> pidSupplier) {
+    public void setInterruptionData(final String pythonExecutablePath, final Supplier<List<Long>> pidsSupplier) {
         // not important for remote process
     }
 
@@ -35,6 +35,7 @@ import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotBreakpoints;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugTarget;
 import org.robotframework.ide.eclipse.main.plugin.launch.AbstractRobotLaunchConfigurationDelegate;
 import org.robotframework.ide.eclipse.main.plugin.launch.AgentConnectionServerJob;
+import org.robotframework.ide.eclipse.main.plugin.launch.BreakpointHoldersUpdater;
 import org.robotframework.ide.eclipse.main.plugin.launch.BreakpointsEnabler;
 import org.robotframework.ide.eclipse.main.plugin.launch.DebuggerErrorDecider;
 import org.robotframework.ide.eclipse.main.plugin.launch.EclipseElementsLocator;
@@ -92,7 +93,8 @@ public class RemoteRobotLaunchConfigurationDelegate extends AbstractRobotLaunchC
                 final EclipseElementsLocator elementsLocator = new EclipseElementsLocator(robotConfig.getProject());
 
                 final List<AgentServerStatusListener> additionalServerListeners = newArrayList(
-                        new ProcessConnectingInDebugServerListener(launch), new BreakpointsEnabler());
+                        new ProcessConnectingInDebugServerListener(launch), new BreakpointsEnabler(),
+                        new BreakpointHoldersUpdater((UserProcessDebugController) userController));
                 
                 final List<RobotAgentEventListener> additionalAgentListeners = new ArrayList<>();
                 additionalAgentListeners.add(new AgentServerVersionsDebugChecker());
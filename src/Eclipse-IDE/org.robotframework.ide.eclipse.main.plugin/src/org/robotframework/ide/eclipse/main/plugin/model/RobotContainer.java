@@ -6,12 +6,18 @@
 package org.robotframework.ide.eclipse.main.plugin.model;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jface.resource.ImageDescriptor;
@@ -26,35 +32,41 @@ public abstract class RobotContainer implements RobotElement {
 
     private final List<RobotElement> elements;
 
+    private final Map<IResource, RobotElement> elementsByResource;
+
     RobotContainer(final RobotElement parent, final IContainer container) {
         this.parent = parent;
         this.container = container;
         this.elements = new ArrayList<>();
+        this.elementsByResource = new ConcurrentHashMap<>();
     }
 
-    synchronized RobotFolder createRobotSuite(final IFolder folder) {
+    RobotFolder createRobotSuite(final IFolder folder) {
         if (folder == null) {
             return null;
         }
-        final RobotFolder robotFolder = new RobotFolder(this, folder);
-        if (elements.contains(robotFolder)) {
-            return (RobotFolder) elements.get(elements.indexOf(robotFolder));
-        } else {
-            elements.add(robotFolder);
-            return robotFolder;
-        }
+        return (RobotFolder) getOrCreateElement(folder, () -> new RobotFolder(this, folder));
     }
 
-    synchronized RobotSuiteFile createSuiteFile(final IFile file) {
+    RobotSuiteFile createSuiteFile(final IFile file) {
         if (file == null) {
             return null;
         }
-        final RobotSuiteFile robotFile = new RobotSuiteFile(this, file);
-        if (elements.contains(robotFile)) {
-            return (RobotSuiteFile) elements.get(elements.indexOf(robotFile));
-        } else {
-            elements.add(robotFile);
-            return robotFile;
+        return (RobotSuiteFile) getOrCreateElement(file, () -> new RobotSuiteFile(this, file));
+    }
+
+    private RobotElement getOrCreateElement(final IResource resource, final Supplier<RobotElement> elementSupplier) {
+        // most of the calls are made for already existing elements, so they do not need a lock
+        final RobotElement existingElement = elementsByResource.get(resource);
+        if (existingElement != null) {
+            return existingElement;
+        }
+        synchronized (this) {
+            return elementsByResource.computeIfAbsent(resource, r -> {
+                final RobotElement element = elementSupplier.get();
+                elements.add(element);
+                return element;
+            });
         }
     }
 
@@ -112,10 +124,15 @@ public abstract class RobotContainer implements RobotElement {
     }
 
     List<RobotElementChange> synchronizeChanges(final IResourceDelta delta) {
-        final List<RobotElement> toRemove = new ArrayList<>();
+        final Set<RobotElement> toRemove = new HashSet<>();
         final List<RobotElementChange> changes = new ArrayList<>();
 
-        for (final RobotElement element : elements) {
+        // children are synchronized without holding the lock, since refreshing files may create other elements
+        final List<RobotElement> currentElements;
+        synchronized (this) {
+            currentElements = new ArrayList<>(elements);
+        }
+        for (final RobotElement element : currentElements) {
             if (element instanceof RobotContainer) {
                 final RobotContainer folder = (RobotContainer) element;
                 final IResourceDelta elementDelta = delta.findMember(folder.container.getFullPath());
@@ -140,7 +157,12 @@ public abstract class RobotContainer implements RobotElement {
                 }
             }
         }
-        elements.removeAll(toRemove);
+        if (!toRemove.isEmpty()) {
+            synchronized (this) {
+                elements.removeAll(toRemove);
+                elementsByResource.values().removeAll(toRemove);
+            }
+        }
         return changes;
     }
 
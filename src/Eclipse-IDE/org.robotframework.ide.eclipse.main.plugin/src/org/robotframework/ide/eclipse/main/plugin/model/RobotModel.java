@@ -7,6 +7,8 @@ package org.robotframework.ide.eclipse.main.plugin.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -20,6 +22,8 @@ public class RobotModel implements RobotElement {
 
     private final List<RobotElement> projects = new ArrayList<>();
 
+    private final Map<IProject, RobotProject> projectsByResource = new ConcurrentHashMap<>();
+
     public RobotContainer createRobotContainer(final IContainer container) {
         if (container.getType() == IResource.PROJECT) {
             return createRobotProject((IProject) container);
@@ -29,20 +33,24 @@ public class RobotModel implements RobotElement {
         return null;
     }
 
-    public synchronized RobotProject createRobotProject(final IProject project) {
+    public RobotProject createRobotProject(final IProject project) {
         if (project == null) {
             return null;
         }
-        final RobotProject robotProject = new RobotProject(this, project);
-        if (projects.contains(robotProject)) {
-            return (RobotProject) projects.get(projects.indexOf(robotProject));
-        } else {
-            projects.add(robotProject);
-            return robotProject;
+        final RobotProject existingProject = projectsByResource.get(project);
+        if (existingProject != null) {
+            return existingProject;
+        }
+        synchronized (this) {
+            return projectsByResource.computeIfAbsent(project, p -> {
+                final RobotProject robotProject = new RobotProject(this, project);
+                projects.add(robotProject);
+                return robotProject;
+            });
         }
     }
 
-    public synchronized RobotFolder createRobotSuite(final IFolder folder) {
+    public RobotFolder createRobotSuite(final IFolder folder) {
         if (folder == null) {
             return null;
         }
@@ -53,7 +61,7 @@ public class RobotModel implements RobotElement {
         }
     }
 
-    public synchronized RobotSuiteFile createSuiteFile(final IFile file) {
+    public RobotSuiteFile createSuiteFile(final IFile file) {
         if (file == null) {
             return null;
         }
@@ -91,23 +99,25 @@ public class RobotModel implements RobotElement {
 
     synchronized List<RobotElementChange> removeProject(final IProject project) {
         final List<RobotElementChange> changes = new ArrayList<>();
-        
-        final List<RobotElement> toRemove = new ArrayList<>();
-        for (final RobotElement element : projects) {
-            if (((RobotProject) element).getProject().equals(project)) {
-                toRemove.add(element);
-                changes.add(RobotElementChange.createRemovedElement(element));
-            }
+
+        final RobotProject robotProject = projectsByResource.remove(project);
+        if (robotProject != null) {
+            projects.remove(robotProject);
+            changes.add(RobotElementChange.createRemovedElement(robotProject));
         }
-        projects.removeAll(toRemove);
         return changes;
     }
 
-    synchronized List<RobotElementChange> synchronizeChanges(final IResourceDelta delta) {
+    List<RobotElementChange> synchronizeChanges(final IResourceDelta delta) {
         final List<IProject> toRemove = new ArrayList<>();
         final List<RobotElementChange> changes = new ArrayList<>();
 
-        for (final RobotElement element : projects) {
+        // projects are synchronized without holding the lock, since refreshing files may create other elements
+        final List<RobotElement> currentProjects;
+        synchronized (this) {
+            currentProjects = new ArrayList<>(projects);
+        }
+        for (final RobotElement element : currentProjects) {
             final RobotProject project = (RobotProject) element;
 
             final IResourceDelta projectDelta = delta.findMember(project.getProject().getFullPath());
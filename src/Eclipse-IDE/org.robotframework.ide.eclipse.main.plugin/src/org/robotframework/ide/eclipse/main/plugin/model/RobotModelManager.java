@@ -15,6 +15,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.ui.PlatformUI;
 import org.rf.ide.core.watcher.RedFileWatcher;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ImportsDependencyGraph;
 
 public final class RobotModelManager {
 
@@ -25,6 +26,7 @@ public final class RobotModelManager {
             List<RobotElementChange> changes = null;
             if (event.getType() == IResourceChangeEvent.PRE_CLOSE) {
                 changes = InstanceHolder.INSTANCE.getModel().removeProject((IProject) event.getResource());
+                ImportsDependencyGraph.removeProject((IProject) event.getResource());
 
                 notifyAboutChanges(changes);
             } else if (event.getType() == IResourceChangeEvent.POST_CHANGE) {
@@ -33,6 +35,7 @@ public final class RobotModelManager {
                 notifyAboutChanges(changes);
             } else if (event.getType() == IResourceChangeEvent.PRE_DELETE) {
                 RedFileWatcher.getInstance().closeWatchService();
+                ImportsDependencyGraph.removeProject((IProject) event.getResource());
             }
         }
 
@@ -37,6 +37,7 @@ import org.rf.ide.core.executor.RobotRuntimeEnvironment;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment.RobotEnvironmentException;
 import org.rf.ide.core.libraries.LibraryDescriptor;
 import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.libraries.LibrarySpecificationCache;
 import org.rf.ide.core.libraries.LibrarySpecificationReader;
 import org.rf.ide.core.libraries.LibrarySpecificationReader.CannotReadLibrarySpecificationException;
 import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
@@ -236,7 +237,7 @@ public class RobotProject extends RobotContainer {
                     fileToRead = new File(libspecsFolder.getXmlSpecFile(fileName).getLocationURI());
                 }
 
-                final LibrarySpecification spec = LibrarySpecificationReader.readSpecification(fileToRead);
+                final LibrarySpecification spec = readSpecification(fileToRead);
                 spec.setDescriptor(descriptor);
                 return spec;
             } catch (final CannotReadLibrarySpecificationException e) {
@@ -245,6 +246,17 @@ public class RobotProject extends RobotContainer {
         };
     }
 
+    private static LibrarySpecification readSpecification(final File libspecFile) {
+        final RedPlugin plugin = RedPlugin.getDefault();
+        if (plugin == null) {
+            return LibrarySpecificationReader.readSpecification(libspecFile);
+        }
+        // binary cache is kept in plugin state location, so that workspace libspecs folder is not
+        // polluted with additional files which could trigger libraries rebuilding
+        final File cacheDirectory = new File(plugin.getStateLocation().toFile(), "libspecs");
+        return new LibrarySpecificationCache(cacheDirectory).readSpecification(libspecFile);
+    }
+
     private synchronized void readProjectConfigurationIfNeeded() {
         if (configuration == null) {
             try {
@@ -50,6 +50,7 @@ import org.rf.ide.core.testdata.model.presenter.DocumentationServiceHandler;
 import org.rf.ide.core.testdata.model.table.setting.SuiteDocumentation;
 import org.robotframework.ide.eclipse.main.plugin.RedImages;
 import org.robotframework.ide.eclipse.main.plugin.project.ASuiteFileDescriber;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ImportsDependencyGraph;
 
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableListMultimap;
@@ -147,6 +148,13 @@ public class RobotSuiteFile implements RobotFileInternalElement {
         this.fileOutput = fileOutput;
         if (this.fileOutput != null) {
             link(fileOutput.getFileModel());
+            updateImportsGraph();
+        }
+    }
+
+    private void updateImportsGraph() {
+        if (file != null && file.getProject() != null && getProject() != null) {
+            ImportsDependencyGraph.forProject(file.getProject()).update(this);
         }
     }
 
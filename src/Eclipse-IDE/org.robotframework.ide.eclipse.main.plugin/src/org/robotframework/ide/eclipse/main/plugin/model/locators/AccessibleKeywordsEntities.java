@@ -14,6 +14,7 @@ import java.util.Map;
 import org.eclipse.core.runtime.IPath;
 import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
 import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordsIndex;
 import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 
 import com.google.common.collect.ArrayListMultimap;
@@ -32,6 +33,10 @@ public class AccessibleKeywordsEntities {
 
     private Map<String, Collection<KeywordEntity>> accessibleKeywords;
 
+    private KeywordsIndex<KeywordEntity> accessibleKeywordsIndex;
+
+    private KeywordsIndex<KeywordEntity> possibleKeywordsIndex;
+
     public AccessibleKeywordsEntities(final IPath filepath, final AccessibleKeywordsCollector collector) {
         this.filepath = filepath;
         this.collector = collector;
@@ -57,10 +62,15 @@ public class AccessibleKeywordsEntities {
 
     public ListMultimap<String, KeywordEntity> findPossibleKeywords(final String keywordName,
             final boolean stopIfOneWasMatching) {
-        final Collection<KeywordEntity> filterAgainstDuplications = getAccessibleKeywordsDeduplicated();
+        return keywordSearcher.findKeywords(getAccessibleKeywords(), getAccessibleKeywordsIndex(), keywordName,
+                stopIfOneWasMatching);
+    }
 
-        return keywordSearcher.findKeywords(getAccessibleKeywords(), filterAgainstDuplications,
-                keywordName, stopIfOneWasMatching);
+    protected KeywordsIndex<KeywordEntity> getAccessibleKeywordsIndex() {
+        if (accessibleKeywordsIndex == null) {
+            accessibleKeywordsIndex = new KeywordsIndex<>(getAccessibleKeywordsDeduplicated());
+        }
+        return accessibleKeywordsIndex;
     }
 
     protected Collection<KeywordEntity> getAccessibleKeywordsDeduplicated() {
@@ -100,15 +110,21 @@ public class AccessibleKeywordsEntities {
     public ListMultimap<KeywordScope, KeywordEntity> getPossibleKeywords(final String keywordName,
             final boolean stopIfOneWasMatching) {
 
-        final List<KeywordEntity> hereKeywords = new ArrayList<>();
-        hereKeywords.addAll(getPossibleKeywords().values());
-
         final ListMultimap<String, KeywordEntity> foundKeywords = keywordSearcher.findKeywords(getAccessibleKeywords(),
-                filterDuplicates(hereKeywords), keywordName, stopIfOneWasMatching);
+                getPossibleKeywordsIndex(), keywordName, stopIfOneWasMatching);
 
         return getPossibleKeywords(foundKeywords, keywordName);
     }
 
+    private KeywordsIndex<KeywordEntity> getPossibleKeywordsIndex() {
+        // accessible keywords are collected only once, so there is no need to deduplicate them
+        // and build the index for every searched name
+        if (possibleKeywordsIndex == null) {
+            possibleKeywordsIndex = new KeywordsIndex<>(filterDuplicates(getPossibleKeywords().values()));
+        }
+        return possibleKeywordsIndex;
+    }
+
     private Collection<KeywordEntity> filterDuplicates(final Collection<? extends KeywordEntity> candidates) {
         final LinkedHashSet<KeywordEntity> entities = new LinkedHashSet<>();
         for (final KeywordEntity entity : candidates) {
@@ -8,6 +8,7 @@ package org.robotframework.ide.eclipse.main.plugin.preferences;
 import org.eclipse.jface.layout.GridDataFactory;
 import org.eclipse.jface.layout.GridLayoutFactory;
 import org.eclipse.jface.preference.BooleanFieldEditor;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
@@ -31,5 +32,12 @@ public class AutoDiscoveringPreferencePage extends RedFieldEditorPreferencePage
         addField(editor);
         final Button button = (Button) editor.getDescriptionControl(libGroup);
         GridDataFactory.fillDefaults().indent(5, 10).applyTo(button);
+
+        final Composite agentsComposite = new Composite(libGroup, SWT.NONE);
+        GridDataFactory.fillDefaults().indent(5, 5).applyTo(agentsComposite);
+        final IntegerFieldEditor agentsEditor = new IntegerFieldEditor(RedPreferences.AUTODISCOVERY_DRY_RUN_AGENTS,
+                "Number of dry run processes discovering libraries in parallel", agentsComposite, 2);
+        agentsEditor.setValidRange(1, 16);
+        addField(agentsEditor);
     }
 }
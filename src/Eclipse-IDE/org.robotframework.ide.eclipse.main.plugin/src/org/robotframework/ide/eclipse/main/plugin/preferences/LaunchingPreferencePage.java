@@ -121,5 +121,22 @@ public class LaunchingPreferencePage extends RedFieldEditorPreferencePage {
         limitEditor.setValidRange(0, 9_999_999);
         limitEditor.setEnabled(getPreferenceStore().getBoolean(RedPreferences.LIMIT_MSG_LOG_OUTPUT), viewsGroup);
         addField(limitEditor);
+
+        final BooleanFieldEditor spillEditor = new BooleanFieldEditor(RedPreferences.SPILL_MSG_LOG_OUTPUT,
+                "Keep Message Log output exceeding the limit in temporary file", viewsGroup);
+        final Button spillButton = (Button) spillEditor.getDescriptionControl(viewsGroup);
+        GridDataFactory.fillDefaults().indent(5, 5).applyTo(spillButton);
+        addField(spillEditor);
+
+        final IntegerFieldEditor spillLimitEditor = new IntegerFieldEditor(RedPreferences.SPILL_MSG_LOG_LENGTH,
+                "File size (characters)", viewsGroup, 10);
+        spillButton.addSelectionListener(
+                widgetSelectedAdapter(e -> spillLimitEditor.setEnabled(spillButton.getSelection(), viewsGroup)));
+        final Label spillLimitLabel = spillLimitEditor.getLabelControl(viewsGroup);
+        GridDataFactory.fillDefaults().indent(5, 5).applyTo(spillLimitLabel);
+        spillLimitEditor.setValidRange(0, 999_999_999);
+        spillLimitEditor.setEnabled(getPreferenceStore().getBoolean(RedPreferences.SPILL_MSG_LOG_OUTPUT),
+                viewsGroup);
+        addField(spillLimitEditor);
     }
 }
@@ -103,6 +103,7 @@ public class RedPreferencesInitializer extends AbstractPreferenceInitializer {
 
     private void initializeAutodiscoveringPreferences(final IEclipsePreferences preferences) {
         preferences.putBoolean(RedPreferences.PROJECT_MODULES_RECURSIVE_ADDITION_ON_VIRTUALENV_ENABLED, false);
+        preferences.putInt(RedPreferences.AUTODISCOVERY_DRY_RUN_AGENTS, 1);
     }
 
     private void initializeProblemSeverityPreferences(final IEclipsePreferences preferences) {
@@ -117,6 +118,8 @@ public class RedPreferencesInitializer extends AbstractPreferenceInitializer {
         preferences.putBoolean(RedPreferences.LAUNCH_USE_SINGLE_FILE_DATA_SOURCE, false);
         preferences.putBoolean(RedPreferences.LIMIT_MSG_LOG_OUTPUT, false);
         preferences.putInt(RedPreferences.LIMIT_MSG_LOG_LENGTH, 80_000);
+        preferences.putBoolean(RedPreferences.SPILL_MSG_LOG_OUTPUT, true);
+        preferences.putInt(RedPreferences.SPILL_MSG_LOG_LENGTH, 50_000_000);
         preferences.put(RedPreferences.LAUNCH_AGENT_CONNECTION_HOST, AgentConnectionServer.DEFAULT_CONNECTION_HOST);
         preferences.putInt(RedPreferences.LAUNCH_AGENT_CONNECTION_PORT, AgentConnectionServer.DEFAULT_CONNECTION_PORT);
         preferences.putInt(RedPreferences.LAUNCH_AGENT_CONNECTION_TIMEOUT,
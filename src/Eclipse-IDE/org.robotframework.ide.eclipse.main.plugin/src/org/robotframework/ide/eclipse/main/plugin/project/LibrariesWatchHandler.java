@@ -14,6 +14,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -51,6 +52,7 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
+import com.google.common.collect.SetMultimap;
 
 /**
  * @author mmarzec
@@ -61,9 +63,12 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
 
     private IEventBroker eventBroker = null;
 
-    private final ListMultimap<LibrarySpecification, String> registeredLibrarySpecifications = Multimaps
+    private final ListMultimap<LibrarySpecification, Path> registeredLibrarySpecifications = Multimaps
             .synchronizedListMultimap(ArrayListMultimap.create());
 
+    // inverse of registered specifications, guarded by registered specifications lock
+    private final SetMultimap<Path, LibrarySpecification> specificationsByFile = LinkedHashMultimap.create();
+
     private final Set<LibrarySpecification> dirtySpecs = Collections.synchronizedSet(new HashSet<>());
 
     private final Map<ReferencedLibrary, String> registeredRefLibraries = Collections.synchronizedMap(new HashMap<>());
@@ -84,10 +89,10 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
                     if (isPythonModule(absolutePathToLibraryFile)) {
                         final String[] moduleFilesList = extractPythonModuleFiles(libDir);
                         for (int i = 0; i < moduleFilesList.length; i++) {
-                            addLibraryToWatch(moduleFilesList[i], libDir.toPath(), spec);
+                            addLibraryToWatch(toWatchedPath(new File(libDir, moduleFilesList[i])), spec);
                         }
                     } else {
-                        addLibraryToWatch(libFile.getName(), libDir.toPath(), spec);
+                        addLibraryToWatch(toWatchedPath(libFile), spec);
                     }
                 }
             }
@@ -104,10 +109,10 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
                 if (isPythonModule(path) && libDir != null && libDir.exists()) {
                     final String[] moduleFilesList = extractPythonModuleFiles(libDir);
                     for (int i = 0; i < moduleFilesList.length; i++) {
-                        removeLibraryToWatch(moduleFilesList[i]);
+                        removeLibraryToWatch(toWatchedPath(new File(libDir, moduleFilesList[i])));
                     }
                 } else {
-                    removeLibraryToWatch(libFile.getName());
+                    removeLibraryToWatch(toWatchedPath(libFile));
                 }
                 registeredRefLibraries.remove(referencedLibrary);
             }
@@ -123,45 +128,48 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
         return files == null ? new String[0] : files;
     }
 
-    private void addLibraryToWatch(final String fileName, final Path dir, final LibrarySpecification spec) {
-        final List<LibrarySpecification> specsToReplace = new ArrayList<>();
+    private static Path toWatchedPath(final File file) {
+        return file.toPath().toAbsolutePath().normalize();
+    }
+
+    private void addLibraryToWatch(final Path file, final LibrarySpecification spec) {
         synchronized (registeredLibrarySpecifications) {
-            registeredLibrarySpecifications.forEach((registeredSpec, registeredName) -> {
-                if (registeredName.equals(fileName) && registeredSpec.equalsIgnoreKeywords(spec)) {
-                    specsToReplace.add(registeredSpec);
+            for (final LibrarySpecification registeredSpec : new ArrayList<>(specificationsByFile.get(file))) {
+                if (registeredSpec.equalsIgnoreKeywords(spec)) {
+                    removeLibrarySpecification(registeredSpec);
                 }
-            });
-            for (final LibrarySpecification specToReplace : specsToReplace) {
-                registeredLibrarySpecifications.removeAll(specToReplace);
             }
-            registeredLibrarySpecifications.put(spec, fileName);
+            registeredLibrarySpecifications.put(spec, file);
+            specificationsByFile.put(file, spec);
         }
-        registerPath(dir, fileName);
+        registerPath(file);
     }
 
-    private void removeLibraryToWatch(final String fileName) {
-        removeLibrarySpecification(fileName);
-        unregisterFile(fileName);
+    private void removeLibraryToWatch(final Path file) {
+        removeLibrarySpecifications(file);
+        unregisterFile(file);
     }
 
-    protected void registerPath(final Path dir, final String fileName) {
-        RedFileWatcher.getInstance().registerPath(dir, fileName, this);
+    protected void registerPath(final Path file) {
+        RedFileWatcher.getInstance().registerFile(file, this);
     }
 
-    protected void unregisterFile(final String fileName) {
-        RedFileWatcher.getInstance().unregisterFile(fileName, this);
+    protected void unregisterFile(final Path file) {
+        RedFileWatcher.getInstance().unregisterFile(file, this);
     }
 
-    private void removeLibrarySpecification(final String fileName) {
-        final List<LibrarySpecification> specsToRemove = new ArrayList<>();
+    private void removeLibrarySpecifications(final Path file) {
         synchronized (registeredLibrarySpecifications) {
-            registeredLibrarySpecifications.forEach((registeredSpec, registeredName) -> {
-                if (registeredName.equals(fileName)) {
-                    specsToRemove.add(registeredSpec);
-                }
-            });
-            for (final LibrarySpecification spec : specsToRemove) {
-                registeredLibrarySpecifications.removeAll(spec);
+            for (final LibrarySpecification spec : new ArrayList<>(specificationsByFile.get(file))) {
+                removeLibrarySpecification(spec);
+            }
+        }
+    }
+
+    private void removeLibrarySpecification(final LibrarySpecification spec) {
+        synchronized (registeredLibrarySpecifications) {
+            for (final Path file : registeredLibrarySpecifications.removeAll(spec)) {
+                specificationsByFile.remove(file, spec);
             }
         }
     }
@@ -176,46 +184,44 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
 
     @Override
     public void watchServiceInterrupted() {
-        registeredLibrarySpecifications.clear();
+        synchronized (registeredLibrarySpecifications) {
+            registeredLibrarySpecifications.clear();
+            specificationsByFile.clear();
+        }
         registeredRefLibraries.clear();
     }
 
     @Override
-    public void handleModifyEvent(final String modifiedFileName) {
-        if (registeredLibrarySpecifications.containsValue(modifiedFileName)) {
-
-            final IProject project = robotProject.getProject();
-            if (project == null || !project.exists()) {
-                clearHandler(modifiedFileName);
-                return;
-            }
+    public void handleModifyEvents(final Set<Path> modifiedFiles) {
+        final List<LibrarySpecification> modifiedLibSpecs = collectModifiedLibSpecs(modifiedFiles);
+        if (modifiedLibSpecs.isEmpty()) {
+            return;
+        }
 
-            SwtThread.asyncExec(new Runnable() {
+        final IProject project = robotProject.getProject();
+        if (project == null || !project.exists()) {
+            clearHandler(modifiedFiles);
+            return;
+        }
 
-                @Override
-                public void run() {
-                    final List<LibrarySpecification> libSpecsToRebuild = collectModifiedLibSpecs(modifiedFileName);
-                    if (robotProject.getRobotProjectConfig().isReferencedLibrariesAutoReloadEnabled()) {
-                        rebuildLibSpecs(project, libSpecsToRebuild);
-                    } else {
-                        markLibSpecsAsModified(libSpecsToRebuild);
-                    }
-                    fireSpecificationChangeEvent(project);
-                }
+        SwtThread.asyncExec(() -> {
+            if (robotProject.getRobotProjectConfig().isReferencedLibrariesAutoReloadEnabled()) {
+                rebuildLibSpecs(project, modifiedLibSpecs);
+            } else {
+                markLibSpecsAsModified(modifiedLibSpecs);
+            }
+            fireSpecificationChangeEvent(project);
+        });
+    }
 
-                private List<LibrarySpecification> collectModifiedLibSpecs(final String modifiedFileName) {
-                    final List<LibrarySpecification> specsToRebuild = new ArrayList<>();
-                    synchronized (registeredLibrarySpecifications) {
-                        registeredLibrarySpecifications.forEach((registeredSpec, registeredName) -> {
-                            if (registeredName.equals(modifiedFileName)) {
-                                specsToRebuild.add(registeredSpec);
-                            }
-                        });
-                    }
-                    return specsToRebuild;
-                }
-            });
+    private List<LibrarySpecification> collectModifiedLibSpecs(final Set<Path> modifiedFiles) {
+        final Set<LibrarySpecification> modifiedLibSpecs = new LinkedHashSet<>();
+        synchronized (registeredLibrarySpecifications) {
+            for (final Path file : modifiedFiles) {
+                modifiedLibSpecs.addAll(specificationsByFile.get(file));
+            }
         }
+        return new ArrayList<>(modifiedLibSpecs);
     }
 
     private void rebuildLibSpecs(final IProject project, final List<LibrarySpecification> specs) {
@@ -283,12 +289,13 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
         }
     }
 
-    private void markLibSpecsAsModified(final List<LibrarySpecification> specsToRebuild) {
+    private void markLibSpecsAsModified(final List<LibrarySpecification> modifiedSpecs) {
+        final Set<LibrarySpecification> specsToMark = new HashSet<>(modifiedSpecs);
         synchronized (dirtySpecs) {
-            if (!dirtySpecs.containsAll(specsToRebuild)) {
-                dirtySpecs.addAll(specsToRebuild);
+            if (!dirtySpecs.containsAll(specsToMark)) {
+                dirtySpecs.addAll(specsToMark);
                 robotProject.getLibrarySpecificationsStream().forEach(spec -> {
-                    if (specsToRebuild.contains(spec)) {
+                    if (specsToMark.contains(spec)) {
                         spec.setIsModified(true);
                     }
                 });
@@ -358,8 +365,8 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
         return null;
     }
 
-    private void clearHandler(final String modifiedFileName) {
-        removeLibrarySpecification(modifiedFileName);
+    private void clearHandler(final Set<Path> modifiedFiles) {
+        modifiedFiles.forEach(this::removeLibrarySpecifications);
         registeredRefLibraries.clear();
     }
 
@@ -369,7 +376,7 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
     }
 
     @VisibleForTesting
-    ListMultimap<LibrarySpecification, String> getLibrarySpecifications() {
+    ListMultimap<LibrarySpecification, Path> getLibrarySpecifications() {
         return registeredLibrarySpecifications;
     }
 
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.runtime.CoreException;
+import org.rf.ide.core.testdata.importer.VariablesFileImportReference;
+import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
+import org.robotframework.ide.eclipse.main.plugin.RedWorkspace;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.project.ASuiteFileDescriber;
+import org.robotframework.ide.eclipse.main.plugin.project.ExcludedResources;
+import org.robotframework.ide.eclipse.main.plugin.project.RobotProjectNature;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Graph of resource and variables files imports of files from the project. The graph is updated
+ * whenever a file model is parsed and it is used to find files which have to be revalidated when
+ * the files they depend on (directly or transitively) have changed. Imported files may belong to
+ * other projects, so graphs of all robot projects in workspace are queried for dependent files.
+ */
+public class ImportsDependencyGraph {
+
+    private static final Map<IProject, ImportsDependencyGraph> GRAPHS = new ConcurrentHashMap<>();
+
+    public static ImportsDependencyGraph forProject(final IProject project) {
+        return GRAPHS.computeIfAbsent(project, p -> new ImportsDependencyGraph());
+    }
+
+    /**
+     * Forgets the graph of given project. Has to be called when project is closed or deleted,
+     * otherwise the graph would be kept for the whole session.
+     */
+    public static void removeProject(final IProject project) {
+        GRAPHS.remove(project);
+    }
+
+    /**
+     * Returns files from all open robot projects of the workspace which import any of given files
+     * directly or through other imported files. Graphs are kept in memory only, so files of projects
+     * which were not parsed as a whole in this session are parsed first in order to fill their graphs.
+     *
+     * @param root
+     *            Workspace root
+     * @param files
+     *            Files for which dependent files should be found
+     * @return Dependent files
+     */
+    public static Set<IFile> getDependentFilesInWorkspace(final IWorkspaceRoot root, final Collection<IFile> files)
+            throws CoreException {
+        final Collection<ImportsDependencyGraph> graphs = new ArrayList<>();
+        for (final IProject project : root.getProjects()) {
+            if (project.isOpen() && RobotProjectNature.hasRobotNature(project)) {
+                graphs.add(filledGraph(project));
+            }
+        }
+        return getDependentFiles(graphs, files);
+    }
+
+    @VisibleForTesting
+    static Set<IFile> getDependentFiles(final Collection<ImportsDependencyGraph> graphs,
+            final Collection<IFile> files) {
+        final Set<IFile> dependents = new LinkedHashSet<>();
+        final Queue<IFile> toVisit = new ArrayDeque<>(files);
+        while (!toVisit.isEmpty()) {
+            final IFile file = toVisit.poll();
+            for (final ImportsDependencyGraph graph : graphs) {
+                for (final IFile importer : graph.getImporters(file)) {
+                    if (dependents.add(importer)) {
+                        toVisit.add(importer);
+                    }
+                }
+            }
+        }
+        return dependents;
+    }
+
+    private static ImportsDependencyGraph filledGraph(final IProject project) throws CoreException {
+        final ImportsDependencyGraph graph = forProject(project);
+        if (!graph.isFilled) {
+            project.accept(resource -> {
+                if (resource.getType() == IResource.FILE && !ExcludedResources.isHiddenInEclipse(resource)
+                        && isRobotFile((IFile) resource)) {
+                    final RobotSuiteFile suiteFile = RedPlugin.getModelManager().createSuiteFile((IFile) resource);
+                    suiteFile.parse();
+                    graph.update(suiteFile);
+                }
+                return true;
+            });
+            graph.isFilled = true;
+        }
+        return graph;
+    }
+
+    private static boolean isRobotFile(final IFile file) {
+        return ASuiteFileDescriber.isSuiteFile(file) || ASuiteFileDescriber.isResourceFile(file)
+                || ASuiteFileDescriber.isInitializationFile(file);
+    }
+
+    private final Map<IFile, Set<IFile>> imports = new HashMap<>();
+
+    private final Map<IFile, Set<IFile>> importers = new HashMap<>();
+
+    private volatile boolean isFilled = false;
+
+    @VisibleForTesting
+    ImportsDependencyGraph() {
+        // use forProject method
+    }
+
+    public void update(final RobotSuiteFile suiteFile) {
+        update(suiteFile.getFile(), collectImportedFiles(suiteFile));
+    }
+
+    @VisibleForTesting
+    synchronized void update(final IFile file, final Set<IFile> importedFiles) {
+        removeImports(file);
+        if (!importedFiles.isEmpty()) {
+            imports.put(file, importedFiles);
+            for (final IFile importedFile : importedFiles) {
+                importers.computeIfAbsent(importedFile, f -> new HashSet<>()).add(file);
+            }
+        }
+    }
+
+    public synchronized void remove(final IFile file) {
+        removeImports(file);
+    }
+
+    private void removeImports(final IFile file) {
+        final Set<IFile> oldImports = imports.remove(file);
+        if (oldImports != null) {
+            for (final IFile importedFile : oldImports) {
+                final Set<IFile> fileImporters = importers.get(importedFile);
+                fileImporters.remove(file);
+                if (fileImporters.isEmpty()) {
+                    importers.remove(importedFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns files which import any of given files directly or through other imported files.
+     * Given files are not included in the result unless there is an import cycle.
+     *
+     * @param files
+     *            Files for which dependent files should be found
+     * @return Dependent files
+     */
+    public Set<IFile> getDependentFiles(final Collection<IFile> files) {
+        return getDependentFiles(Collections.singletonList(this), files);
+    }
+
+    private synchronized Set<IFile> getImporters(final IFile file) {
+        final Set<IFile> fileImporters = importers.get(file);
+        return fileImporters == null ? Collections.emptySet() : new HashSet<>(fileImporters);
+    }
+
+    private static Set<IFile> collectImportedFiles(final RobotSuiteFile suiteFile) {
+        final Set<IFile> importedFiles = new HashSet<>();
+        for (final IResource resource : suiteFile.getImportedResources()) {
+            if (resource.getType() == IResource.FILE) {
+                importedFiles.add((IFile) resource);
+            }
+        }
+
+        final RedWorkspace workspace = new RedWorkspace(suiteFile.getFile().getWorkspace().getRoot());
+        for (final VariablesFileImportReference reference : suiteFile.getVariablesFromLocalReferencedFiles()) {
+            final File variablesFile = reference.getVariablesFile();
+            if (variablesFile != null) {
+                workspace.fileForUri(variablesFile.toURI()).ifPresent(importedFiles::add);
+            }
+        }
+        return importedFiles;
+    }
+}
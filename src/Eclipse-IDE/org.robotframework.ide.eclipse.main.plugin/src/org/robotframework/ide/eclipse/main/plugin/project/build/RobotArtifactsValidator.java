@@ -8,9 +8,13 @@ package org.robotframework.ide.eclipse.main.plugin.project.build;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -44,6 +48,11 @@ import org.robotframework.ide.eclipse.main.plugin.project.build.validation.Robot
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.RobotSuiteFileValidator;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.ValidationContext;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Sets;
+
 public class RobotArtifactsValidator {
 
     private final static ConcurrentHashMap<IResource, Object> VALIDATION_LOCKS = new ConcurrentHashMap<>();
@@ -311,30 +320,71 @@ public class RobotArtifactsValidator {
 
                 @Override
                 public List<ModelUnitValidator> createValidators(final ValidationContext context) throws CoreException {
-                    final List<ModelUnitValidator> validators = new ArrayList<>();
+                    final Set<IFile> changedFiles = new LinkedHashSet<>();
+                    final Set<IFile> removedFiles = new HashSet<>();
                     delta.accept(new IResourceDeltaVisitor() {
 
                         @Override
                         public boolean visit(final IResourceDelta delta) throws CoreException {
-                            if (delta.getKind() != IResourceDelta.REMOVED
-                                    && (delta.getFlags() & IResourceDelta.CONTENT) != 0) {
-                                context.setIsValidatingChangedFiles(true);
-
-                                final IResource resource = delta.getResource();
-                                final Optional<? extends ModelUnitValidator> validator = createValidator(context,
-                                        resource, reporter, false);
-                                if (validator.isPresent()) {
-                                    validators.add(createSynchronizedValidator(resource, validator.get()));
-                                }
+                            final IResource resource = delta.getResource();
+                            if (resource.getType() != IResource.FILE) {
+                                return true;
+                            }
+                            if (delta.getKind() == IResourceDelta.REMOVED) {
+                                removedFiles.add((IFile) resource);
+                            } else if ((delta.getFlags() & IResourceDelta.CONTENT) != 0) {
+                                changedFiles.add((IFile) resource);
                             }
                             return true;
                         }
                     });
+
+                    final IProject project = delta.getResource().getProject();
+                    final Set<IFile> dependentFiles = ImportsDependencyGraph.getDependentFilesInWorkspace(
+                            project.getWorkspace().getRoot(), Sets.union(changedFiles, removedFiles).immutableCopy());
+                    dependentFiles.removeAll(changedFiles);
+                    dependentFiles.removeAll(removedFiles);
+                    removedFiles.forEach(file -> ImportsDependencyGraph.forProject(file.getProject()).remove(file));
+                    revalidateInOtherProjects(project, dependentFiles);
+
+                    context.getLogger()
+                            .log("VALIDATING: " + changedFiles.size() + " changed and " + dependentFiles.size()
+                                    + " dependent file(s) will be revalidated");
+
+                    final List<ModelUnitValidator> validators = new ArrayList<>();
+                    for (final IFile file : Iterables.concat(changedFiles, dependentFiles)) {
+                        if (!file.exists()) {
+                            continue;
+                        }
+                        context.setIsValidatingChangedFiles(true);
+
+                        final Optional<? extends ModelUnitValidator> validator = createValidator(context, file,
+                                reporter, false);
+                        if (validator.isPresent()) {
+                            validators.add(createSynchronizedValidator(file, validator.get()));
+                        }
+                    }
                     return validators;
                 }
             };
         }
 
+        private static void revalidateInOtherProjects(final IProject project, final Set<IFile> dependentFiles) {
+            final Multimap<IProject, RobotSuiteFile> otherProjectsFiles = LinkedHashMultimap.create();
+            for (final Iterator<IFile> iterator = dependentFiles.iterator(); iterator.hasNext();) {
+                final IFile file = iterator.next();
+                if (!file.getProject().equals(project)) {
+                    iterator.remove();
+                    if (file.exists()) {
+                        otherProjectsFiles.put(file.getProject(), RedPlugin.getModelManager().createSuiteFile(file));
+                    }
+                }
+            }
+            for (final IProject otherProject : otherProjectsFiles.keySet()) {
+                createValidationJob(otherProject, create(otherProjectsFiles.get(otherProject))).schedule();
+            }
+        }
+
         private static Optional<? extends ModelUnitValidator> createValidator(final ValidationContext context,
                 final IResource resource, final ValidationReportingStrategy reporter, final boolean isRevalidating)
                 throws CoreException {
@@ -9,7 +9,14 @@ import static com.google.common.collect.Lists.newArrayList;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -22,6 +29,7 @@ import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.ui.statushandlers.StatusManager;
+import org.rf.ide.core.RedSystemProperties;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment.LibdocFormat;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment.RobotEnvironmentException;
@@ -40,6 +48,7 @@ import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.project.RedEclipseProjectConfig;
 import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.io.Files;
@@ -121,32 +130,32 @@ public class LibrariesBuilder {
             final RobotProject robotProject = RedPlugin.getModelManager().createProject(project);
             final RobotRuntimeEnvironment runtimeEnvironment = robotProject.getRuntimeEnvironment();
 
+            final Map<ILibdocGenerator, RobotEnvironmentException> problems = generateLibdocs(
+                    new ArrayList<>(groupedGenerators.get(project)), generator -> {
+                        if (project.exists()) {
+                            generator.generateLibdoc(runtimeEnvironment,
+                                    new RedEclipseProjectConfig(project, robotProject.getRobotProjectConfig())
+                                            .createAdditionalEnvironmentSearchPaths());
+                        }
+                    }, monitor);
+
             MultiStatus multiStatus = null;
-            for (final ILibdocGenerator generator : groupedGenerators.get(project)) {
-                monitor.subTask(generator.getMessage());
+            for (final Entry<ILibdocGenerator, RobotEnvironmentException> problem : problems.entrySet()) {
+                final ILibdocGenerator generator = problem.getKey();
+                final Status status = new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
+                        "\nProblem occurred during " + generator.getMessage() + ".", problem.getValue());
+                if (multiStatus == null) {
+                    multiStatus = new MultiStatus(RedPlugin.PLUGIN_ID, IStatus.ERROR, new Status[] { status },
+                            "Library specification generation problem", null);
+                } else {
+                    multiStatus.add(status);
+                }
+
                 try {
-                    if (project.exists()) {
-                        generator.generateLibdoc(runtimeEnvironment,
-                                new RedEclipseProjectConfig(project, robotProject.getRobotProjectConfig())
-                                        .createAdditionalEnvironmentSearchPaths());
-                    }
-                } catch (final RobotEnvironmentException e) {
-                    final Status status = new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
-                            "\nProblem occurred during " + generator.getMessage() + ".", e);
-                    if (multiStatus == null) {
-                        multiStatus = new MultiStatus(RedPlugin.PLUGIN_ID, IStatus.ERROR, new Status[] { status },
-                                "Library specification generation problem", null);
-                    } else {
-                        multiStatus.add(status);
-                    }
-
-                    try {
-                        generator.getTargetFile().delete(true, new NullProgressMonitor());
-                    } catch (final CoreException e1) {
-                        multiStatus.add(e1.getStatus());
-                    }
+                    generator.getTargetFile().delete(true, new NullProgressMonitor());
+                } catch (final CoreException e) {
+                    multiStatus.add(e.getStatus());
                 }
-                monitor.worked(1);
             }
 
             if (multiStatus != null) {
@@ -205,24 +214,84 @@ public class LibrariesBuilder {
 
         monitor.setWorkRemaining(libdocGenerators.size());
 
-        for (final ILibdocGenerator generator : libdocGenerators) {
-            if (monitor.isCanceled()) {
-                return;
+        // the libraries with missing libspec are reported in validation phase
+        generateLibdocs(libdocGenerators,
+                generator -> generator.generateLibdoc(environment,
+                        new RedEclipseProjectConfig(robotProject.getProject(), configuration)
+                                .createAdditionalEnvironmentSearchPaths()),
+                monitor);
+
+        monitor.done();
+    }
+
+    /**
+     * Runs given generators in parallel using bounded number of threads. Each thread acquires own
+     * interpreter process from runtime environment, so that generation is not serialized on single
+     * session server. Generators which were not started yet are skipped when monitor is canceled.
+     *
+     * @return problems which occurred during generation, in order of given generators
+     */
+    private Map<ILibdocGenerator, RobotEnvironmentException> generateLibdocs(final List<ILibdocGenerator> generators,
+            final LibdocGeneration generation, final SubMonitor monitor) {
+        final Map<ILibdocGenerator, RobotEnvironmentException> problems = new LinkedHashMap<>();
+        if (generators.isEmpty()) {
+            return problems;
+        }
+
+        final int threadPoolSize = Math.min(generators.size(), RedSystemProperties.getLibdocGenerationThreads());
+        logger.log("BUILDING: " + threadPoolSize + " threads will be used for libdocs generation");
+        final ExecutorService threadPool = Executors.newFixedThreadPool(threadPoolSize);
+        try {
+            final Map<ILibdocGenerator, Future<RobotEnvironmentException>> results = new LinkedHashMap<>();
+            for (final ILibdocGenerator generator : generators) {
+                results.put(generator, threadPool.submit(() -> generateLibdoc(generator, generation, monitor)));
             }
+            for (final Entry<ILibdocGenerator, Future<RobotEnvironmentException>> result : results.entrySet()) {
+                final RobotEnvironmentException problem = result.getValue().get();
+                if (problem != null) {
+                    problems.put(result.getKey(), problem);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            threadPool.shutdownNow();
+        }
+        return problems;
+    }
 
-            logger.log("BUILDING: " + generator.getMessage());
+    private RobotEnvironmentException generateLibdoc(final ILibdocGenerator generator,
+            final LibdocGeneration generation, final SubMonitor monitor) {
+        if (monitor.isCanceled()) {
+            return null;
+        }
+
+        logger.log("BUILDING: " + generator.getMessage());
+        synchronized (monitor) {
             monitor.subTask(generator.getMessage());
-            try {
-                generator.generateLibdoc(environment,
-                        new RedEclipseProjectConfig(robotProject.getProject(), configuration)
-                                .createAdditionalEnvironmentSearchPaths());
-            } catch (final RobotEnvironmentException e) {
-                // the libraries with missing libspec are reported in validation phase
+        }
+        final long start = System.currentTimeMillis();
+        try {
+            generation.generate(generator);
+            return null;
+        } catch (final RobotEnvironmentException e) {
+            return e;
+        } finally {
+            logger.log("BUILDING: " + generator.getMessage() + " took " + (System.currentTimeMillis() - start)
+                    + " ms");
+            synchronized (monitor) {
+                monitor.worked(1);
             }
-            monitor.worked(1);
         }
+    }
 
-        monitor.done();
+    @FunctionalInterface
+    private interface LibdocGeneration {
+
+        void generate(ILibdocGenerator generator) throws RobotEnvironmentException;
     }
 
     private List<ILibdocGenerator> getStandardLibrariesToRecreate(final RobotRuntimeEnvironment environment,
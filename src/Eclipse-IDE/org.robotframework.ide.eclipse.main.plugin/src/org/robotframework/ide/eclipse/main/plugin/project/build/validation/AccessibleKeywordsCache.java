@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.rf.ide.core.libraries.KeywordSpecification;
+import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordDefinition;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordsSection;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
+import org.robotframework.ide.eclipse.main.plugin.project.build.validation.FileValidationContext.ValidationKeywordEntity;
+
+import com.google.common.collect.Multimap;
+import com.google.common.io.Files;
+
+/**
+ * Keeps keywords exported by each file (defined in it and coming from libraries imported by it)
+ * together with resources imported by the file. Cache is shared by all the files validated within
+ * single validation, so that commonly imported resources are not read again for every validated
+ * file. Cached keywords of a file are read again when the file was modified or when library
+ * specifications of its project were changed (e.g. regenerated). The order in which keywords are
+ * collected is the same as in
+ * {@link org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator}.
+ */
+class AccessibleKeywordsCache {
+
+    private final RobotModel model;
+
+    private final Map<IFile, FileKeywords> filesKeywords = new ConcurrentHashMap<>();
+
+    AccessibleKeywordsCache(final RobotModel model) {
+        this.model = model;
+    }
+
+    Map<String, Collection<KeywordEntity>> collectAccessibleKeywords(final IFile file) {
+        final Map<String, Collection<KeywordEntity>> accessibleKeywords = newHashMap();
+
+        final FileKeywords startingFileKeywords = getFileKeywords(file);
+        addAccessibleKeywords(accessibleKeywords, startingFileKeywords.definedKeywords);
+        collectFromResources(accessibleKeywords, startingFileKeywords.importedResources, newHashSet(file));
+        addAccessibleKeywords(accessibleKeywords, startingFileKeywords.libraryKeywords);
+
+        return accessibleKeywords;
+    }
+
+    private void collectFromResources(final Map<String, Collection<KeywordEntity>> accessibleKeywords,
+            final List<IResource> resources, final Set<IFile> alreadyVisited) {
+        for (final IResource resourceFile : resources) {
+            if (!resourceFile.exists() || resourceFile.getType() != IResource.FILE
+                    || alreadyVisited.contains(resourceFile)) {
+                continue;
+            }
+            alreadyVisited.add((IFile) resourceFile);
+
+            final FileKeywords resourceKeywords = getFileKeywords((IFile) resourceFile);
+            collectFromResources(accessibleKeywords, resourceKeywords.importedResources, alreadyVisited);
+            addAccessibleKeywords(accessibleKeywords, resourceKeywords.libraryKeywords);
+            addAccessibleKeywords(accessibleKeywords, resourceKeywords.definedKeywords);
+        }
+    }
+
+    private static void addAccessibleKeywords(final Map<String, Collection<KeywordEntity>> accessibleKeywords,
+            final List<ValidationKeywordEntity> keywords) {
+        for (final ValidationKeywordEntity keyword : keywords) {
+            final String unifiedName = QualifiedKeywordName.unifyDefinition(keyword.getNameFromDefinition());
+            accessibleKeywords.computeIfAbsent(unifiedName, name -> new LinkedHashSet<>()).add(keyword);
+        }
+    }
+
+    private FileKeywords getFileKeywords(final IFile file) {
+        final long modificationStamp = file.getModificationStamp();
+        final Collection<LibrarySpecification> librarySpecifications = model.createRobotProject(file.getProject())
+                .getLibrarySpecifications();
+        final FileKeywords cached = filesKeywords.get(file);
+        if (cached != null && cached.isUpToDate(modificationStamp, librarySpecifications)) {
+            return cached;
+        }
+        final FileKeywords fileKeywords = new FileKeywords(modificationStamp, librarySpecifications,
+                model.createSuiteFile(file));
+        filesKeywords.put(file, fileKeywords);
+        return fileKeywords;
+    }
+
+    private static class FileKeywords {
+
+        private final long modificationStamp;
+
+        private final List<LibrarySpecification> librarySpecifications;
+
+        private final List<IResource> importedResources;
+
+        private final List<ValidationKeywordEntity> libraryKeywords = new ArrayList<>();
+
+        private final List<ValidationKeywordEntity> definedKeywords = new ArrayList<>();
+
+        FileKeywords(final long modificationStamp, final Collection<LibrarySpecification> librarySpecifications,
+                final RobotSuiteFile suiteFile) {
+            this.modificationStamp = modificationStamp;
+            this.librarySpecifications = new ArrayList<>(librarySpecifications);
+            this.importedResources = suiteFile.getImportedResources();
+
+            final Multimap<LibrarySpecification, Optional<String>> importedLibs = suiteFile.getImportedLibraries();
+            for (final LibrarySpecification libSpec : importedLibs.keySet()) {
+                final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
+                for (final KeywordSpecification kwSpec : libSpec.getKeywords()) {
+                    for (final Optional<String> libraryAlias : importedLibs.get(libSpec)) {
+                        libraryKeywords.add(new ValidationKeywordEntity(scope, libSpec.getName(), kwSpec.getName(),
+                                libraryAlias, kwSpec.isDeprecated(), suiteFile.getFile().getFullPath(), 0,
+                                kwSpec.createArgumentsDescriptor()));
+                    }
+                }
+            }
+
+            final Optional<RobotKeywordsSection> section = suiteFile.findSection(RobotKeywordsSection.class);
+            if (section.isPresent()) {
+                for (final RobotKeywordDefinition kwDefinition : section.get().getChildren()) {
+                    definedKeywords.add(new ValidationKeywordEntity(null,
+                            Files.getNameWithoutExtension(suiteFile.getName()), kwDefinition.getName(),
+                            Optional.empty(), kwDefinition.isDeprecated(), suiteFile.getFile().getFullPath(),
+                            kwDefinition.getDefinitionPosition().getOffset(),
+                            kwDefinition.createArgumentsDescriptor()));
+                }
+            }
+        }
+
+        boolean isUpToDate(final long currentModificationStamp,
+                final Collection<LibrarySpecification> currentLibrarySpecifications) {
+            if (modificationStamp != currentModificationStamp
+                    || librarySpecifications.size() != currentLibrarySpecifications.size()) {
+                return false;
+            }
+            // specifications are compared by identity, since they are recreated when library changes
+            final Iterator<LibrarySpecification> iterator = librarySpecifications.iterator();
+            for (final LibrarySpecification specification : currentLibrarySpecifications) {
+                if (specification != iterator.next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
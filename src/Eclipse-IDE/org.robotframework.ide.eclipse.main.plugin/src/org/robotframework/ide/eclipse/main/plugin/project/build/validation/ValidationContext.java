@@ -10,46 +10,35 @@ import static com.google.common.collect.Sets.newHashSet;
 import static java.util.stream.Collectors.toList;
 
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment;
 import org.rf.ide.core.executor.SuiteExecutor;
-import org.rf.ide.core.libraries.KeywordSpecification;
 import org.rf.ide.core.libraries.LibraryDescriptor;
 import org.rf.ide.core.libraries.LibrarySpecification;
 import org.rf.ide.core.project.RobotProjectConfig;
 import org.rf.ide.core.project.RobotProjectConfig.ReferencedVariableFile;
 import org.rf.ide.core.testdata.model.RobotVersion;
-import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
-import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 import org.rf.ide.core.testdata.model.table.variables.names.VariableNamesSupport;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotFileInternalElement;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordDefinition;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotVariable;
 import org.robotframework.ide.eclipse.main.plugin.model.locators.ContinueDecision;
-import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator;
-import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator.KeywordDetector;
 import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
 import org.robotframework.ide.eclipse.main.plugin.model.locators.VariableDefinitionLocator;
 import org.robotframework.ide.eclipse.main.plugin.model.locators.VariableDefinitionLocator.VariableDetector;
 import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
 import org.robotframework.ide.eclipse.main.plugin.project.build.libs.RemoteArgumentsResolver;
-import org.robotframework.ide.eclipse.main.plugin.project.build.validation.FileValidationContext.ValidationKeywordEntity;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
-import com.google.common.io.Files;
 
 /**
  * @author Michal Anglart
@@ -68,6 +57,8 @@ public class ValidationContext {
 
     private final Map<LibraryDescriptor, LibrarySpecification> referencedAccessibleLibraries;
 
+    private final AccessibleKeywordsCache accessibleKeywordsCache;
+
     private BuildLogger logger;
 
     private boolean isValidatingChangedFiles;
@@ -84,6 +75,7 @@ public class ValidationContext {
 
         this.accessibleLibraries = collectLibraries(robotProject);
         this.referencedAccessibleLibraries = newHashMap(robotProject.getReferencedLibraries());
+        this.accessibleKeywordsCache = new AccessibleKeywordsCache(model);
     }
 
     @VisibleForTesting
@@ -96,13 +88,14 @@ public class ValidationContext {
         this.executorInUse = executor;
         this.accessibleLibraries = libs;
         this.referencedAccessibleLibraries = refLibs;
+        this.accessibleKeywordsCache = new AccessibleKeywordsCache(model);
     }
 
     private static Multimap<String, LibrarySpecification> collectLibraries(final RobotProject robotProject) {
         return Multimaps.index(robotProject.getLibrarySpecifications(), LibrarySpecification::getName);
     }
 
-    BuildLogger getLogger() {
+    public BuildLogger getLogger() {
         return logger;
     }
 
@@ -221,51 +214,6 @@ public class ValidationContext {
     }
 
     public Map<String, Collection<KeywordEntity>> collectAccessibleKeywords(final IFile file) {
-        final Map<String, Collection<KeywordEntity>> accessibleKeywords = newHashMap();
-        new KeywordDefinitionLocator(file, model).locateKeywordDefinition(new KeywordDetector() {
-
-            @Override
-            public ContinueDecision nonAccessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
-                    final KeywordSpecification kwSpec, final RobotSuiteFile exposingFile) {
-                return ContinueDecision.CONTINUE;
-            }
-
-            @Override
-            public ContinueDecision accessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
-                    final KeywordSpecification kwSpec, final Collection<Optional<String>> libraryAliases,
-                    final RobotSuiteFile exposingFile) {
-
-                final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
-                for (final Optional<String> libraryAlias : libraryAliases) {
-                    final ValidationKeywordEntity keyword = new ValidationKeywordEntity(scope, libSpec.getName(),
-                            kwSpec.getName(), libraryAlias, kwSpec.isDeprecated(), exposingFile.getFile().getFullPath(),
-                            0, kwSpec.createArgumentsDescriptor());
-
-                    addAccessibleKeyword(kwSpec.getName(), keyword);
-                }
-                return ContinueDecision.CONTINUE;
-            }
-
-            @Override
-            public ContinueDecision keywordDetected(final RobotSuiteFile suiteFile,
-                    final RobotKeywordDefinition kwDefinition) {
-                final ValidationKeywordEntity keyword = new ValidationKeywordEntity(null,
-                        Files.getNameWithoutExtension(suiteFile.getName()), kwDefinition.getName(), Optional.empty(),
-                        kwDefinition.isDeprecated(), suiteFile.getFile().getFullPath(),
-                        kwDefinition.getDefinitionPosition().getOffset(), kwDefinition.createArgumentsDescriptor());
-
-                addAccessibleKeyword(kwDefinition.getName(), keyword);
-                return ContinueDecision.CONTINUE;
-            }
-
-            private void addAccessibleKeyword(final String keywordName, final ValidationKeywordEntity keyword) {
-                final String unifiedName = QualifiedKeywordName.unifyDefinition(keywordName);
-                if (!accessibleKeywords.containsKey(unifiedName)) {
-                    accessibleKeywords.put(unifiedName, new LinkedHashSet<>());
-                }
-                accessibleKeywords.get(unifiedName).add(keyword);
-            }
-        });
-        return accessibleKeywords;
+        return accessibleKeywordsCache.collectAccessibleKeywords(file);
     }
 }
@@ -6,8 +6,9 @@
 package org.robotframework.ide.eclipse.main.plugin.project.dryrun;
 
 import java.io.File;
-import java.util.Optional;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -41,7 +42,7 @@ public abstract class AbstractAutoDiscoverer {
 
     final RobotProject robotProject;
 
-    private AgentConnectionServerJob serverJob;
+    private final List<AgentConnectionServerJob> serverJobs = new CopyOnWriteArrayList<>();
 
     AbstractAutoDiscoverer(final RobotProject robotProject) {
         this.robotProject = robotProject;
@@ -55,6 +56,10 @@ public abstract class AbstractAutoDiscoverer {
 
     abstract void startDiscovering(final IProgressMonitor monitor) throws InterruptedException, CoreException;
 
+    /**
+     * Called for each dry run agent. Agents are running in parallel, so returned listeners should
+     * not share state which is not thread-safe.
+     */
     abstract RobotAgentEventListener createDryRunCollectorEventListener(Consumer<String> libNameHandler);
 
     abstract void startDryRunClient(int port, final File dataSource) throws CoreException;
@@ -67,9 +72,13 @@ public abstract class AbstractAutoDiscoverer {
         IS_DRY_RUN_RUNNING.set(false);
     }
 
+    int getNumberOfDryRunAgents() {
+        return 1;
+    }
+
     void stopDiscovering() {
-        if (serverJob != null) {
-            serverJob.stopServer();
+        if (!serverJobs.isEmpty()) {
+            serverJobs.forEach(AgentConnectionServerJob::stopServer);
             robotProject.getRuntimeEnvironment().stopAutoDiscovering();
         }
     }
@@ -77,13 +86,14 @@ public abstract class AbstractAutoDiscoverer {
     @VisibleForTesting
     public void startDryRunDiscovering(final IProgressMonitor monitor, final Set<String> libraryNames)
             throws InterruptedException, CoreException {
-        final Optional<File> tempSuite = RobotDryRunTemporarySuites.createLibraryImportFile(libraryNames);
-        if (tempSuite.isPresent()) {
+        final List<File> tempSuites = RobotDryRunTemporarySuites.createLibraryImportFiles(libraryNames,
+                getNumberOfDryRunAgents());
+        if (!tempSuites.isEmpty()) {
             final SubMonitor subMonitor = SubMonitor.convert(monitor);
-            subMonitor.setWorkRemaining(libraryNames.size() + 3);
+            subMonitor.setWorkRemaining(libraryNames.size() + tempSuites.size() + 2);
             subMonitor.subTask("Preparing Robot dry run execution...");
             try {
-                executeDryRun(tempSuite.get(), subMonitor);
+                executeDryRun(tempSuites, subMonitor);
                 subMonitor.worked(1);
             } finally {
                 subMonitor.done();
@@ -91,16 +101,22 @@ public abstract class AbstractAutoDiscoverer {
         }
     }
 
-    private void executeDryRun(final File dataSource, final SubMonitor subMonitor)
+    private void executeDryRun(final List<File> dataSources, final SubMonitor subMonitor)
             throws InterruptedException, CoreException {
+        // each suite is executed by separate agent connected to its own server
         final String host = AgentConnectionServer.DEFAULT_CONNECTION_HOST;
-        final int port = AgentConnectionServer.findFreePort();
         final int timeout = CONNECTION_TIMEOUT;
-        serverJob = startDryRunServer(host, port, timeout, subMonitor);
+        serverJobs.clear();
+        for (final File dataSource : dataSources) {
+            final int port = AgentConnectionServer.findFreePort();
+            serverJobs.add(startDryRunServer(host, port, timeout, subMonitor));
 
-        startDryRunClient(port, dataSource);
+            startDryRunClient(port, dataSource);
+        }
 
-        serverJob.join();
+        for (final AgentConnectionServerJob serverJob : serverJobs) {
+            serverJob.join();
+        }
     }
 
     private AgentConnectionServerJob startDryRunServer(final String host, final int port, final int timeout,
@@ -110,8 +126,10 @@ public abstract class AbstractAutoDiscoverer {
             @Override
             public void handleAgentInitializing(final AgentInitializingEvent event) {
                 super.handleAgentInitializing(event);
-                subMonitor.worked(1);
-                subMonitor.subTask("Starting Robot dry run execution...");
+                synchronized (subMonitor) {
+                    subMonitor.worked(1);
+                    subMonitor.subTask("Starting Robot dry run execution...");
+                }
             }
         };
         final AgentConnectionServerJob serverJob = AgentConnectionServerJob.setupServerAt(host, port)
@@ -120,8 +138,10 @@ public abstract class AbstractAutoDiscoverer {
                 .agentEventsListenedBy(testsStarter)
                 .agentEventsListenedBy(new RobotDryRunAlwaysContinueEventListener())
                 .agentEventsListenedBy(createDryRunCollectorEventListener(libName -> {
-                    subMonitor.worked(1);
-                    subMonitor.subTask("Discovering library: " + libName);
+                    synchronized (subMonitor) {
+                        subMonitor.worked(1);
+                        subMonitor.subTask("Discovering library: " + libName);
+                    }
                     if (subMonitor.isCanceled()) {
                         stopDiscovering();
                     }
@@ -13,9 +13,11 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 import org.eclipse.core.resources.WorkspaceJob;
@@ -33,6 +35,7 @@ import org.rf.ide.core.dryrun.RobotDryRunLibraryImport;
 import org.rf.ide.core.dryrun.RobotDryRunLibraryImport.DryRunLibraryImportStatus;
 import org.rf.ide.core.dryrun.RobotDryRunLibraryImport.DryRunLibraryType;
 import org.rf.ide.core.dryrun.RobotDryRunLibraryImportCollector;
+import org.rf.ide.core.dryrun.RobotDryRunLibraryImportsCache;
 import org.rf.ide.core.executor.EnvironmentSearchPaths;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment.RobotEnvironmentException;
 import org.rf.ide.core.libraries.LibraryDescriptor;
@@ -50,6 +53,8 @@ import org.robotframework.ide.eclipse.main.plugin.project.editor.libraries.ILibr
 import org.robotframework.ide.eclipse.main.plugin.project.editor.libraries.JarStructureBuilder;
 import org.robotframework.ide.eclipse.main.plugin.project.editor.libraries.PythonLibStructureBuilder;
 
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
 import com.google.common.collect.Streams;
 
 /**
@@ -57,19 +62,25 @@ import com.google.common.collect.Streams;
  */
 public abstract class LibrariesAutoDiscoverer extends AbstractAutoDiscoverer {
 
+    private static final RobotDryRunLibraryImportsCache LIBRARY_IMPORTS_CACHE = new RobotDryRunLibraryImportsCache();
+
     private final Consumer<Collection<RobotDryRunLibraryImport>> summaryHandler;
 
-    private final RobotDryRunLibraryImportCollector dryRunLibraryImportCollector;
+    private final Set<String> standardLibraryNames;
+
+    // each dry run agent reports to its own collector
+    private final List<RobotDryRunLibraryImportCollector> dryRunLibraryImportCollectors = new CopyOnWriteArrayList<>();
+
+    private final List<RobotDryRunLibraryImport> cachedLibraryImports = new ArrayList<>();
 
     LibrariesAutoDiscoverer(final RobotProject robotProject,
             final Consumer<Collection<RobotDryRunLibraryImport>> summaryHandler) {
         super(robotProject);
         this.summaryHandler = summaryHandler;
-        this.dryRunLibraryImportCollector = new RobotDryRunLibraryImportCollector(
-                robotProject.getLibraryDescriptorsStream()
-                        .filter(LibraryDescriptor::isStandardLibrary)
-                        .map(LibraryDescriptor::getName)
-                        .collect(toSet()));
+        this.standardLibraryNames = robotProject.getLibraryDescriptorsStream()
+                .filter(LibraryDescriptor::isStandardLibrary)
+                .map(LibraryDescriptor::getName)
+                .collect(toSet());
     }
 
     @Override
@@ -118,30 +129,79 @@ public abstract class LibrariesAutoDiscoverer extends AbstractAutoDiscoverer {
     abstract void prepareDiscovering(IProgressMonitor monitor) throws CoreException;
 
     List<RobotDryRunLibraryImport> getImportedLibraries() {
-        return dryRunLibraryImportCollector.getImportedLibraries();
+        final List<RobotDryRunLibraryImport> importedLibraries = new ArrayList<>(cachedLibraryImports);
+        importedLibraries.addAll(getDiscoveredLibraries());
+        return importedLibraries;
+    }
+
+    @Override
+    int getNumberOfDryRunAgents() {
+        return Math.max(1, RedPlugin.getDefault().getPreferences().getAutodiscoveryDryRunAgents());
+    }
+
+    /**
+     * Libraries which were discovered before with the same search paths and which sources were
+     * not modified since then are taken from the cache instead of being imported by dry run.
+     */
+    @Override
+    public void startDryRunDiscovering(final IProgressMonitor monitor, final Set<String> libraryNames)
+            throws InterruptedException, CoreException {
+        // libraries are imported by temporary suite without arguments
+        final List<String> arguments = new ArrayList<>();
+        final String searchPaths = describeSearchPaths();
+
+        final Set<String> libraryNamesToDiscover = new LinkedHashSet<>();
+        for (final String libraryName : libraryNames) {
+            final Optional<List<RobotDryRunLibraryImport>> cachedImports = LIBRARY_IMPORTS_CACHE.get(libraryName,
+                    arguments, searchPaths);
+            if (cachedImports.isPresent()) {
+                cachedLibraryImports.addAll(cachedImports.get());
+            } else {
+                libraryNamesToDiscover.add(libraryName);
+            }
+        }
+
+        super.startDryRunDiscovering(monitor, libraryNamesToDiscover);
+
+        if (!monitor.isCanceled()) {
+            final ListMultimap<String, RobotDryRunLibraryImport> discoveredImports = Multimaps.index(
+                    getDiscoveredLibraries(), RobotDryRunLibraryImport::getName);
+            for (final String libraryName : libraryNamesToDiscover) {
+                LIBRARY_IMPORTS_CACHE.put(libraryName, arguments, searchPaths, discoveredImports.get(libraryName));
+            }
+        }
+    }
+
+    private List<RobotDryRunLibraryImport> getDiscoveredLibraries() {
+        final List<RobotDryRunLibraryImport> discoveredLibraries = new ArrayList<>();
+        for (final RobotDryRunLibraryImportCollector collector : dryRunLibraryImportCollectors) {
+            discoveredLibraries.addAll(collector.getImportedLibraries());
+        }
+        return discoveredLibraries;
     }
 
     @Override
     RobotDryRunLibraryEventListener createDryRunCollectorEventListener(final Consumer<String> libNameHandler) {
-        return new RobotDryRunLibraryEventListener(dryRunLibraryImportCollector, libNameHandler);
+        final RobotDryRunLibraryImportCollector collector = new RobotDryRunLibraryImportCollector(
+                standardLibraryNames);
+        dryRunLibraryImportCollectors.add(collector);
+        return new RobotDryRunLibraryEventListener(collector, libNameHandler);
     }
 
     @Override
     void startDryRunClient(final int port, final File dataSource) throws CoreException {
-        final File projectLocation = robotProject.getProject().getLocation().toFile();
-        final boolean recursiveInVirtualenv = RedPlugin.getDefault()
-                .getPreferences()
-                .isProjectModulesRecursiveAdditionOnVirtualenvEnabled();
-        final RobotProjectConfig projectConfig = robotProject.getRobotProjectConfig();
-        final List<String> excludedPaths = projectConfig.getExcludedPath()
-                .stream()
-                .map(ExcludedFolderPath::getPath)
-                .collect(toList());
-        final EnvironmentSearchPaths additionalPaths = new RedEclipseProjectConfig(robotProject.getProject(),
-                projectConfig).createExecutionEnvironmentSearchPaths();
-
-        robotProject.getRuntimeEnvironment().startLibraryAutoDiscovering(port, dataSource, projectLocation,
-                recursiveInVirtualenv, excludedPaths, additionalPaths);
+        final DryRunSearchPaths paths = new DryRunSearchPaths();
+        robotProject.getRuntimeEnvironment().startLibraryAutoDiscovering(port, dataSource, paths.projectLocation,
+                paths.recursiveInVirtualenv, paths.excludedPaths, paths.additionalPaths);
+    }
+
+    private String describeSearchPaths() {
+        final DryRunSearchPaths paths = new DryRunSearchPaths();
+        return String.join("\n", String.valueOf(robotProject.getRuntimeEnvironment().getFile()),
+                paths.projectLocation.getAbsolutePath(), String.valueOf(paths.recursiveInVirtualenv),
+                String.join(File.pathSeparator, paths.excludedPaths),
+                String.join(File.pathSeparator, paths.additionalPaths.getPythonPaths()),
+                String.join(File.pathSeparator, paths.additionalPaths.getClassPaths()));
     }
 
     void setImporters(final RobotDryRunLibraryImport libraryImport, final Collection<RobotSuiteFile> suites) {
@@ -283,6 +343,31 @@ public abstract class LibrariesAutoDiscoverer extends AbstractAutoDiscoverer {
 
     }
 
+    private class DryRunSearchPaths {
+
+        private final File projectLocation;
+
+        private final boolean recursiveInVirtualenv;
+
+        private final List<String> excludedPaths;
+
+        private final EnvironmentSearchPaths additionalPaths;
+
+        DryRunSearchPaths() {
+            this.projectLocation = robotProject.getProject().getLocation().toFile();
+            this.recursiveInVirtualenv = RedPlugin.getDefault()
+                    .getPreferences()
+                    .isProjectModulesRecursiveAdditionOnVirtualenvEnabled();
+            final RobotProjectConfig projectConfig = robotProject.getRobotProjectConfig();
+            this.excludedPaths = projectConfig.getExcludedPath()
+                    .stream()
+                    .map(ExcludedFolderPath::getPath)
+                    .collect(toList());
+            this.additionalPaths = new RedEclipseProjectConfig(robotProject.getProject(), projectConfig)
+                    .createExecutionEnvironmentSearchPaths();
+        }
+    }
+
     @FunctionalInterface
     public interface DiscovererFactory {
 
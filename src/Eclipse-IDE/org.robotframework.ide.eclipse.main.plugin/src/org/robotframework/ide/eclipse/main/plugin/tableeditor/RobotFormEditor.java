@@ -10,6 +10,7 @@ import static com.google.common.collect.Lists.newArrayList;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.List;
+import java.util.Optional;
 
 import javax.inject.Inject;
 
@@ -28,6 +29,7 @@ import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.di.UIEventTopic;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Shell;
@@ -48,6 +50,7 @@ import org.eclipse.ui.views.contentoutline.IContentOutlinePage;
 import org.rf.ide.core.RedSystemProperties;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment;
 import org.rf.ide.core.testdata.DumpContext;
+import org.rf.ide.core.testdata.DumpedResultBuilder.ChangedLines;
 import org.rf.ide.core.testdata.DumpedResultBuilder.DumpedResult;
 import org.rf.ide.core.testdata.RobotFileDumper;
 import org.rf.ide.core.testdata.mapping.QuickTokenListenerBaseTwoModelReferencesLinker;
@@ -471,22 +474,54 @@ public class RobotFormEditor extends FormEditor {
 
             final RobotFileDumper dumper = new RobotFileDumper();
             dumper.setContext(ctx);
-            final String content;
             if (RedSystemProperties.shouldUseOldReparsedLinkMode()) {
-                content = dumper.dump(currentRobotOutputFile);
+                final String content = dumper.dump(currentRobotOutputFile);
                 RobotFileOutput alreadyDumpedContent = suiteModel.getProject()
                         .getRobotParser()
                         .parseEditorContent(content, currentRobotOutputFile.getProcessedFile());
                 new TwoModelReferencesLinker().update(currentRobotOutputFile, alreadyDumpedContent);
                 alreadyDumpedContent = null;
+
+                document.set(content);
             } else {
-                final DumpedResult dumpResult = dumper.dumpToResultObject(currentRobotOutputFile);
-                content = dumpResult.newContent();
+                final DumpedResult dumpResult = dumper.dumpIncrementallyToResultObject(currentRobotOutputFile);
                 new QuickTokenListenerBaseTwoModelReferencesLinker().update(currentRobotOutputFile, dumpResult);
+
+                applyDumpedContent(document, dumpResult);
+            }
+        }
+    }
+
+    private static void applyDumpedContent(final IDocument document, final DumpedResult dumpResult) {
+        // only changed lines are replaced, so that unchanged parts of document are not touched and
+        // do not have to be highlighted or reconciled again
+        try {
+            final Optional<List<ChangedLines>> dumpedLines = dumpResult.changedLines();
+            if (dumpedLines.isPresent() && isDumpedFrom(document, dumpResult, dumpedLines.get())) {
+                final List<ChangedLines> changedLines = dumpedLines.get();
+                for (int i = changedLines.size() - 1; i >= 0; i--) {
+                    final ChangedLines changed = changedLines.get(i);
+                    document.replace(changed.getOffset(), changed.getLength(), changed.getText());
+                }
+            } else {
+                final ChangedLines changedLines = dumpResult.changedLinesComparedTo(document.get());
+                if (!changedLines.isEmpty()) {
+                    document.replace(changedLines.getOffset(), changedLines.getLength(), changedLines.getText());
+                }
             }
+        } catch (final BadLocationException e) {
+            document.set(dumpResult.newContent());
+        }
+    }
 
-            document.set(content);
+    private static boolean isDumpedFrom(final IDocument document, final DumpedResult dumpResult,
+            final List<ChangedLines> changedLines) {
+        // changed lines are related to the content from which model was read
+        int previousLength = dumpResult.newContent().length();
+        for (final ChangedLines changed : changedLines) {
+            previousLength += changed.getLength() - changed.getText().length();
         }
+        return previousLength == document.getLength();
     }
 
     public SuiteSourceEditor activateSourcePage() {
@@ -31,6 +31,10 @@ public class KeywordProposalsInSettingsProvider implements RedContentProposalPro
 
     private final IRowDataProvider<?> dataProvider;
 
+    private RedKeywordProposals keywordProposals;
+
+    private AssistantContext keywordProposalsContext;
+
     public KeywordProposalsInSettingsProvider(final RobotSuiteFile suiteFile, final IRowDataProvider<?> dataProvider) {
         this.suiteFile = suiteFile;
         this.dataProvider = dataProvider;
@@ -44,7 +48,7 @@ public class KeywordProposalsInSettingsProvider implements RedContentProposalPro
         }
 
         final String prefix = contents.substring(0, position);
-        final List<? extends AssistProposal> keywordsProposals = new RedKeywordProposals(suiteFile)
+        final List<? extends AssistProposal> keywordsProposals = getKeywordProposals(context)
                 .getKeywordProposals(prefix);
 
         final Predicate<AssistProposal> shouldCommitAfterAccepting = proposal -> !EmbeddedKeywordNamesSupport
@@ -58,6 +62,15 @@ public class KeywordProposalsInSettingsProvider implements RedContentProposalPro
                 .toArray(RedContentProposal[]::new);
     }
 
+    private RedKeywordProposals getKeywordProposals(final AssistantContext context) {
+        // same proposals are narrowed down as long as the same cell is edited
+        if (keywordProposals == null || keywordProposalsContext != context) {
+            keywordProposals = new RedKeywordProposals(suiteFile);
+            keywordProposalsContext = context;
+        }
+        return keywordProposals;
+    }
+
     private boolean areApplicable(final NatTableAssistantContext tableContext) {
         return tableContext.getColumn() == 1 && isKeywordBasedSetting(dataProvider, tableContext.getRow());
     }
@@ -30,6 +30,12 @@ public class KeywordProposalsProvider implements RedContentProposalProvider {
 
     private final Optional<IRowDataProvider<?>> dataProvider;
 
+    private RedKeywordProposals keywordProposals;
+
+    private AssistantContext keywordProposalsContext;
+
+    private RobotSuiteFile keywordProposalsFile;
+
     public KeywordProposalsProvider(final RobotSuiteFile suiteFile, final IRowDataProvider<?> dataProvider) {
         this(() -> suiteFile, dataProvider);
     }
@@ -43,7 +49,7 @@ public class KeywordProposalsProvider implements RedContentProposalProvider {
     public RedContentProposal[] getProposals(final String contents, final int position,
             final AssistantContext context) {
         final String prefix = contents.substring(0, position);
-        final List<? extends AssistProposal> keywordsProposals = new RedKeywordProposals(suiteFile.get())
+        final List<? extends AssistProposal> keywordsProposals = getKeywordProposals(suiteFile.get(), context)
                 .getKeywordProposals(prefix);
 
         final RobotRuntimeEnvironment env = suiteFile.get().getProject().getRuntimeEnvironment();
@@ -62,6 +68,18 @@ public class KeywordProposalsProvider implements RedContentProposalProvider {
                 .toArray(RedContentProposal[]::new);
     }
 
+    private RedKeywordProposals getKeywordProposals(final RobotSuiteFile file, final AssistantContext context) {
+        // cell editor creates new context whenever it is activated, so keywords are located once
+        // per edited cell and then only matched against the content narrowed down while typing
+        if (keywordProposals == null || context == null || keywordProposalsContext != context
+                || keywordProposalsFile != file) {
+            keywordProposals = new RedKeywordProposals(file);
+            keywordProposalsContext = context;
+            keywordProposalsFile = file;
+        }
+        return keywordProposals;
+    }
+
     private List<Runnable> createOperationsToPerformAfterAccepting(final RedKeywordProposal proposedKeyword,
             final NatTableAssistantContext tableContext) {
         final List<Runnable> operations = new ArrayList<>();
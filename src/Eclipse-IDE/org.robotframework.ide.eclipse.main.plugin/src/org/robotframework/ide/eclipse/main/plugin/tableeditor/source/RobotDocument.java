@@ -54,6 +54,12 @@ public class RobotDocument extends Document {
     private final List<IRobotDocumentParsingListener> parseListeners = new ArrayList<>();
     private ScheduledFuture<?> scheduledOperation;
 
+    private final Object damageLock = new Object();
+    private DamagedRegion damagedRegion;
+    private int startedChanges;
+    private int finishedChanges;
+    private boolean fullReparseRequired;
+
     public RobotDocument(final Supplier<RobotSuiteFile> fileModelSupplier) {
         this.fileModelSupplier = fileModelSupplier;
     }
@@ -100,6 +106,9 @@ public class RobotDocument extends Document {
     @Override
     protected void fireDocumentAboutToBeChanged(final DocumentEvent event) {
         createParserIfNeeded();
+        synchronized (damageLock) {
+            startedChanges++;
+        }
         reparseInSameThread = getNumberOfLines() < LIMIT;
         if (!reparseInSameThread & hasNewestVersion.getAndSet(false)) {
             try {
@@ -124,6 +133,10 @@ public class RobotDocument extends Document {
 
     @Override
     protected void fireDocumentChanged(final DocumentEvent event) {
+        synchronized (damageLock) {
+            finishedChanges++;
+            damagedRegion = damagedRegion == null ? new DamagedRegion(event) : damagedRegion.merge(event);
+        }
         if (reparseInSameThread) {
             // short documents can be reparsed in the same thread as this does not
             // affect performance too much
@@ -135,7 +148,33 @@ public class RobotDocument extends Document {
     }
 
     private synchronized void reparse() {
-        output = parser.parseEditorContent(get(), file);
+        DamagedRegion region;
+        final boolean changeInProgress;
+        final int changesBeforeReading;
+        synchronized (damageLock) {
+            region = fullReparseRequired ? null : damagedRegion;
+            changeInProgress = startedChanges != finishedChanges;
+            changesBeforeReading = startedChanges;
+            damagedRegion = null;
+            fullReparseRequired = false;
+        }
+        final String content = get();
+        synchronized (damageLock) {
+            if (changeInProgress || startedChanges != changesBeforeReading) {
+                // the content may already contain a change which is not yet included in damaged
+                // region, so it is parsed fully now and after that change
+                region = null;
+                fullReparseRequired = true;
+            }
+        }
+        if (output == null || region == null) {
+            output = parser.parseEditorContent(content, file);
+        } else {
+            // only the test cases/keywords affected by changes made since last parsing are
+            // reparsed when possible, the rest of new output is copied from the previous one
+            output = parser.reparseEditorContent(output, content, file, region.offset,
+                    region.oldEnd - region.offset, region.newEnd - region.offset);
+        }
         for (final IRobotDocumentParsingListener listener : parseListeners) {
             listener.reparsingFinished(output);
         }
@@ -233,6 +272,38 @@ public class RobotDocument extends Document {
         return model.getFile() == null;
     }
 
+    /**
+     * Region of the document changed since last parsing, described by the common start offset and
+     * end offsets in the document before and after the changes.
+     */
+    private static class DamagedRegion {
+
+        private final int offset;
+
+        private final int oldEnd;
+
+        private final int newEnd;
+
+        DamagedRegion(final DocumentEvent event) {
+            this(event.getOffset(), event.getOffset() + event.getLength(),
+                    event.getOffset() + (event.getText() == null ? 0 : event.getText().length()));
+        }
+
+        private DamagedRegion(final int offset, final int oldEnd, final int newEnd) {
+            this.offset = offset;
+            this.oldEnd = oldEnd;
+            this.newEnd = newEnd;
+        }
+
+        DamagedRegion merge(final DocumentEvent event) {
+            final int eventEnd = event.getOffset() + event.getLength();
+            final int insertedLength = event.getText() == null ? 0 : event.getText().length();
+            final int end = Math.max(newEnd, eventEnd);
+            return new DamagedRegion(Math.min(offset, event.getOffset()), oldEnd + end - newEnd,
+                    end + insertedLength - event.getLength());
+        }
+    }
+
     public static interface IRobotDocumentParsingListener {
 
         void reparsingFinished(RobotFileOutput parsedOutput);
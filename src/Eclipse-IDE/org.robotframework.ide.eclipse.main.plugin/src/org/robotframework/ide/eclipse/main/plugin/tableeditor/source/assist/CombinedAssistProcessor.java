@@ -54,6 +54,11 @@ public class CombinedAssistProcessor extends RedContentAssistProcessor {
         return !proposalsFound && proposals.isEmpty() ? null : proposals;
     }
 
+    @Override
+    protected void assistSessionEnded() {
+        processors.forEach(RedContentAssistProcessor::assistSessionEnded);
+    }
+
     @Override
     protected boolean shouldShowProposals(final IDocument document, final int offset, final String lineContent)
             throws BadLocationException {
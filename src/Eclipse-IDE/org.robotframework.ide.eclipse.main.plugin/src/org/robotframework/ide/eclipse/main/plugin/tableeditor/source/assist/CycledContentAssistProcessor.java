@@ -123,6 +123,7 @@ public class CycledContentAssistProcessor extends DefaultContentAssistProcessor
     public void assistSessionEnded(final ContentAssistEvent event) {
         if (event.processor == this) {
             currentPage = 0;
+            processors.forEach(RedContentAssistProcessor::assistSessionEnded);
         }
     }
 
@@ -41,6 +41,10 @@ import com.google.common.annotations.VisibleForTesting;
  */
 public class KeywordCallsAssistProcessor extends RedContentAssistProcessor {
 
+    // keywords are located once per assist session and then only matched against the content
+    // which is narrowed down while user is typing
+    private RedKeywordProposals keywordProposals;
+
     public KeywordCallsAssistProcessor(final SuiteSourceAssistantContext assist) {
         super(assist);
     }
@@ -67,8 +71,7 @@ public class KeywordCallsAssistProcessor extends RedContentAssistProcessor {
     protected List<? extends ICompletionProposal> computeProposals(final IDocument document, final int offset,
             final int cellLength, final String userContent, final boolean atTheEndOfLine) throws BadLocationException {
 
-        final List<RedKeywordProposal> kwProposals = new RedKeywordProposals(assist.getModel())
-                .getKeywordProposals(userContent);
+        final List<RedKeywordProposal> kwProposals = getKeywordProposals().getKeywordProposals(userContent);
 
         final String separator = assist.getSeparatorToFollow();
         final List<ICompletionProposal> proposals = new ArrayList<>();
@@ -93,6 +96,18 @@ public class KeywordCallsAssistProcessor extends RedContentAssistProcessor {
         return proposals;
     }
 
+    private RedKeywordProposals getKeywordProposals() {
+        if (keywordProposals == null) {
+            keywordProposals = new RedKeywordProposals(assist.getModel());
+        }
+        return keywordProposals;
+    }
+
+    @Override
+    protected void assistSessionEnded() {
+        keywordProposals = null;
+    }
+
     protected List<String> getArguments(final AssistProposal proposal, final String lineContent) {
         return proposal.getArguments();
     }
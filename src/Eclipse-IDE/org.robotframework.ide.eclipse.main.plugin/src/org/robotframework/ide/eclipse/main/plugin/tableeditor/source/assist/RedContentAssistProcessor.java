@@ -70,6 +70,10 @@ public abstract class RedContentAssistProcessor extends DefaultContentAssistProc
     protected abstract List<? extends ICompletionProposal> computeProposals(IDocument document, final int offset,
             final int cellLength, final String userContent, boolean isAtTheEndOfLine) throws BadLocationException;
 
+    protected void assistSessionEnded() {
+        // nothing to do by default, processors may forget data collected during the session
+    }
+
     protected final boolean isInApplicableContentType(final IDocument document, final int offset)
             throws BadLocationException {
         return getApplicableContentTypes().contains(getVirtualContentType(document, offset));
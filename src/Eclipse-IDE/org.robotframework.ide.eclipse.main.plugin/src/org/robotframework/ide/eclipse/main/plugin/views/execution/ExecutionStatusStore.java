@@ -8,7 +8,13 @@ package org.robotframework.ide.eclipse.main.plugin.views.execution;
 import static java.util.stream.Collectors.toList;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.ui.services.IDisposable;
 import org.rf.ide.core.execution.agent.Status;
@@ -16,15 +22,28 @@ import org.robotframework.ide.eclipse.main.plugin.views.execution.ExecutionTreeN
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 
+/**
+ * Execution tree built from events of one or many robot processes. Processes running parts of
+ * the same tests in parallel (e.g. pabot) are identified by ids; their root suites are merged
+ * into single tree root and suites started by several processes are merged by name. Merged
+ * suite is running until it ends in each process and fails when it failed in any of them.
+ */
 public class ExecutionStatusStore implements IDisposable {
 
-    private boolean isOpen = false;
+    static final int SINGLE_PROCESS_ID = 0;
+
+    private int openedProcesses = 0;
     private boolean isDisposed = false;
     private boolean isDirty = false;
 
     private ExecutionTreeNode root;
-    private ExecutionTreeNode current;
+    private final Map<Integer, ProcessCursor> cursors = new HashMap<>();
+
+    // suites started by more than one process, with statuses in processes which already ended them
+    private final Map<ExecutionTreeNode, Integer> runningProcesses = new HashMap<>();
+    private final Map<ExecutionTreeNode, Status> endedStatuses = new HashMap<>();
 
     private int currentTest;
     private int passedTests;
@@ -33,6 +52,13 @@ public class ExecutionStatusStore implements IDisposable {
 
     private URI outputFile;
 
+    // nodes changed since the view took the changes last time; the view refreshes only those
+    private final Set<ExecutionTreeNode> changedNodes = new LinkedHashSet<>();
+    private final Set<ExecutionTreeNode> nodesWithNewChildren = new LinkedHashSet<>();
+
+    private long processedEvents;
+    private long takenChanges;
+
     public ExecutionTreeNode getExecutionTree() {
         return root;
     }
@@ -44,22 +70,34 @@ public class ExecutionStatusStore implements IDisposable {
 
     @VisibleForTesting
     void setCurrent(final ExecutionTreeNode current) {
-        this.current = current;
+        setCurrent(SINGLE_PROCESS_ID, current);
+    }
+
+    @VisibleForTesting
+    void setCurrent(final int processId, final ExecutionTreeNode current) {
+        cursors.computeIfAbsent(processId, id -> new ProcessCursor()).current = current;
     }
 
     @VisibleForTesting
     ExecutionTreeNode getCurrent() {
-        return current;
+        return getCurrent(SINGLE_PROCESS_ID);
+    }
+
+    @VisibleForTesting
+    ExecutionTreeNode getCurrent(final int processId) {
+        final ProcessCursor cursor = cursors.get(processId);
+        return cursor == null ? null : cursor.current;
     }
 
     public URI getOutputFilePath() {
         return outputFile;
     }
 
-    protected void setOutputFilePath(final URI outputFilepath) {
-        Preconditions.checkArgument(isOpen);
+    protected synchronized void setOutputFilePath(final URI outputFilepath) {
+        Preconditions.checkArgument(isOpen());
 
         this.outputFile = outputFilepath;
+        processedEvents++;
         isDirty = true;
     }
 
@@ -80,7 +118,7 @@ public class ExecutionStatusStore implements IDisposable {
     }
 
     @Override
-    public void dispose() {
+    public synchronized void dispose() {
         outputFile = null;
         currentTest = 0;
         totalTests = 0;
@@ -88,7 +126,11 @@ public class ExecutionStatusStore implements IDisposable {
         failedTests = 0;
 
         root = null;
-        current = null;
+        cursors.clear();
+        runningProcesses.clear();
+        endedStatuses.clear();
+        changedNodes.clear();
+        nodesWithNewChildren.clear();
 
         isDisposed = true;
     }
@@ -99,41 +141,130 @@ public class ExecutionStatusStore implements IDisposable {
 
     protected void suiteStarted(final String suiteName, final URI suiteFilePath, final int totalTests,
             final List<String> childSuites, final List<String> childTests) {
-        Preconditions.checkArgument(isOpen);
+        suiteStarted(SINGLE_PROCESS_ID, suiteName, suiteFilePath, totalTests, childSuites, childTests);
+    }
 
-        if (root == null) {
-            this.totalTests = totalTests;
-            root = new ExecutionTreeNode(null, ElementKind.SUITE, suiteName);
-            current = root;
+    protected synchronized void suiteStarted(final int processId, final String suiteName, final URI suiteFilePath,
+            final int totalTests, final List<String> childSuites, final List<String> childTests) {
+        Preconditions.checkArgument(isOpen());
+
+        final ProcessCursor cursor = cursors.computeIfAbsent(processId, id -> new ProcessCursor());
+        if (cursor.current == null) {
+            this.totalTests += totalTests;
+            if (root == null) {
+                root = new ExecutionTreeNode(null, ElementKind.SUITE, suiteName);
+            }
+            cursor.current = root;
         }
+        final ExecutionTreeNode current = cursor.current;
 
+        // suite could be already ended by other process
+        current.getStatus()
+                .filter(status -> status != Status.RUNNING)
+                .ifPresent(status -> endedStatuses.putIfAbsent(current, status));
         current.setStatus(Status.RUNNING);
         current.setPath(suiteFilePath);
-        current.addChildren(childSuites.stream()
-                .map(childSuite -> new ExecutionTreeNode(current, ElementKind.SUITE, childSuite))
-                .collect(toList()));
-        current.addChildren(childTests.stream()
-                .map(childTest -> new ExecutionTreeNode(current, ElementKind.TEST, childTest, suiteFilePath))
-                .collect(toList()));
-
-        current = current.getChildren().isEmpty() ? current : current.getChildren().get(0);
-        isDirty = true;
+        final List<ExecutionTreeNode> children = current.getChildren().isEmpty()
+                ? createChildren(current, suiteFilePath, childSuites, childTests)
+                : mergeChildren(current, suiteFilePath, childSuites, childTests);
+        markChanged(current);
+        markStarted(current);
+
+        for (int i = 0; i < children.size(); i++) {
+            cursor.nextNodes.put(children.get(i), i + 1 < children.size() ? children.get(i + 1) : current);
+        }
+        cursor.current = children.isEmpty() ? current : children.get(0);
+    }
+
+    private List<ExecutionTreeNode> createChildren(final ExecutionTreeNode suite, final URI suiteFilePath,
+            final List<String> childSuites, final List<String> childTests) {
+        final List<ExecutionTreeNode> children = new ArrayList<>();
+        childSuites.stream()
+                .map(childSuite -> new ExecutionTreeNode(suite, ElementKind.SUITE, childSuite))
+                .forEach(children::add);
+        childTests.stream()
+                .map(childTest -> new ExecutionTreeNode(suite, ElementKind.TEST, childTest, suiteFilePath))
+                .forEach(children::add);
+        suite.addChildren(children);
+        if (!children.isEmpty()) {
+            nodesWithNewChildren.add(suite);
+        }
+        return children;
+    }
+
+    private List<ExecutionTreeNode> mergeChildren(final ExecutionTreeNode suite, final URI suiteFilePath,
+            final List<String> childSuites, final List<String> childTests) {
+        final Map<String, ExecutionTreeNode> existingSuites = new HashMap<>();
+        final Map<String, ExecutionTreeNode> existingTests = new HashMap<>();
+        for (final ExecutionTreeNode child : suite.getChildren()) {
+            (child.getKind() == ElementKind.SUITE ? existingSuites : existingTests).putIfAbsent(child.getName(),
+                    child);
+        }
+
+        final List<ExecutionTreeNode> children = new ArrayList<>();
+        final List<ExecutionTreeNode> newChildren = new ArrayList<>();
+        for (final String childSuite : childSuites) {
+            final ExecutionTreeNode child = existingSuites.get(childSuite);
+            if (child != null) {
+                children.add(child);
+            } else {
+                newChildren.add(new ExecutionTreeNode(suite, ElementKind.SUITE, childSuite));
+                children.add(newChildren.get(newChildren.size() - 1));
+            }
+        }
+        for (final String childTest : childTests) {
+            final ExecutionTreeNode child = existingTests.get(childTest);
+            if (child != null) {
+                children.add(child);
+            } else {
+                newChildren.add(new ExecutionTreeNode(suite, ElementKind.TEST, childTest, suiteFilePath));
+                children.add(newChildren.get(newChildren.size() - 1));
+            }
+        }
+        suite.addChildren(newChildren);
+        if (!newChildren.isEmpty()) {
+            nodesWithNewChildren.add(suite);
+        }
+        return children;
     }
 
     protected void testStarted() {
-        Preconditions.checkArgument(isOpen);
+        testStarted(SINGLE_PROCESS_ID);
+    }
+
+    protected synchronized void testStarted(final int processId) {
+        Preconditions.checkArgument(isOpen());
 
+        final ExecutionTreeNode current = cursors.get(processId).current;
         current.setStatus(Status.RUNNING);
         currentTest++;
-        isDirty = true;
+        markChanged(current);
+        markStarted(current);
     }
 
     protected void elementEnded(final int elapsedTime, final Status status, final String errorMessage) {
-        Preconditions.checkArgument(isOpen);
+        elementEnded(SINGLE_PROCESS_ID, elapsedTime, status, errorMessage);
+    }
 
-        current.setElapsedTime(elapsedTime);
-        current.setStatus(status);
-        current.setMessage(errorMessage);
+    protected synchronized void elementEnded(final int processId, final int elapsedTime, final Status status,
+            final String errorMessage) {
+        Preconditions.checkArgument(isOpen());
+
+        final ProcessCursor cursor = cursors.get(processId);
+        final ExecutionTreeNode current = cursor.current;
+
+        final Status statusInOtherProcesses = endedStatuses.remove(current);
+        final Status mergedStatus = statusInOtherProcesses == Status.FAIL ? Status.FAIL : status;
+        current.setElapsedTime(statusInOtherProcesses == null ? elapsedTime
+                : Math.max(current.getElapsedTime(), elapsedTime));
+        if (statusInOtherProcesses != Status.FAIL || status == Status.FAIL) {
+            current.setMessage(errorMessage);
+        }
+        if (markEnded(current)) {
+            current.setStatus(mergedStatus);
+        } else {
+            endedStatuses.put(current, mergedStatus);
+        }
 
         if (current.getKind() == ElementKind.TEST) {
             if (status == Status.PASS) {
@@ -143,35 +274,104 @@ public class ExecutionStatusStore implements IDisposable {
             }
         }
 
-        final ExecutionTreeNode parent = current.getParent();
-        if (parent == null) {
-            current = null;
+        markChanged(current);
+
+        final ExecutionTreeNode next = cursor.nextNodes.remove(current);
+        if (next != null) {
+            cursor.current = next;
         } else {
-            final int index = parent.getChildren().indexOf(current);
-            if (index + 1 >= parent.getChildren().size()) {
-                current = parent;
-            } else {
-                current = parent.getChildren().get(index + 1);
-            }
+            final ExecutionTreeNode parent = current.getParent();
+            cursor.current = parent == null ? null : current.getNextSibling().orElse(parent);
+        }
+    }
+
+    private void markStarted(final ExecutionTreeNode node) {
+        runningProcesses.merge(node, 1, Integer::sum);
+    }
+
+    private boolean markEnded(final ExecutionTreeNode node) {
+        final Integer stillRunning = runningProcesses.merge(node, -1, Integer::sum);
+        if (stillRunning <= 0) {
+            runningProcesses.remove(node);
+            return true;
         }
+        return false;
+    }
+
+    private void markChanged(final ExecutionTreeNode node) {
+        changedNodes.add(node);
+        processedEvents++;
         isDirty = true;
     }
 
-    boolean checkDirtyAndReset() {
+    synchronized boolean checkDirtyAndReset() {
         final boolean wasDirty = isDirty;
         isDirty = false;
         return wasDirty;
     }
 
+    /**
+     * Returns nodes changed since the last call and resets the store state, so that events
+     * arriving between consecutive view refreshes are coalesced into single refresh.
+     */
+    synchronized Optional<ExecutionTreeChanges> takeChanges() {
+        if (!checkDirtyAndReset()) {
+            return Optional.empty();
+        }
+        final ExecutionTreeChanges changes = new ExecutionTreeChanges(ImmutableSet.copyOf(changedNodes),
+                ImmutableSet.copyOf(nodesWithNewChildren));
+        changedNodes.clear();
+        nodesWithNewChildren.clear();
+        takenChanges++;
+        return Optional.of(changes);
+    }
+
+    synchronized long getProcessedEventsCount() {
+        return processedEvents;
+    }
+
+    synchronized long getTakenChangesCount() {
+        return takenChanges;
+    }
+
     boolean isOpen() {
-        return isOpen;
+        return openedProcesses > 0;
     }
 
-    void open() {
-        isOpen = true;
+    synchronized void open() {
+        openedProcesses++;
+    }
+
+    synchronized void close() {
+        openedProcesses = Math.max(0, openedProcesses - 1);
+    }
+
+    private static class ProcessCursor {
+
+        private ExecutionTreeNode current;
+
+        // nodes to which the process moves after given child ends: next child or the parent
+        private final Map<ExecutionTreeNode, ExecutionTreeNode> nextNodes = new HashMap<>();
     }
 
-    void close() {
-        isOpen = false;
+    static class ExecutionTreeChanges {
+
+        private final Set<ExecutionTreeNode> changedNodes;
+
+        private final Set<ExecutionTreeNode> nodesWithNewChildren;
+
+        ExecutionTreeChanges(final Set<ExecutionTreeNode> changedNodes,
+                final Set<ExecutionTreeNode> nodesWithNewChildren) {
+            this.changedNodes = changedNodes;
+            this.nodesWithNewChildren = nodesWithNewChildren;
+        }
+
+        Set<ExecutionTreeNode> getChangedNodes() {
+            return changedNodes;
+        }
+
+        Set<ExecutionTreeNode> getNodesWithNewChildren() {
+            return nodesWithNewChildren;
+        }
     }
 }
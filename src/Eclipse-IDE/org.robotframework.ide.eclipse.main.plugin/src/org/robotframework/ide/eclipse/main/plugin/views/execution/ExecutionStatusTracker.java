@@ -19,8 +19,19 @@ public class ExecutionStatusTracker extends RobotDefaultAgentEventListener {
 
     private final RobotTestsLaunch testsLaunchContext;
 
+    private final int processId;
+
     public ExecutionStatusTracker(final RobotTestsLaunch testsLaunchContext) {
+        this(testsLaunchContext, ExecutionStatusStore.SINGLE_PROCESS_ID);
+    }
+
+    /**
+     * Creates tracker of one of many processes executing tests in parallel, all of them build
+     * single execution tree.
+     */
+    public ExecutionStatusTracker(final RobotTestsLaunch testsLaunchContext, final int processId) {
         this.testsLaunchContext = testsLaunchContext;
+        this.processId = processId;
     }
 
     @Override
@@ -31,26 +42,28 @@ public class ExecutionStatusTracker extends RobotDefaultAgentEventListener {
     @Override
     public void handleSuiteStarted(final SuiteStartedEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionStatusStore.class,
-                store -> store.suiteStarted(event.getName(), event.getPath(), event.getNumberOfTests(),
+                store -> store.suiteStarted(processId, event.getName(), event.getPath(), event.getNumberOfTests(),
                         event.getChildrenSuites(), event.getChildrenTests()));
     }
 
     @Override
     public void handleSuiteEnded(final SuiteEndedEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionStatusStore.class,
-                store -> store.elementEnded(event.getElapsedTime(), event.getStatus(), event.getErrorMessage()));
+                store -> store.elementEnded(processId, event.getElapsedTime(), event.getStatus(),
+                        event.getErrorMessage()));
     }
 
     @Override
     public void handleTestStarted(final TestStartedEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionStatusStore.class,
-                store -> store.testStarted());
+                store -> store.testStarted(processId));
     }
 
     @Override
     public void handleTestEnded(final TestEndedEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionStatusStore.class,
-                store -> store.elementEnded(event.getElapsedTime(), event.getStatus(), event.getErrorMessage()));
+                store -> store.elementEnded(processId, event.getElapsedTime(), event.getStatus(),
+                        event.getErrorMessage()));
     }
 
     @Override
@@ -19,6 +19,8 @@ public class ExecutionTreeNode {
 
     private final ExecutionTreeNode parent;
     private final List<ExecutionTreeNode> children;
+    // position of this node in children of its parent, so that siblings can be found directly
+    private int indexInParent;
 
     private final String name;
     private URI path;
@@ -55,7 +57,17 @@ public class ExecutionTreeNode {
     }
 
     public void addChildren(final Collection<ExecutionTreeNode> children) {
-        this.children.addAll(children);
+        for (final ExecutionTreeNode child : children) {
+            child.indexInParent = this.children.size();
+            this.children.add(child);
+        }
+    }
+
+    Optional<ExecutionTreeNode> getNextSibling() {
+        if (parent == null || indexInParent + 1 >= parent.children.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(parent.children.get(indexInParent + 1));
     }
 
     public String getName() {
@@ -13,6 +13,7 @@ import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -45,6 +46,7 @@ import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService.RobotTestExecutionListener;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService.RobotTestsLaunch;
+import org.robotframework.ide.eclipse.main.plugin.views.execution.ExecutionStatusStore.ExecutionTreeChanges;
 import org.robotframework.ide.eclipse.main.plugin.views.execution.handler.ExecutionViewPropertyTester;
 import org.robotframework.ide.eclipse.main.plugin.views.execution.handler.GoToFileHandler.E4GoToFileHandler;
 import org.robotframework.ide.eclipse.main.plugin.views.execution.handler.ShowFailedOnlyHandler;
@@ -65,6 +67,8 @@ public class ExecutionView {
     public static final String ID = "org.robotframework.ide.ExecutionView";
     private static final String MENU_ID = "org.robotframework.ide.ExecutionView.viewer";
 
+    private static final long REFRESH_INTERVAL_MILLIS = 100;
+
     @Inject
     private IEvaluationService evaluationService;
 
@@ -212,14 +216,24 @@ public class ExecutionView {
                 refreshEverything(elementsStore);
             } else {
                 executor = Executors.newScheduledThreadPool(1);
+                // changes are taken from the store only when previous refresh was already done,
+                // so that all the events which arrived in the meantime are coalesced
+                final AtomicBoolean isRefreshPending = new AtomicBoolean(false);
                 final Runnable command = () -> {
-                    if (elementsStore.checkDirtyAndReset()) {
-                        SwtThread.asyncExec(() -> {
-                            refreshEverything(elementsStore);
+                    if (!isRefreshPending.get()) {
+                        elementsStore.takeChanges().ifPresent(changes -> {
+                            isRefreshPending.set(true);
+                            SwtThread.asyncExec(() -> {
+                                try {
+                                    refreshChanges(elementsStore, changes);
+                                } finally {
+                                    isRefreshPending.set(false);
+                                }
+                            });
                         });
                     }
                 };
-                executor.scheduleAtFixedRate(command, 0, 300, TimeUnit.MILLISECONDS);
+                executor.scheduleAtFixedRate(command, 0, REFRESH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
             }
         }
     }
@@ -261,6 +275,43 @@ public class ExecutionView {
         }
     }
 
+    private void refreshChanges(final ExecutionStatusStore elementsStore, final ExecutionTreeChanges changes) {
+        if (executionViewer.getTree().isDisposed()) {
+            return;
+        }
+        final ExecutionTreeNode root = elementsStore.getExecutionTree();
+        final ExecutionViewContentProvider provider = (ExecutionViewContentProvider) executionViewer
+                .getContentProvider();
+        if (root == null || !isShownInViewer(root) || provider.isFailedFilterEnabled()) {
+            refreshEverything(elementsStore);
+            return;
+        }
+
+        setProgress(elementsStore.getCurrentTest(), elementsStore.getPassedTests(), elementsStore.getFailedTests(),
+                elementsStore.getTotalTests());
+
+        executionViewer.getTree().setRedraw(false);
+        try {
+            for (final ExecutionTreeNode node : changes.getNodesWithNewChildren()) {
+                executionViewer.refresh(node, false);
+            }
+            for (final ExecutionTreeNode node : changes.getChangedNodes()) {
+                executionViewer.update(node, null);
+                if (!node.getChildren().isEmpty()) {
+                    final Status status = node.getStatus().orElse(null);
+                    executionViewer.setExpandedState(node, status == Status.FAIL || status == Status.RUNNING);
+                }
+            }
+        } finally {
+            executionViewer.getTree().setRedraw(true);
+        }
+    }
+
+    private boolean isShownInViewer(final ExecutionTreeNode root) {
+        final Object input = executionViewer.getInput();
+        return input instanceof List<?> && ((List<?>) input).contains(root);
+    }
+
     private void expandAllFailedOrRunning(final ExecutionTreeNode root) {
         final List<TreePath> elementsToExpand = new ArrayList<>();
         collectElementsToExpand(elementsToExpand, root);
@@ -19,6 +19,10 @@ public class ExecutionViewContentProvider extends TreeContentProvider {
         this.isFailedFilterEnabled = isEnabled;
     }
 
+    boolean isFailedFilterEnabled() {
+        return isFailedFilterEnabled;
+    }
+
     @Override
     public Object[] getElements(final Object inputElement) {
         return ((List<?>) inputElement).toArray(new Object[0]);
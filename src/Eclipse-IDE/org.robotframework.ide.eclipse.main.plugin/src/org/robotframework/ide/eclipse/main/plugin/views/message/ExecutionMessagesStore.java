@@ -5,6 +5,17 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.views.message;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.Optional;
 
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
@@ -13,20 +24,50 @@ import org.eclipse.ui.services.IDisposable;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.RedPreferences;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 
+/**
+ * Store of execution messages kept as a queue of fixed-size chunks, so that appending new
+ * messages and evicting the oldest ones when the limit is exceeded does not move stored
+ * characters. Every appended character gets a sequence number, which allows readers to ask
+ * only for messages appended since they've read the store last time. Evicted messages may be
+ * written to temporary file of limited size, so that the whole log can still be saved. Messages
+ * evicted after the file is full are lost. When writing to the file fails, store keeps messages
+ * only in memory. Lost messages are marked in the saved log.
+ */
 class ExecutionMessagesStore implements IDisposable {
 
+    @VisibleForTesting
+    static final int CHUNK_SIZE = 8192;
+
     private Optional<Integer> limit;
+    private Optional<Integer> spillLimit;
     private IPreferenceChangeListener preferenceListener;
-    
-    private final StringBuilder message = new StringBuilder();
 
-    private boolean isOpen = false;
+    private final Deque<StringBuilder> chunks = new ArrayDeque<>();
+
+    // number of characters of first chunk which were already evicted
+    private int firstChunkOffset = 0;
+
+    // sequence numbers of first stored character and of the character which will be appended next
+    private long startSequence = 0;
+    private long endSequence = 0;
+
+    private File spillFile;
+    private Writer spillWriter;
+    private boolean spillingFailed = false;
+
+    // number of evicted characters written to temporary file and of those which are lost
+    private long spilledCharacters = 0;
+    private long lostCharacters = 0;
+
+    private int openedProcesses = 0;
     private boolean isDirty = false;
 
     public ExecutionMessagesStore() {
         setLimit(RedPlugin.getDefault().getPreferences().getMessageLogViewLimit());
+        setSpillLimit(RedPlugin.getDefault().getPreferences().getMessageLogSpillLimit());
         this.preferenceListener = event -> {
             if (event == null) {
                 return;
@@ -35,6 +76,12 @@ class ExecutionMessagesStore implements IDisposable {
 
             } else if (RedPreferences.LIMIT_MSG_LOG_LENGTH.equals(event.getKey())) {
                 setLimit(RedPlugin.getDefault().getPreferences().getMessageLogViewLimit());
+
+            } else if (RedPreferences.SPILL_MSG_LOG_OUTPUT.equals(event.getKey())) {
+                setSpillLimit(RedPlugin.getDefault().getPreferences().getMessageLogSpillLimit());
+
+            } else if (RedPreferences.SPILL_MSG_LOG_LENGTH.equals(event.getKey())) {
+                setSpillLimit(RedPlugin.getDefault().getPreferences().getMessageLogSpillLimit());
             }
         };
         InstanceScope.INSTANCE.getNode(RedPlugin.PLUGIN_ID).addPreferenceChangeListener(preferenceListener);
@@ -48,37 +95,224 @@ class ExecutionMessagesStore implements IDisposable {
         return limit;
     }
 
+    synchronized void setSpillLimit(final Optional<Integer> spillLimit) {
+        this.spillLimit = spillLimit;
+    }
+
     synchronized void append(final String msg) {
         // can't change store state when store is closed
-        Preconditions.checkState(isOpen);
+        Preconditions.checkState(isOpen());
 
-        message.append(msg);
+        int written = 0;
+        while (written < msg.length()) {
+            StringBuilder lastChunk = chunks.peekLast();
+            if (lastChunk == null || lastChunk.length() == CHUNK_SIZE) {
+                lastChunk = new StringBuilder(CHUNK_SIZE);
+                chunks.addLast(lastChunk);
+            }
+            final int toWrite = Math.min(CHUNK_SIZE - lastChunk.length(), msg.length() - written);
+            lastChunk.append(msg, written, written + toWrite);
+            written += toWrite;
+        }
+        endSequence += msg.length();
         isDirty = true;
 
-        getLimit().map(limit -> message.length() - limit).filter(i -> i >= 0).ifPresent(end -> message.delete(0, end));
+        getLimit().map(limit -> getLength() - limit).filter(i -> i > 0).ifPresent(this::evict);
+    }
+
+    private void evict(final long charsToEvict) {
+        long remaining = charsToEvict;
+        while (remaining > 0) {
+            final StringBuilder firstChunk = chunks.peekFirst();
+            final int evicted = (int) Math.min(firstChunk.length() - firstChunkOffset, remaining);
+            spill(firstChunk, firstChunkOffset, firstChunkOffset + evicted);
+
+            firstChunkOffset += evicted;
+            if (firstChunkOffset == CHUNK_SIZE || chunks.size() == 1 && firstChunkOffset == firstChunk.length()) {
+                chunks.removeFirst();
+                firstChunkOffset = 0;
+            }
+            remaining -= evicted;
+        }
+        startSequence += charsToEvict;
+    }
+
+    private void spill(final CharSequence chars, final int start, final int end) {
+        if (!spillLimit.isPresent() && spilledCharacters == 0 && lostCharacters == 0) {
+            // evicted messages are simply dropped as long as nothing was spilled
+            return;
+        }
+        final int toSpill = spillingFailed || !spillLimit.isPresent() ? 0
+                : (int) Math.max(0, Math.min(end - start, spillLimit.get() - spilledCharacters));
+        lostCharacters += end - start - toSpill;
+        if (toSpill == 0) {
+            return;
+        }
+        try {
+            if (spillWriter == null) {
+                spillWriter = openSpillWriter();
+            }
+            spillWriter.append(chars, start, start + toSpill);
+            spilledCharacters += toSpill;
+        } catch (final IOException e) {
+            // evicted messages are lost, but this shouldn't break the execution
+            lostCharacters += toSpill;
+            handleSpillingFailure();
+        }
+    }
+
+    @VisibleForTesting
+    Writer openSpillWriter() throws IOException {
+        spillFile = File.createTempFile("red_message_log", ".txt");
+        spillFile.deleteOnExit();
+        return Files.newBufferedWriter(spillFile.toPath(), UTF_8);
+    }
+
+    private void handleSpillingFailure() {
+        // the file may be incomplete, so it is not used any longer and evicted messages are only
+        // counted in order to mark the gap in saved log
+        lostCharacters += spilledCharacters;
+        spilledCharacters = 0;
+        spillingFailed = true;
+        deleteSpillFile();
     }
 
-    void clear() {
-        message.setLength(0);
-        message.trimToSize();
+    private void deleteSpillFile() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+            } catch (final IOException e) {
+                // nothing to do, the file is deleted anyway
+            }
+            spillWriter = null;
+        }
+        if (spillFile != null) {
+            spillFile.delete();
+            spillFile = null;
+        }
     }
 
-    String getMessage() {
-        return message.toString();
+    synchronized void clear() {
+        chunks.clear();
+        firstChunkOffset = 0;
+        startSequence = endSequence;
+        deleteSpillFile();
+        spillingFailed = false;
+        spilledCharacters = 0;
+        lostCharacters = 0;
+    }
+
+    synchronized String getMessage() {
+        final StringBuilder builder = new StringBuilder(getLength());
+        appendStored(builder, 0);
+        return builder.toString();
+    }
+
+    /**
+     * Returns messages appended after given sequence number. When some of those messages were
+     * already evicted the returned fragment contains all currently stored messages and should
+     * replace previously read content.
+     */
+    synchronized MessagesFragment getMessagesSince(final long sequence) {
+        final boolean isContinuation = startSequence <= sequence && sequence <= endSequence;
+        final int from = isContinuation ? (int) (sequence - startSequence) : 0;
+
+        final StringBuilder builder = new StringBuilder(getLength() - from);
+        appendStored(builder, from);
+        return new MessagesFragment(builder.toString(), !isContinuation, endSequence, getLength());
+    }
+
+    private void appendStored(final StringBuilder builder, final int from) {
+        int toSkip = firstChunkOffset + from;
+        final Iterator<StringBuilder> iterator = chunks.iterator();
+        while (iterator.hasNext()) {
+            final StringBuilder chunk = iterator.next();
+            if (toSkip >= chunk.length()) {
+                toSkip -= chunk.length();
+            } else {
+                builder.append(chunk, toSkip, chunk.length());
+                toSkip = 0;
+            }
+        }
+    }
+
+    /**
+     * Writes whole log including messages which were evicted from memory, as long as those were
+     * written to temporary file. Evicted messages which couldn't be written to the file are
+     * replaced with a note about their length. The store is locked only in order to take a
+     * snapshot of stored messages and of the spilled length, so messages can be appended while
+     * the file is copied.
+     */
+    void writeWholeLog(final Writer writer) throws IOException {
+        final File spilledFile;
+        final long spilled;
+        final long lost;
+        final StringBuilder stored;
+        synchronized (this) {
+            flushSpillWriter();
+            spilledFile = spillFile;
+            spilled = spilledCharacters;
+            lost = lostCharacters;
+            stored = new StringBuilder(getLength());
+            appendStored(stored, 0);
+        }
+
+        // characters spilled after the snapshot was taken are a part of stored messages
+        final long copied = spilledFile == null ? 0 : copySpilled(spilledFile, spilled, writer);
+        if (lost + spilled - copied > 0) {
+            writer.append("[" + (lost + spilled - copied) + " characters of older messages were lost]\n");
+        }
+        writer.append(stored);
+    }
+
+    private static long copySpilled(final File file, final long length, final Writer writer) throws IOException {
+        long copied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), UTF_8)) {
+            final char[] buffer = new char[CHUNK_SIZE];
+            while (copied < length) {
+                final int read = reader.read(buffer, 0, (int) Math.min(buffer.length, length - copied));
+                if (read < 0) {
+                    break;
+                }
+                writer.write(buffer, 0, read);
+                copied += read;
+            }
+        } catch (final NoSuchFileException e) {
+            // the store was cleared in the meantime
+        }
+        return copied;
+    }
+
+    private void flushSpillWriter() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.flush();
+            } catch (final IOException e) {
+                handleSpillingFailure();
+            }
+        }
+    }
+
+    private int getLength() {
+        return (int) (endSequence - startSequence);
     }
 
     boolean isOpen() {
-        return isOpen;
+        return openedProcesses > 0;
     }
 
-    void open() {
-        isOpen = true;
+    synchronized void open() {
+        openedProcesses++;
     }
 
-    void close() {
-        isOpen = false;
-        // we'll no longer write messages, so trim the data to save some memory
-        message.trimToSize();
+    synchronized void close() {
+        openedProcesses = Math.max(0, openedProcesses - 1);
+        if (isOpen()) {
+            // messages of other processes are still coming
+            return;
+        }
+        // we'll no longer evict messages, so make sure evicted ones are written to the file
+        flushSpillWriter();
     }
 
     @Override
@@ -92,4 +326,39 @@ class ExecutionMessagesStore implements IDisposable {
         isDirty = false;
         return wasDirty;
     }
+
+    static class MessagesFragment {
+
+        private final String text;
+
+        private final boolean replacesPrevious;
+
+        private final long endSequence;
+
+        private final int storedLength;
+
+        MessagesFragment(final String text, final boolean replacesPrevious, final long endSequence,
+                final int storedLength) {
+            this.text = text;
+            this.replacesPrevious = replacesPrevious;
+            this.endSequence = endSequence;
+            this.storedLength = storedLength;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        boolean replacesPrevious() {
+            return replacesPrevious;
+        }
+
+        long getEndSequence() {
+            return endSequence;
+        }
+
+        int getStoredLength() {
+            return storedLength;
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,20 @@ public class ExecutionMessagesTracker extends RobotDefaultAgentEventListener {
 
     private final RobotTestsLaunch testsLaunchContext;
 
+    private final String processPrefix;
+
     public ExecutionMessagesTracker(final RobotTestsLaunch testsLaunchContext) {
         this.testsLaunchContext = testsLaunchContext;
+        this.processPrefix = "";
+    }
+
+    /**
+     * Creates tracker of one of many processes executing tests in parallel, its messages are
+     * prefixed with process id, as messages of all processes are interleaved in the store.
+     */
+    public ExecutionMessagesTracker(final RobotTestsLaunch testsLaunchContext, final int processId) {
+        this.testsLaunchContext = testsLaunchContext;
+        this.processPrefix = "Process " + processId + " : ";
     }
 
     @Override
@@ -28,20 +40,20 @@ public class ExecutionMessagesTracker extends RobotDefaultAgentEventListener {
     @Override
     public void handleLogMessage(final MessageEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionMessagesStore.class,
-                store -> store.append(
-                        event.getTimestamp() + " : " + event.getLevel().name() + " : " + event.getMessage() + "\n"));
+                store -> store.append(processPrefix + event.getTimestamp() + " : " + event.getLevel().name() + " : "
+                        + event.getMessage() + "\n"));
     }
 
     @Override
     public void handleTestStarted(final TestStartedEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionMessagesStore.class,
-                store -> store.append("Starting test: " + event.getLongName() + '\n'));
+                store -> store.append(processPrefix + "Starting test: " + event.getLongName() + '\n'));
     }
 
     @Override
     public void handleTestEnded(final TestEndedEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionMessagesStore.class,
-                store -> store.append("Ending test: " + event.getLongName() + "\n\n"));
+                store -> store.append(processPrefix + "Ending test: " + event.getLongName() + "\n\n"));
     }
 
     @Override
@@ -9,6 +9,7 @@ import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -23,6 +24,7 @@ import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService.RobotTestExecutionListener;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService.RobotTestsLaunch;
+import org.robotframework.ide.eclipse.main.plugin.views.message.ExecutionMessagesStore.MessagesFragment;
 import org.robotframework.red.swt.SwtThread;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -111,11 +113,13 @@ public class MessageLogView {
                 SwtThread.syncExec(() -> setMessage(messagesStore.getMessage()));
             } else {
                 executor = Executors.newScheduledThreadPool(1);
+                final AtomicLong shownSequence = new AtomicLong(0);
                 final Runnable command = () -> {
                     if (messagesStore.checkDirtyAndReset()) {
-                        SwtThread.asyncExec(() -> {
-                            setMessage(messagesStore.getMessage());
-                        });
+                        // only messages appended since last refresh are taken from the store
+                        final MessagesFragment fragment = messagesStore.getMessagesSince(shownSequence.get());
+                        shownSequence.set(fragment.getEndSequence());
+                        SwtThread.asyncExec(() -> showMessages(fragment));
                     }
                 };
                 executor.scheduleAtFixedRate(command, 0, 300, TimeUnit.MILLISECONDS);
@@ -136,6 +140,28 @@ public class MessageLogView {
         }
     }
 
+    private void showMessages(final MessagesFragment fragment) {
+        if (fragment.replacesPrevious()) {
+            setMessage(fragment.getText());
+            return;
+        }
+        if (styledText == null || styledText.isDisposed()) {
+            return;
+        }
+        styledText.setRedraw(false);
+        try {
+            styledText.append(fragment.getText());
+            // messages evicted from the store are removed from the view too
+            final int charsToRemove = styledText.getCharCount() - fragment.getStoredLength();
+            if (charsToRemove > 0) {
+                styledText.replaceTextRange(0, charsToRemove, "");
+            }
+            styledText.setTopIndex(styledText.getLineCount() - 1);
+        } finally {
+            styledText.setRedraw(true);
+        }
+    }
+
     @Focus
     public void onFocus() {
         styledText.setFocus();
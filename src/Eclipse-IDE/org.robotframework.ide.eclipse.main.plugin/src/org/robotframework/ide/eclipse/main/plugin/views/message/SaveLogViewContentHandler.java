@@ -7,6 +7,8 @@ package org.robotframework.ide.eclipse.main.plugin.views.message;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
+import java.util.Optional;
 
 import javax.inject.Named;
 
@@ -49,9 +51,15 @@ public class SaveLogViewContentHandler extends DIParameterizedHandler<E4SaveLogV
                 return;
             }
 
-            try {
-                final String content = control.getText();
-                Files.asCharSink(new File(path), Charsets.UTF_8).write(content);
+            try (Writer writer = Files.asCharSink(new File(path), Charsets.UTF_8).openBufferedStream()) {
+                // the store may also contain messages which are no longer shown due to the limit
+                final Optional<ExecutionMessagesStore> store = msgLogView.getCurrentlyShownLaunch()
+                        .flatMap(launch -> launch.getExecutionData(ExecutionMessagesStore.class));
+                if (store.isPresent()) {
+                    store.get().writeWholeLog(writer);
+                } else {
+                    writer.write(control.getText());
+                }
             } catch (final IOException e) {
                 ErrorDialog.openError(control.getShell(), "Error saving file",
                         "Unable to save Message Log view content to " + path + " file",
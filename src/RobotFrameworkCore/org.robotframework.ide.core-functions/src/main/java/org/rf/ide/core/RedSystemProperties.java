@@ -18,6 +18,16 @@ public class RedSystemProperties {
 
     public static final String RED_USE_DIRECT_SCANNER = "red.useDirectScanner";
 
+    public static final String RED_LIBDOC_GENERATION_THREADS = "red.libdocGenerationThreads";
+
+    public static final String RED_SESSION_SERVERS_MIN_IDLE = "red.sessionServers.minIdle";
+
+    public static final String RED_SESSION_SERVERS_MAX = "red.sessionServers.max";
+
+    public static final String RED_SESSION_SERVERS_IDLE_TIMEOUT = "red.sessionServers.idleTimeout";
+
+    public static final String RED_PARSED_FILES_CACHE_SIZE = "red.parsedFilesCacheSize";
+
     public static boolean shouldConnectToRunningServer() {
         return System.getProperty(RED_CONNECT_TO_SERVER_AT) != null;
     }
@@ -38,6 +48,39 @@ public class RedSystemProperties {
         return Boolean.valueOf(System.getProperty(RED_USE_DIRECT_SCANNER));
     }
 
+    public static int getLibdocGenerationThreads() {
+        return getIntProperty(RED_LIBDOC_GENERATION_THREADS, Math.min(4, Runtime.getRuntime().availableProcessors()),
+                1);
+    }
+
+    public static int getSessionServersMinIdle() {
+        return getIntProperty(RED_SESSION_SERVERS_MIN_IDLE, 1, 0);
+    }
+
+    public static int getSessionServersMax() {
+        return getIntProperty(RED_SESSION_SERVERS_MAX, Math.min(4, Runtime.getRuntime().availableProcessors()), 1);
+    }
+
+    /**
+     * @return time in seconds after which idle session server is stopped
+     */
+    public static int getSessionServersIdleTimeout() {
+        return getIntProperty(RED_SESSION_SERVERS_IDLE_TIMEOUT, 60, 0);
+    }
+
+    public static int getParsedFilesCacheSize() {
+        return getIntProperty(RED_PARSED_FILES_CACHE_SIZE, 10_000, 1);
+    }
+
+    private static int getIntProperty(final String name, final int defaultValue, final int minValue) {
+        try {
+            final String value = System.getProperty(name);
+            return value == null ? defaultValue : Math.max(minValue, Integer.parseInt(value));
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     public static boolean isWindowsPlatform() {
         return System.getProperty("os.name").toLowerCase().contains("win");
     }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.dryrun;
+
+import java.io.File;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.rf.ide.core.dryrun.RobotDryRunLibraryImport.DryRunLibraryType;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Keeps library imports discovered by dry run, so that libraries which were not changed since
+ * they were discovered do not have to be imported by dry run again. Imports are identified by
+ * library name, arguments and search paths (interpreter, python path, class path etc.) used
+ * when discovering. Cached imports are valid as long as their source files are not modified.
+ * Only imports of python and java libraries are cached, as the state of remote libraries or
+ * libraries failing to import can change without touching any file.
+ */
+public class RobotDryRunLibraryImportsCache {
+
+    private final Map<ImportKey, List<CachedImport>> cachedImports = new ConcurrentHashMap<>();
+
+    public Optional<List<RobotDryRunLibraryImport>> get(final String libraryName, final List<String> arguments,
+            final String searchPaths) {
+        final ImportKey key = new ImportKey(libraryName, arguments, searchPaths);
+        final List<CachedImport> imports = cachedImports.get(key);
+        if (imports == null) {
+            return Optional.empty();
+        } else if (!imports.stream().allMatch(CachedImport::isUpToDate)) {
+            cachedImports.remove(key);
+            return Optional.empty();
+        }
+
+        final List<RobotDryRunLibraryImport> libraryImports = new ArrayList<>();
+        for (final CachedImport cachedImport : imports) {
+            libraryImports.add(cachedImport.createImport());
+        }
+        return Optional.of(libraryImports);
+    }
+
+    public void put(final String libraryName, final List<String> arguments, final String searchPaths,
+            final Collection<RobotDryRunLibraryImport> libraryImports) {
+        final ImportKey key = new ImportKey(libraryName, arguments, searchPaths);
+        if (libraryImports.isEmpty()
+                || !libraryImports.stream().allMatch(RobotDryRunLibraryImportsCache::isCacheable)) {
+            cachedImports.remove(key);
+            return;
+        }
+
+        final List<CachedImport> imports = new ArrayList<>();
+        for (final RobotDryRunLibraryImport libraryImport : libraryImports) {
+            imports.add(new CachedImport(libraryImport));
+        }
+        cachedImports.put(key, imports);
+    }
+
+    public void clear() {
+        cachedImports.clear();
+    }
+
+    private static boolean isCacheable(final RobotDryRunLibraryImport libraryImport) {
+        final DryRunLibraryType type = libraryImport.getType();
+        final URI source = libraryImport.getSource();
+        return (type == DryRunLibraryType.PYTHON || type == DryRunLibraryType.JAVA) && source != null
+                && "file".equals(source.getScheme()) && new File(source).isFile();
+    }
+
+    private static final class ImportKey {
+
+        private final String libraryName;
+
+        private final List<String> arguments;
+
+        private final String searchPaths;
+
+        private ImportKey(final String libraryName, final List<String> arguments, final String searchPaths) {
+            this.libraryName = libraryName;
+            this.arguments = ImmutableList.copyOf(arguments);
+            this.searchPaths = searchPaths;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj != null && obj.getClass() == getClass()) {
+                final ImportKey that = (ImportKey) obj;
+                return this.libraryName.equals(that.libraryName) && this.arguments.equals(that.arguments)
+                        && this.searchPaths.equals(that.searchPaths);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(libraryName, arguments, searchPaths);
+        }
+    }
+
+    private static final class CachedImport {
+
+        private final String name;
+
+        private final URI source;
+
+        private final List<String> arguments;
+
+        private final long sourceModificationTime;
+
+        private final long sourceLength;
+
+        private CachedImport(final RobotDryRunLibraryImport libraryImport) {
+            this.name = libraryImport.getName();
+            this.source = libraryImport.getSource();
+            this.arguments = ImmutableList.copyOf(libraryImport.getArgs());
+            final File sourceFile = new File(source);
+            this.sourceModificationTime = sourceFile.lastModified();
+            this.sourceLength = sourceFile.length();
+        }
+
+        private boolean isUpToDate() {
+            // modification time alone is not enough on file systems with coarse timestamps
+            final File sourceFile = new File(source);
+            return sourceFile.isFile() && sourceFile.lastModified() == sourceModificationTime
+                    && sourceFile.length() == sourceLength;
+        }
+
+        private RobotDryRunLibraryImport createImport() {
+            return RobotDryRunLibraryImport.createKnown(name, source, new HashSet<>(), new ArrayList<>(arguments));
+        }
+    }
+}
@@ -8,23 +8,58 @@ package org.rf.ide.core.dryrun;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.rf.ide.core.executor.RobotRuntimeEnvironment;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+
 /**
  * @author mmarzec
  */
 public class RobotDryRunTemporarySuites {
 
     public static Optional<File> createLibraryImportFile(final Collection<String> libraryNames) {
+        return createLibraryImportFile(libraryNames, "DryRunTempSuite.robot");
+    }
+
+    /**
+     * Splits library imports into given number of suites of similar size, so that each suite can
+     * be executed by separate dry run agent. Less suites are created when there are not enough
+     * libraries.
+     */
+    public static List<File> createLibraryImportFiles(final Collection<String> libraryNames, final int shards) {
+        Preconditions.checkArgument(shards > 0);
+        if (shards == 1) {
+            final List<File> files = new ArrayList<>();
+            createLibraryImportFile(libraryNames).ifPresent(files::add);
+            return files;
+        }
+
+        final int shardSize = (libraryNames.size() + shards - 1) / shards;
+        final List<File> files = new ArrayList<>();
+        if (shardSize > 0) {
+            final List<List<String>> shardedNames = Lists.partition(new ArrayList<>(libraryNames), shardSize);
+            for (int i = 0; i < shardedNames.size(); i++) {
+                createLibraryImportFile(shardedNames.get(i), "DryRunTempSuite_" + (i + 1) + ".robot")
+                        .ifPresent(files::add);
+            }
+        }
+        return files;
+    }
+
+    private static Optional<File> createLibraryImportFile(final Collection<String> libraryNames,
+            final String fileName) {
         if (libraryNames.isEmpty()) {
             return Optional.empty();
         }
 
         try {
-            final File file = RobotRuntimeEnvironment.createTemporaryFile("DryRunTempSuite.robot");
+            final File file = RobotRuntimeEnvironment.createTemporaryFile(fileName);
             try (PrintWriter printWriter = new PrintWriter(file, "UTF-8")) {
                 printWriter.println("*** Test Cases ***");
                 printWriter.println("T1");
@@ -8,6 +8,7 @@ package org.rf.ide.core.execution.agent.event;
 import org.rf.ide.core.execution.agent.TestsMode;
 import org.rf.ide.core.execution.server.AgentClient;
 import org.rf.ide.core.execution.server.response.InitializeAgent;
+import org.rf.ide.core.execution.server.response.ServerResponse;
 import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
 
 public final class AgentInitializingEvent {
@@ -49,5 +50,9 @@ public final class AgentInitializingEvent {
         public void initialize(final TestsMode mode, final boolean agentShouldWaitForSignal) throws ResponseException {
             client.send(new InitializeAgent(mode, agentShouldWaitForSignal));
         }
+
+        public void respond(final ServerResponse response) throws ResponseException {
+            client.send(response);
+        }
     }
 }
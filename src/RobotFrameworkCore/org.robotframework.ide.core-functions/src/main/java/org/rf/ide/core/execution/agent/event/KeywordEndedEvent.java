@@ -23,7 +23,10 @@ public final class KeywordEndedEvent {
         final Map<?, ?> attributes = (Map<?, ?>) arguments.get(1);
         final String keywordName = (String) attributes.get("kwname");
         final String keywordType = (String) attributes.get("type");
+        return from(keywordName, keywordType);
+    }
 
+    public static KeywordEndedEvent from(final String keywordName, final String keywordType) {
         if (keywordName == null || keywordType == null) {
             throw new IllegalArgumentException(
                     "Keyword started event should have name of keyword and its type");
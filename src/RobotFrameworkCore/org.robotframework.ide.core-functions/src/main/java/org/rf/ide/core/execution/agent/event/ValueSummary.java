@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.agent.event;
+
+import java.io.Serializable;
+
+/**
+ * Value of list or dictionary which was too large or too deeply nested to be sent by agent.
+ * Children of such value are sent once its expansion is requested.
+ */
+public final class ValueSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int size;
+
+    public ValueSummary(final int size) {
+        this.size = size;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj != null && obj.getClass() == ValueSummary.class && this.size == ((ValueSummary) obj).size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(size);
+    }
+
+    @Override
+    public String toString() {
+        return "<" + size + " items>";
+    }
+}
@@ -5,12 +5,15 @@
  */
 package org.rf.ide.core.execution.agent.event;
 
+import static java.util.stream.Collectors.toSet;
+
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 
 import org.rf.ide.core.testdata.model.table.variables.AVariable.VariableScope;
 
@@ -19,14 +22,36 @@ import com.google.common.base.Objects;
 public final class VariablesEvent {
 
     public static VariablesEvent from(final Map<String, Object> eventMap) {
+        return from(eventMap, new ArrayList<>());
+    }
+
+    /**
+     * Frames may be sent as changes against frames of previously sent variables event; those are
+     * resolved using given variables of previous event, so that created event always contains all
+     * the variables. Variables which were not changed are not recreated.
+     */
+    public static VariablesEvent from(final Map<String, Object> eventMap,
+            final List<Map<Variable, VariableTypedValue>> previousVariables) {
         final Map<?, ?> arguments = (Map<?, ?>) ((List<?>) eventMap.get("variables")).get(0);
         final List<?> vars_scopes = (List<?>) arguments.get("var_scopes");
+        final List<?> deltas = (List<?>) arguments.get("deltas");
         final String error = (String) arguments.get("error");
 
         if (vars_scopes == null) {
             throw new IllegalArgumentException("Variables events should have scopes provided");
         }
-        return new VariablesEvent(extractVariableScopes(vars_scopes), error);
+        final List<Map<Variable, VariableTypedValue>> variables = extractVariableScopes(vars_scopes);
+        if (deltas != null) {
+            for (int i = 0; i < variables.size(); i++) {
+                final Map<?, ?> delta = (Map<?, ?>) deltas.get(i);
+                if (delta != null) {
+                    final Map<Variable, VariableTypedValue> base = previousVariables.get((Integer) delta.get("base"));
+                    final List<String> removed = Events.ensureListOfStrings((List<?>) delta.get("removed"));
+                    variables.set(i, applyChanges(base, variables.get(i), removed));
+                }
+            }
+        }
+        return new VariablesEvent(variables, error);
     }
 
     private static List<Map<Variable, VariableTypedValue>> extractVariableScopes(final List<?> arguments) {
@@ -46,11 +71,39 @@ public final class VariablesEvent {
         return typedVars;
     }
 
+    private static Map<Variable, VariableTypedValue> applyChanges(final Map<Variable, VariableTypedValue> base,
+            final Map<Variable, VariableTypedValue> changes, final List<String> removed) {
+        final Map<String, Variable> changedVariables = new LinkedHashMap<>();
+        changes.keySet().forEach(var -> changedVariables.put(var.getName(), var));
+        final Set<String> baseNames = base.keySet().stream().map(Variable::getName).collect(toSet());
+
+        // changed variables stay at their positions while added ones are placed at the end
+        final Map<Variable, VariableTypedValue> frame = new LinkedHashMap<>();
+        for (final Entry<Variable, VariableTypedValue> entry : base.entrySet()) {
+            final String name = entry.getKey().getName();
+            if (changedVariables.containsKey(name)) {
+                frame.put(changedVariables.get(name), changes.get(changedVariables.get(name)));
+            } else if (!removed.contains(name)) {
+                frame.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (final Entry<Variable, VariableTypedValue> entry : changes.entrySet()) {
+            if (!baseNames.contains(entry.getKey().getName())) {
+                frame.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return frame;
+    }
+
     private static VariableTypedValue reconstructTypesAndValues(final List<?> typeAndVal) {
         final String type = (String) typeAndVal.get(0);
         final Object value = typeAndVal.get(1);
 
-        if (value instanceof List<?>) {
+        if (isSummary(value)) {
+            final Number size = (Number) ((Map<?, ?>) value).get("<summary>");
+            return new VariableTypedValue(type, new ValueSummary(size.intValue()));
+
+        } else if (value instanceof List<?>) {
             final List<Object> newValue = new ArrayList<>();
             for (final Object elem : ((List<?>) value)) {
                 if (elem instanceof List<?>) {
@@ -77,6 +130,12 @@ public final class VariablesEvent {
         }
     }
 
+    private static boolean isSummary(final Object value) {
+        // children of dictionaries are always sent with types, so summary cannot be confused with them
+        return value instanceof Map<?, ?> && ((Map<?, ?>) value).size() == 1
+                && ((Map<?, ?>) value).get("<summary>") instanceof Number;
+    }
+
 
     private final List<Map<Variable, VariableTypedValue>> variables;
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.debug;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.rf.ide.core.testdata.model.AModelElement;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.table.ARobotSectionTable;
+import org.rf.ide.core.testdata.model.table.TableHeader;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Names of test cases and user keywords which bodies contain breakpoints. Those are sent to the
+ * agent, so that it only asks whether to pause at keywords called directly from those tests or
+ * keywords. Keywords called from suite settings (setups, teardowns etc.) are always checked by
+ * the agent, so breakpoints placed in settings table do not have holders.
+ */
+public final class BreakpointHolders {
+
+    public static BreakpointHolders none() {
+        return new BreakpointHolders(true, new LinkedHashSet<>(), new LinkedHashSet<>());
+    }
+
+    public static BreakpointHolders unknown() {
+        return new BreakpointHolders(false, new LinkedHashSet<>(), new LinkedHashSet<>());
+    }
+
+    private final boolean isKnown;
+
+    private final Set<String> tests;
+
+    private final Set<String> keywords;
+
+    private BreakpointHolders(final boolean isKnown, final Set<String> tests, final Set<String> keywords) {
+        this.isKnown = isKnown;
+        this.tests = ImmutableSet.copyOf(tests);
+        this.keywords = ImmutableSet.copyOf(keywords);
+    }
+
+    /**
+     * @return false when location of some breakpoint could not be found, in such case agent has to
+     *         ask whether to pause at every keyword
+     */
+    public boolean isKnown() {
+        return isKnown;
+    }
+
+    public Set<String> getTests() {
+        return tests;
+    }
+
+    public Set<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj != null && obj.getClass() == BreakpointHolders.class) {
+            final BreakpointHolders that = (BreakpointHolders) obj;
+            return this.isKnown == that.isKnown && this.tests.equals(that.tests)
+                    && this.keywords.equals(that.keywords);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isKnown, tests, keywords);
+    }
+
+    @Override
+    public String toString() {
+        return "BreakpointHolders [known=" + isKnown + ", tests=" + tests + ", keywords=" + keywords + "]";
+    }
+
+    public static class Builder {
+
+        private boolean isKnown = true;
+
+        private final Set<String> tests = new LinkedHashSet<>();
+
+        private final Set<String> keywords = new LinkedHashSet<>();
+
+        /**
+         * Adds the test case or user keyword of given file which contains given line.
+         */
+        public Builder addHolderOf(final RobotFile model, final int line) {
+            final List<ARobotSectionTable> tables = new ArrayList<>();
+            tables.add(model.getSettingTable());
+            tables.add(model.getVariableTable());
+            tables.add(model.getTestCaseTable());
+            tables.add(model.getKeywordTable());
+
+            // tables may be defined several times in the file, so the closest header is looked for
+            ARobotSectionTable tableContainingLine = null;
+            int headerLine = -1;
+            for (final ARobotSectionTable table : tables) {
+                for (final TableHeader<? extends ARobotSectionTable> header : table.getHeaders()) {
+                    final int currentHeaderLine = header.getTableHeader().getLineNumber();
+                    if (headerLine < currentHeaderLine && currentHeaderLine <= line) {
+                        headerLine = currentHeaderLine;
+                        tableContainingLine = table;
+                    }
+                }
+            }
+
+            if (tableContainingLine == model.getTestCaseTable()) {
+                findElementContaining(model.getTestCaseTable().getTestCases(), headerLine, line)
+                        .ifPresent(test -> tests.add(test.getName().getText()));
+
+            } else if (tableContainingLine == model.getKeywordTable()) {
+                findElementContaining(model.getKeywordTable().getKeywords(), headerLine, line)
+                        .ifPresent(keyword -> keywords.add(keyword.getName().getText()));
+            }
+            return this;
+        }
+
+        /**
+         * Marks that location of some breakpoint is not known.
+         */
+        public Builder addUnknownHolder() {
+            isKnown = false;
+            return this;
+        }
+
+        public BreakpointHolders build() {
+            return new BreakpointHolders(isKnown, tests, keywords);
+        }
+
+        private static <T extends AModelElement<?>> Optional<T> findElementContaining(final List<T> elements,
+                final int headerLine, final int line) {
+            T elementContainingLine = null;
+            int elementLine = headerLine;
+            for (final T element : elements) {
+                final int currentElementLine = element.getBeginPosition().getLine();
+                if (elementLine < currentElementLine && currentElementLine <= line) {
+                    elementLine = currentElementLine;
+                    elementContainingLine = element;
+                }
+            }
+            return Optional.ofNullable(elementContainingLine);
+        }
+    }
+}
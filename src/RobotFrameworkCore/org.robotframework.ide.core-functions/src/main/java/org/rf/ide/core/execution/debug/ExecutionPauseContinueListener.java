@@ -7,7 +7,9 @@ package org.rf.ide.core.execution.debug;
 
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.event.AgentInitializingEvent;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
+import org.rf.ide.core.execution.agent.event.KeywordStartedEvent;
 import org.rf.ide.core.execution.agent.event.PausedEvent;
 import org.rf.ide.core.execution.agent.event.ShouldContinueEvent;
 import org.rf.ide.core.execution.server.response.ContinueExecution;
@@ -22,6 +24,22 @@ public class ExecutionPauseContinueListener extends RobotDefaultAgentEventListen
         this.controller = controller;
     }
 
+    @Override
+    public void handleAgentInitializing(final AgentInitializingEvent event) {
+        // agent is told at which pausing points it has to ask whether execution should be continued
+        controller.agentInitializing(event.responder()::respond);
+    }
+
+    @Override
+    public void handleKeywordAboutToStart(final KeywordStartedEvent event) {
+        controller.keywordStarting();
+    }
+
+    @Override
+    public void handleKeywordStarted(final KeywordStartedEvent event) {
+        controller.keywordStarting();
+    }
+
     @Override
     public void handleShouldContinue(final ShouldContinueEvent event) {
         // When agent is asking if execution should be continued we look if user manually set a
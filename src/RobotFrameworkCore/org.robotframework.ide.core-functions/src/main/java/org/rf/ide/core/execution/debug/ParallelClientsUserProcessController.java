@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.debug;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Controller of tests executed in parallel by several robot processes. Each connected client has
+ * its own controller and every user action is passed to all of them, while the callback of the
+ * action is run only once, when the first client takes the response. Action ordered before any
+ * client has connected is passed to the first one.
+ */
+public class ParallelClientsUserProcessController extends UserProcessController {
+
+    private final List<UserProcessController> clientControllers = new ArrayList<>();
+
+    public synchronized UserProcessController createClientController() {
+        final UserProcessController controller = new UserProcessController();
+        Optional.ofNullable(manualUserResponse.poll()).ifPresent(controller::queueResponse);
+        clientControllers.add(controller);
+        return controller;
+    }
+
+    @Override
+    protected synchronized void queueResponse(final ResponseWithCallback response) {
+        if (clientControllers.isEmpty()) {
+            super.queueResponse(response);
+            return;
+        }
+        final AtomicBoolean callbackWasRun = new AtomicBoolean(false);
+        final Runnable callback = () -> {
+            if (callbackWasRun.compareAndSet(false, true)) {
+                response.callback.run();
+            }
+        };
+        for (final UserProcessController controller : clientControllers) {
+            controller.queueResponse(new ResponseWithCallback(response.response, callback));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
 
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
@@ -24,6 +25,14 @@ public class UserProcessController {
     // user responses queue containing at most 1 response from user
     protected final BlockingQueue<ResponseWithCallback> manualUserResponse = new LinkedBlockingQueue<>(1);
 
+    public void agentInitializing(@SuppressWarnings("unused") final Consumer<ServerResponse> responsesSender) {
+        // nothing to do, override if needed
+    }
+
+    public void keywordStarting() {
+        // nothing to do, override if needed
+    }
+
     public void executionPaused() {
         // nothing to do, override if needed
     }
@@ -53,30 +62,34 @@ public class UserProcessController {
     }
 
     public void disconnect(final Runnable whenResponseIsSent) {
-        manualUserResponse.offer(new ResponseWithCallback(new DisconnectExecution(), whenResponseIsSent));
+        queueResponse(new ResponseWithCallback(new DisconnectExecution(), whenResponseIsSent));
     }
 
     public void interrupt(final Runnable whenResponseIsSent) {
-        manualUserResponse.offer(new ResponseWithCallback(new InterruptExecution(), whenResponseIsSent));
+        queueResponse(new ResponseWithCallback(new InterruptExecution(), whenResponseIsSent));
     }
 
     public void terminate(final Runnable whenResponseIsSent) {
-        manualUserResponse.offer(new ResponseWithCallback(new TerminateExecution(), whenResponseIsSent));
+        queueResponse(new ResponseWithCallback(new TerminateExecution(), whenResponseIsSent));
     }
 
     public void pause(final Runnable whenResponseIsSent) {
-        manualUserResponse.offer(new ResponseWithCallback(new PauseExecution(), whenResponseIsSent));
+        queueResponse(new ResponseWithCallback(new PauseExecution(), whenResponseIsSent));
     }
 
     public void resume(final Runnable whenResponseIsSent) {
-        manualUserResponse.offer(new ResponseWithCallback(new ResumeExecution(), whenResponseIsSent));
+        queueResponse(new ResponseWithCallback(new ResumeExecution(), whenResponseIsSent));
+    }
+
+    protected void queueResponse(final ResponseWithCallback response) {
+        manualUserResponse.offer(response);
     }
 
     static class ResponseWithCallback {
 
-        private final ServerResponse response;
+        final ServerResponse response;
 
-        private final Runnable callback;
+        final Runnable callback;
 
         public ResponseWithCallback(final ServerResponse response, final Runnable callback) {
             this.response = response;
@@ -10,6 +10,7 @@ import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -17,7 +18,9 @@ import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
 import org.rf.ide.core.execution.debug.StackFrame.FrameCategory;
 import org.rf.ide.core.execution.server.response.ChangeVariable;
+import org.rf.ide.core.execution.server.response.CheckPausingPoints;
 import org.rf.ide.core.execution.server.response.EvaluateCondition;
+import org.rf.ide.core.execution.server.response.ExpandVariable;
 import org.rf.ide.core.execution.server.response.PauseExecution;
 import org.rf.ide.core.execution.server.response.ServerResponse;
 
@@ -33,6 +36,15 @@ public class UserProcessDebugController extends UserProcessController {
     private PausingPoint lastPausingPoint;
     private SuspensionData susupensionData = null;
 
+    private volatile BreakpointHolders breakpointHolders = BreakpointHolders.unknown();
+    private String pendingError = null;
+
+    private Consumer<ServerResponse> responsesSender;
+    // agent checks all pausing points until it is told otherwise
+    private boolean allPausingPointsChecked = true;
+    private boolean keywordStartsChecked = false;
+    private BreakpointHolders checkedBreakpointHolders = null;
+
     public UserProcessDebugController(final Stacktrace stacktrace, final DebuggerPreferences preferences) {
         this.stacktrace = stacktrace;
         this.preferences = preferences;
@@ -61,6 +73,52 @@ public class UserProcessDebugController extends UserProcessController {
         return susupensionData != null && susupensionData.reason == SuspendReason.STEPPING;
     }
 
+    public void setBreakpointHolders(final BreakpointHolders breakpointHolders) {
+        this.breakpointHolders = breakpointHolders;
+        updatePausingPointsChecks();
+    }
+
+    @Override
+    public void agentInitializing(final Consumer<ServerResponse> responsesSender) {
+        synchronized (this) {
+            this.responsesSender = responsesSender;
+        }
+        updatePausingPointsChecks();
+    }
+
+    @Override
+    public void keywordStarting() {
+        // pause-on-error preference may change during execution
+        updatePausingPointsChecks();
+    }
+
+    private synchronized void updatePausingPointsChecks() {
+        if (responsesSender == null) {
+            return;
+        }
+        final BreakpointHolders holders = breakpointHolders;
+        final boolean checkAll = shouldCheckAllPausingPoints(holders);
+        // whether the keyword is erroneous is known only after its start is received, so agent
+        // has to ask before starting every keyword when execution should pause on errors
+        final boolean checkStarts = !checkAll && preferences.shouldPauseOnError();
+        if (checkAll != allPausingPointsChecked || !checkAll
+                && (checkStarts != keywordStartsChecked || !holders.equals(checkedBreakpointHolders))) {
+            responsesSender.accept(new CheckPausingPoints(checkAll, checkStarts, holders));
+            allPausingPointsChecked = checkAll;
+            keywordStartsChecked = checkStarts;
+            checkedBreakpointHolders = holders;
+        }
+    }
+
+    private boolean shouldCheckAllPausingPoints(final BreakpointHolders holders) {
+        // when user ordered something, is stepping or error has to be reported, then agent has to ask
+        // at every keyword; otherwise only keywords which may hit a breakpoint are checked
+        final SuspensionData suspension = susupensionData;
+        return !holders.isKnown() || !manualUserResponse.isEmpty() || pendingError != null
+                || suspension != null && EnumSet.of(SuspendReason.USER_REQUEST, SuspendReason.STEPPING)
+                        .contains(suspension.reason);
+    }
+
     @Override
     public void conditionEvaluated(final ConditionEvaluatedEvent event) {
         if (!event.getResult().orElse(true)) {
@@ -68,6 +126,7 @@ public class UserProcessDebugController extends UserProcessController {
             // execution will pause
             susupensionData = null;
         }
+        updatePausingPointsChecks();
     }
 
     @Override
@@ -92,20 +151,22 @@ public class UserProcessDebugController extends UserProcessController {
         }
         susupensionData = null;
         frames().forEach(frame -> frame.unmark(StackFrameMarker.STEPPING));
+        updatePausingPointsChecks();
     }
 
     @Override
     public Optional<ServerResponse> takeCurrentResponse(final PausingPoint pausingPoint) {
         this.lastPausingPoint = pausingPoint;
-        return super.takeCurrentResponse(pausingPoint).map(Optional::of)
+        final Optional<ServerResponse> response = super.takeCurrentResponse(pausingPoint).map(Optional::of)
                 .orElseGet(() -> pauseOnErrorResponse(pausingPoint)).map(Optional::of)
                 .orElseGet(() -> breakpointHitResponse(pausingPoint)).map(Optional::of)
                 .orElseGet(() -> userSteppingResponse(pausingPoint));
+        updatePausingPointsChecks();
+        return response;
     }
 
-    private Optional<ServerResponse> pauseOnErrorResponse(final PausingPoint pausingPoint) {
-        if ((pausingPoint == PausingPoint.PRE_START_KEYWORD || pausingPoint == PausingPoint.START_KEYWORD)
-                && frames().map(StackFrame::getContext).anyMatch(StackFrameContext::isErroneous)
+    private synchronized void markErroneousFrames() {
+        if (frames().map(StackFrame::getContext).anyMatch(StackFrameContext::isErroneous)
                 && !frames().anyMatch(StackFrame::isMarkedError)) {
 
             // we mark all the erroneous frames; once they will be popped from stack it may
@@ -113,15 +174,22 @@ public class UserProcessDebugController extends UserProcessController {
             frames().filter(frame -> frame.getContext().isErroneous())
                     .forEach(frame -> frame.mark(StackFrameMarker.ERROR));
 
+            pendingError = frames()
+                    .findFirst()
+                    .map(StackFrame::getContext)
+                    .flatMap(StackFrameContext::getErrorMessage)
+                    .orElse("");
+        }
+    }
+
+    private Optional<ServerResponse> pauseOnErrorResponse(final PausingPoint pausingPoint) {
+        if (pausingPoint == PausingPoint.PRE_START_KEYWORD || pausingPoint == PausingPoint.START_KEYWORD) {
+            markErroneousFrames();
+
+            final String error = consumePendingError();
             // this may require user assistance, so has to be asked as the last condition after
             // those in previous if
-            if (preferences.shouldPauseOnError()) {
-
-                final String error = frames()
-                        .findFirst()
-                        .map(StackFrame::getContext)
-                        .flatMap(StackFrameContext::getErrorMessage)
-                        .orElse("");
+            if (error != null && preferences.shouldPauseOnError()) {
                 susupensionData = new SuspensionData(SuspendReason.ERRONEOUS_STATE, error);
                 return Optional.of(new PauseExecution());
             }
@@ -129,6 +197,12 @@ public class UserProcessDebugController extends UserProcessController {
         return Optional.empty();
     }
 
+    private synchronized String consumePendingError() {
+        final String error = pendingError;
+        pendingError = null;
+        return error;
+    }
+
     private Optional<ServerResponse> breakpointHitResponse(final PausingPoint pausingPoint) {
         if (pausingPoint == PausingPoint.PRE_START_KEYWORD) {
 
@@ -231,6 +305,21 @@ public class UserProcessDebugController extends UserProcessController {
         susupensionData = new SuspensionData(SuspendReason.USER_REQUEST);
     }
 
+    @Override
+    public void resume(final Runnable whenResponseIsSent) {
+        // agent has to know which points to check before it is resumed
+        super.resume(() -> {
+            updatePausingPointsChecks();
+            whenResponseIsSent.run();
+        });
+    }
+
+    @Override
+    protected void queueResponse(final ResponseWithCallback response) {
+        super.queueResponse(response);
+        updatePausingPointsChecks();
+    }
+
     public void stepInto(final Runnable whenResponseIsSent, final Runnable whenSteppingEnds) {
         // it's not possible to step into frame other than the one on stack top
         step(SteppingMode.INTO, whenResponseIsSent, whenSteppingEnds);
@@ -264,7 +353,7 @@ public class UserProcessDebugController extends UserProcessController {
         final ChangeVariable changeVarResponse = new ChangeVariable(variable.getName(), variable.getScope(),
                 frame.getLevel(), arguments);
         susupensionData = new SuspensionData(SuspendReason.VARIABLE_CHANGE, frame.getLevel());
-        manualUserResponse.offer(new ResponseWithCallback(changeVarResponse, () -> {}));
+        queueResponse(new ResponseWithCallback(changeVarResponse, () -> {}));
     }
 
     public void changeVariableInnerValue(final StackFrame frame, final StackFrameVariable variable,
@@ -272,7 +361,17 @@ public class UserProcessDebugController extends UserProcessController {
         final ChangeVariable changeVarResponse = new ChangeVariable(variable.getName(), variable.getScope(),
                 frame.getLevel(), path, arguments);
         susupensionData = new SuspensionData(SuspendReason.VARIABLE_CHANGE, frame.getLevel());
-        manualUserResponse.offer(new ResponseWithCallback(changeVarResponse, () -> {}));
+        queueResponse(new ResponseWithCallback(changeVarResponse, () -> {}));
+    }
+
+    /**
+     * Requests children of summarized value of variable; those are sent as changed variable, so
+     * the execution is paused again in the same way as after variable change.
+     */
+    public void expandVariable(final StackFrame frame, final StackFrameVariable variable, final List<Object> path) {
+        final ExpandVariable expandVarResponse = new ExpandVariable(variable.getName(), frame.getLevel(), path);
+        susupensionData = new SuspensionData(SuspendReason.VARIABLE_CHANGE, frame.getLevel());
+        queueResponse(new ResponseWithCallback(expandVarResponse, () -> {}));
     }
 
     public static interface PauseReasonListener {
@@ -17,8 +17,15 @@ import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
 
 import org.rf.ide.core.execution.agent.RobotAgentEventListener;
 import org.rf.ide.core.execution.agent.RobotAgentEventListener.RobotAgentEventsListenerException;
@@ -27,7 +34,7 @@ import com.google.common.base.Charsets;
 
 public class AgentConnectionServer {
 
-    public static final int RED_AGENT_PROTOCOL_VERSION = 2;
+    public static final int RED_AGENT_PROTOCOL_VERSION = 3;
 
     public static final String DEFAULT_CONNECTION_HOST = "127.0.0.1";
 
@@ -57,7 +64,7 @@ public class AgentConnectionServer {
 
     private final int timeoutInMillis;
 
-    private final List<AgentServerStatusListener> listeners = new ArrayList<>();
+    private final List<AgentServerStatusListener> listeners = new CopyOnWriteArrayList<>();
 
     private final Semaphore serverSetupSemaphore = new Semaphore(0);
 
@@ -82,44 +89,141 @@ public class AgentConnectionServer {
     }
 
     public void start(final RobotAgentEventListener... eventsListeners) throws IOException {
-        AgentClient client = null;
         try {
-            serverSetupSemaphore.release();
+            establishServer();
 
-            serverSocket = new ServerSocket(port, 50, InetAddress.getByName(host));
-            serverSocket.setReuseAddress(true);
-            serverSocket.setSoTimeout(timeoutInMillis);
+            final Socket clientSocket;
+            try {
+                clientSocket = serverSocket.accept();
+            } catch (final SocketTimeoutException e) {
+                listeners.forEach(listener -> listener.clientConnectionTimedOut(e));
+                return;
+            } catch (final IOException e) {
+                listeners.forEach(listener -> listener.clientConnectionError(e));
+                return;
+            }
+            serveClient(clientSocket, eventsListeners);
+        } finally {
+            stop();
+        }
+    }
 
-            listeners.forEach(listener -> listener.serverEstablished(host, port));
-            try (Socket clientSocket = serverSocket.accept()) {
+    /**
+     * Starts the server which accepts many concurrent agent connections, e.g. coming from tests
+     * executed in parallel by several robot processes. Each connection is served by its own thread
+     * and dispatcher, and events are passed to listeners created for it by given factory. The
+     * factory is called with number of connection (starting from 1), which can be used to
+     * distinguish the processes. Server accepts connections until it is stopped or until no
+     * connection is open and no new one comes within the timeout. This method returns once all
+     * connections are closed.
+     */
+    public void startForManyClients(final IntFunction<List<RobotAgentEventListener>> eventsListenersFactory)
+            throws IOException {
+        final ExecutorService clientsExecutor = Executors.newCachedThreadPool();
+        final List<Future<?>> servedClients = new ArrayList<>();
+        final AtomicInteger connectedClients = new AtomicInteger(0);
+        try {
+            establishServer();
+
+            int clientNumber = 0;
+            while (true) {
+                final Socket clientSocket;
+                try {
+                    clientSocket = serverSocket.accept();
+                } catch (final SocketTimeoutException e) {
+                    if (connectedClients.get() > 0) {
+                        continue;
+                    } else if (clientNumber == 0) {
+                        listeners.forEach(listener -> listener.clientConnectionTimedOut(e));
+                    }
+                    break;
+                } catch (final IOException e) {
+                    // the server was stopped
+                    if (!serverSocket.isClosed()) {
+                        listeners.forEach(listener -> listener.clientConnectionError(e));
+                    }
+                    break;
+                }
+                clientNumber++;
+                connectedClients.incrementAndGet();
+
+                final RobotAgentEventListener[] eventsListeners = eventsListenersFactory.apply(clientNumber)
+                        .toArray(new RobotAgentEventListener[0]);
+                servedClients.add(clientsExecutor.submit(() -> {
+                    try {
+                        serveClient(clientSocket, eventsListeners);
+                    } finally {
+                        connectedClients.decrementAndGet();
+                    }
+                }));
+            }
+        } finally {
+            stop();
+            clientsExecutor.shutdown();
+        }
+        waitForServedClients(servedClients);
+    }
 
-                final int clientId = clientSocket.hashCode();
+    private void establishServer() throws IOException {
+        serverSetupSemaphore.release();
 
-                final BufferedReader eventsReader = new BufferedReader(
-                        new InputStreamReader(clientSocket.getInputStream(), Charsets.UTF_8));
-                final BufferedWriter eventsWriter = new BufferedWriter(
-                        new OutputStreamWriter(clientSocket.getOutputStream(), Charsets.UTF_8));
+        serverSocket = new ServerSocket(port, 50, InetAddress.getByName(host));
+        serverSocket.setReuseAddress(true);
+        serverSocket.setSoTimeout(timeoutInMillis);
 
-                client = new AgentClient(clientId, new PrintWriter(eventsWriter));
-                final RobotAgentEventDispatcher eventsDispatcher = new RobotAgentEventDispatcher(
-                        client, eventsListeners);
+        listeners.forEach(listener -> listener.serverEstablished(host, port));
+    }
 
-                listeners.forEach(listener -> listener.clientConnected(clientId));
-                eventsDispatcher.runEventsLoop(eventsReader);
-                listeners.forEach(listener -> listener.clientConnectionClosed(clientId));
+    private void serveClient(final Socket socket, final RobotAgentEventListener... eventsListeners) {
+        AgentClient client = null;
+        try (Socket clientSocket = socket) {
 
-            } catch (final RobotAgentEventsListenerException e) {
-                listeners.forEach(listener -> listener.clientEventHandlingError(e));
-            } catch (final SocketTimeoutException e) {
-                listeners.forEach(listener -> listener.clientConnectionTimedOut(e));
-            } catch (final IOException e) {
-                listeners.forEach(listener -> listener.clientConnectionError(e));
-            }
+            final int clientId = clientSocket.hashCode();
+
+            final BufferedReader eventsReader = new BufferedReader(
+                    new InputStreamReader(clientSocket.getInputStream(), Charsets.UTF_8));
+            final BufferedWriter eventsWriter = new BufferedWriter(
+                    new OutputStreamWriter(clientSocket.getOutputStream(), Charsets.UTF_8));
+
+            client = new AgentClient(clientId, new PrintWriter(eventsWriter));
+            final RobotAgentEventDispatcher eventsDispatcher = new RobotAgentEventDispatcher(client,
+                    eventsListeners);
+
+            listeners.forEach(listener -> listener.clientConnected(clientId));
+            eventsDispatcher.runEventsLoop(eventsReader);
+            listeners.forEach(listener -> listener.clientConnectionClosed(clientId));
+
+        } catch (final RobotAgentEventsListenerException e) {
+            listeners.forEach(listener -> listener.clientEventHandlingError(e));
+        } catch (final IOException e) {
+            listeners.forEach(listener -> listener.clientConnectionError(e));
         } finally {
             if (client != null) {
                 client.dispose();
             }
-            stop();
+        }
+    }
+
+    private static void waitForServedClients(final List<Future<?>> servedClients) {
+        boolean interrupted = false;
+        RuntimeException exception = null;
+        for (final Future<?> servedClient : servedClients) {
+            try {
+                servedClient.get();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            } catch (final ExecutionException e) {
+                // status listeners may throw in order to report problems, same as in single client mode
+                if (exception == null && e.getCause() instanceof RuntimeException) {
+                    exception = (RuntimeException) e.getCause();
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (exception != null) {
+            throw exception;
         }
     }
 
@@ -10,11 +10,17 @@ import static java.util.Collections.synchronizedList;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
 import org.codehaus.jackson.map.ObjectMapper;
-import org.codehaus.jackson.type.TypeReference;
 import org.rf.ide.core.execution.agent.RobotAgentEventListener;
 import org.rf.ide.core.execution.agent.RobotAgentEventListener.RobotAgentEventsListenerException;
 import org.rf.ide.core.execution.agent.event.AgentInitializingEvent;
@@ -32,17 +38,24 @@ import org.rf.ide.core.execution.agent.event.SuiteEndedEvent;
 import org.rf.ide.core.execution.agent.event.SuiteStartedEvent;
 import org.rf.ide.core.execution.agent.event.TestEndedEvent;
 import org.rf.ide.core.execution.agent.event.TestStartedEvent;
+import org.rf.ide.core.execution.agent.event.Variable;
+import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.agent.event.VariablesEvent;
 import org.rf.ide.core.execution.agent.event.VersionsEvent;
 
-import com.google.common.collect.Iterables;
+import com.google.common.collect.ImmutableSet;
 
 class RobotAgentEventDispatcher {
 
+    private static final Set<String> KEYWORD_ATTRIBUTES = ImmutableSet.of("kwname", "type", "libname");
+
     private final List<RobotAgentEventListener> eventsListeners;
 
     private final AgentClient client;
 
+    // agent sends variables as changes against previously sent ones
+    private List<Map<Variable, VariableTypedValue>> lastVariables = new ArrayList<>();
+
     RobotAgentEventDispatcher(final AgentClient client, final RobotAgentEventListener... eventsListeners) {
         this.client = client;
         this.eventsListeners = synchronizedList(newArrayList(eventsListeners));
@@ -62,94 +75,156 @@ class RobotAgentEventDispatcher {
     }
 
     private void eventsLoop(final BufferedReader eventReader) throws IOException, RobotAgentEventsListenerException {
-        String event = eventReader.readLine();
         final ObjectMapper mapper = new ObjectMapper();
-        while (event != null && anyListenerIsHandlingEvents()) {
+        final JsonFactory jsonFactory = mapper.getJsonFactory();
 
-            final TypeReference<Map<String, Object>> stringToObjectMapType = new TypeReference<Map<String, Object>>() {
-            };
-            final Map<String, Object> eventMap = mapper.readValue(event, stringToObjectMapType);
-            final String eventType = getEventType(eventMap);
-            if (eventType == null) {
-                event = eventReader.readLine();
-                continue;
+        String event = eventReader.readLine();
+        while (event != null && anyListenerIsHandlingEvents()) {
+            final JsonParser parser = jsonFactory.createJsonParser(event);
+            try {
+                dispatchEvent(mapper, parser);
+            } finally {
+                parser.close();
             }
+            event = eventReader.readLine();
+        }
+    }
 
-            switch (eventType) {
-                case "agent_initializing":
-                    handleAgentInitializing();
-                    break;
-                case "version":
-                    handleVersion(eventMap);
-                    break;
-                case "ready_to_start":
-                    handleReadyToStart();
-                    break;
-                case "resource_import":
-                    handleResourceImport(eventMap);
-                    break;
-                case "library_import":
-                    handleLibraryImport(eventMap);
-                    break;
-                case "start_suite":
-                    handleStartSuite(eventMap);
-                    break;
-                case "end_suite":
-                    handleEndSuite(eventMap);
-                    break;
-                case "start_test":
-                    handleStartTest(eventMap);
-                    break;
-                case "end_test":
-                    handleEndTest(eventMap);
-                    break;
-                case "pre_start_keyword":
-                    handlePreStartKeyword(eventMap);
-                    break;
-                case "start_keyword":
-                    handleStartKeyword(eventMap);
-                    break;
-                case "pre_end_keyword":
-                    handlePreEndKeyword(eventMap);
-                    break;
-                case "end_keyword":
-                    handleEndKeyword(eventMap);
-                    break;
-                case "variables":
-                    handleVariables(eventMap);
-                    break;
-                case "should_continue":
-                    handleShouldContinue(eventMap);
-                    break;
-                case "condition_result":
-                    handleConditionResult(eventMap);
-                    break;
-                case "paused":
-                    handlePause();
-                    break;
-                case "resumed":
-                    handleResumed();
-                    break;
-                case "log_message":
-                    handleLogMessage(eventMap);
-                    break;
-                case "message":
-                    handleMessage(eventMap);
-                    break;
-                case "output_file":
-                    handleOutputFile(eventMap);
-                    break;
-                case "close":
-                    handleClose();
-                    break;
-                default:
-                    break;
-            }
+    private void dispatchEvent(final ObjectMapper mapper, final JsonParser parser)
+            throws IOException, RobotAgentEventsListenerException {
+        // each event is an object with single entry: event type mapped to its arguments
+        if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME) {
+            return;
+        }
+        final String eventType = parser.getCurrentName();
+        parser.nextToken();
+
+        // keyword events are the most frequent ones, so they are decoded directly from the stream
+        switch (eventType) {
+            case "pre_start_keyword":
+                handlePreStartKeyword(readKeywordStartedEvent(parser));
+                break;
+            case "start_keyword":
+                handleStartKeyword(readKeywordStartedEvent(parser));
+                break;
+            case "pre_end_keyword":
+                handlePreEndKeyword(readKeywordEndedEvent(parser));
+                break;
+            case "end_keyword":
+                handleEndKeyword(readKeywordEndedEvent(parser));
+                break;
+            default:
+                final Object arguments = mapper.readValue(parser, Object.class);
+                dispatchEvent(eventType, Collections.singletonMap(eventType, arguments));
+                break;
+        }
+    }
 
-            event = eventReader.readLine();
+    private void dispatchEvent(final String eventType, final Map<String, Object> eventMap)
+            throws RobotAgentEventsListenerException {
+        switch (eventType) {
+            case "agent_initializing":
+                handleAgentInitializing();
+                break;
+            case "version":
+                handleVersion(eventMap);
+                break;
+            case "ready_to_start":
+                handleReadyToStart();
+                break;
+            case "resource_import":
+                handleResourceImport(eventMap);
+                break;
+            case "library_import":
+                handleLibraryImport(eventMap);
+                break;
+            case "start_suite":
+                handleStartSuite(eventMap);
+                break;
+            case "end_suite":
+                handleEndSuite(eventMap);
+                break;
+            case "start_test":
+                handleStartTest(eventMap);
+                break;
+            case "end_test":
+                handleEndTest(eventMap);
+                break;
+            case "variables":
+                handleVariables(eventMap);
+                break;
+            case "should_continue":
+                handleShouldContinue(eventMap);
+                break;
+            case "condition_result":
+                handleConditionResult(eventMap);
+                break;
+            case "paused":
+                handlePause();
+                break;
+            case "resumed":
+                handleResumed();
+                break;
+            case "log_message":
+                handleLogMessage(eventMap);
+                break;
+            case "message":
+                handleMessage(eventMap);
+                break;
+            case "output_file":
+                handleOutputFile(eventMap);
+                break;
+            case "close":
+                handleClose();
+                break;
+            default:
+                break;
         }
     }
 
+    private static KeywordStartedEvent readKeywordStartedEvent(final JsonParser parser) throws IOException {
+        final Map<String, String> attributes = readKeywordAttributes(parser);
+        return KeywordStartedEvent.from(attributes.get("kwname"), attributes.get("type"),
+                attributes.get("libname"));
+    }
+
+    private static KeywordEndedEvent readKeywordEndedEvent(final JsonParser parser) throws IOException {
+        final Map<String, String> attributes = readKeywordAttributes(parser);
+        return KeywordEndedEvent.from(attributes.get("kwname"), attributes.get("type"));
+    }
+
+    /**
+     * Reads arguments of keyword event having the form: [name, {attributes}]. Only textual
+     * attributes needed by keyword events are read, all the other values are skipped.
+     */
+    private static Map<String, String> readKeywordAttributes(final JsonParser parser) throws IOException {
+        final Map<String, String> attributes = new HashMap<>();
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return attributes;
+        }
+        int index = 0;
+        JsonToken token = parser.nextToken();
+        while (token != null && token != JsonToken.END_ARRAY) {
+            if (index == 1 && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String attributeName = parser.getCurrentName();
+                    final JsonToken valueToken = parser.nextToken();
+                    if (valueToken == JsonToken.VALUE_STRING && KEYWORD_ATTRIBUTES.contains(attributeName)) {
+                        attributes.put(attributeName, parser.getText());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+            index++;
+            token = parser.nextToken();
+        }
+        return attributes;
+    }
+
     private void handleAgentInitializing() {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleAgentInitializing(AgentInitializingEvent.from(client));
@@ -203,36 +278,33 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handlePreStartKeyword(final Map<String, Object> eventMap) {
-        final KeywordStartedEvent event = KeywordStartedEvent.fromPre(eventMap);
+    private void handlePreStartKeyword(final KeywordStartedEvent event) {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordAboutToStart(event);
         }
     }
 
-    private void handleStartKeyword(final Map<String, Object> eventMap) {
-        final KeywordStartedEvent event = KeywordStartedEvent.from(eventMap);
+    private void handleStartKeyword(final KeywordStartedEvent event) {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordStarted(event);
         }
     }
 
-    private void handlePreEndKeyword(final Map<String, Object> eventMap) {
-        final KeywordEndedEvent event = KeywordEndedEvent.fromPre(eventMap);
+    private void handlePreEndKeyword(final KeywordEndedEvent event) {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordAboutToEnd(event);
         }
     }
 
-    private void handleEndKeyword(final Map<String, Object> eventMap) {
-        final KeywordEndedEvent event = KeywordEndedEvent.from(eventMap);
+    private void handleEndKeyword(final KeywordEndedEvent event) {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordEnded(event);
         }
     }
 
     private void handleVariables(final Map<String, Object> eventMap) {
-        final VariablesEvent event = VariablesEvent.from(eventMap);
+        final VariablesEvent event = VariablesEvent.from(eventMap, lastVariables);
+        lastVariables = event.getVariables();
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleVariables(event);
         }
@@ -299,13 +371,6 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private String getEventType(final Map<String, ?> eventMap) {
-        if (eventMap == null) {
-            return null;
-        }
-        return Iterables.getFirst(eventMap.keySet(), null);
-    }
-
     private boolean anyListenerIsHandlingEvents() {
         for (final RobotAgentEventListener listener : eventsListeners) {
             if (listener.isHandlingEvents()) {
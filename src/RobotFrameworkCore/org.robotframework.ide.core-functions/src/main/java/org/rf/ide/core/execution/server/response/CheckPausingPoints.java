@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server.response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.rf.ide.core.execution.debug.BreakpointHolders;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Tells the agent at which pausing points it has to ask whether execution should be continued.
+ * When all points have to be checked the agent asks at every keyword, otherwise it asks only before
+ * starting keywords called from given breakpoint holders or from setups/teardowns. Additionally the
+ * agent may be told to ask before starting every keyword, which is needed to pause on erroneous keywords.
+ */
+public final class CheckPausingPoints implements ServerResponse {
+
+    private final ObjectMapper mapper;
+
+    private final boolean checkAll;
+
+    private final boolean checkKeywordStarts;
+
+    private final BreakpointHolders holders;
+
+    public CheckPausingPoints(final boolean checkAll, final boolean checkKeywordStarts,
+            final BreakpointHolders holders) {
+        this(ResponseObjectsMapper.OBJECT_MAPPER, checkAll, checkKeywordStarts, holders);
+    }
+
+    @VisibleForTesting
+    CheckPausingPoints(final ObjectMapper mapper, final boolean checkAll, final boolean checkKeywordStarts,
+            final BreakpointHolders holders) {
+        this.mapper = mapper;
+        this.checkAll = checkAll;
+        this.checkKeywordStarts = checkKeywordStarts;
+        this.holders = holders;
+    }
+
+    @Override
+    public String toMessage() {
+        try {
+            final Map<String, Object> arguments = ImmutableMap.of(
+                    "all", checkAll || !holders.isKnown(),
+                    "starts", checkKeywordStarts,
+                    "tests", new ArrayList<>(holders.getTests()),
+                    "keywords", new ArrayList<>(holders.getKeywords()));
+            final Map<String, Object> value = ImmutableMap.of("check_pausing_points", arguments);
+
+            return mapper.writeValueAsString(value);
+        } catch (final IOException e) {
+            throw new ResponseException("Unable to serialize check pausing points response arguments to json", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server.response;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.codehaus.jackson.map.ObjectMapper;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+
+public final class ExpandVariable implements ServerResponse {
+
+    private final ObjectMapper mapper;
+
+    private final String variableName;
+
+    private final int frameLevel;
+
+    private final List<Object> path;
+
+    /**
+     * @param path
+     *            indexes and keys leading from the variable to summarized value which children
+     *            should be sent, empty when value of variable itself was summarized
+     */
+    public ExpandVariable(final String varName, final int frameLevel, final List<Object> path) {
+        this(ResponseObjectsMapper.OBJECT_MAPPER, varName, frameLevel, path);
+    }
+
+    @VisibleForTesting
+    ExpandVariable(final ObjectMapper mapper, final String varName, final int frameLevel, final List<Object> path) {
+        this.mapper = mapper;
+        this.variableName = varName;
+        this.frameLevel = frameLevel;
+        this.path = path;
+    }
+
+    @Override
+    public String toMessage() throws ResponseException {
+        try {
+            final Map<String, Object> value = ImmutableMap.of("expand_variable",
+                    ImmutableMap.of("name", variableName, "level", frameLevel, "path", path));
+
+            return mapper.writeValueAsString(value);
+        } catch (final IOException e) {
+            throw new ResponseException("Unable to serialize expand variable response arguments to json", e);
+        }
+    }
+}
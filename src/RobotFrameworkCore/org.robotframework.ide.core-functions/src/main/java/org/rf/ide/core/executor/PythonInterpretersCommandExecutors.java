@@ -11,10 +11,16 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.rf.ide.core.RedSystemProperties;
 import org.rf.ide.core.executor.RobotCommandRpcExecutor.RobotCommandExecutorException;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment.PythonInstallationDirectory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 /**
  * @author Michal Anglart
  */
@@ -29,8 +35,14 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
         return InstanceHolder.INSTANCE;
     }
 
+    // executors used for short, interactive commands
     private final Map<String, RobotCommandRpcExecutor> executors = new HashMap<>();
 
+    // pools of executors acquired for long-running commands
+    private final Map<String, RobotCommandExecutorsPool> pools = new HashMap<>();
+
+    private ScheduledExecutorService poolsEvictionService;
+
     private final List<PythonProcessListener> processListeners = new ArrayList<>();
 
     private File xmlRpcServerScriptFile;
@@ -72,6 +84,10 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
         if (executor != null) {
             executor.kill();
         }
+        final RobotCommandExecutorsPool pool = pools.remove(pathAsName);
+        if (pool != null) {
+            pool.dispose();
+        }
     }
 
     @Override
@@ -85,9 +101,7 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
             } else if (executor != null) {
                 executors.remove(pathAsName);
             }
-            executor = new RobotCommandRpcExecutor(pathAsName, interpreterPath.getInterpreter(),
-                    xmlRpcServerScriptFile);
-            executor.waitForEstablishedConnection();
+            executor = createExecutor(interpreterPath);
             if (executor.isAlive() || executor.isExternal()) {
                 executors.put(pathAsName, executor);
                 return executor;
@@ -95,4 +109,63 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
         }
         throw new RobotCommandExecutorException("Unable to start XML-RPC server");
     }
+
+    private RobotCommandRpcExecutor createExecutor(final PythonInstallationDirectory interpreterPath) {
+        final RobotCommandRpcExecutor executor = new RobotCommandRpcExecutor(interpreterPath.getInterpreterPath(),
+                interpreterPath.getInterpreter(), xmlRpcServerScriptFile);
+        executor.waitForEstablishedConnection();
+        return executor;
+    }
+
+    @Override
+    public RobotCommandExecutor acquireRobotCommandExecutor(final PythonInstallationDirectory interpreterPath) {
+        if (RedSystemProperties.shouldConnectToRunningServer()) {
+            // there is only single server to which we are able to connect
+            return getRobotCommandExecutor(interpreterPath);
+        }
+        if (xmlRpcServerScriptFile == null) {
+            throw new RobotCommandExecutorException("Unable to start XML-RPC server");
+        }
+        // acquiring may wait for other executor to be released, so it is done outside of the lock
+        return getPool(interpreterPath).acquire();
+    }
+
+    @Override
+    public void releaseRobotCommandExecutor(final PythonInstallationDirectory interpreterPath,
+            final RobotCommandExecutor executor) {
+        final RobotCommandExecutorsPool pool;
+        synchronized (this) {
+            pool = pools.get(interpreterPath.getInterpreterPath());
+        }
+        if (pool != null) {
+            pool.release(executor);
+        }
+    }
+
+    private synchronized RobotCommandExecutorsPool getPool(final PythonInstallationDirectory interpreterPath) {
+        if (poolsEvictionService == null) {
+            poolsEvictionService = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setDaemon(true).setNameFormat("RED session servers eviction").build());
+            final long period = Math.max(1, RedSystemProperties.getSessionServersIdleTimeout());
+            poolsEvictionService.scheduleWithFixedDelay(this::evictIdleExecutors, period, period, TimeUnit.SECONDS);
+        }
+        return pools.computeIfAbsent(interpreterPath.getInterpreterPath(),
+                path -> new RobotCommandExecutorsPool(() -> createExecutor(interpreterPath),
+                        RedSystemProperties.getSessionServersMinIdle(), RedSystemProperties.getSessionServersMax(),
+                        TimeUnit.SECONDS.toMillis(RedSystemProperties.getSessionServersIdleTimeout())));
+    }
+
+    private void evictIdleExecutors() {
+        final List<RobotCommandExecutorsPool> currentPools;
+        synchronized (this) {
+            currentPools = new ArrayList<>(pools.values());
+        }
+        for (final RobotCommandExecutorsPool pool : currentPools) {
+            try {
+                pool.evictIdleExecutors();
+            } catch (final RobotCommandExecutorException e) {
+                // eviction will be tried again next time
+            }
+        }
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.executor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.rf.ide.core.executor.RobotCommandRpcExecutor.RobotCommandExecutorException;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Pool of session servers of single interpreter used for long-running commands. At most
+ * maximal number of servers is running at once; when all of them are busy acquiring thread
+ * waits until some server is released. Released servers are kept idle and are stopped after
+ * idle timeout, unless there are no more than minimal number of idle servers. Idle server is
+ * checked for availability before it is handed out again.
+ */
+class RobotCommandExecutorsPool {
+
+    private final Supplier<RobotCommandRpcExecutor> executorsFactory;
+
+    private final LongSupplier clock;
+
+    private final int minIdle;
+
+    private final int maxSize;
+
+    private final long idleTimeoutMillis;
+
+    // most recently released executors are at the beginning
+    private final Deque<IdleExecutor> idleExecutors = new ArrayDeque<>();
+
+    private final Set<RobotCommandRpcExecutor> busyExecutors = new HashSet<>();
+
+    private int startingExecutors = 0;
+
+    private boolean isDisposed = false;
+
+    RobotCommandExecutorsPool(final Supplier<RobotCommandRpcExecutor> executorsFactory, final int minIdle,
+            final int maxSize, final long idleTimeoutMillis) {
+        this(executorsFactory, System::currentTimeMillis, minIdle, maxSize, idleTimeoutMillis);
+    }
+
+    RobotCommandExecutorsPool(final Supplier<RobotCommandRpcExecutor> executorsFactory, final LongSupplier clock,
+            final int minIdle, final int maxSize, final long idleTimeoutMillis) {
+        this.executorsFactory = executorsFactory;
+        this.clock = clock;
+        this.minIdle = Math.max(0, minIdle);
+        this.maxSize = Math.max(1, maxSize);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    RobotCommandRpcExecutor acquire() {
+        while (true) {
+            final RobotCommandRpcExecutor idleExecutor = takeIdleOrReserveNew();
+            if (idleExecutor == null) {
+                return startNew();
+            } else if (idleExecutor.isAlive() && idleExecutor.isResponding()) {
+                return idleExecutor;
+            }
+            idleExecutor.kill();
+            synchronized (this) {
+                busyExecutors.remove(idleExecutor);
+                notifyAll();
+            }
+        }
+    }
+
+    private synchronized RobotCommandRpcExecutor takeIdleOrReserveNew() {
+        while (true) {
+            if (isDisposed) {
+                throw new RobotCommandExecutorException("Session servers pool has been disposed");
+            }
+            final IdleExecutor idle = idleExecutors.pollFirst();
+            if (idle != null) {
+                busyExecutors.add(idle.executor);
+                return idle.executor;
+            } else if (busyExecutors.size() + startingExecutors < maxSize) {
+                startingExecutors++;
+                return null;
+            }
+            try {
+                wait();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RobotCommandExecutorException("Interrupted while waiting for session server", e);
+            }
+        }
+    }
+
+    private RobotCommandRpcExecutor startNew() {
+        RobotCommandRpcExecutor executor = null;
+        boolean isStarted = false;
+        try {
+            // starting new server takes a while, so it is done without blocking other threads
+            executor = executorsFactory.get();
+        } finally {
+            synchronized (this) {
+                startingExecutors--;
+                isStarted = executor != null && executor.isAlive() && !isDisposed;
+                if (isStarted) {
+                    busyExecutors.add(executor);
+                } else {
+                    notifyAll();
+                }
+            }
+        }
+        if (!isStarted) {
+            if (executor != null) {
+                executor.kill();
+            }
+            throw new RobotCommandExecutorException("Unable to start XML-RPC server");
+        }
+        return executor;
+    }
+
+    synchronized void release(final RobotCommandExecutor executor) {
+        if (busyExecutors.remove(executor)) {
+            final RobotCommandRpcExecutor rpcExecutor = (RobotCommandRpcExecutor) executor;
+            if (isDisposed || !rpcExecutor.isAlive()) {
+                rpcExecutor.kill();
+            } else {
+                idleExecutors.addFirst(new IdleExecutor(rpcExecutor, clock.getAsLong()));
+            }
+            notifyAll();
+        }
+    }
+
+    void evictIdleExecutors() {
+        final List<RobotCommandRpcExecutor> toKill = new ArrayList<>();
+        synchronized (this) {
+            final long now = clock.getAsLong();
+            final Iterator<IdleExecutor> oldestFirst = idleExecutors.descendingIterator();
+            while (oldestFirst.hasNext()) {
+                final IdleExecutor idle = oldestFirst.next();
+                if (!idle.executor.isAlive()
+                        || idleExecutors.size() > minIdle && now - idle.releaseTime >= idleTimeoutMillis) {
+                    oldestFirst.remove();
+                    toKill.add(idle.executor);
+                }
+            }
+        }
+        toKill.forEach(RobotCommandRpcExecutor::kill);
+    }
+
+    void dispose() {
+        final List<RobotCommandRpcExecutor> toKill = new ArrayList<>();
+        synchronized (this) {
+            isDisposed = true;
+            idleExecutors.forEach(idle -> toKill.add(idle.executor));
+            idleExecutors.clear();
+            toKill.addAll(busyExecutors);
+            busyExecutors.clear();
+            notifyAll();
+        }
+        toKill.forEach(RobotCommandRpcExecutor::kill);
+    }
+
+    @VisibleForTesting
+    synchronized int getIdleSize() {
+        return idleExecutors.size();
+    }
+
+    @VisibleForTesting
+    synchronized int getBusySize() {
+        return busyExecutors.size();
+    }
+
+    private static class IdleExecutor {
+
+        private final RobotCommandRpcExecutor executor;
+
+        private final long releaseTime;
+
+        IdleExecutor(final RobotCommandRpcExecutor executor, final long releaseTime) {
+            this.executor = executor;
+            this.releaseTime = releaseTime;
+        }
+    }
+}
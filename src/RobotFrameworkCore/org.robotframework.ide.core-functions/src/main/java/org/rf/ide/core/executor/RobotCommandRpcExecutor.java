@@ -149,6 +149,15 @@ class RobotCommandRpcExecutor implements RobotCommandExecutor {
         return isExternal;
     }
 
+    boolean isResponding() {
+        try {
+            callRpcFunction("checkServerAvailability");
+            return true;
+        } catch (final XmlRpcException | RuntimeException e) {
+            return false;
+        }
+    }
+
     void kill() {
         if (!isExternal()) {
             server.kill();
@@ -11,6 +11,15 @@ public interface RobotCommandsExecutors {
 
     RobotCommandExecutor getRobotCommandExecutor(PythonInstallationDirectory interpreterPath);
 
+    /**
+     * Returns executor which is not acquired by anyone else, so that long-running commands can be
+     * called in parallel in separate interpreter processes. Acquired executor has to be released
+     * using {@link #releaseRobotCommandExecutor(PythonInstallationDirectory, RobotCommandExecutor)}.
+     */
+    RobotCommandExecutor acquireRobotCommandExecutor(PythonInstallationDirectory interpreterPath);
+
+    void releaseRobotCommandExecutor(PythonInstallationDirectory interpreterPath, RobotCommandExecutor executor);
+
     void resetExecutorFor(PythonInstallationDirectory location);
 
 }
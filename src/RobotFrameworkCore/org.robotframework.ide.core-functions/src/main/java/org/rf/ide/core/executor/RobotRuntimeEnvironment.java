@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.rf.ide.core.RedSystemProperties;
@@ -366,9 +367,24 @@ public class RobotRuntimeEnvironment {
     public void createLibdoc(final String libName, final File outputFile, final LibdocFormat format,
             final EnvironmentSearchPaths additionalPaths) throws RobotEnvironmentException {
         if (hasRobotInstalled()) {
-            final RobotCommandExecutor executor = executors
-                    .getRobotCommandExecutor((PythonInstallationDirectory) location);
-            executor.createLibdoc(libName, outputFile, format, additionalPaths);
+            callLongRunningCommand(executor -> {
+                executor.createLibdoc(libName, outputFile, format, additionalPaths);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Long-running commands are called using executor acquired only for the time of the call, so
+     * that they do not block interactive commands nor each other.
+     */
+    private <T> T callLongRunningCommand(final Function<RobotCommandExecutor, T> command) {
+        final PythonInstallationDirectory interpreterPath = (PythonInstallationDirectory) location;
+        final RobotCommandExecutor executor = executors.acquireRobotCommandExecutor(interpreterPath);
+        try {
+            return command.apply(executor);
+        } finally {
+            executors.releaseRobotCommandExecutor(interpreterPath, executor);
         }
     }
 
@@ -406,9 +422,7 @@ public class RobotRuntimeEnvironment {
 
     public SitePackagesLibraries getSitePackagesLibrariesNames() {
         if (hasRobotInstalled()) {
-            final RobotCommandExecutor executor = executors
-                    .getRobotCommandExecutor((PythonInstallationDirectory) location);
-            final List<List<String>> libs = executor.getSitePackagesLibrariesNames();
+            final List<List<String>> libs = callLongRunningCommand(RobotCommandExecutor::getSitePackagesLibrariesNames);
             return new SitePackagesLibraries(libs);
         }
         return new SitePackagesLibraries();
@@ -427,9 +441,7 @@ public class RobotRuntimeEnvironment {
     public List<String> getClassesFromModule(final File moduleLocation, final EnvironmentSearchPaths additionalPaths)
             throws RobotEnvironmentException {
         if (hasRobotInstalled()) {
-            final RobotCommandExecutor executor = executors
-                    .getRobotCommandExecutor((PythonInstallationDirectory) location);
-            return executor.getClassesFromModule(moduleLocation, additionalPaths);
+            return callLongRunningCommand(executor -> executor.getClassesFromModule(moduleLocation, additionalPaths));
         }
         return new ArrayList<>();
     }
@@ -446,9 +458,7 @@ public class RobotRuntimeEnvironment {
     public Map<String, Object> getVariablesFromFile(final String path, final List<String> args) {
         if (hasRobotInstalled()) {
             final String normalizedPath = path.replace('\\', '/');
-            final RobotCommandExecutor executor = executors
-                    .getRobotCommandExecutor((PythonInstallationDirectory) location);
-            return executor.getVariables(normalizedPath, args);
+            return callLongRunningCommand(executor -> executor.getVariables(normalizedPath, args));
         }
         return new LinkedHashMap<>();
     }
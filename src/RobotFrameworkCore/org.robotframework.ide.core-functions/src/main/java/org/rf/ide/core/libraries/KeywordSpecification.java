@@ -6,6 +6,7 @@
 package org.rf.ide.core.libraries;
 
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import javax.xml.bind.annotation.XmlAttribute;
@@ -27,6 +28,8 @@ public class KeywordSpecification {
     private String name;
     private String documentation;
 
+    private Supplier<String> documentationSupplier;
+
     private List<String> arguments;
 
     private Boolean isDeprecated;
@@ -40,13 +43,23 @@ public class KeywordSpecification {
         this.name = name;
     }
 
-    public String getDocumentation() {
+    public synchronized String getDocumentation() {
+        if (documentationSupplier != null) {
+            documentation = documentationSupplier.get();
+            documentationSupplier = null;
+        }
         return documentation;
     }
 
     @XmlElement(name = "doc")
-    public void setDocumentation(final String documentation) {
+    public synchronized void setDocumentation(final String documentation) {
         this.documentation = documentation;
+        this.documentationSupplier = null;
+    }
+
+    synchronized void setDocumentationSupplier(final Supplier<String> documentationSupplier) {
+        this.documentation = null;
+        this.documentationSupplier = documentationSupplier;
     }
 
     public List<String> getArguments() {
@@ -65,12 +78,17 @@ public class KeywordSpecification {
 
     public boolean isDeprecated() {
         if (isDeprecated == null) {
+            final String documentation = getDocumentation();
             isDeprecated = Boolean.valueOf(documentation != null
                     && Pattern.compile("^\\*deprecated[^\\n\\r]*\\*.*").matcher(documentation.toLowerCase()).find());
         }
         return isDeprecated.booleanValue();
     }
 
+    void setDeprecated(final boolean isDeprecated) {
+        this.isDeprecated = Boolean.valueOf(isDeprecated);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (obj == null) {
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.libraries;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+
+/**
+ * Binary cache of library specifications read from libspec xml files. Cached specification is
+ * valid as long as the xml file has the same modification time and size as when the cache was
+ * written. Cache file is read through memory mapping; only the documentation section is copied
+ * from it and kept as encoded bytes, which are decoded only when documentation of keyword is
+ * requested. Mapped file may stay locked until the mapping is garbage collected, so cache files are
+ * never overwritten: the name of cache file contains modification time and size of xml file and
+ * outdated cache files are removed when possible.
+ */
+public class LibrarySpecificationCache {
+
+    private static final int MAGIC_NUMBER = 0x5245444C;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final File cacheDirectory;
+
+    public LibrarySpecificationCache(final File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    public LibrarySpecification readSpecification(final File xmlLibspecFile) {
+        if (!xmlLibspecFile.isFile()) {
+            return LibrarySpecificationReader.readSpecification(xmlLibspecFile);
+        }
+        final long lastModified = xmlLibspecFile.lastModified();
+        final long length = xmlLibspecFile.length();
+        final File cacheFile = getCacheFile(xmlLibspecFile, lastModified, length);
+
+        final Optional<LibrarySpecification> cachedSpec = readCached(cacheFile, xmlLibspecFile, lastModified, length);
+        if (cachedSpec.isPresent()) {
+            return cachedSpec.get();
+        }
+        final LibrarySpecification spec = LibrarySpecificationReader.readSpecification(xmlLibspecFile);
+        writeCached(cacheFile, xmlLibspecFile, lastModified, length, spec);
+        return spec;
+    }
+
+    @VisibleForTesting
+    File getCacheFile(final File xmlLibspecFile) {
+        return getCacheFile(xmlLibspecFile, xmlLibspecFile.lastModified(), xmlLibspecFile.length());
+    }
+
+    private File getCacheFile(final File xmlLibspecFile, final long lastModified, final long length) {
+        return new File(cacheDirectory, getCacheFilePrefix(xmlLibspecFile) + Long.toHexString(lastModified) + "_"
+                + Long.toHexString(length) + ".bin");
+    }
+
+    private static String getCacheFilePrefix(final File xmlLibspecFile) {
+        final String path = xmlLibspecFile.getAbsolutePath();
+        return Hashing.murmur3_128().hashString(path, UTF_8).toString() + "_";
+    }
+
+    private static Optional<LibrarySpecification> readCached(final File cacheFile, final File xmlLibspecFile,
+            final long lastModified, final long length) {
+        if (!cacheFile.isFile()) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+            final ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != FORMAT_VERSION
+                    || buffer.getLong() != lastModified || buffer.getLong() != length
+                    || !xmlLibspecFile.getAbsolutePath().equals(readString(buffer))) {
+                return Optional.empty();
+            }
+            return Optional.of(decode(buffer));
+
+        } catch (final IOException | BufferUnderflowException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static LibrarySpecification decode(final ByteBuffer buffer) {
+        final LibrarySpecification spec = new LibrarySpecification();
+        spec.setName(readString(buffer));
+        spec.setScope(readString(buffer));
+        spec.setFormat(readString(buffer));
+        spec.setVersion(readString(buffer));
+        spec.setDocumentation(readString(buffer));
+        if (buffer.get() != 0) {
+            spec.setConstructor(LibraryConstructor.create(readString(buffer), readStrings(buffer)));
+        }
+
+        final int keywordsCount = buffer.getInt();
+        final List<KeywordSpecification> keywords = new ArrayList<>(keywordsCount);
+        final int[] docsOffsets = new int[keywordsCount];
+        final int[] docsLengths = new int[keywordsCount];
+        for (int i = 0; i < keywordsCount; i++) {
+            final KeywordSpecification keyword = KeywordSpecification.create(readString(buffer));
+            keyword.setArguments(readStrings(buffer));
+            keyword.setDeprecated(buffer.get() != 0);
+            docsOffsets[i] = buffer.getInt();
+            docsLengths[i] = buffer.getInt();
+            keywords.add(keyword);
+        }
+
+        // only the documentation section is copied out of mapped file and referenced by suppliers
+        final int docsLength = buffer.getInt();
+        if (docsLength < 0 || docsLength > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final byte[] docs = new byte[docsLength];
+        buffer.get(docs);
+        for (int i = 0; i < keywordsCount; i++) {
+            final int offset = docsOffsets[i];
+            final int length = docsLengths[i];
+            if (length >= 0) {
+                if (offset < 0 || offset + length > docsLength) {
+                    throw new BufferUnderflowException();
+                }
+                keywords.get(i).setDocumentationSupplier(() -> new String(docs, offset, length, UTF_8));
+            }
+        }
+        spec.setKeywords(keywords);
+        return spec;
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static List<String> readStrings(final ByteBuffer buffer) {
+        final int size = buffer.getInt();
+        if (size < 0) {
+            return null;
+        }
+        final List<String> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            strings.add(readString(buffer));
+        }
+        return strings;
+    }
+
+    private static void writeCached(final File cacheFile, final File xmlLibspecFile, final long lastModified,
+            final long length, final LibrarySpecification spec) {
+        File tmpFile = null;
+        try {
+            Files.createDirectories(cacheFile.getParentFile().toPath());
+            tmpFile = File.createTempFile("libspec", ".tmp", cacheFile.getParentFile());
+            Files.write(tmpFile.toPath(), encode(xmlLibspecFile, lastModified, length, spec));
+            Files.move(tmpFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            removeOutdatedCacheFiles(cacheFile, xmlLibspecFile);
+
+        } catch (final IOException e) {
+            // the specification will be read from xml file next time
+            if (tmpFile != null) {
+                tmpFile.delete();
+            }
+        }
+    }
+
+    private static void removeOutdatedCacheFiles(final File cacheFile, final File xmlLibspecFile) {
+        final String prefix = getCacheFilePrefix(xmlLibspecFile);
+        final File[] outdatedFiles = cacheFile.getParentFile()
+                .listFiles(file -> file.getName().startsWith(prefix) && !file.equals(cacheFile));
+        if (outdatedFiles != null) {
+            for (final File outdatedFile : outdatedFiles) {
+                // removal fails when the file is still mapped; it will be retried with next update
+                outdatedFile.delete();
+            }
+        }
+    }
+
+    private static byte[] encode(final File xmlLibspecFile, final long lastModified, final long length,
+            final LibrarySpecification spec) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeLong(lastModified);
+        output.writeLong(length);
+        writeString(output, xmlLibspecFile.getAbsolutePath());
+
+        writeString(output, spec.getName());
+        writeString(output, spec.getScope());
+        writeString(output, spec.getFormat());
+        writeString(output, spec.getVersion());
+        writeString(output, spec.getDocumentation());
+        final LibraryConstructor constructor = spec.getConstructor();
+        output.writeByte(constructor == null ? 0 : 1);
+        if (constructor != null) {
+            writeString(output, constructor.getDocumentation());
+            writeStrings(output, constructor.getArguments());
+        }
+
+        final List<KeywordSpecification> keywords = spec.getKeywords() == null ? new ArrayList<>()
+                : spec.getKeywords();
+        final ByteArrayOutputStream docs = new ByteArrayOutputStream();
+        output.writeInt(keywords.size());
+        for (final KeywordSpecification keyword : keywords) {
+            writeString(output, keyword.getName());
+            writeStrings(output, keyword.getArguments());
+            output.writeByte(keyword.isDeprecated() ? 1 : 0);
+
+            final String documentation = keyword.getDocumentation();
+            if (documentation == null) {
+                output.writeInt(0);
+                output.writeInt(-1);
+            } else {
+                final byte[] docBytes = documentation.getBytes(UTF_8);
+                output.writeInt(docs.size());
+                output.writeInt(docBytes.length);
+                docs.write(docBytes);
+            }
+        }
+        output.writeInt(docs.size());
+        docs.writeTo(output);
+
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(final DataOutputStream output, final String string) throws IOException {
+        if (string == null) {
+            output.writeInt(-1);
+        } else {
+            final byte[] bytes = string.getBytes(UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static void writeStrings(final DataOutputStream output, final List<String> strings) throws IOException {
+        if (strings == null) {
+            output.writeInt(-1);
+        } else {
+            output.writeInt(strings.size());
+            for (final String string : strings) {
+                writeString(output, string);
+            }
+        }
+    }
+}
@@ -13,10 +13,19 @@ import javax.xml.bind.Unmarshaller;
 
 public class LibrarySpecificationReader {
 
+    private static JAXBContext jaxbContext;
+
+    private static synchronized JAXBContext getContext() throws JAXBException {
+        // creating the context is expensive, while the context itself is thread-safe
+        if (jaxbContext == null) {
+            jaxbContext = JAXBContext.newInstance(LibrarySpecification.class);
+        }
+        return jaxbContext;
+    }
+
     public static LibrarySpecification readSpecification(final File xmlLibspecFile) {
         try {
-            final JAXBContext jaxbContext = JAXBContext.newInstance(LibrarySpecification.class);
-            final Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
+            final Unmarshaller jaxbUnmarshaller = getContext().createUnmarshaller();
             return (LibrarySpecification) jaxbUnmarshaller.unmarshal(xmlLibspecFile);
 
         } catch (final JAXBException e) {
@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.rf.ide.core.testdata.text.read.IRobotLineElement;
 import org.rf.ide.core.testdata.text.read.RobotLine;
@@ -26,12 +27,40 @@ public class DumpedResultBuilder implements ILineDumpTokenListener {
 
     private final Map<RobotToken, RobotToken> oldToNewTokenMappingTmp = new IdentityHashMap<>();
 
+    private List<ChangedRegion> changedRegions;
+
     public DumpedResultBuilder producedLines(final List<RobotLine> lines) {
         this.lines = lines;
 
         return this;
     }
 
+    /**
+     * Marks that produced lines were dumped incrementally, so the built result will describe all
+     * changed lines reported by {@link #addChangedLines(int, int, int, int, int, int)}.
+     */
+    public DumpedResultBuilder trackChangedLines() {
+        this.changedRegions = new ArrayList<>();
+
+        return this;
+    }
+
+    public DumpedResultBuilder addChangedLines(final int previousFirstLine, final int previousLinesCount,
+            final int previousOffset, final int previousLength, final int newFirstLine, final int newLinesCount) {
+        final ChangedRegion last = changedRegions.isEmpty() ? null : changedRegions.get(changedRegions.size() - 1);
+        if (last != null && last.previousFirstLine + last.previousLinesCount == previousFirstLine
+                && last.newFirstLine + last.newLinesCount == newFirstLine) {
+            last.previousLinesCount += previousLinesCount;
+            last.previousLength += previousLength;
+            last.newLinesCount += newLinesCount;
+        } else {
+            changedRegions.add(new ChangedRegion(previousFirstLine, previousLinesCount, previousOffset,
+                    previousLength, newFirstLine, newLinesCount));
+        }
+
+        return this;
+    }
+
     public DumpedResultBuilder addMapNewToOld(final RobotToken oldModelToken, final RobotToken newRecalculatedToken) {
         oldToNewTokenMappingTmp.put(oldModelToken, newRecalculatedToken);
 
@@ -47,10 +76,14 @@ public class DumpedResultBuilder implements ILineDumpTokenListener {
 
         private String dumpedContent;
 
+        private int[] linesOffsets;
+
         private List<RobotLine> lines;
 
         private final Map<RobotToken, RobotToken> oldToNewTokenMapping = new IdentityHashMap<>();
 
+        private List<ChangedLines> changedLines;
+
         private void setDumpedContent(final String dumpedContent) {
             this.dumpedContent = dumpedContent;
         }
@@ -67,6 +100,10 @@ public class DumpedResultBuilder implements ILineDumpTokenListener {
             return this.lines;
         }
 
+        private void setLinesOffsets(final int[] linesOffsets) {
+            this.linesOffsets = linesOffsets;
+        }
+
         private void setOldToNewMapping(final Map<RobotToken, RobotToken> mapping) {
             this.oldToNewTokenMapping.putAll(mapping);
         }
@@ -74,13 +111,197 @@ public class DumpedResultBuilder implements ILineDumpTokenListener {
         public Map<RobotToken, RobotToken> mappingBetweenOldAndNewTokens() {
             return Collections.unmodifiableMap(oldToNewTokenMapping);
         }
+
+        private void setChangedLines(final List<ChangedLines> changedLines) {
+            this.changedLines = changedLines;
+        }
+
+        /**
+         * Returns the ranges of lines which were dumped from changed model elements, ordered by their
+         * position. All the other lines were copied verbatim from content of the model, so replacing
+         * those ranges in previous content gives dumped content. The result is present only when
+         * model was dumped incrementally; whole model may still be dumped when its structure does not
+         * correspond to file content any longer, e.g. after adding elements or tables.
+         *
+         * @return Changed lines ranges or empty optional when whole model was dumped
+         */
+        public Optional<List<ChangedLines>> changedLines() {
+            return Optional.ofNullable(changedLines).map(Collections::unmodifiableList);
+        }
+
+        /**
+         * Finds the range of lines which have to be replaced in given previous content in order to
+         * obtain dumped content. Lines which are the same at the beginning and at the end of both
+         * contents are not part of the range, so the result can be applied as a minimal edit.
+         * <p>
+         * This is useful when whole model was dumped; incremental dump reports the changed ranges
+         * directly, see {@link #changedLines()}.
+         *
+         * @param previousContent
+         *            Content from which the model was read, e.g. the content of source document
+         * @return Changed lines range
+         */
+        public ChangedLines changedLinesComparedTo(final String previousContent) {
+            final int[] previousOffsets = findLinesOffsets(previousContent);
+            final int previousLinesCount = previousOffsets.length - 1;
+            final int newLinesCount = linesOffsets.length - 1;
+
+            int commonPrefix = 0;
+            while (commonPrefix < previousLinesCount && commonPrefix < newLinesCount
+                    && isSameLine(previousContent, previousOffsets, commonPrefix, commonPrefix)) {
+                commonPrefix++;
+            }
+            int commonSuffix = 0;
+            while (commonSuffix < previousLinesCount - commonPrefix && commonSuffix < newLinesCount - commonPrefix
+                    && isSameLine(previousContent, previousOffsets, previousLinesCount - 1 - commonSuffix,
+                            newLinesCount - 1 - commonSuffix)) {
+                commonSuffix++;
+            }
+
+            final int offset = previousOffsets[commonPrefix];
+            final int length = previousOffsets[previousLinesCount - commonSuffix] - offset;
+            final String text = dumpedContent.substring(linesOffsets[commonPrefix],
+                    linesOffsets[newLinesCount - commonSuffix]);
+            return new ChangedLines(commonPrefix, previousLinesCount - commonPrefix - commonSuffix,
+                    newLinesCount - commonPrefix - commonSuffix, offset, length, text);
+        }
+
+        private boolean isSameLine(final String previousContent, final int[] previousOffsets, final int previousLine,
+                final int newLine) {
+            final int previousStart = previousOffsets[previousLine];
+            final int previousLength = previousOffsets[previousLine + 1] - previousStart;
+            final int newStart = linesOffsets[newLine];
+            final int newLength = linesOffsets[newLine + 1] - newStart;
+            return previousLength == newLength
+                    && previousContent.regionMatches(previousStart, dumpedContent, newStart, newLength);
+        }
+
+        private static int[] findLinesOffsets(final String content) {
+            final List<Integer> offsets = new ArrayList<>();
+            offsets.add(0);
+            final int length = content.length();
+            for (int i = 0; i < length; i++) {
+                final char c = content.charAt(i);
+                if (c == '\r' && i + 1 < length && content.charAt(i + 1) == '\n') {
+                    i++;
+                    offsets.add(i + 1);
+                } else if (c == '\r' || c == '\n') {
+                    offsets.add(i + 1);
+                }
+            }
+            if (offsets.get(offsets.size() - 1) != length) {
+                offsets.add(length);
+            }
+            return offsets.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    private static class ChangedRegion {
+
+        private final int previousFirstLine;
+
+        private int previousLinesCount;
+
+        private final int previousOffset;
+
+        private int previousLength;
+
+        private final int newFirstLine;
+
+        private int newLinesCount;
+
+        ChangedRegion(final int previousFirstLine, final int previousLinesCount, final int previousOffset,
+                final int previousLength, final int newFirstLine, final int newLinesCount) {
+            this.previousFirstLine = previousFirstLine;
+            this.previousLinesCount = previousLinesCount;
+            this.previousOffset = previousOffset;
+            this.previousLength = previousLength;
+            this.newFirstLine = newFirstLine;
+            this.newLinesCount = newLinesCount;
+        }
+
+        ChangedLines toChangedLines(final String dumpedContent, final int[] linesOffsets) {
+            final String text = dumpedContent.substring(linesOffsets[newFirstLine],
+                    linesOffsets[newFirstLine + newLinesCount]);
+            return new ChangedLines(previousFirstLine, previousLinesCount, newLinesCount, previousOffset,
+                    previousLength, text);
+        }
     }
 
-    private String dump(final List<RobotLine> lines) {
+    /**
+     * Range of lines of previous content which were replaced by lines of dumped content.
+     */
+    public static class ChangedLines {
+
+        private final int firstLine;
+
+        private final int previousLinesCount;
+
+        private final int newLinesCount;
+
+        private final int offset;
+
+        private final int length;
+
+        private final String text;
+
+        ChangedLines(final int firstLine, final int previousLinesCount, final int newLinesCount, final int offset,
+                final int length, final String text) {
+            this.firstLine = firstLine;
+            this.previousLinesCount = previousLinesCount;
+            this.newLinesCount = newLinesCount;
+            this.offset = offset;
+            this.length = length;
+            this.text = text;
+        }
+
+        public boolean isEmpty() {
+            return length == 0 && text.isEmpty();
+        }
+
+        /**
+         * @return zero-based index of first changed line
+         */
+        public int getFirstLine() {
+            return firstLine;
+        }
+
+        public int getPreviousLinesCount() {
+            return previousLinesCount;
+        }
+
+        public int getNewLinesCount() {
+            return newLinesCount;
+        }
+
+        /**
+         * @return offset of changed region in previous content
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return length of changed region in previous content
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * @return text which should replace changed region of previous content
+         */
+        public String getText() {
+            return text;
+        }
+    }
+
+    private String dump(final List<RobotLine> lines, final int[] linesOffsets) {
         final StringBuilder strLine = new StringBuilder();
 
         final int nrOfLines = lines.size();
         for (int i = 0; i < nrOfLines; i++) {
+            linesOffsets[i] = strLine.length();
             final RobotLine line = lines.get(i);
             for (final IRobotLineElement elem : line.getLineElements()) {
                 if (elem instanceof Separator) {
@@ -92,6 +313,7 @@ public class DumpedResultBuilder implements ILineDumpTokenListener {
 
             strLine.append(line.getEndOfLine().getText());
         }
+        linesOffsets[nrOfLines] = strLine.length();
 
         return strLine.toString();
     }
@@ -103,8 +325,17 @@ public class DumpedResultBuilder implements ILineDumpTokenListener {
         } else {
             builded.setLines(lines);
         }
-        builded.setDumpedContent(dump(builded.newProducedLines()));
+        final int[] linesOffsets = new int[builded.newProducedLines().size() + 1];
+        builded.setDumpedContent(dump(builded.newProducedLines(), linesOffsets));
+        builded.setLinesOffsets(linesOffsets);
         builded.setOldToNewMapping(oldToNewTokenMappingTmp);
+        if (changedRegions != null) {
+            final List<ChangedLines> changedLines = new ArrayList<>();
+            for (final ChangedRegion region : changedRegions) {
+                changedLines.add(region.toChangedLines(builded.newContent(), linesOffsets));
+            }
+            builded.setChangedLines(changedLines);
+        }
         return builded;
     }
 }
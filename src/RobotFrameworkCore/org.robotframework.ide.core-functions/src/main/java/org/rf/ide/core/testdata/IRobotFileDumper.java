@@ -21,5 +21,17 @@ public interface IRobotFileDumper {
 
     DumpedResult dumpToResultObject(final RobotFile model);
 
+    /**
+     * Dumps only those elements of given model which were changed since the model was read, lines of
+     * all the other elements are copied from file content. Whole model is dumped when changed lines
+     * cannot be found.
+     *
+     * @param model
+     *            Model to dump
+     * @return Dumped result describing changed lines
+     * @see DumpedResult#changedLines()
+     */
+    DumpedResult dumpIncrementallyToResultObject(final RobotFile model);
+
     void setContext(final DumpContext ctx);
 }
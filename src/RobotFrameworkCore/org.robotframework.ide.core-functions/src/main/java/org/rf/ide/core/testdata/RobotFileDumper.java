@@ -48,6 +48,11 @@ public class RobotFileDumper {
         return dumper.dumpToResultObject(output.getFileModel());
     }
 
+    public DumpedResult dumpIncrementallyToResultObject(final RobotFileOutput output) {
+        final IRobotFileDumper dumper = prepareDumper(output);
+        return dumper.dumpIncrementallyToResultObject(output.getFileModel());
+    }
+
     private IRobotFileDumper prepareDumper(final RobotFileOutput output) {
         File fake = null;
         if (output.getFileFormat() == FileFormat.TSV) {
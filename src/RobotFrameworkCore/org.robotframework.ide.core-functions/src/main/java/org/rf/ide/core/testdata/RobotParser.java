@@ -10,6 +10,7 @@ import java.io.File;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
 import org.rf.ide.core.testdata.importer.ResourceImporter;
@@ -21,6 +22,7 @@ import org.rf.ide.core.testdata.model.RobotFileOutput.BuildMessage;
 import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
 import org.rf.ide.core.testdata.model.RobotProjectHolder;
 import org.rf.ide.core.testdata.model.RobotVersion;
+import org.rf.ide.core.testdata.text.read.IncrementalRobotFileReparser;
 import org.rf.ide.core.testdata.text.read.TsvRobotFileParser;
 import org.rf.ide.core.testdata.text.read.TxtRobotFileParser;
 
@@ -118,6 +120,43 @@ public class RobotParser {
         return robotFile;
     }
 
+    /**
+     * Should be used for unsaved editor content, when the output of parsing the content before the
+     * change is available. Only the test case or keyword affected by the change is parsed, while the
+     * rest of new output is built from given output. When the change cannot be handled in such way
+     * (e.g. table header was changed), whole content is parsed as in
+     * {@link #parseEditorContent(String, File)}.
+     * 
+     * @param previousOutput
+     *            output of parsing the content before the change, it is not modified; new output may
+     *            share tokens of unchanged part of the content with it
+     * @param fileContent
+     *            content after the change
+     * @param fileOrDir
+     * @param damageOffset
+     *            offset at which the change starts
+     * @param replacedLength
+     *            length of the text replaced by the change
+     * @param insertedLength
+     *            length of the text inserted by the change
+     * @return new output for given content
+     */
+    public RobotFileOutput reparseEditorContent(final RobotFileOutput previousOutput, final String fileContent,
+            final File fileOrDir, final int damageOffset, final int replacedLength, final int insertedLength) {
+        if (previousOutput != null && fileContent != null) {
+            final IRobotFileParser parserToUse = getParser(fileOrDir, true);
+            if (parserToUse != null) {
+                final Optional<RobotFileOutput> output = new IncrementalRobotFileReparser(parserToUse).reparse(
+                        previousOutput, fileContent, fileOrDir, damageOffset, replacedLength, insertedLength);
+                if (output.isPresent()) {
+                    importExternal(output.get());
+                    return output.get();
+                }
+            }
+        }
+        return parseEditorContent(fileContent, fileOrDir);
+    }
+
     public List<RobotFileOutput> parse(final File fileOrDir) {
         final List<RobotFileOutput> output = new ArrayList<>();
         parse(fileOrDir, output);
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.table.RobotExecutableRow;
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
@@ -180,4 +181,12 @@ public abstract class AKeywordBaseSetting<T> extends AModelElement<T> implements
     public abstract IRobotTokenType getKeywordNameType();
 
     public abstract IRobotTokenType getArgumentType();
+
+    protected <S extends AKeywordBaseSetting<T>> S copyTo(final S copy, final UnaryOperator<RobotToken> tokens) {
+        final AKeywordBaseSetting<T> setting = copy;
+        setting.keywordName = copyToken(keywordName, tokens);
+        copyTokens(arguments, setting.arguments, tokens);
+        copyTokens(comment, setting.comment, tokens);
+        return copy;
+    }
 }
@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
@@ -87,6 +88,30 @@ public abstract class AModelElement<T> implements IOptional, IChildElement<T> {
         return pos;
     }
 
+    /**
+     * Creates a copy of this element which is not attached to any parent. The copy holds tokens
+     * returned by given function for each token of this element, so those may be either shared
+     * with this element or replaced (e.g. by tokens placed at different positions).
+     *
+     * @param tokens
+     *            function providing token to be placed in the copy for the token of this element
+     * @return copy of this element
+     */
+    public AModelElement<T> copy(final UnaryOperator<RobotToken> tokens) {
+        throw new UnsupportedOperationException("Operation not supported for " + this.getClass().getName() + " type");
+    }
+
+    protected static RobotToken copyToken(final RobotToken token, final UnaryOperator<RobotToken> tokens) {
+        return token == null ? null : tokens.apply(token);
+    }
+
+    protected static void copyTokens(final List<RobotToken> source, final List<RobotToken> target,
+            final UnaryOperator<RobotToken> tokens) {
+        for (final RobotToken token : source) {
+            target.add(tokens.apply(token));
+        }
+    }
+
     protected void fixComment(final List<RobotToken> comment, final RobotToken rt) {
         if (comment.isEmpty() && !rt.getText().startsWith("#")) {
             rt.setText("#" + rt.getText());
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
@@ -153,4 +154,11 @@ public abstract class ATags<T> extends AModelElement<T> implements ICommentHolde
     public abstract IRobotTokenType getTagType();
 
     public abstract IRobotTokenType getDeclarationTagType();
+
+    protected <S extends ATags<T>> S copyTo(final S copy, final UnaryOperator<RobotToken> tokens) {
+        final ATags<T> tags = copy;
+        copyTokens(this.tags, tags.tags, tokens);
+        copyTokens(comment, tags.comment, tokens);
+        return copy;
+    }
 }
@@ -6,10 +6,14 @@
 package org.rf.ide.core.testdata.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
@@ -17,6 +21,10 @@ import com.google.common.annotations.VisibleForTesting;
 /**
  * Please considerate to move this logic to global region cacher, in case of refactor API will be
  * made
+ * <p>
+ * Regions are looked up in interval trees built on first search after cache content was changed.
+ * Regions are computed from current model positions, so the trees have to be invalidated whenever
+ * the model lines are modified.
  * 
  * @author wypych
  */
@@ -25,6 +33,8 @@ public class FileRegionCacher<T> {
 
     private final Set<IRegionCacheable<T>> cache = new LinkedHashSet<IRegionCacheable<T>>(0);
 
+    private volatile RegionsIndex<T> index;
+
     public void register(final IRegionCacheable<T> newCacheable) {
         unregister(newCacheable);
         cache.add(newCacheable);
@@ -32,13 +42,19 @@ public class FileRegionCacher<T> {
 
     public void unregister(final IRegionCacheable<T> removeCacheable) {
         cache.remove(removeCacheable);
+        invalidate();
+    }
+
+    public void invalidate() {
+        index = null;
     }
 
     public List<IRegionCacheable<T>> findByLineNumber(final int lineNumber) {
         final List<IRegionCacheable<T>> inPosition = new ArrayList<IRegionCacheable<T>>(0);
 
         if (lineNumber > FilePosition.NOT_SET) {
-            for (final IRegionCacheable<T> cacheElement : cache) {
+            final RegionsIndex<T> regionsIndex = getIndex();
+            for (final IRegionCacheable<T> cacheElement : regionsIndex.find(regionsIndex.linesTree, lineNumber)) {
                 if (isRegionContainsLine(cacheElement, lineNumber)) {
                     inPosition.add(cacheElement);
                 }
@@ -52,7 +68,8 @@ public class FileRegionCacher<T> {
         final List<IRegionCacheable<T>> inPosition = new ArrayList<IRegionCacheable<T>>(0);
 
         if (offset > FilePosition.NOT_SET) {
-            for (final IRegionCacheable<T> cacheElement : cache) {
+            final RegionsIndex<T> regionsIndex = getIndex();
+            for (final IRegionCacheable<T> cacheElement : regionsIndex.find(regionsIndex.offsetsTree, offset)) {
                 if (isRegionContainsOffset(cacheElement, offset)) {
                     inPosition.add(cacheElement);
                 }
@@ -62,6 +79,15 @@ public class FileRegionCacher<T> {
         return inPosition;
     }
 
+    private RegionsIndex<T> getIndex() {
+        RegionsIndex<T> regionsIndex = index;
+        if (regionsIndex == null) {
+            regionsIndex = new RegionsIndex<>(new ArrayList<>(cache));
+            index = regionsIndex;
+        }
+        return regionsIndex;
+    }
+
     @VisibleForTesting
     public Set<IRegionCacheable<T>> getUnmodificableCacheContent() {
         return Collections.unmodifiableSet(cache);
@@ -86,4 +112,116 @@ public class FileRegionCacher<T> {
 
         return false;
     }
+
+    private static final class RegionsIndex<T> {
+
+        private final List<IRegionCacheable<T>> cacheables;
+
+        private final IntervalTree offsetsTree;
+
+        private final IntervalTree linesTree;
+
+        private RegionsIndex(final List<IRegionCacheable<T>> cacheables) {
+            this.cacheables = cacheables;
+
+            final List<Interval> offsets = new ArrayList<>();
+            final List<Interval> lines = new ArrayList<>();
+            for (int i = 0; i < cacheables.size(); i++) {
+                for (final FileRegion region : cacheables.get(i).getContinuousRegions()) {
+                    addInterval(offsets, region, FilePosition::getOffset, i);
+                    addInterval(lines, region, FilePosition::getLine, i);
+                }
+            }
+            this.offsetsTree = new IntervalTree(offsets);
+            this.linesTree = new IntervalTree(lines);
+        }
+
+        private static void addInterval(final List<Interval> intervals, final FileRegion region,
+                final ToIntFunction<FilePosition> coordinate, final int owner) {
+            if (region.getStart() != null && region.getEnd() != null) {
+                final int start = coordinate.applyAsInt(region.getStart());
+                final int end = coordinate.applyAsInt(region.getEnd());
+                if (start <= end) {
+                    intervals.add(new Interval(start, end, owner));
+                }
+            }
+        }
+
+        private List<IRegionCacheable<T>> find(final IntervalTree tree, final int point) {
+            // owners are kept in registration order, as in the cache itself
+            final Set<Integer> owners = new TreeSet<>();
+            tree.collectOwners(point, owners);
+
+            final List<IRegionCacheable<T>> found = new ArrayList<>(owners.size());
+            for (final Integer owner : owners) {
+                found.add(cacheables.get(owner));
+            }
+            return found;
+        }
+    }
+
+    private static final class Interval {
+
+        private final int start;
+
+        private final int end;
+
+        private final int owner;
+
+        private Interval(final int start, final int end, final int owner) {
+            this.start = start;
+            this.end = end;
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * Closed intervals sorted by start, forming implicit balanced binary tree, where each node knows
+     * the greatest end of intervals in its subtree.
+     */
+    private static final class IntervalTree {
+
+        private final Interval[] intervals;
+
+        private final int[] maxEnds;
+
+        private IntervalTree(final List<Interval> intervals) {
+            this.intervals = intervals.toArray(new Interval[0]);
+            Arrays.sort(this.intervals, Comparator.comparingInt(interval -> interval.start));
+            this.maxEnds = new int[this.intervals.length];
+            computeMaxEnds(0, this.intervals.length - 1);
+        }
+
+        private int computeMaxEnds(final int low, final int high) {
+            if (low > high) {
+                return Integer.MIN_VALUE;
+            }
+            final int middle = (low + high) >>> 1;
+            maxEnds[middle] = Math.max(intervals[middle].end,
+                    Math.max(computeMaxEnds(low, middle - 1), computeMaxEnds(middle + 1, high)));
+            return maxEnds[middle];
+        }
+
+        private void collectOwners(final int point, final Set<Integer> owners) {
+            collectOwners(0, intervals.length - 1, point, owners);
+        }
+
+        private void collectOwners(final int low, final int high, final int point, final Set<Integer> owners) {
+            if (low > high) {
+                return;
+            }
+            final int middle = (low + high) >>> 1;
+            if (maxEnds[middle] < point) {
+                return;
+            }
+            collectOwners(low, middle - 1, point, owners);
+            final Interval interval = intervals[middle];
+            if (interval.start <= point) {
+                if (point <= interval.end) {
+                    owners.add(interval.owner);
+                }
+                collectOwners(middle + 1, high, point, owners);
+            }
+        }
+    }
 }
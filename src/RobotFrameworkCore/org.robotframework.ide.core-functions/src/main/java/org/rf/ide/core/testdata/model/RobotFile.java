@@ -6,6 +6,7 @@
 package org.rf.ide.core.testdata.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +41,9 @@ public class RobotFile implements IChildElement<RobotFileOutput> {
 
     private final List<RobotLine> fileContent = new ArrayList<>();
 
+    // lazily built, dropped whenever lines are added
+    private volatile LinesOffsetsIndex linesOffsetsIndex;
+
     public RobotFile(final RobotFileOutput parentFileOutput) {
         this.parentFileOutput = parentFileOutput;
 
@@ -62,6 +66,7 @@ public class RobotFile implements IChildElement<RobotFileOutput> {
         }
 
         fileContent.clear();
+        contentChanged();
     }
 
     public List<RobotLine> getFileContent() {
@@ -70,27 +75,119 @@ public class RobotFile implements IChildElement<RobotFileOutput> {
 
     public void addNewLine(final RobotLine line) {
         this.fileContent.add(line);
+        contentChanged();
+    }
+
+    private void contentChanged() {
+        linesOffsetsIndex = null;
+        if (parentFileOutput != null) {
+            parentFileOutput.getDocumentationCacher().invalidate();
+        }
     }
 
+    /**
+     * Finds index of line containing given offset. Lines are looked up by binary search in the index
+     * of lines offsets, which is built on first use. As lines may be modified in place, the found line
+     * is verified and the index is rebuilt once when it is not matching current lines.
+     */
     public Optional<Integer> getRobotLineIndexBy(final int offset) {
-        Optional<Integer> foundLine = Optional.empty();
-        if (offset >= 0) {
-            final List<RobotLine> robotLines = getFileContent();
-            final int numberOfLines = robotLines.size();
+        if (offset < 0) {
+            return Optional.empty();
+        }
+        final List<RobotLine> lines = fileContent;
+        LinesOffsetsIndex index = linesOffsetsIndex;
+        boolean isFreshIndex = false;
+        if (index == null || index.numberOfLines != lines.size()) {
+            index = buildLinesOffsetsIndex(lines);
+            isFreshIndex = true;
+        }
+
+        Optional<Integer> foundLine = index.find(lines, offset);
+        if (!foundLine.isPresent() && !isFreshIndex) {
+            index = buildLinesOffsetsIndex(lines);
+            foundLine = index.find(lines, offset);
+        }
+        return foundLine;
+    }
+
+    private LinesOffsetsIndex buildLinesOffsetsIndex(final List<RobotLine> lines) {
+        final LinesOffsetsIndex index = new LinesOffsetsIndex(lines);
+        linesOffsetsIndex = index;
+        return index;
+    }
+
+    private static int getLineStartOffset(final RobotLine line) {
+        return line.getLineElements().isEmpty() ? line.getEndOfLine().getStartOffset()
+                : line.getLineElements().get(0).getStartOffset();
+    }
+
+    private static int getLineEndOffset(final RobotLine line) {
+        return line.getEndOfLine().getStartOffset() + line.getEndOfLine().getText().length();
+    }
+
+    private static boolean containsOffset(final RobotLine line, final int offset) {
+        return getLineStartOffset(line) <= offset && offset < getLineEndOffset(line);
+    }
+
+    /**
+     * Start offsets of non-empty lines sorted ascending, together with indexes of those lines. When
+     * lines are overlapping or are not ordered by offsets the index falls back to linear search.
+     */
+    private static final class LinesOffsetsIndex {
+
+        private final int numberOfLines;
+
+        private final int[] startOffsets;
+
+        private final int[] lineIndexes;
+
+        private final boolean isSorted;
+
+        private LinesOffsetsIndex(final List<RobotLine> lines) {
+            this.numberOfLines = lines.size();
+
+            final int[] starts = new int[numberOfLines];
+            final int[] indexes = new int[numberOfLines];
+            int size = 0;
+            int previousEnd = Integer.MIN_VALUE;
+            boolean sorted = true;
             for (int lineIndex = 0; lineIndex < numberOfLines; lineIndex++) {
-                final RobotLine line = robotLines.get(lineIndex);
-                final int eolStartOffset = line.getEndOfLine().getStartOffset();
-                final int start = (line.getLineElements().isEmpty()) ? eolStartOffset
-                        : line.getLineElements().get(0).getStartOffset();
-                final int end = eolStartOffset + line.getEndOfLine().getText().length();
-                if (start <= offset && offset < end) {
-                    foundLine = Optional.of(lineIndex);
-                    break;
+                final RobotLine line = lines.get(lineIndex);
+                final int start = getLineStartOffset(line);
+                final int end = getLineEndOffset(line);
+                if (start < end) {
+                    sorted &= previousEnd <= start;
+                    previousEnd = end;
+                    starts[size] = start;
+                    indexes[size] = lineIndex;
+                    size++;
                 }
             }
+            this.startOffsets = Arrays.copyOf(starts, size);
+            this.lineIndexes = Arrays.copyOf(indexes, size);
+            this.isSorted = sorted;
         }
 
-        return foundLine;
+        private Optional<Integer> find(final List<RobotLine> lines, final int offset) {
+            if (!isSorted) {
+                for (int lineIndex = 0; lineIndex < lines.size(); lineIndex++) {
+                    if (containsOffset(lines.get(lineIndex), offset)) {
+                        return Optional.of(lineIndex);
+                    }
+                }
+                return Optional.empty();
+            }
+
+            final int position = Arrays.binarySearch(startOffsets, offset);
+            final int candidate = position >= 0 ? position : -position - 2;
+            if (candidate >= 0) {
+                final int lineIndex = lineIndexes[candidate];
+                if (lineIndex < lines.size() && containsOffset(lines.get(lineIndex), offset)) {
+                    return Optional.of(lineIndex);
+                }
+            }
+            return Optional.empty();
+        }
     }
 
     public SettingTable getSettingTable() {
@@ -8,12 +8,18 @@ package org.rf.ide.core.testdata.model;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 
+import org.rf.ide.core.RedSystemProperties;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment;
 import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
 import org.rf.ide.core.project.RobotProjectConfig;
@@ -33,7 +39,18 @@ public class RobotProjectHolder {
 
     private RobotProjectConfig currentConfiguration;
 
-    private final List<RobotFileOutput> readableProjectFiles = new ArrayList<>();
+    // parsed files keyed by normalized absolute path in the order in which they were added; the
+    // oldest files are evicted when the limit is exceeded and will be parsed again when needed
+    private final Map<String, RobotFileOutput> readableProjectFiles;
+
+    // parsed files which do not have processed file, so they cannot be keyed by path
+    private final List<RobotFileOutput> filesWithoutPath = new CopyOnWriteArrayList<>();
+
+    // paths of variables files mapped to paths of parsed files importing them, in order of indexing
+    private final Map<String, Set<String>> variablesFilesImporters = new ConcurrentHashMap<>();
+
+    // parsed files which variables imports are already present in the index above
+    private final Set<RobotFileOutput> indexedFiles = ConcurrentHashMap.newKeySet();
 
     private List<ARobotInternalVariable<?>> globalVariables = new ArrayList<>();
 
@@ -43,11 +60,17 @@ public class RobotProjectHolder {
 
     @VisibleForTesting
     public RobotProjectHolder() {
-        this.robotRuntime = null;
+        this(null);
     }
 
     public RobotProjectHolder(final RobotRuntimeEnvironment robotRuntime) {
+        this(robotRuntime, RedSystemProperties.getParsedFilesCacheSize());
+    }
+
+    @VisibleForTesting
+    RobotProjectHolder(final RobotRuntimeEnvironment robotRuntime, final int maxModelFiles) {
         this.robotRuntime = robotRuntime;
+        this.readableProjectFiles = Collections.synchronizedMap(new ModelFilesMap(maxModelFiles));
     }
 
     public void configure(final RobotProjectConfig configuration, final File projectLocation) {
@@ -132,20 +155,38 @@ public class RobotProjectHolder {
         if (robotOutput != null) {
             final File processedFile = robotOutput.getProcessedFile();
             if (processedFile != null) {
-                final RobotFileOutput file = findFileByName(processedFile);
-                removeModelFile(file);
+                final String key = toKey(processedFile);
+                synchronized (readableProjectFiles) {
+                    // replaced file is moved to the end, as it is the newest one
+                    final RobotFileOutput replacedOutput = readableProjectFiles.remove(key);
+                    if (replacedOutput != null) {
+                        indexedFiles.remove(replacedOutput);
+                    }
+                    readableProjectFiles.put(key, robotOutput);
+                }
+            } else if (!filesWithoutPath.contains(robotOutput)) {
+                filesWithoutPath.add(robotOutput);
             }
-
-            readableProjectFiles.add(robotOutput);
         }
     }
 
     public void clearModelFiles() {
         readableProjectFiles.clear();
+        filesWithoutPath.clear();
+        variablesFilesImporters.clear();
+        indexedFiles.clear();
     }
 
     public void removeModelFile(final RobotFileOutput robotOutput) {
-        readableProjectFiles.remove(robotOutput);
+        if (robotOutput != null) {
+            if (robotOutput.getProcessedFile() != null) {
+                if (readableProjectFiles.remove(toKey(robotOutput.getProcessedFile()), robotOutput)) {
+                    indexedFiles.remove(robotOutput);
+                }
+            } else {
+                filesWithoutPath.remove(robotOutput);
+            }
+        }
     }
 
     public void addImportedResources(final List<ResourceImportReference> referenced) {
@@ -155,7 +196,7 @@ public class RobotProjectHolder {
     }
 
     public void addImportedResource(final ResourceImportReference referenced) {
-        readableProjectFiles.add(referenced.getReference());
+        addModelFile(referenced.getReference());
     }
 
     public boolean shouldBeLoaded(final RobotFileOutput robotOutput) {
@@ -163,24 +204,59 @@ public class RobotProjectHolder {
     }
 
     public boolean shouldBeLoaded(final File file) {
-        final RobotFileOutput foundFile = findFileByName(file);
+        final RobotFileOutput foundFile = readableProjectFiles.get(toKey(file));
         return (foundFile == null) || (file.lastModified() != foundFile.getLastModificationEpochTime());
     }
 
     public RobotFileOutput findFileWithImportedVariableFile(final PathsProvider pathsProvider,
             final File variableFile) {
-        return findFile(new SearchByVariablesImport(pathsProvider, variableFile));
+        final SearchByVariablesImport criteria = new SearchByVariablesImport(pathsProvider, variableFile);
+
+        final Set<String> importersPaths = variablesFilesImporters.get(toKey(variableFile));
+        if (importersPaths != null) {
+            final List<String> paths;
+            synchronized (importersPaths) {
+                paths = new ArrayList<>(importersPaths);
+            }
+            for (final String importerPath : paths) {
+                final RobotFileOutput robotFile = readableProjectFiles.get(importerPath);
+                if (robotFile != null && criteria.test(robotFile)) {
+                    return robotFile;
+                }
+            }
+        }
+        // variables imports of files which were not searched yet are resolved and indexed now
+        for (final RobotFileOutput robotFile : getModelFiles()) {
+            if (!indexedFiles.contains(robotFile) && criteria.test(robotFile)) {
+                return robotFile;
+            }
+        }
+        return null;
+    }
+
+    private void indexVariablesImports(final RobotFileOutput robotFile,
+            final List<VariablesFileImportReference> varImports) {
+        final String importerPath = toKey(robotFile.getProcessedFile());
+        for (final VariablesFileImportReference importReference : varImports) {
+            variablesFilesImporters
+                    .computeIfAbsent(toKey(importReference.getVariablesFile()),
+                            path -> Collections.synchronizedSet(new LinkedHashSet<>()))
+                    .add(importerPath);
+        }
+        if (readableProjectFiles.get(importerPath) == robotFile) {
+            indexedFiles.add(robotFile);
+        }
     }
 
     private class SearchByVariablesImport implements Predicate<RobotFileOutput> {
 
-        private final File toFound;
+        private final String toFound;
 
         private final PathsProvider pathsProvider;
 
         public SearchByVariablesImport(final PathsProvider pathsProvider, final File toFound) {
             this.pathsProvider = pathsProvider;
-            this.toFound = toFound;
+            this.toFound = toFound.getAbsolutePath();
         }
 
         @Override
@@ -189,8 +265,11 @@ public class RobotProjectHolder {
             if (robotFile != null) {
                 final List<VariablesFileImportReference> varImports = robotFile
                         .getVariablesImportReferences(RobotProjectHolder.this, pathsProvider);
+                if (robotFile.getProcessedFile() != null) {
+                    indexVariablesImports(robotFile, varImports);
+                }
                 for (final VariablesFileImportReference importReference : varImports) {
-                    if (importReference.getVariablesFile().getAbsolutePath().equals(toFound.getAbsolutePath())) {
+                    if (importReference.getVariablesFile().getAbsolutePath().equals(toFound)) {
                         matchResult = true;
                         break;
                     }
@@ -203,35 +282,53 @@ public class RobotProjectHolder {
     }
 
     public RobotFileOutput findFileByName(final File file) {
-        return findFile(new SearchByName(file));
+        return file == null ? null : readableProjectFiles.get(toKey(file));
     }
 
-    private class SearchByName implements Predicate<RobotFileOutput> {
-
-        private final File toFound;
+    protected RobotFileOutput findFile(final Predicate<RobotFileOutput> criteria) {
+        for (final RobotFileOutput robotFile : getModelFiles()) {
+            if (criteria.test(robotFile)) {
+                return robotFile;
+            }
+        }
+        return null;
+    }
 
-        public SearchByName(final File toFound) {
-            this.toFound = toFound;
+    private List<RobotFileOutput> getModelFiles() {
+        final List<RobotFileOutput> files;
+        synchronized (readableProjectFiles) {
+            files = new ArrayList<>(readableProjectFiles.values());
         }
+        files.addAll(filesWithoutPath);
+        return files;
+    }
 
-        @Override
-        public boolean test(final RobotFileOutput robotFile) {
-            boolean result = false;
-            if (robotFile != null && robotFile.getProcessedFile() != null) {
-                result = robotFile.getProcessedFile().getAbsolutePath().equals(toFound.getAbsolutePath());
-            }
+    private static String toKey(final File file) {
+        return file.getAbsoluteFile().toPath().normalize().toString();
+    }
 
-            return result;
-        }
+    @VisibleForTesting
+    long getModelFilesCount() {
+        return readableProjectFiles.size() + filesWithoutPath.size();
     }
 
-    protected RobotFileOutput findFile(final Predicate<RobotFileOutput> criteria) {
-        for (int i = 0; i < readableProjectFiles.size(); i++) {
-            final RobotFileOutput robotFile = readableProjectFiles.get(i);
-            if (criteria.test(robotFile)) {
-                return robotFile;
+    private class ModelFilesMap extends LinkedHashMap<String, RobotFileOutput> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxModelFiles;
+
+        ModelFilesMap(final int maxModelFiles) {
+            this.maxModelFiles = maxModelFiles;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, RobotFileOutput> eldest) {
+            if (size() > maxModelFiles) {
+                indexedFiles.remove(eldest.getValue());
+                return true;
             }
+            return false;
         }
-        return null;
     }
 }
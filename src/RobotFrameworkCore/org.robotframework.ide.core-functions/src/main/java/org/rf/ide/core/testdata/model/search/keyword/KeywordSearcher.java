@@ -66,6 +66,12 @@ public class KeywordSearcher {
     public <T extends SearchableKeyword> ListMultimap<String, T> findKeywords(
             final Map<String, Collection<T>> accessibleKeywords, final Collection<T> keywords, final String usageName,
             final boolean stopIfOneWasMatching) {
+        return findKeywords(accessibleKeywords, new KeywordsIndex<>(keywords), usageName, stopIfOneWasMatching);
+    }
+
+    public <T extends SearchableKeyword> ListMultimap<String, T> findKeywords(
+            final Map<String, Collection<T>> accessibleKeywords, final KeywordsIndex<T> keywordsIndex,
+            final String usageName, final boolean stopIfOneWasMatching) {
         final ListMultimap<String, T> foundByMatch = ArrayListMultimap.create();
 
         if (stopIfOneWasMatching) {
@@ -78,7 +84,7 @@ public class KeywordSearcher {
         }
 
         final List<String> possibleNameCombinations = getNamesToCheck(usageName);
-        for (final T keyword : keywords) {
+        for (final T keyword : keywordsIndex.getCandidates(possibleNameCombinations)) {
             final String keywordName = QualifiedKeywordName.unifyDefinition(keyword.getKeywordName()).toLowerCase();
             final boolean isEmbeddedKeywordName = EmbeddedKeywordNamesSupport.hasEmbeddedArguments(keywordName);
 
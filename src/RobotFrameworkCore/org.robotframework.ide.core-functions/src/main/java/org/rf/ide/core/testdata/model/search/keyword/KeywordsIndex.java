@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.keyword;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher.SearchableKeyword;
+import org.rf.ide.core.testdata.model.table.keywords.names.EmbeddedKeywordNamesSupport;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+
+/**
+ * Lookup structure built once for collection of keywords, which allows to find keywords possibly
+ * matching given occurrence name without checking every keyword from the collection.
+ * Keywords without embedded arguments are indexed by unified name (both plain and qualified with
+ * source name), while keywords with embedded arguments are kept aside, as they have to be matched
+ * using regular expressions.
+ */
+public class KeywordsIndex<T extends SearchableKeyword> {
+
+    private final List<T> keywords;
+
+    private final Map<String, List<Integer>> byUnifiedName = new HashMap<>();
+
+    private final List<Integer> embeddedNameKeywords = new ArrayList<>();
+
+    public KeywordsIndex(final Collection<T> keywords) {
+        this.keywords = new ArrayList<>(keywords);
+
+        for (int i = 0; i < this.keywords.size(); i++) {
+            final T keyword = this.keywords.get(i);
+            final String keywordName = QualifiedKeywordName.unifyDefinition(keyword.getKeywordName()).toLowerCase();
+
+            if (EmbeddedKeywordNamesSupport.hasEmbeddedArguments(keywordName)) {
+                embeddedNameKeywords.add(i);
+            } else {
+                index(keywordName, i);
+
+                final String sourceName = keyword.getSourceNameInUse();
+                if (sourceName != null) {
+                    index(QualifiedKeywordName.unifyDefinition(sourceName.toLowerCase() + "." + keywordName), i);
+                }
+            }
+        }
+    }
+
+    private void index(final String name, final int keywordIndex) {
+        final List<Integer> indexes = byUnifiedName.computeIfAbsent(name, k -> new ArrayList<>(1));
+        if (indexes.isEmpty() || indexes.get(indexes.size() - 1) != keywordIndex) {
+            indexes.add(keywordIndex);
+        }
+    }
+
+    public int size() {
+        return keywords.size();
+    }
+
+    /**
+     * Returns keywords which may match any of given names. Returned keywords are in the same order
+     * as in collection used to build this index. Every keyword having embedded arguments is
+     * returned as candidate, because its matching has to be verified by the caller.
+     *
+     * @param names
+     *            names of keyword occurrence to look for
+     * @return candidate keywords
+     */
+    public List<T> getCandidates(final Collection<String> names) {
+        final SortedSet<Integer> candidates = new TreeSet<>(embeddedNameKeywords);
+        for (final String name : names) {
+            final List<Integer> indexes = byUnifiedName.get(QualifiedKeywordName.unifyDefinition(name));
+            if (indexes != null) {
+                candidates.addAll(indexes);
+            }
+        }
+
+        final List<T> candidateKeywords = new ArrayList<>(candidates.size());
+        for (final Integer index : candidates) {
+            candidateKeywords.add(keywords.get(index));
+        }
+        return candidateKeywords;
+    }
+}
@@ -10,6 +10,7 @@ import static com.google.common.collect.Lists.newArrayList;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
 import org.rf.ide.core.testdata.model.AModelElement;
@@ -121,8 +122,18 @@ public class RobotEmptyRow<T> extends AModelElement<T> implements ICommentHolder
         return Pattern.matches("^[\\s]*$", text);
     }
 
+    @Override
+    public RobotEmptyRow<T> copy(final UnaryOperator<RobotToken> tokens) {
+        final RobotEmptyRow<T> copy = new RobotEmptyRow<>();
+        copy.empty = copyToken(empty, tokens);
+        return copy;
+    }
     private void fixMissingType() {
-        empty.setType(getRobotTokenType());
+        // the token may be shared with a copy of this row, so it is not touched when its type is correct
+        final RobotTokenType type = getRobotTokenType();
+        if (empty.getTypes().size() != 1 || empty.getTypes().get(0) != type) {
+            empty.setType(type);
+        }
     }
 
     private RobotTokenType getRobotTokenType() {
@@ -9,6 +9,8 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
 import org.rf.ide.core.testdata.model.AModelElement;
@@ -36,6 +38,8 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
 
     private final List<RobotToken> comments = new ArrayList<>();
 
+    private transient volatile CachedDescriptor<T> cachedDescriptor;
+
     public RobotExecutableRow() {
         this.action = new RobotToken();
     }
@@ -51,6 +55,7 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
             actType = RobotTokenType.UNKNOWN;
         }
         this.action = updateOrCreate(this.action, action, actType);
+        invalidateDescriptor();
 
         fixMissingTypes();
     }
@@ -86,6 +91,7 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
 
     public void setArgument(final int index, final RobotToken argument) {
         updateOrCreateTokenInside(arguments, index, argument, getArgumentType());
+        invalidateDescriptor();
 
         fixMissingTypes();
     }
@@ -96,6 +102,7 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
             fixForTheType(argument, argType, true);
         }
         arguments.add(index, argument);
+        invalidateDescriptor();
 
         fixMissingTypes();
     }
@@ -106,12 +113,14 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
             fixForTheType(argument, argType, true);
         }
         arguments.add(argument);
+        invalidateDescriptor();
 
         fixMissingTypes();
     }
 
     public void removeArgument(final int index) {
         arguments.remove(index);
+        invalidateDescriptor();
     }
 
     private IRobotTokenType getArgumentType() {
@@ -132,6 +141,7 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
     public void addCommentPart(final RobotToken rt) {
         fixComment(getComment(), rt);
         this.comments.add(rt);
+        invalidateDescriptor();
     }
 
     @Override
@@ -155,11 +165,13 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
     @Override
     public void removeCommentPart(final int index) {
         this.comments.remove(index);
+        invalidateDescriptor();
     }
 
     @Override
     public void clearComment() {
         this.comments.clear();
+        invalidateDescriptor();
     }
 
     @Override
@@ -281,12 +293,43 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
         return (format == FileFormat.TSV && TSV_COMMENT.matcher(text).matches());
     }
 
+    /**
+     * Returns descriptor of this row. Descriptor is built once and reused as long as neither the
+     * row tokens (their texts, types and positions) nor the parent of this row have changed.
+     * Descriptors of rows which may continue for loop are not cached, because they depend on
+     * preceding rows.
+     *
+     * @return descriptor of this row
+     */
     public IExecutableRowDescriptor<T> buildLineDescription() {
-        return new ExecutableRowDescriptorBuilder().buildLineDescriptor(this);
+        final List<RobotToken> tokens = getElementTokens();
+        final CachedDescriptor<T> cached = cachedDescriptor;
+        if (cached != null && cached.isValidFor(getParent(), tokens)) {
+            return cached.descriptor;
+        }
+
+        final IExecutableRowDescriptor<T> descriptor = new ExecutableRowDescriptorBuilder().buildLineDescriptor(this);
+        cachedDescriptor = mayContinueForLoop() ? null : new CachedDescriptor<>(descriptor, getParent(), tokens);
+        return descriptor;
+    }
+
+    private boolean mayContinueForLoop() {
+        if (getParent() instanceof IExecutableStepsHolder<?>) {
+            final String text = action.getText() == null ? "" : action.getText().trim();
+            return text.isEmpty()
+                    || RobotTokenType.FOR_CONTINUE_TOKEN.getRepresentation().get(0).equalsIgnoreCase(text)
+                    || action.getTypes().contains(RobotTokenType.FOR_CONTINUE_ARTIFICIAL_TOKEN);
+        }
+        return false;
+    }
+
+    private void invalidateDescriptor() {
+        cachedDescriptor = null;
     }
 
     @Override
     public boolean removeElementToken(final int index) {
+        invalidateDescriptor();
         return super.removeElementFromList(arguments, index);
     }
 
@@ -311,6 +354,7 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
         } else if (position - 1 - arguments.size() <= comments.size()) { // new comment part
             comments.add(position - 1 - arguments.size(), tokenToInsert);
         }
+        invalidateDescriptor();
         fixMissingTypes();
     }
 
@@ -328,6 +372,14 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
         return execRow;
     }
 
+    @Override
+    public RobotExecutableRow<T> copy(final UnaryOperator<RobotToken> tokens) {
+        final RobotExecutableRow<T> copy = new RobotExecutableRow<>();
+        copy.action = copyToken(action, tokens);
+        copyTokens(arguments, copy.arguments, tokens);
+        copyTokens(comments, copy.comments, tokens);
+        return copy;
+    }
     private void fixMissingTypes() {
         if (getParent() != null) {
             if (action != null && (getArguments().size() > 0 || action.isNotEmpty() || getComment().size() > 0)) {
@@ -342,4 +394,48 @@ public class RobotExecutableRow<T> extends AModelElement<T> implements ICommentH
             }
         }
     }
+
+    private static final class CachedDescriptor<T> {
+
+        private final IExecutableRowDescriptor<T> descriptor;
+
+        private final Object parent;
+
+        private final List<RobotToken> tokens;
+
+        private final List<String> texts;
+
+        private final List<FilePosition> positions;
+
+        private final List<List<IRobotTokenType>> types;
+
+        private CachedDescriptor(final IExecutableRowDescriptor<T> descriptor, final Object parent,
+                final List<RobotToken> tokens) {
+            this.descriptor = descriptor;
+            this.parent = parent;
+            this.tokens = tokens;
+            this.texts = new ArrayList<>(tokens.size());
+            this.positions = new ArrayList<>(tokens.size());
+            this.types = new ArrayList<>(tokens.size());
+            for (final RobotToken token : tokens) {
+                texts.add(token.getText());
+                positions.add(token.getFilePosition());
+                types.add(new ArrayList<>(token.getTypes()));
+            }
+        }
+
+        private boolean isValidFor(final Object currentParent, final List<RobotToken> currentTokens) {
+            if (parent != currentParent || tokens.size() != currentTokens.size()) {
+                return false;
+            }
+            for (int i = 0; i < tokens.size(); i++) {
+                final RobotToken token = currentTokens.get(i);
+                if (tokens.get(i) != token || !Objects.equals(texts.get(i), token.getText())
+                        || positions.get(i) != token.getFilePosition() || !types.get(i).equals(token.getTypes())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -8,6 +8,7 @@ package org.rf.ide.core.testdata.model.table;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -38,7 +39,7 @@ public class TableHeader<T> extends AModelElement<T> implements ICommentHolder {
                 break;
             }
         }
-        if (headerType != null) {
+        if (headerType != null && tableHeader.getTypes().indexOf(headerType) != 0) {
             tableHeader.getTypes().remove(headerType);
             fixForTheType(tableHeader, headerType);
         }
@@ -152,4 +153,12 @@ public class TableHeader<T> extends AModelElement<T> implements ICommentHolder {
     public boolean removeElementToken(final int index) {
         return super.removeElementFromList(columnNames, index);
     }
+
+    @Override
+    public TableHeader<T> copy(final UnaryOperator<RobotToken> tokens) {
+        final TableHeader<T> copy = new TableHeader<>(copyToken(tableHeader, tokens));
+        copyTokens(columnNames, copy.columnNames, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
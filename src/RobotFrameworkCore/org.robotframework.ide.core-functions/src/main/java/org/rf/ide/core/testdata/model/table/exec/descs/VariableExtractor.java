@@ -7,10 +7,13 @@ package org.rf.ide.core.testdata.model.table.exec.descs;
 
 import org.rf.ide.core.testdata.model.FilePosition;
 import org.rf.ide.core.testdata.model.table.exec.descs.ast.Container;
+import org.rf.ide.core.testdata.model.table.exec.descs.ast.ContainerElementType;
 import org.rf.ide.core.testdata.model.table.exec.descs.ast.VariableStructureExtractor;
 import org.rf.ide.core.testdata.model.table.exec.descs.ast.mapping.DeclarationMapper;
 import org.rf.ide.core.testdata.model.table.exec.descs.ast.mapping.IElementDeclaration;
+import org.rf.ide.core.testdata.model.table.exec.descs.ast.mapping.JoinedTextDeclarations;
 import org.rf.ide.core.testdata.model.table.exec.descs.ast.mapping.MappingResult;
+import org.rf.ide.core.testdata.model.table.exec.descs.ast.mapping.TextDeclaration;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 
 public class VariableExtractor {
@@ -31,14 +34,18 @@ public class VariableExtractor {
 
     public MappingResult extract(final FilePosition fp, final String text, final String fileName) {
         try {
-            final Container mainContainer = structureExtractor.buildStructureTree(text);
-
             String extractionInsideFile = fileName;
             if (fileName == null) {
                 extractionInsideFile = "<NOT_SET>";
             }
 
-            final MappingResult result = mapper.map(fp, mainContainer, extractionInsideFile);
+            final MappingResult result;
+            if (isPlainText(text)) {
+                result = mapPlainText(fp, text, extractionInsideFile);
+            } else {
+                final Container mainContainer = structureExtractor.buildStructureTree(text);
+                result = mapper.map(fp, mainContainer, extractionInsideFile);
+            }
             for (final IElementDeclaration dec : result.getMappedElements()) {
                 dec.setRobotTokenPosition(fp);
             }
@@ -54,6 +61,49 @@ public class VariableExtractor {
         return extract(token.getFilePosition(), token.getText(), fileName);
     }
 
+    private static boolean isPlainText(final String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            final ContainerElementType type = ContainerElementType.getTypeFor(text.charAt(i));
+            if (type != ContainerElementType.TEXT && type != ContainerElementType.WHITESPACE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Maps text without variables, indexes and escapes. The result is the same as the one created
+     * by {@link DeclarationMapper} (all the text and whitespace parts joined into single
+     * declaration), but the structure tree of characters does not have to be built.
+     */
+    private static MappingResult mapPlainText(final FilePosition fp, final String text, final String fileName) {
+        final MappingResult result = new MappingResult(fp, fileName);
+        if (text.isEmpty()) {
+            return result;
+        }
+
+        final JoinedTextDeclarations joined = new JoinedTextDeclarations();
+        int partStart = 0;
+        ContainerElementType partType = ContainerElementType.getTypeFor(text.charAt(0));
+        for (int i = 1; i <= text.length(); i++) {
+            final ContainerElementType type = i < text.length() ? ContainerElementType.getTypeFor(text.charAt(i))
+                    : null;
+            if (type != partType) {
+                joined.addElementDeclarationInside(
+                        new TextDeclaration(new TextPosition(text, partStart, i - 1), partType));
+                partStart = i;
+                partType = type;
+            }
+        }
+        result.addMappedElement(joined);
+        result.setLastFilePosition(new FilePosition(fp.getLine(), fp.getColumn() + text.length(),
+                fp.getOffset() + text.length()));
+        return result;
+    }
+
     private static class VariableExtractionException extends RuntimeException {
 
         private static final long serialVersionUID = -8666114255629013896L;
@@ -33,6 +33,12 @@ public class ContainerElement implements IContainerElement {
     }
 
 
+    public void increaseEndPosition(final int numberOfCharacters) {
+        position = new TextPosition(position.getFullText(), position.getStart(),
+                position.getEnd() + numberOfCharacters);
+    }
+
+
     @Override
     public boolean isComplex() {
         return false;
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 public enum ContainerElementType {
     TEXT(ContainerSettings.newInstance().setCanBeMerged(true)),
@@ -22,6 +23,12 @@ public enum ContainerElementType {
 
     private static final Map<Character, ContainerElementType> MAPPING = new HashMap<>();
 
+    private static final ContainerElementType[] ASCII_MAPPING = new ContainerElementType[128];
+
+    static {
+        initMappingCharToType();
+    }
+
     private static final Map<ContainerElementType, ContainerElementType> OPEN_TYPES_TO_CLOSE_TYPES = new HashMap<>();
 
     private final List<Character> representation = new ArrayList<>();
@@ -67,18 +74,9 @@ public enum ContainerElementType {
     }
 
     public static ContainerElementType getTypeFor(final char c) {
-        synchronized (MAPPING) {
-            if (MAPPING.isEmpty()) {
-                initMappingCharToType();
-            }
-        }
-
-        ContainerElementType type = MAPPING.get(c);
-        if (type == null) {
-            type = ContainerElementType.TEXT;
-        }
-
-        return type;
+        // all the special characters are ascii ones, so there is no need to use the map
+        final ContainerElementType type = c < ASCII_MAPPING.length ? ASCII_MAPPING[c] : null;
+        return type == null ? ContainerElementType.TEXT : type;
     }
 
     private static void initMappingCharToType() {
@@ -93,6 +91,9 @@ public enum ContainerElementType {
                 }
             }
         }
+        for (final Entry<Character, ContainerElementType> entry : MAPPING.entrySet()) {
+            ASCII_MAPPING[entry.getKey()] = entry.getValue();
+        }
     }
 
     public static class ContainerSettings {
@@ -18,20 +18,18 @@ public class VariableStructureExtractor {
         if (text != null) {
             Container currentContainer = mainContainer;
 
-            char[] textChars = text.toCharArray();
-            int textLength = textChars.length;
-            for (int charIndex = 0; charIndex < textLength; charIndex++) {
-                char currentChar = textChars[charIndex];
-                ContainerElementType type = ContainerElementType
-                        .getTypeFor(currentChar);
-                ContainerElement element = new ContainerElement(
-                        new TextPosition(text, charIndex, charIndex), type);
+            int textLength = text.length();
+            int charIndex = 0;
+            while (charIndex < textLength) {
+                ContainerElementType type = ContainerElementType.getTypeFor(text.charAt(charIndex));
                 if (type.shouldOpenNewContainer()) {
                     Container newContainer = new Container(currentContainer);
                     currentContainer.addElement(newContainer);
                     currentContainer = newContainer;
-                    currentContainer.addElement(element);
+                    currentContainer.addElement(createElement(text, charIndex, charIndex, type));
+                    charIndex++;
                 } else if (shouldCloseContainer(type)) {
+                    ContainerElement element = createElement(text, charIndex, charIndex, type);
                     Container matchingContainer = findNearestContainerToClose(
                             type, currentContainer);
                     if (matchingContainer == null) {
@@ -41,27 +39,25 @@ public class VariableStructureExtractor {
                         closeContainer(matchingContainer);
                         currentContainer = matchingContainer.getParent();
                     }
-                } else {
-                    boolean wasMerged = false;
-                    List<IContainerElement> elements = currentContainer
-                            .getElements();
-                    if (!elements.isEmpty()) {
-                        IContainerElement lastElement = elements.get(elements
-                                .size() - 1);
-                        ContainerElementType lastType = lastElement.getType();
-                        if (lastType != null && lastType.canBeMerged()
-                                && type == lastType) {
-                            if (lastElement instanceof ContainerElement) {
-                                ContainerElement contElement = (ContainerElement) lastElement;
-                                contElement.increaseEndPosition();
-                                wasMerged = true;
-                            }
-                        }
+                    charIndex++;
+                } else if (type.canBeMerged()) {
+                    // whole run of characters of the same type is handled at once, so that
+                    // the element is not recreated for every single character
+                    int runEnd = charIndex + 1;
+                    while (runEnd < textLength && ContainerElementType.getTypeFor(text.charAt(runEnd)) == type) {
+                        runEnd++;
                     }
 
-                    if (!wasMerged) {
-                        currentContainer.addElement(element);
+                    ContainerElement lastElement = getLastElementIfMergeable(currentContainer, type);
+                    if (lastElement != null) {
+                        lastElement.increaseEndPosition(runEnd - charIndex);
+                    } else {
+                        currentContainer.addElement(createElement(text, charIndex, runEnd - 1, type));
                     }
+                    charIndex = runEnd;
+                } else {
+                    currentContainer.addElement(createElement(text, charIndex, charIndex, type));
+                    charIndex++;
                 }
             }
         }
@@ -69,6 +65,23 @@ public class VariableStructureExtractor {
         return mainContainer;
     }
 
+    private static ContainerElement createElement(final String text, final int start, final int end,
+            final ContainerElementType type) {
+        return new ContainerElement(new TextPosition(text, start, end), type);
+    }
+
+    private static ContainerElement getLastElementIfMergeable(final Container container,
+            final ContainerElementType type) {
+        List<IContainerElement> elements = container.getElements();
+        if (!elements.isEmpty()) {
+            IContainerElement lastElement = elements.get(elements.size() - 1);
+            if (lastElement.getType() == type && lastElement instanceof ContainerElement) {
+                return (ContainerElement) lastElement;
+            }
+        }
+        return null;
+    }
+
 
     private void closeContainer(final Container container) {
         if (container != null) {
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -126,4 +127,12 @@ public class KeywordArguments extends AModelElement<UserKeyword> implements ICom
         }
         return keywordArgs;
     }
+
+    @Override
+    public KeywordArguments copy(final UnaryOperator<RobotToken> tokens) {
+        final KeywordArguments copy = new KeywordArguments(copyToken(declaration, tokens));
+        copyTokens(arguments, copy.arguments, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
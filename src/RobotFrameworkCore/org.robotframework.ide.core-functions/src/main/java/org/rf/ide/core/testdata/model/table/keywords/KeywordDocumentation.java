@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -179,4 +180,12 @@ public class KeywordDocumentation extends AModelElement<UserKeyword>
     public KeywordDocumentation getCached() {
         return this;
     }
+
+    @Override
+    public KeywordDocumentation copy(final UnaryOperator<RobotToken> tokens) {
+        final KeywordDocumentation copy = new KeywordDocumentation(copyToken(declaration, tokens));
+        copyTokens(text, copy.text, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -154,4 +155,12 @@ public class KeywordReturn extends AModelElement<UserKeyword> implements ICommen
         }
         return keywordReturn;
     }
+
+    @Override
+    public KeywordReturn copy(final UnaryOperator<RobotToken> tokens) {
+        final KeywordReturn copy = new KeywordReturn(copyToken(declaration, tokens));
+        copyTokens(values, copy.values, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
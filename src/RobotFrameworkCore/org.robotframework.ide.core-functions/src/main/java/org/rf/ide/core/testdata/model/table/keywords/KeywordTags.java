@@ -5,6 +5,8 @@
  */
 package org.rf.ide.core.testdata.model.table.keywords;
 
+import java.util.function.UnaryOperator;
+
 import org.rf.ide.core.testdata.model.ATags;
 import org.rf.ide.core.testdata.model.ModelType;
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
@@ -44,4 +46,9 @@ public class KeywordTags extends ATags<UserKeyword> {
         }
         return keywordTags;
     }
+
+    @Override
+    public KeywordTags copy(final UnaryOperator<RobotToken> tokens) {
+        return copyTo(new KeywordTags(copyToken(getDeclaration(), tokens)), tokens);
+    }
 }
@@ -5,6 +5,8 @@
  */
 package org.rf.ide.core.testdata.model.table.keywords;
 
+import java.util.function.UnaryOperator;
+
 import org.rf.ide.core.testdata.model.AKeywordBaseSetting;
 import org.rf.ide.core.testdata.model.ModelType;
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
@@ -50,4 +52,9 @@ public class KeywordTeardown extends AKeywordBaseSetting<UserKeyword> {
         }
         return keywordTeardown;
     }
+
+    @Override
+    public KeywordTeardown copy(final UnaryOperator<RobotToken> tokens) {
+        return copyTo(new KeywordTeardown(copyToken(getDeclaration(), tokens)), tokens);
+    }
 }
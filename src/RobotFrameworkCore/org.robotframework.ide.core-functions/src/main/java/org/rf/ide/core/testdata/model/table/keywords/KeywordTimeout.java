@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -162,4 +163,13 @@ public class KeywordTimeout extends AModelElement<UserKeyword> implements IComme
         }
         return keywordTimeout;
     }
+
+    @Override
+    public KeywordTimeout copy(final UnaryOperator<RobotToken> tokens) {
+        final KeywordTimeout copy = new KeywordTimeout(copyToken(declaration, tokens));
+        copy.timeout = copyToken(timeout, tokens);
+        copyTokens(message, copy.message, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
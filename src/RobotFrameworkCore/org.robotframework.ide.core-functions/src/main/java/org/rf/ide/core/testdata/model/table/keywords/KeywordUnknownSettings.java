@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -132,4 +133,12 @@ public class KeywordUnknownSettings extends AModelElement<UserKeyword> implement
             comment.add(position - 1 - arguments.size(), tokenToInsert);
         }
     }
+
+    @Override
+    public KeywordUnknownSettings copy(final UnaryOperator<RobotToken> tokens) {
+        final KeywordUnknownSettings copy = new KeywordUnknownSettings(copyToken(declaration, tokens));
+        copyTokens(arguments, copy.arguments, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
@@ -11,6 +11,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.rf.ide.core.testdata.model.AModelElement;
@@ -318,4 +319,13 @@ public class UserKeyword extends AModelElement<KeywordTable>
     public FilePosition getEndPosition() {
         return findEndPosition(getParent().getParent());
     }
+
+    @Override
+    public UserKeyword copy(final UnaryOperator<RobotToken> tokens) {
+        final UserKeyword copy = new UserKeyword(copyToken(keywordName, tokens));
+        for (final AModelElement<UserKeyword> element : allElements) {
+            copy.addElement(element.copy(tokens));
+        }
+        return copy;
+    }
 }
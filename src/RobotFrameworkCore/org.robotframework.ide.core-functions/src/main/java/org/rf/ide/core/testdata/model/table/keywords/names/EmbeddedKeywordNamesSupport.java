@@ -10,6 +10,11 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.CharMatcher;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeSet;
 import com.google.common.collect.TreeRangeSet;
@@ -19,6 +24,32 @@ import com.google.common.collect.TreeRangeSet;
  */
 public class EmbeddedKeywordNamesSupport {
 
+    private static final int MATCHERS_CACHE_SIZE = 5000;
+
+    private static final LoadingCache<String, EmbeddedNameMatcher> MATCHERS = CacheBuilder.newBuilder()
+            .maximumSize(MATCHERS_CACHE_SIZE)
+            .recordStats()
+            .build(new CacheLoader<String, EmbeddedNameMatcher>() {
+
+                @Override
+                public EmbeddedNameMatcher load(final String definitionName) {
+                    return EmbeddedNameMatcher.create(definitionName);
+                }
+            });
+
+    /**
+     * @return statistics (hits, misses, evictions etc.) of cache holding compiled matchers of
+     *         definitions with embedded arguments
+     */
+    public static CacheStats getMatchersCacheStats() {
+        return MATCHERS.stats();
+    }
+
+    @VisibleForTesting
+    static void clearMatchersCache() {
+        MATCHERS.invalidateAll();
+    }
+
     public static boolean hasEmbeddedArguments(final String definitionName) {
         return !findEmbeddedArgumentsRanges(definitionName).isEmpty();
     }
@@ -47,8 +78,12 @@ public class EmbeddedKeywordNamesSupport {
                     return Optional.empty();
                 }
 
+                // shortened definitions are not cached, as there are plenty of them and most are not
+                // going to be reused
                 final String shortenedDefinition = definitionName.substring(lowerIndex, upperIndex);
-                if (matchesIgnoreCase(shortenedDefinition, occurrenceName)) {
+                if (shortenedDefinition.equalsIgnoreCase(occurrenceName)
+                        || shortenedDefinition.indexOf('$') != -1
+                                && EmbeddedNameMatcher.create(shortenedDefinition).matches(occurrenceName)) {
                     return Optional.of(Range.closedOpen(lowerIndex, upperIndex));
                 }
 
@@ -71,19 +106,13 @@ public class EmbeddedKeywordNamesSupport {
             return false;
         }
 
-        final String regex = "(?iu)^" + substituteVariablesWithRegex(definitionName) + "$";
-        try {
-            return Pattern.matches(regex, occurrenceName);
-        } catch (final PatternSyntaxException e) {
-            return false;
-        }
+        return MATCHERS.getUnchecked(definitionName).matches(occurrenceName);
     }
 
-    private static String substituteVariablesWithRegex(final String definitionName) {
+    private static String substituteVariablesWithRegex(final String definitionName,
+            final RangeSet<Integer> varRanges) {
         final StringBuilder wholeRegex = new StringBuilder();
 
-        final RangeSet<Integer> varRanges = findEmbeddedArgumentsRanges(definitionName);
-
         StringBuilder exactWordPatternRegex = new StringBuilder();
         int i = 0;
         while (i < definitionName.length()) {
@@ -186,6 +215,70 @@ public class EmbeddedKeywordNamesSupport {
         return variable.indexOf(':') != -1 ? variable.substring(0, variable.indexOf(':')) + "}" : variable;
     }
 
+    /**
+     * Compiled regex of definition with embedded arguments together with its literal prefix and
+     * suffix, which are checked first, so that most of the names are rejected without using the
+     * regex engine.
+     */
+    private static class EmbeddedNameMatcher {
+
+        private final Optional<Pattern> pattern;
+
+        private final String literalPrefix;
+
+        private final String literalSuffix;
+
+        private EmbeddedNameMatcher(final Optional<Pattern> pattern, final String literalPrefix,
+                final String literalSuffix) {
+            this.pattern = pattern;
+            this.literalPrefix = literalPrefix;
+            this.literalSuffix = literalSuffix;
+        }
+
+        static EmbeddedNameMatcher create(final String definitionName) {
+            final RangeSet<Integer> varRanges = findEmbeddedArgumentsRanges(definitionName);
+            final String regex = substituteVariablesWithRegex(definitionName, varRanges);
+
+            Optional<Pattern> pattern;
+            try {
+                pattern = Optional.of(Pattern.compile("(?iu)^" + regex + "$"));
+            } catch (final PatternSyntaxException e) {
+                pattern = Optional.empty();
+            }
+
+            if (varRanges.isEmpty()) {
+                return new EmbeddedNameMatcher(pattern, "", "");
+            }
+            // alternatives in custom regexes are not grouped, so the literal parts may be skipped
+            // during matching; case insensitive comparison is only done for ascii characters as
+            // the regex engine may compare other characters differently
+            final boolean hasAlternatives = varRanges.asRanges()
+                    .stream()
+                    .anyMatch(range -> getEmbeddedArgumentRegex(definitionName, range).indexOf('|') != -1);
+            final String prefix = definitionName.substring(0, varRanges.span().lowerEndpoint());
+            final String suffix = definitionName.substring(varRanges.span().upperEndpoint() + 1);
+            if (hasAlternatives || !CharMatcher.ascii().matchesAllOf(prefix + suffix)) {
+                return new EmbeddedNameMatcher(pattern, "", "");
+            }
+            return new EmbeddedNameMatcher(pattern, prefix, suffix);
+        }
+
+        boolean matches(final String occurrenceName) {
+            if (!pattern.isPresent()) {
+                return false;
+            }
+            final int prefixLength = literalPrefix.length();
+            final int suffixLength = literalSuffix.length();
+            if (occurrenceName.length() < prefixLength + suffixLength
+                    || !occurrenceName.regionMatches(true, 0, literalPrefix, 0, prefixLength)
+                    || !occurrenceName.regionMatches(true, occurrenceName.length() - suffixLength, literalSuffix, 0,
+                            suffixLength)) {
+                return false;
+            }
+            return pattern.get().matcher(occurrenceName).matches();
+        }
+    }
+
     private enum KeywordDfaState {
         START_STATE,
         VAR_DOLLAR_DETECTED,
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -162,4 +163,11 @@ public abstract class AImported extends AModelElement<SettingTable> implements I
     public FilePosition getBeginPosition() {
         return getDeclaration().getFilePosition();
     }
+
+    protected <S extends AImported> S copyTo(final S copy, final UnaryOperator<RobotToken> tokens) {
+        final AImported imported = copy;
+        imported.pathOrName = copyToken(pathOrName, tokens);
+        copyTokens(comment, imported.comment, tokens);
+        return copy;
+    }
 }
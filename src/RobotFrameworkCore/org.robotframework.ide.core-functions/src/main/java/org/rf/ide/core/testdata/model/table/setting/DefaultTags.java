@@ -5,6 +5,8 @@
  */
 package org.rf.ide.core.testdata.model.table.setting;
 
+import java.util.function.UnaryOperator;
+
 import org.rf.ide.core.testdata.model.ATags;
 import org.rf.ide.core.testdata.model.ModelType;
 import org.rf.ide.core.testdata.model.table.SettingTable;
@@ -34,4 +36,9 @@ public class DefaultTags extends ATags<SettingTable> {
     public IRobotTokenType getDeclarationTagType() {
         return RobotTokenType.SETTING_DEFAULT_TAGS_DECLARATION;
     }
+
+    @Override
+    public DefaultTags copy(final UnaryOperator<RobotToken> tokens) {
+        return copyTo(new DefaultTags(copyToken(getDeclaration(), tokens)), tokens);
+    }
 }
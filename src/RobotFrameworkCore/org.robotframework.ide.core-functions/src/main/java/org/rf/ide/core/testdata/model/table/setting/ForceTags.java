@@ -5,6 +5,8 @@
  */
 package org.rf.ide.core.testdata.model.table.setting;
 
+import java.util.function.UnaryOperator;
+
 import org.rf.ide.core.testdata.model.ATags;
 import org.rf.ide.core.testdata.model.ModelType;
 import org.rf.ide.core.testdata.model.table.SettingTable;
@@ -34,4 +36,9 @@ public class ForceTags extends ATags<SettingTable> {
     public IRobotTokenType getDeclarationTagType() {
         return RobotTokenType.SETTING_FORCE_TAGS_DECLARATION;
     }
+
+    @Override
+    public ForceTags copy(final UnaryOperator<RobotToken> tokens) {
+        return copyTo(new ForceTags(copyToken(getDeclaration(), tokens)), tokens);
+    }
 }
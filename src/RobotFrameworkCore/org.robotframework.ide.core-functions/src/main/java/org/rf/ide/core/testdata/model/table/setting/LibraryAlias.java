@@ -8,6 +8,7 @@ package org.rf.ide.core.testdata.model.table.setting;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -78,4 +79,11 @@ public class LibraryAlias extends AModelElement<LibraryImport> implements Serial
     public boolean removeElementToken(int index) {
         throw new UnsupportedOperationException("This operation should be performed from LibraryImport.");
     }
+
+    @Override
+    public LibraryAlias copy(final UnaryOperator<RobotToken> tokens) {
+        final LibraryAlias copy = new LibraryAlias(copyToken(libraryAliasDeclaration, tokens));
+        copy.libraryAlias = copyToken(libraryAlias, tokens);
+        return copy;
+    }
 }
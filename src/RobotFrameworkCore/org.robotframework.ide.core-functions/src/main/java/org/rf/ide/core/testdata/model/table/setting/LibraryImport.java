@@ -8,6 +8,7 @@ package org.rf.ide.core.testdata.model.table.setting;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
@@ -132,4 +133,12 @@ public class LibraryImport extends AImported {
             addCommentPartAt(position - 2 - arguments.size(), tokenToInsert);
         }
     }
+
+    @Override
+    public LibraryImport copy(final UnaryOperator<RobotToken> tokens) {
+        final LibraryImport copy = copyTo(new LibraryImport(copyToken(getDeclaration(), tokens)), tokens);
+        copyTokens(arguments, copy.arguments, tokens);
+        copy.setAlias(alias.copy(tokens));
+        return copy;
+    }
 }
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -144,4 +145,13 @@ public class Metadata extends AModelElement<SettingTable> implements ICommentHol
     public boolean removeElementToken(int index) {
         return super.removeElementFromList(values, index);
     }
+
+    @Override
+    public Metadata copy(final UnaryOperator<RobotToken> tokens) {
+        final Metadata copy = new Metadata(copyToken(declaration, tokens));
+        copy.key = copyToken(key, tokens);
+        copyTokens(values, copy.values, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
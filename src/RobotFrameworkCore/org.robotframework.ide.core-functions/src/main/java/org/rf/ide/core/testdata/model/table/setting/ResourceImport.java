@@ -8,6 +8,7 @@ package org.rf.ide.core.testdata.model.table.setting;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
@@ -89,4 +90,11 @@ public class ResourceImport extends AImported {
             addCommentPartAt(position - 2 - unexpectedTrashArguments.size(), tokenToInsert);
         }
     }
+
+    @Override
+    public ResourceImport copy(final UnaryOperator<RobotToken> tokens) {
+        final ResourceImport copy = copyTo(new ResourceImport(copyToken(getDeclaration(), tokens)), tokens);
+        copyTokens(unexpectedTrashArguments, copy.unexpectedTrashArguments, tokens);
+        return copy;
+    }
 }
@@ -8,6 +8,7 @@ package org.rf.ide.core.testdata.model.table.setting;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -151,4 +152,12 @@ public class SuiteDocumentation extends AModelElement<SettingTable> implements I
     public IDocumentationHolder getCached() {
         return this;
     }
+
+    @Override
+    public SuiteDocumentation copy(final UnaryOperator<RobotToken> tokens) {
+        final SuiteDocumentation copy = new SuiteDocumentation(copyToken(declaration, tokens));
+        copyTokens(text, copy.text, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
@@ -5,6 +5,8 @@
  */
 package org.rf.ide.core.testdata.model.table.setting;
 
+import java.util.function.UnaryOperator;
+
 import org.rf.ide.core.testdata.model.AKeywordBaseSetting;
 import org.rf.ide.core.testdata.model.ModelType;
 import org.rf.ide.core.testdata.model.table.SettingTable;
@@ -39,4 +41,9 @@ public class SuiteSetup extends AKeywordBaseSetting<SettingTable> {
     protected RobotTokenType getDeclarationType() {
         return RobotTokenType.SETTING_SUITE_SETUP_DECLARATION;
     }
+
+    @Override
+    public SuiteSetup copy(final UnaryOperator<RobotToken> tokens) {
+        return copyTo(new SuiteSetup(copyToken(getDeclaration(), tokens)), tokens);
+    }
 }
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -165,4 +166,13 @@ public class TestTemplate extends AModelElement<SettingTable>
             comment.add(position - 2 - unexpectedTrashArguments.size(), tokenToInsert);
         }
     }
+
+    @Override
+    public TestTemplate copy(final UnaryOperator<RobotToken> tokens) {
+        final TestTemplate copy = new TestTemplate(copyToken(declaration, tokens));
+        copy.keywordName = copyToken(keywordName, tokens);
+        copyTokens(unexpectedTrashArguments, copy.unexpectedTrashArguments, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -157,4 +158,13 @@ public class TestTimeout extends AModelElement<SettingTable> implements IComment
             comment.add(position - 2 - message.size(), tokenToInsert);
         }
     }
+
+    @Override
+    public TestTimeout copy(final UnaryOperator<RobotToken> tokens) {
+        final TestTimeout copy = new TestTimeout(copyToken(declaration, tokens));
+        copy.timeout = copyToken(timeout, tokens);
+        copyTokens(message, copy.message, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
@@ -8,6 +8,7 @@ package org.rf.ide.core.testdata.model.table.setting;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -71,4 +72,11 @@ public class UnknownSetting extends AModelElement<SettingTable> {
     public boolean removeElementToken(int index) {
         return super.removeElementFromList(trashs, index);
     }
+
+    @Override
+    public UnknownSetting copy(final UnaryOperator<RobotToken> tokens) {
+        final UnknownSetting copy = new UnknownSetting(copyToken(declaration, tokens));
+        copyTokens(trashs, copy.trashs, tokens);
+        return copy;
+    }
 }
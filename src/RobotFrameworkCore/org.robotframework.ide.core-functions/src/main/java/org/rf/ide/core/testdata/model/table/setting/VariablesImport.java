@@ -8,6 +8,7 @@ package org.rf.ide.core.testdata.model.table.setting;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
@@ -83,4 +84,11 @@ public class VariablesImport extends AImported {
             addCommentPartAt(position - 2 - arguments.size(), tokenToInsert);
         }
     }
+
+    @Override
+    public VariablesImport copy(final UnaryOperator<RobotToken> tokens) {
+        final VariablesImport copy = copyTo(new VariablesImport(copyToken(getDeclaration(), tokens)), tokens);
+        copyTokens(arguments, copy.arguments, tokens);
+        return copy;
+    }
 }
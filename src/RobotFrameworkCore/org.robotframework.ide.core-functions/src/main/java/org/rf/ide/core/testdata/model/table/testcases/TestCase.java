@@ -11,6 +11,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.rf.ide.core.testdata.model.AModelElement;
@@ -374,4 +375,13 @@ public class TestCase extends AModelElement<TestCaseTable> implements IExecutabl
     public FilePosition getEndPosition() {
         return findEndPosition(getParent().getParent());
     }
+
+    @Override
+    public TestCase copy(final UnaryOperator<RobotToken> tokens) {
+        final TestCase copy = new TestCase(copyToken(testName, tokens));
+        for (final AModelElement<TestCase> element : allElements) {
+            copy.addElement(element.copy(tokens));
+        }
+        return copy;
+    }
 }
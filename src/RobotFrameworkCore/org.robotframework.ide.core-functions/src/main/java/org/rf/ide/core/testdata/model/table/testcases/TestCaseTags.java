@@ -5,6 +5,8 @@
  */
 package org.rf.ide.core.testdata.model.table.testcases;
 
+import java.util.function.UnaryOperator;
+
 import org.rf.ide.core.testdata.model.ATags;
 import org.rf.ide.core.testdata.model.ModelType;
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
@@ -33,4 +35,9 @@ public class TestCaseTags extends ATags<TestCase> {
     public IRobotTokenType getDeclarationTagType() {
         return RobotTokenType.TEST_CASE_SETTING_TAGS_DECLARATION;
     }
+
+    @Override
+    public TestCaseTags copy(final UnaryOperator<RobotToken> tokens) {
+        return copyTo(new TestCaseTags(copyToken(getDeclaration(), tokens)), tokens);
+    }
 }
@@ -5,6 +5,8 @@
  */
 package org.rf.ide.core.testdata.model.table.testcases;
 
+import java.util.function.UnaryOperator;
+
 import org.rf.ide.core.testdata.model.AKeywordBaseSetting;
 import org.rf.ide.core.testdata.model.ModelType;
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
@@ -38,4 +40,9 @@ public class TestCaseTeardown extends AKeywordBaseSetting<TestCase> {
     protected RobotTokenType getDeclarationType() {
         return RobotTokenType.TEST_CASE_SETTING_TEARDOWN;
     }
+
+    @Override
+    public TestCaseTeardown copy(final UnaryOperator<RobotToken> tokens) {
+        return copyTo(new TestCaseTeardown(copyToken(getDeclaration(), tokens)), tokens);
+    }
 }
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -150,4 +151,13 @@ public class TestCaseTimeout extends AModelElement<TestCase> implements IComment
             comment.add(position - 2 - message.size(), tokenToInsert);
         }
     }
+
+    @Override
+    public TestCaseTimeout copy(final UnaryOperator<RobotToken> tokens) {
+        final TestCaseTimeout copy = new TestCaseTimeout(copyToken(declaration, tokens));
+        copy.timeout = copyToken(timeout, tokens);
+        copyTokens(message, copy.message, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -155,4 +156,12 @@ public class TestDocumentation extends AModelElement<TestCase>
     public IDocumentationHolder getCached() {
         return this;
     }
+
+    @Override
+    public TestDocumentation copy(final UnaryOperator<RobotToken> tokens) {
+        final TestDocumentation copy = new TestDocumentation(copyToken(declaration, tokens));
+        copyTokens(text, copy.text, tokens);
+        copyTokens(comment, copy.comment, tokens);
+        return copy;
+    }
 }
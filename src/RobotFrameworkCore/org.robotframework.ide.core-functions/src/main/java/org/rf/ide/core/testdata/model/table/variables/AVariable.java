@@ -9,6 +9,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.AModelElement;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -235,4 +236,11 @@ public abstract class AVariable extends AModelElement<VariableTable>
     public FilePosition getBeginPosition() {
         return (getDeclaration() != null) ? getDeclaration().getFilePosition() : FilePosition.createNotSet();
     }
+
+    protected <S extends AVariable> S copyTo(final S copy, final UnaryOperator<RobotToken> tokens) {
+        final AVariable variable = copy;
+        variable.type = type;
+        copyTokens(comment, variable.comment, tokens);
+        return copy;
+    }
 }
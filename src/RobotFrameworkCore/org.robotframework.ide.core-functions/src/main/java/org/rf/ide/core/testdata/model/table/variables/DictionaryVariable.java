@@ -11,6 +11,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.presenter.MoveElementHelper;
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
@@ -98,6 +99,16 @@ public class DictionaryVariable extends AVariable {
         return false;
     }
 
+    @Override
+    public DictionaryVariable copy(final UnaryOperator<RobotToken> tokens) {
+        final DictionaryVariable copy = copyTo(
+                new DictionaryVariable(getName(), copyToken(getDeclaration(), tokens), getScope()), tokens);
+        for (final DictionaryKeyValuePair item : items) {
+            copy.items.add(new DictionaryKeyValuePair(copyToken(item.raw, tokens), copyToken(item.key, tokens),
+                    copyToken(item.value, tokens)));
+        }
+        return copy;
+    }
     public static class DictionaryKeyValuePair implements Serializable {
 
         private static final long serialVersionUID = 5844838131341640455L;
@@ -8,6 +8,7 @@ package org.rf.ide.core.testdata.model.table.variables;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.presenter.MoveElementHelper;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
@@ -90,4 +91,12 @@ public class ScalarVariable extends AVariable {
     public boolean removeElementToken(final int index) {
         return super.removeElementFromList(values, index);
     }
+
+    @Override
+    public ScalarVariable copy(final UnaryOperator<RobotToken> tokens) {
+        final ScalarVariable copy = copyTo(
+                new ScalarVariable(getName(), copyToken(getDeclaration(), tokens), getScope()), tokens);
+        copyTokens(values, copy.values, tokens);
+        return copy;
+    }
 }
@@ -8,6 +8,7 @@ package org.rf.ide.core.testdata.model.table.variables;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import org.rf.ide.core.testdata.model.presenter.MoveElementHelper;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
@@ -82,4 +83,12 @@ public class UnknownVariable extends AVariable {
     public boolean removeElementToken(final int index) {
         return super.removeElementFromList(items, index);
     }
+
+    @Override
+    public UnknownVariable copy(final UnaryOperator<RobotToken> tokens) {
+        final UnknownVariable copy = copyTo(
+                new UnknownVariable(getName(), copyToken(getDeclaration(), tokens), getScope()), tokens);
+        copyTokens(items, copy.items, tokens);
+        return copy;
+    }
 }
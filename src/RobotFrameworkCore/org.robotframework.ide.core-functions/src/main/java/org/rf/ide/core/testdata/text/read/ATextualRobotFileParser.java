@@ -18,6 +18,7 @@ import java.io.Reader;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Stack;
 
 import org.rf.ide.core.testdata.IRobotFileParser;
@@ -58,10 +59,7 @@ import org.rf.ide.core.testdata.text.read.LineReader.Constant;
 import org.rf.ide.core.testdata.text.read.recognizer.ATokenRecognizer;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
-import org.rf.ide.core.testdata.text.read.recognizer.SettingsRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.TestCaseRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.UserKeywordRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.VariablesDeclarationRecognizersProvider;
+import org.rf.ide.core.testdata.text.read.recognizer.TokenRecognizersDispatcher;
 import org.rf.ide.core.testdata.text.read.separators.ALineSeparator;
 import org.rf.ide.core.testdata.text.read.separators.Separator;
 import org.rf.ide.core.testdata.text.read.separators.TokenSeparatorBuilder;
@@ -71,7 +69,7 @@ import com.google.common.annotations.VisibleForTesting;
 @SuppressWarnings("PMD.GodClass")
 public abstract class ATextualRobotFileParser implements IRobotFileParser {
 
-    private final List<ATokenRecognizer> recognized = new ArrayList<>();
+    private TokenRecognizersDispatcher recognizers;
 
     private final List<IParsingMapper> mappers = new ArrayList<>();
 
@@ -184,11 +182,7 @@ public abstract class ATextualRobotFileParser implements IRobotFileParser {
         mappers.addAll(new TestCaseMapperProvider().getMappers(robotVersion));
         mappers.addAll(new UserKeywordMapperProvider().getMappers(robotVersion));
 
-        recognized.clear();
-        recognized.addAll(new SettingsRecognizersProvider().getRecognizers(robotVersion));
-        recognized.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
-        recognized.addAll(new TestCaseRecognizersProvider().getRecognizers(robotVersion));
-        recognized.addAll(new UserKeywordRecognizersProvider().getRecognizers(robotVersion));
+        recognizers = TokenRecognizersDispatcher.forVersion(robotVersion);
     }
 
     private RobotFileOutput parse(final RobotFileOutput parsingOutput, final File robotFile, final Reader reader) {
@@ -613,10 +607,10 @@ public abstract class ATextualRobotFileParser implements IRobotFileParser {
     @VisibleForTesting
     protected List<RobotToken> recognize(final FilePosition fp, final String text) {
         final List<RobotToken> possibleRobotTokens = new ArrayList<>();
-        final StringBuilder sb = new StringBuilder(text);
-        for (final ATokenRecognizer rec : recognized) {
-            if (rec.hasNext(sb, fp.getLine(), fp.getColumn())) {
-                final RobotToken t = rec.next();
+        for (final ATokenRecognizer rec : recognizers.getRecognizers(text)) {
+            final Optional<RobotToken> token = rec.findFirst(text, fp.getLine());
+            if (token.isPresent()) {
+                final RobotToken t = token.get();
                 t.setStartColumn(t.getStartColumn() + fp.getColumn());
                 possibleRobotTokens.add(t);
             }
@@ -0,0 +1,473 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import org.rf.ide.core.testdata.IRobotFileParser;
+import org.rf.ide.core.testdata.model.AModelElement;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.IDocumentationHolder;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
+import org.rf.ide.core.testdata.model.table.ARobotSectionTable;
+import org.rf.ide.core.testdata.model.table.KeywordTable;
+import org.rf.ide.core.testdata.model.table.SettingTable;
+import org.rf.ide.core.testdata.model.table.TableHeader;
+import org.rf.ide.core.testdata.model.table.TestCaseTable;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.model.table.setting.AImported;
+import org.rf.ide.core.testdata.model.table.setting.DefaultTags;
+import org.rf.ide.core.testdata.model.table.setting.ForceTags;
+import org.rf.ide.core.testdata.model.table.setting.Metadata;
+import org.rf.ide.core.testdata.model.table.setting.SuiteDocumentation;
+import org.rf.ide.core.testdata.model.table.setting.SuiteSetup;
+import org.rf.ide.core.testdata.model.table.setting.SuiteTeardown;
+import org.rf.ide.core.testdata.model.table.setting.TestSetup;
+import org.rf.ide.core.testdata.model.table.setting.TestTeardown;
+import org.rf.ide.core.testdata.model.table.setting.TestTemplate;
+import org.rf.ide.core.testdata.model.table.setting.TestTimeout;
+import org.rf.ide.core.testdata.model.table.setting.UnknownSetting;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.model.table.variables.AVariable;
+import org.rf.ide.core.testdata.text.read.LineReader.Constant;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+import org.rf.ide.core.testdata.text.read.separators.Separator;
+
+/**
+ * Reparses only the part of already parsed content which was affected by a change. The damaged
+ * region is extended backwards to the beginning of test case or keyword containing it and forwards
+ * up to the beginning of next test case, keyword or table, and only this region is parsed
+ * separately. The result is built as a new output: lines and elements placed before the region
+ * share tokens with the previous output, newly parsed lines and units are put in place of the
+ * region, while the lines and elements placed after it are copied with tokens moved by the
+ * difference of lines and offsets introduced by the change.
+ * <p>
+ * The previous output is never modified, so readers holding it are not affected by reparsing.
+ * <p>
+ * Changes which may affect the structure of the file (changes in table headers, in settings or
+ * variables tables, before first test case or keyword etc.) are not handled; in such case the
+ * content has to be parsed fully.
+ */
+public class IncrementalRobotFileReparser {
+
+    private final IRobotFileParser parser;
+
+    public IncrementalRobotFileReparser(final IRobotFileParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Tries to build the output for given content after the change using the output for the
+     * content before the change.
+     *
+     * @param output
+     *            output of parsing the content before the change, it is not modified
+     * @param content
+     *            whole content after the change
+     * @param file
+     *            file from which the content comes
+     * @param damageOffset
+     *            offset at which the change starts
+     * @param replacedLength
+     *            length of the text replaced in content before the change
+     * @param insertedLength
+     *            length of the text which was inserted in place of replaced text
+     * @return new output reflecting given content or empty optional when content has to be
+     *         parsed fully
+     */
+    public Optional<RobotFileOutput> reparse(final RobotFileOutput output, final String content, final File file,
+            final int damageOffset, final int replacedLength, final int insertedLength) {
+        if (output.getStatus() != Status.PASSED || !output.getBuildingMessages().isEmpty() || damageOffset < 0
+                || replacedLength < 0 || insertedLength < 0) {
+            return Optional.empty();
+        }
+        final RobotFile fileModel = output.getFileModel();
+        final List<RobotLine> lines = fileModel.getFileContent();
+        if (lines.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final int firstDamagedLine = findLineIndex(lines, damageOffset);
+        final int lastDamagedLine = findLineIndex(lines, damageOffset + replacedLength);
+
+        final int headerLine = findPrecedingTableHeader(lines, firstDamagedLine);
+        if (headerLine < 0) {
+            return Optional.empty();
+        }
+        final Optional<RobotTokenType> unitNameType = getUnitNameType(lines.get(headerLine));
+        if (!unitNameType.isPresent()) {
+            return Optional.empty();
+        }
+        final int regionStart = findPrecedingUnitStart(lines, headerLine, firstDamagedLine, unitNameType.get());
+        if (regionStart < 0 || containsTableHeader(lines, firstDamagedLine, lastDamagedLine + 1)) {
+            return Optional.empty();
+        }
+        final int regionEnd = findFollowingBoundary(lines, lastDamagedLine + 1, unitNameType.get());
+        final boolean hasTail = regionEnd < lines.size();
+
+        final int offsetShift = insertedLength - replacedLength;
+        final int regionStartOffset = getLineStartOffset(lines.get(regionStart));
+        final int tailStartOffset = hasTail ? getLineStartOffset(lines.get(regionEnd)) : Integer.MAX_VALUE;
+        final int regionEndOffset = hasTail ? tailStartOffset + offsetShift : content.length();
+        final int headerStartOffset = getLineStartOffset(lines.get(headerLine));
+        final int headerEndOffset = getLineStartOffset(lines.get(headerLine + 1));
+        if (regionStartOffset >= regionEndOffset || regionEndOffset > content.length()) {
+            return Optional.empty();
+        }
+        final String headerText = content.substring(headerStartOffset, headerEndOffset);
+        final String regionText = content.substring(regionStartOffset, regionEndOffset);
+        if (headerText.indexOf('\uFEFF') >= 0) {
+            return Optional.empty();
+        }
+
+        final RobotFileOutput regionOutput = new RobotFileOutput(output.getRobotVersion());
+        parser.parse(regionOutput,
+                new ByteArrayInputStream((headerText + regionText).getBytes(Charset.forName("UTF-8"))), file);
+        if (regionOutput.getStatus() != Status.PASSED || !regionOutput.getBuildingMessages().isEmpty()) {
+            return Optional.empty();
+        }
+
+        // region followed by a tail ends with line separator, so the parser reports additional empty
+        // line after it, which is actually the first line of the tail
+        final List<RobotLine> parsedLines = regionOutput.getFileModel().getFileContent();
+        final int parsedRegionEnd = hasTail ? parsedLines.size() - 1 : parsedLines.size();
+        if (parsedRegionEnd < 2 || !isUnitStart(parsedLines.get(1), unitNameType.get())
+                || containsTableHeader(parsedLines, 1, parsedRegionEnd)
+                || hasTail && !parsedLines.get(parsedRegionEnd).getLineElements().isEmpty()) {
+            return Optional.empty();
+        }
+
+        final int lineShift = (parsedRegionEnd - 1) - (regionEnd - regionStart);
+        final TokensRelocation relocation = new TokensRelocation(tailStartOffset, lineShift, offsetShift);
+
+        final RobotFileOutput newOutput = new RobotFileOutput(output.getRobotVersion());
+        newOutput.setProcessedFile(output.getProcessedFile());
+        newOutput.setLastModificationEpochTime(output.getLastModificationEpochTime());
+        newOutput.setStatus(Status.PASSED);
+        final RobotFile newModel = newOutput.getFileModel();
+
+        for (int i = 0; i < regionStart; i++) {
+            newModel.addNewLine(relocation.copy(lines.get(i), newModel));
+        }
+        final int regionLineShift = lines.get(regionStart).getLineNumber() - 2;
+        final int regionOffsetShift = regionStartOffset - headerText.length();
+        for (int i = 1; i < parsedRegionEnd; i++) {
+            newModel.addNewLine(relocate(parsedLines.get(i), newModel, regionLineShift, regionOffsetShift));
+        }
+        for (int i = regionEnd; i < lines.size(); i++) {
+            newModel.addNewLine(relocation.copy(lines.get(i), newModel));
+        }
+
+        final RobotFile regionModel = regionOutput.getFileModel();
+        copySettings(fileModel.getSettingTable(), newModel.getSettingTable(), relocation);
+        for (final AVariable variable : fileModel.getVariableTable().getVariables()) {
+            newModel.getVariableTable().addVariable((AVariable) variable.copy(relocation));
+        }
+
+        final boolean isRegionOfTests = unitNameType.get() == RobotTokenType.TEST_CASE_NAME;
+        final TestCaseTable testsTable = newModel.getTestCaseTable();
+        for (final TestCase test : fileModel.getTestCaseTable().getTestCases()) {
+            if (!isRegionOfTests || isPlacedBefore(test, regionStartOffset)) {
+                testsTable.addTest(test.copy(relocation));
+            }
+        }
+        if (isRegionOfTests) {
+            regionModel.getTestCaseTable().getTestCases().forEach(testsTable::addTest);
+            for (final TestCase test : fileModel.getTestCaseTable().getTestCases()) {
+                if (!isPlacedBefore(test, tailStartOffset)) {
+                    testsTable.addTest(test.copy(relocation));
+                }
+            }
+        }
+        final KeywordTable keywordsTable = newModel.getKeywordTable();
+        for (final UserKeyword keyword : fileModel.getKeywordTable().getKeywords()) {
+            if (isRegionOfTests || isPlacedBefore(keyword, regionStartOffset)) {
+                keywordsTable.addKeyword(keyword.copy(relocation));
+            }
+        }
+        if (!isRegionOfTests) {
+            regionModel.getKeywordTable().getKeywords().forEach(keywordsTable::addKeyword);
+            for (final UserKeyword keyword : fileModel.getKeywordTable().getKeywords()) {
+                if (!isPlacedBefore(keyword, tailStartOffset)) {
+                    keywordsTable.addKeyword(keyword.copy(relocation));
+                }
+            }
+        }
+
+        copyHeaders(fileModel.getSettingTable(), newModel.getSettingTable(), relocation);
+        copyHeaders(fileModel.getVariableTable(), newModel.getVariableTable(), relocation);
+        copyHeaders(fileModel.getTestCaseTable(), testsTable, relocation);
+        copyHeaders(fileModel.getKeywordTable(), keywordsTable, relocation);
+
+        getDocumentations(newModel).forEach(newOutput.getDocumentationCacher()::register);
+        return Optional.of(newOutput);
+    }
+
+    private static int findLineIndex(final List<RobotLine> lines, final int offset) {
+        int low = 0;
+        int high = lines.size() - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (getLineStartOffset(lines.get(middle)) <= offset) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private static int findPrecedingTableHeader(final List<RobotLine> lines, final int lineIndex) {
+        for (int i = lineIndex; i >= 0; i--) {
+            if (isTableHeader(lines.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int findPrecedingUnitStart(final List<RobotLine> lines, final int headerLine, final int lineIndex,
+            final RobotTokenType unitNameType) {
+        for (int i = lineIndex; i > headerLine; i--) {
+            if (isUnitStart(lines.get(i), unitNameType)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int findFollowingBoundary(final List<RobotLine> lines, final int lineIndex,
+            final RobotTokenType unitNameType) {
+        for (int i = lineIndex; i < lines.size(); i++) {
+            if (isUnitStart(lines.get(i), unitNameType) || isTableHeader(lines.get(i))) {
+                return i;
+            }
+        }
+        return lines.size();
+    }
+
+    private static boolean containsTableHeader(final List<RobotLine> lines, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex; i < Math.min(toIndex, lines.size()); i++) {
+            if (isTableHeader(lines.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static RobotLine relocate(final RobotLine line, final RobotFile parent, final int lineShift,
+            final int offsetShift) {
+        // only lines of separately parsed region are relocated in place, those are not visible to anyone else
+        final RobotLine newLine = new RobotLine(line.getLineNumber() + lineShift, parent);
+        newLine.setSeparatorType(line.getSeparatorForLine().orElse(null));
+        for (final IRobotLineElement element : line.getLineElements()) {
+            if (element instanceof RobotToken) {
+                final RobotToken token = (RobotToken) element;
+                token.setLineNumber(shift(token.getLineNumber(), lineShift));
+                token.setStartOffset(shift(token.getStartOffset(), offsetShift));
+            } else if (element instanceof Separator) {
+                final Separator separator = (Separator) element;
+                separator.setLineNumber(shift(separator.getLineNumber(), lineShift));
+                separator.setStartOffset(shift(separator.getStartOffset(), offsetShift));
+            }
+        }
+        newLine.setLineElements(line.getLineElements());
+
+        final IRobotLineElement eol = line.getEndOfLine();
+        newLine.setEndOfLine(Constant.get(eol), shift(eol.getStartOffset(), offsetShift), eol.getStartColumn());
+        return newLine;
+    }
+
+    private static int shift(final int value, final int shift) {
+        return value == IRobotLineElement.NOT_SET ? value : value + shift;
+    }
+
+    private static void copySettings(final SettingTable settings, final SettingTable newSettings,
+            final UnaryOperator<RobotToken> tokens) {
+        for (final AImported imported : settings.getImports()) {
+            newSettings.addImported((AImported) imported.copy(tokens));
+        }
+        for (final SuiteDocumentation documentation : settings.getDocumentation()) {
+            newSettings.addDocumentation(documentation.copy(tokens));
+        }
+        for (final Metadata metadata : settings.getMetadatas()) {
+            newSettings.addMetadata(metadata.copy(tokens));
+        }
+        for (final SuiteSetup setup : settings.getSuiteSetups()) {
+            newSettings.addSuiteSetup(setup.copy(tokens));
+        }
+        for (final SuiteTeardown teardown : settings.getSuiteTeardowns()) {
+            newSettings.addSuiteTeardown(teardown.copy(tokens));
+        }
+        for (final ForceTags tags : settings.getForceTags()) {
+            newSettings.addForceTags(tags.copy(tokens));
+        }
+        for (final DefaultTags tags : settings.getDefaultTags()) {
+            newSettings.addDefaultTags(tags.copy(tokens));
+        }
+        for (final TestSetup setup : settings.getTestSetups()) {
+            newSettings.addTestSetup(setup.copy(tokens));
+        }
+        for (final TestTeardown teardown : settings.getTestTeardowns()) {
+            newSettings.addTestTeardown(teardown.copy(tokens));
+        }
+        for (final TestTemplate template : settings.getTestTemplates()) {
+            newSettings.addTestTemplate(template.copy(tokens));
+        }
+        for (final TestTimeout timeout : settings.getTestTimeouts()) {
+            newSettings.addTestTimeout(timeout.copy(tokens));
+        }
+        for (final UnknownSetting setting : settings.getUnknownSettings()) {
+            newSettings.addUnknownSetting(setting.copy(tokens));
+        }
+    }
+
+    private static void copyHeaders(final ARobotSectionTable table, final ARobotSectionTable newTable,
+            final UnaryOperator<RobotToken> tokens) {
+        for (final TableHeader<? extends ARobotSectionTable> header : table.getHeaders()) {
+            newTable.addHeader(header.copy(tokens));
+        }
+    }
+
+    private static boolean isPlacedBefore(final AModelElement<?> element, final int offset) {
+        return element.getBeginPosition().getOffset() < offset;
+    }
+
+    private static Optional<RobotTokenType> getUnitNameType(final RobotLine headerLine) {
+        final Optional<RobotToken> header = getFirstToken(headerLine);
+        if (header.isPresent()) {
+            final List<IRobotTokenType> types = header.get().getTypes();
+            if (types.contains(RobotTokenType.TEST_CASES_TABLE_HEADER)) {
+                return Optional.of(RobotTokenType.TEST_CASE_NAME);
+            } else if (types.contains(RobotTokenType.KEYWORDS_TABLE_HEADER)) {
+                return Optional.of(RobotTokenType.KEYWORD_NAME);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isTableHeader(final RobotLine line) {
+        final Optional<RobotToken> token = getFirstToken(line);
+        return token.isPresent() && token.get().getText().trim().startsWith("*");
+    }
+
+    private static boolean isUnitStart(final RobotLine line, final RobotTokenType unitNameType) {
+        // empty names, line continuations or settings placed in first column are not starting new
+        // units, however they may be recognized as names when parsed separately
+        final Optional<RobotToken> token = getFirstToken(line);
+        if (token.isPresent()) {
+            final List<IRobotTokenType> types = token.get().getTypes();
+            return types.size() == 1 && types.get(0) == unitNameType && !token.get().getText().trim().isEmpty();
+        }
+        return false;
+    }
+
+    private static Optional<RobotToken> getFirstToken(final RobotLine line) {
+        for (final IRobotLineElement element : line.getLineElements()) {
+            if (element instanceof RobotToken) {
+                return Optional.of((RobotToken) element);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static int getLineStartOffset(final RobotLine line) {
+        final List<IRobotLineElement> elements = line.getLineElements();
+        return elements.isEmpty() ? line.getEndOfLine().getStartOffset() : elements.get(0).getStartOffset();
+    }
+
+    private static List<IDocumentationHolder> getDocumentations(final RobotFile fileModel) {
+        // suite documentation is registered when added to settings table
+        final List<IDocumentationHolder> documentations = new ArrayList<>();
+        for (final TestCase test : fileModel.getTestCaseTable().getTestCases()) {
+            documentations.addAll(test.getDocumentation());
+        }
+        for (final UserKeyword keyword : fileModel.getKeywordTable().getKeywords()) {
+            documentations.addAll(keyword.getDocumentation());
+        }
+        return documentations;
+    }
+
+    /**
+     * Provides tokens and lines for the new output. Those placed before the tail are shared with the
+     * previous output, while those placed in the tail are copied and moved by given shifts. The same
+     * copy is provided for a token each time, so lines and model elements of new output are holding
+     * the same tokens as in the previous one. Tokens which are not placed in the file are always
+     * copied.
+     */
+    private static final class TokensRelocation implements UnaryOperator<RobotToken> {
+
+        private final int tailStartOffset;
+
+        private final int lineShift;
+
+        private final int offsetShift;
+
+        private final Map<RobotToken, RobotToken> relocatedTokens = new IdentityHashMap<>();
+
+        private TokensRelocation(final int tailStartOffset, final int lineShift, final int offsetShift) {
+            this.tailStartOffset = tailStartOffset;
+            this.lineShift = lineShift;
+            this.offsetShift = offsetShift;
+        }
+
+        @Override
+        public RobotToken apply(final RobotToken token) {
+            final int offset = token.getStartOffset();
+            if (offset == IRobotLineElement.NOT_SET) {
+                return token.copy();
+            } else if (offset < tailStartOffset) {
+                return token;
+            }
+            return relocatedTokens.computeIfAbsent(token, t -> {
+                final RobotToken copy = t.copy();
+                copy.setFilePosition(relocate(t.getFilePosition()));
+                return copy;
+            });
+        }
+
+        private RobotLine copy(final RobotLine line, final RobotFile parent) {
+            final boolean isInTail = getLineStartOffset(line) >= tailStartOffset;
+            final RobotLine newLine = new RobotLine(line.getLineNumber() + (isInTail ? lineShift : 0), parent);
+            newLine.setSeparatorType(line.getSeparatorForLine().orElse(null));
+            final List<IRobotLineElement> elements = new ArrayList<>(line.getLineElements().size());
+            for (final IRobotLineElement element : line.getLineElements()) {
+                if (element instanceof RobotToken) {
+                    elements.add(apply((RobotToken) element));
+                } else if (element instanceof Separator && isInTail) {
+                    final Separator separator = ((Separator) element).copy();
+                    separator.setLineNumber(shift(separator.getLineNumber(), lineShift));
+                    separator.setStartOffset(shift(separator.getStartOffset(), offsetShift));
+                    elements.add(separator);
+                } else {
+                    elements.add(element);
+                }
+            }
+            newLine.setLineElements(elements);
+
+            final IRobotLineElement eol = line.getEndOfLine();
+            newLine.setEndOfLine(Constant.get(eol), shift(eol.getStartOffset(), isInTail ? offsetShift : 0),
+                    eol.getStartColumn());
+            return newLine;
+        }
+
+        private FilePosition relocate(final FilePosition position) {
+            return new FilePosition(shift(position.getLine(), lineShift), position.getColumn(),
+                    shift(position.getOffset(), offsetShift));
+        }
+    }
+}
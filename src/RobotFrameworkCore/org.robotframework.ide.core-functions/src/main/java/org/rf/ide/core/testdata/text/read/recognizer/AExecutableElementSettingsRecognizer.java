@@ -70,4 +70,9 @@ public abstract class AExecutableElementSettingsRecognizer extends
 
         return Pattern.compile(patternText.toString());
     }
+
+    @Override
+    public String getRequiredCharacters() {
+        return "[";
+    }
 }
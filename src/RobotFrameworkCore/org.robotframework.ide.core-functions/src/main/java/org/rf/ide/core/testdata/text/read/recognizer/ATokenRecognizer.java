@@ -5,6 +5,7 @@
  */
 package org.rf.ide.core.testdata.text.read.recognizer;
 
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -37,6 +38,14 @@ public abstract class ATokenRecognizer {
 
     public abstract ATokenRecognizer newInstance();
 
+    /**
+     * @return characters of which at least one is contained in every text matched by this
+     *         recognizer or empty string if the recognizer may match text without any of them
+     */
+    public String getRequiredCharacters() {
+        return "";
+    }
+
     @VisibleForTesting
     public boolean hasNext(final StringBuilder newText, final int currentLineNumber, final int currentColumnNumber) {
         return hasNext(newText.toString(), currentLineNumber, currentColumnNumber);
@@ -54,6 +63,20 @@ public abstract class ATokenRecognizer {
     }
 
     public RobotToken next() {
+        return createToken(matcher, text, lineNumber);
+    }
+
+    /**
+     * Finds first token in given text. Unlike {@link #hasNext(String, int, int)} and {@link #next()}
+     * it does not change the state of this recognizer, so single instance may be used by many
+     * parsers at once.
+     */
+    public Optional<RobotToken> findFirst(final String text, final int lineNumber) {
+        final Matcher textMatcher = pattern.matcher(text);
+        return textMatcher.find() ? Optional.of(createToken(textMatcher, text, lineNumber)) : Optional.empty();
+    }
+
+    private RobotToken createToken(final Matcher matcher, final String text, final int lineNumber) {
         final RobotToken t = new RobotToken();
         t.setLineNumber(lineNumber);
         final int start = matcher.start();
@@ -25,4 +25,9 @@ public class PreviousLineContinueRecognizer extends ATokenRecognizer {
     public ATokenRecognizer newInstance() {
         return new PreviousLineContinueRecognizer();
     }
+
+    @Override
+    public String getRequiredCharacters() {
+        return ".";
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.rf.ide.core.testdata.model.RobotVersion;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Recognizers of all tables applicable for given Robot version. Only recognizers which may match
+ * given text are returned: recognizers are grouped by characters required in text they match
+ * and dispatched by such characters found in the text, so that most cells are checked against a
+ * few regular expressions instead of all of them. Dispatchers are shared per Robot version, so
+ * returned recognizers have to be used with {@link ATokenRecognizer#findFirst(String, int)} only.
+ */
+public final class TokenRecognizersDispatcher {
+
+    private static final Map<RobotVersion, TokenRecognizersDispatcher> DISPATCHERS = new ConcurrentHashMap<>();
+
+    public static TokenRecognizersDispatcher forVersion(final RobotVersion robotVersion) {
+        if (robotVersion == null) {
+            return new TokenRecognizersDispatcher(createRecognizers(null));
+        }
+        return DISPATCHERS.computeIfAbsent(robotVersion,
+                version -> new TokenRecognizersDispatcher(createRecognizers(version)));
+    }
+
+    private static List<ATokenRecognizer> createRecognizers(final RobotVersion robotVersion) {
+        final List<ATokenRecognizer> recognizers = new ArrayList<>();
+        recognizers.addAll(new SettingsRecognizersProvider().getRecognizers(robotVersion));
+        recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
+        recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(robotVersion));
+        recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(robotVersion));
+        return recognizers;
+    }
+
+    private final List<ATokenRecognizer> recognizers;
+
+    private final String requiredCharacters;
+
+    private final long allRequiredCharactersMask;
+
+    // bit i of the mask is set when recognizer requires i-th of required characters
+    private final long[] requiredCharactersMasks;
+
+    private final Map<Long, List<ATokenRecognizer>> recognizersByFoundCharacters = new ConcurrentHashMap<>();
+
+    TokenRecognizersDispatcher(final List<ATokenRecognizer> recognizers) {
+        this.recognizers = ImmutableList.copyOf(recognizers);
+
+        final StringBuilder characters = new StringBuilder();
+        for (final ATokenRecognizer recognizer : recognizers) {
+            for (final char c : recognizer.getRequiredCharacters().toCharArray()) {
+                if (characters.indexOf(String.valueOf(c)) < 0) {
+                    characters.append(c);
+                }
+            }
+        }
+        checkState(characters.length() <= Long.SIZE, "Too many characters required by recognizers");
+        this.requiredCharacters = characters.toString();
+        this.allRequiredCharactersMask = characters.length() == 0 ? 0L : -1L >>> (Long.SIZE - characters.length());
+
+        this.requiredCharactersMasks = new long[recognizers.size()];
+        for (int i = 0; i < recognizers.size(); i++) {
+            requiredCharactersMasks[i] = maskOf(recognizers.get(i).getRequiredCharacters());
+        }
+    }
+
+    /**
+     * @return recognizers which may match given text, in the order in which they were provided
+     */
+    public List<ATokenRecognizer> getRecognizers(final String text) {
+        return recognizersByFoundCharacters.computeIfAbsent(maskOf(text), this::selectRecognizers);
+    }
+
+    private long maskOf(final String text) {
+        long mask = 0L;
+        for (int i = 0; i < text.length() && mask != allRequiredCharactersMask; i++) {
+            final int index = requiredCharacters.indexOf(text.charAt(i));
+            if (index >= 0) {
+                mask |= 1L << index;
+            }
+        }
+        return mask;
+    }
+
+    private List<ATokenRecognizer> selectRecognizers(final long foundCharactersMask) {
+        final List<ATokenRecognizer> selected = new ArrayList<>();
+        for (int i = 0; i < recognizers.size(); i++) {
+            final long requiredMask = requiredCharactersMasks[i];
+            if (requiredMask == 0L || (requiredMask & foundCharactersMask) != 0L) {
+                selected.add(recognizers.get(i));
+            }
+        }
+        return ImmutableList.copyOf(selected);
+    }
+}
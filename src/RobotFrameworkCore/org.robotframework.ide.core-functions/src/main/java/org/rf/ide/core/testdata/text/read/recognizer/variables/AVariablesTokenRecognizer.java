@@ -17,8 +17,16 @@ public abstract class AVariablesTokenRecognizer extends ATokenRecognizer {
     private static final String TEMPLATE = "[ ]?[" + "%s" + "]"
             + "(\\s*)[{].*([}]$|$)";
 
+    private final String identificator;
+
     protected AVariablesTokenRecognizer(final VariableType varType) {
         super(createVariablePattern(varType), varType.getType());
+        this.identificator = varType.getIdentificator();
+    }
+
+    @Override
+    public String getRequiredCharacters() {
+        return identificator;
     }
 
     @VisibleForTesting
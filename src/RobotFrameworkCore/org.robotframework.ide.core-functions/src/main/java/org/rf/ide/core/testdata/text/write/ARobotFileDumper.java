@@ -33,11 +33,13 @@ import org.rf.ide.core.testdata.model.table.VariableTable;
 import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
 import org.rf.ide.core.testdata.model.table.testcases.TestCase;
 import org.rf.ide.core.testdata.model.table.variables.AVariable;
+import org.rf.ide.core.testdata.text.read.EndOfLineBuilder.EndOfLineTypes;
 import org.rf.ide.core.testdata.text.read.IRobotLineElement;
 import org.rf.ide.core.testdata.text.read.RobotLine;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.separators.Separator;
 import org.rf.ide.core.testdata.text.read.separators.Separator.SeparatorType;
+import org.rf.ide.core.testdata.text.write.DumpBlocksBuilder.DumpBlock;
 import org.rf.ide.core.testdata.text.write.SectionBuilder.Section;
 import org.rf.ide.core.testdata.text.write.SectionBuilder.SectionType;
 import org.rf.ide.core.testdata.text.write.tables.ISectionTableDumper;
@@ -74,6 +76,116 @@ public abstract class ARobotFileDumper implements IRobotFileDumper {
         return newLines(model, new DumpedResultBuilder());
     }
 
+    @Override
+    public DumpedResult dumpIncrementallyToResultObject(final RobotFile model) {
+        final List<Section> sections = new SectionBuilder().build(model);
+
+        final SettingTable settingTable = model.getSettingTable();
+        final VariableTable variableTable = model.getVariableTable();
+        final TestCaseTable testCaseTable = model.getTestCaseTable();
+        final KeywordTable keywordTable = model.getKeywordTable();
+        final Optional<List<DumpBlock>> blocks = new DumpBlocksBuilder()
+                .table(SectionType.SETTINGS, settingTable.getHeaders(), copySettings(sortSettings(settingTable)))
+                .table(SectionType.VARIABLES, variableTable.getHeaders(), copyVariables(sortVariables(variableTable)))
+                .table(SectionType.TEST_CASES, testCaseTable.getHeaders(), copyTestCases(getTestCases(testCaseTable)))
+                .table(SectionType.KEYWORDS, keywordTable.getHeaders(), copyKeywords(getKeywords(keywordTable)))
+                .build(model, sections);
+        if (!blocks.isPresent()) {
+            return dumpToResultObject(model);
+        }
+
+        final List<RobotLine> lines = new ArrayList<>(0);
+        final DumpedResultBuilder builder = new DumpedResultBuilder().producedLines(lines).trackChangedLines();
+        this.aDumpHelper.setTokenDumpListener(builder);
+
+        final List<RobotLine> fileContent = model.getFileContent();
+        for (final DumpBlock block : blocks.get()) {
+            if (block.isDumped()) {
+                final TableHeader<? extends ARobotSectionTable> th = block.getHeader();
+                final int newFirstLine = countFinishedLines(lines);
+                findDumper(th).dumpElement(model, sections, getSectionWithHeader(sections, th), th,
+                        block.getSortedElements(), block.getElementIndex(), lines);
+
+                final int previousOffset = getStartOffset(fileContent, block.getStart());
+                final int previousLength = getStartOffset(fileContent, block.getEnd()) - previousOffset;
+                builder.addChangedLines(block.getStart(), block.getEnd() - block.getStart(), previousOffset,
+                        previousLength, newFirstLine, countFinishedLines(lines) - newFirstLine);
+            } else {
+                addLineSeparatorIfIsRequired(model, lines);
+                for (int lineId = block.getStart(); lineId < block.getEnd(); lineId++) {
+                    final RobotLine line = fileContent.get(lineId);
+                    final int newLine = countFinishedLines(lines);
+                    aDumpHelper.dumpLineDirectly(model, lines, line);
+
+                    if (containsDirtyToken(line)) {
+                        // lines which are not part of model, e.g. user tables, may be changed too
+                        final int previousOffset = getStartOffset(fileContent, lineId);
+                        final int previousLength = getStartOffset(fileContent, lineId + 1) - previousOffset;
+                        builder.addChangedLines(lineId, 1, previousOffset, previousLength, newLine,
+                                countFinishedLines(lines) - newLine);
+                    }
+                }
+            }
+        }
+
+        aDumpHelper.addEOFinCaseIsMissing(model, lines);
+
+        return builder.build();
+    }
+
+    private void addLineSeparatorIfIsRequired(final RobotFile model, final List<RobotLine> lines) {
+        if (!lines.isEmpty()) {
+            final RobotLine lastLine = lines.get(lines.size() - 1);
+            final IRobotLineElement endOfLine = lastLine.getEndOfLine();
+            if ((endOfLine == null || endOfLine.getFilePosition().isNotSet()
+                    || endOfLine.getTypes().contains(EndOfLineTypes.NON)
+                    || endOfLine.getTypes().contains(EndOfLineTypes.EOF))
+                    && !lastLine.getLineElements().isEmpty()) {
+                aDumpHelper.getDumpLineUpdater().updateLine(model, lines, aDumpHelper.getLineSeparator(model));
+            }
+        }
+    }
+
+    private static int countFinishedLines(final List<RobotLine> lines) {
+        // updater keeps empty line opened after each line separator
+        if (!lines.isEmpty()) {
+            final RobotLine lastLine = lines.get(lines.size() - 1);
+            if (lastLine.getLineElements().isEmpty() && lastLine.getEndOfLine().getText().isEmpty()) {
+                return lines.size() - 1;
+            }
+        }
+        return lines.size();
+    }
+
+    private static boolean containsDirtyToken(final RobotLine line) {
+        for (final IRobotLineElement elem : line.getLineElements()) {
+            if (elem.isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int getStartOffset(final List<RobotLine> fileContent, final int lineId) {
+        // texts of changed tokens differ from file content, but their positions are not changed
+        if (lineId == fileContent.size()) {
+            final IRobotLineElement endOfLine = fileContent.get(lineId - 1).getEndOfLine();
+            return endOfLine.getStartOffset() + endOfLine.getText().length();
+        }
+        final RobotLine line = fileContent.get(lineId);
+        return line.getLineElements().isEmpty() ? line.getEndOfLine().getStartOffset()
+                : line.getLineElements().get(0).getStartOffset();
+    }
+
+    private ISectionTableDumper findDumper(final TableHeader<? extends ARobotSectionTable> th) {
+        for (final ISectionTableDumper dumper : tableDumpers) {
+            if (dumper.isServedType(th)) {
+                return dumper;
+            }
+        }
+        return null;
+    }
+
     @Override
     public String dump(final RobotFile model) {
         return dumpToResultObject(model).newContent();
@@ -110,13 +222,7 @@ public abstract class ARobotFileDumper implements IRobotFileDumper {
             List<AModelElement<ARobotSectionTable>> sorted = null;
             final int sectionWithHeader = getSectionWithHeader(sections, th);
 
-            ISectionTableDumper dumperToUse = null;
-            for (final ISectionTableDumper dumper : tableDumpers) {
-                if (dumper.isServedType(th)) {
-                    dumperToUse = dumper;
-                    break;
-                }
-            }
+            final ISectionTableDumper dumperToUse = findDumper(th);
 
             if (th.getModelType() == ModelType.SETTINGS_TABLE_HEADER) {
                 sorted = copySettings(sortedSettings);
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.write;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+import org.rf.ide.core.testdata.model.AModelElement;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.table.ARobotSectionTable;
+import org.rf.ide.core.testdata.model.table.TableHeader;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+import org.rf.ide.core.testdata.text.write.SectionBuilder.Section;
+import org.rf.ide.core.testdata.text.write.SectionBuilder.SectionType;
+
+/**
+ * Divides file content into blocks of lines, so that lines of model elements which were not changed
+ * can be copied as they are and only changed elements have to be dumped. Each setting, variable, test
+ * case and keyword owns the lines starting at its declaration up to the declaration of the next
+ * element or the next table. Blocks cannot be built when the structure of model does not correspond to
+ * file content any longer, e.g. when table was added or header was changed; whole model has to be
+ * dumped then.
+ */
+class DumpBlocksBuilder {
+
+    private final Map<SectionType, TableElements> tables = new EnumMap<>(SectionType.class);
+
+    DumpBlocksBuilder table(final SectionType type,
+            final List<? extends TableHeader<? extends ARobotSectionTable>> headers,
+            final List<AModelElement<ARobotSectionTable>> sortedElements) {
+        tables.put(type, new TableElements(headers, sortedElements));
+        return this;
+    }
+
+    Optional<List<DumpBlock>> build(final RobotFile model, final List<Section> sections) {
+        final List<RobotLine> fileContent = model.getFileContent();
+        final List<DumpBlock> blocks = new ArrayList<>();
+        final Set<SectionType> foundTables = EnumSet.noneOf(SectionType.class);
+
+        final int sectionsSize = sections.size();
+        for (int sectionId = 0; sectionId < sectionsSize; sectionId++) {
+            final Section section = sections.get(sectionId);
+            final int start = section.getStart().getLine() - 1;
+            final int end = sectionId + 1 < sectionsSize ? sections.get(sectionId + 1).getStart().getLine() - 1
+                    : fileContent.size();
+            if (start < 0 || end < start || end > fileContent.size()) {
+                return Optional.empty();
+            }
+
+            final TableElements table = tables.get(section.getType());
+            if (table == null) {
+                // lines before first table and user tables are not represented in model
+                addCopiedBlock(blocks, start, end);
+            } else if (!foundTables.add(section.getType())
+                    || !addTableBlocks(fileContent, start, end, table, blocks)) {
+                return Optional.empty();
+            }
+        }
+
+        for (final Entry<SectionType, TableElements> table : tables.entrySet()) {
+            if (!foundTables.contains(table.getKey()) && !table.getValue().isEmpty()) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(blocks);
+    }
+
+    private boolean addTableBlocks(final List<RobotLine> fileContent, final int start, final int end,
+            final TableElements table, final List<DumpBlock> blocks) {
+        if (table.headers.size() != 1) {
+            return false;
+        }
+        final TableHeader<? extends ARobotSectionTable> header = table.headers.get(0);
+        if (header.getDeclaration().getLineNumber() - 1 != start) {
+            return false;
+        }
+
+        final List<AModelElement<ARobotSectionTable>> elements = table.sortedElements;
+        final int elementsSize = elements.size();
+        final int[] elementsStarts = new int[elementsSize + 1];
+        int previousStart = start;
+        for (int elementId = 0; elementId < elementsSize; elementId++) {
+            final FilePosition position = elements.get(elementId).getBeginPosition();
+            final int elementStart = position.isNotSet() ? FilePosition.NOT_SET : position.getLine() - 1;
+            if (elementStart <= previousStart || elementStart >= end) {
+                // element was added or elements were reordered
+                return false;
+            }
+            elementsStarts[elementId] = elementStart;
+            previousStart = elementStart;
+        }
+        elementsStarts[elementsSize] = end;
+
+        final int headerEnd = elementsStarts[0];
+        if (!isUnchanged(fileContent, start, headerEnd, header.getElementTokens())) {
+            return false;
+        }
+        addCopiedBlock(blocks, start, headerEnd);
+
+        for (int elementId = 0; elementId < elementsSize; elementId++) {
+            final int elementStart = elementsStarts[elementId];
+            final int elementEnd = elementsStarts[elementId + 1];
+            if (isUnchanged(fileContent, elementStart, elementEnd, elements.get(elementId).getElementTokens())) {
+                addCopiedBlock(blocks, elementStart, elementEnd);
+            } else {
+                blocks.add(new DumpBlock(elementStart, elementEnd, header, elements, elementId));
+            }
+        }
+        return true;
+    }
+
+    private static void addCopiedBlock(final List<DumpBlock> blocks, final int start, final int end) {
+        if (start == end) {
+            return;
+        }
+        final DumpBlock last = blocks.isEmpty() ? null : blocks.get(blocks.size() - 1);
+        if (last != null && !last.isDumped() && last.end == start) {
+            blocks.set(blocks.size() - 1, new DumpBlock(last.start, end, null, null, -1));
+        } else {
+            blocks.add(new DumpBlock(start, end, null, null, -1));
+        }
+    }
+
+    /**
+     * Element is unchanged when none of its tokens is dirty and the given lines contain all of its
+     * tokens and no other tokens, except those which do not hold any data, e.g. empty cells, pretty
+     * align spaces or line continuation marks, and hash comment lines following the element, which
+     * are not part of the model.
+     */
+    private static boolean isUnchanged(final List<RobotLine> fileContent, final int start, final int end,
+            final List<RobotToken> elementTokens) {
+        final Set<RobotToken> ownedTokens = Collections.newSetFromMap(new IdentityHashMap<>());
+        int lastOwningLine = start;
+        for (final RobotToken token : elementTokens) {
+            if (isCommentRowActionPlaceholder(token)) {
+                continue;
+            }
+            final int line = token.getLineNumber() - 1;
+            if (token.isDirty() || line < start || line >= end) {
+                return false;
+            }
+            ownedTokens.add(token);
+            lastOwningLine = Math.max(lastOwningLine, line);
+        }
+
+        int foundTokens = 0;
+        for (int line = start; line < end; line++) {
+            for (final IRobotLineElement element : fileContent.get(line).getLineElements()) {
+                if (!(element instanceof RobotToken)) {
+                    continue;
+                } else if (ownedTokens.contains(element)) {
+                    foundTokens++;
+                } else if (!isLayoutToken(element) && !(line > lastOwningLine && isHashComment(element))) {
+                    return false;
+                }
+            }
+        }
+        return foundTokens == ownedTokens.size();
+    }
+
+    private static boolean isCommentRowActionPlaceholder(final RobotToken token) {
+        // rows containing only comments have empty action which is not written to file
+        return !token.isDirty() && token.getFilePosition().isNotSet() && token.getText().isEmpty()
+                && token.getTypes().contains(RobotTokenType.START_HASH_COMMENT);
+    }
+
+    private static boolean isLayoutToken(final IRobotLineElement token) {
+        // trailing empty cells are removed from some elements, e.g. tags, when their tokens are taken
+        return !token.isDirty() && token.getText().isEmpty()
+                || token.getTypes().contains(RobotTokenType.PRETTY_ALIGN_SPACE)
+                || token.getTypes().contains(RobotTokenType.PREVIOUS_LINE_CONTINUE);
+    }
+
+    private static boolean isHashComment(final IRobotLineElement token) {
+        return token.getTypes().contains(RobotTokenType.START_HASH_COMMENT)
+                || token.getTypes().contains(RobotTokenType.COMMENT_CONTINUE);
+    }
+
+    private static class TableElements {
+
+        private final List<? extends TableHeader<? extends ARobotSectionTable>> headers;
+
+        private final List<AModelElement<ARobotSectionTable>> sortedElements;
+
+        TableElements(final List<? extends TableHeader<? extends ARobotSectionTable>> headers,
+                final List<AModelElement<ARobotSectionTable>> sortedElements) {
+            this.headers = headers;
+            this.sortedElements = sortedElements;
+        }
+
+        boolean isEmpty() {
+            return headers.isEmpty() && sortedElements.isEmpty();
+        }
+    }
+
+    /**
+     * Range of file content lines [start, end) which is either copied or dumped from given element.
+     */
+    static class DumpBlock {
+
+        private final int start;
+
+        private final int end;
+
+        private final TableHeader<? extends ARobotSectionTable> header;
+
+        private final List<AModelElement<ARobotSectionTable>> sortedElements;
+
+        private final int elementIndex;
+
+        DumpBlock(final int start, final int end, final TableHeader<? extends ARobotSectionTable> header,
+                final List<AModelElement<ARobotSectionTable>> sortedElements, final int elementIndex) {
+            this.start = start;
+            this.end = end;
+            this.header = header;
+            this.sortedElements = sortedElements;
+            this.elementIndex = elementIndex;
+        }
+
+        int getStart() {
+            return start;
+        }
+
+        int getEnd() {
+            return end;
+        }
+
+        boolean isDumped() {
+            return header != null;
+        }
+
+        TableHeader<? extends ARobotSectionTable> getHeader() {
+            return header;
+        }
+
+        List<AModelElement<ARobotSectionTable>> getSortedElements() {
+            return sortedElements;
+        }
+
+        int getElementIndex() {
+            return elementIndex;
+        }
+    }
+}
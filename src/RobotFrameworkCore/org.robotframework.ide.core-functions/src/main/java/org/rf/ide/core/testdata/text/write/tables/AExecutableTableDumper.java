@@ -79,53 +79,8 @@ public abstract class AExecutableTableDumper implements ISectionTableDumper {
                             execUnit, model, lines);
                 }
 
-                @SuppressWarnings("rawtypes")
-                final IExecutableStepsHolder execHolder = (IExecutableStepsHolder) execUnit;
-
-                final RobotToken elemDeclaration = execHolder.getHolder().getDeclaration();
-                final FilePosition filePosition = elemDeclaration.getFilePosition();
-                int fileOffset = -1;
-                if (filePosition != null && !filePosition.isNotSet()) {
-                    fileOffset = filePosition.getOffset();
-                }
-
-                final RobotLine currentLine = getLineForToken(model, fileOffset);
-
-                addSeparatorInTheBeginning(model, lines, elemDeclaration, currentLine);
-
-                if (!elemDeclaration.isDirty() && currentLine != null) {
-                    getLineDumperHelper().updateLine(model, lines, elemDeclaration);
-                    addSuffixAfterTokenDeclaration(model, lines, elemDeclaration, currentLine);
-                } else {
-                    getLineDumperHelper().updateLine(model, lines, elemDeclaration);
-                }
-
-                final List<AModelElement<? extends IExecutableStepsHolder<?>>> sortedUnits = execHolder
-                        .getElements();
-                final int sortedUnitsSize = sortedUnits.size();
-                for (int sortedUnitId = 0; sortedUnitId < sortedUnitsSize; sortedUnitId++) {
-                    final AModelElement<? extends IExecutableStepsHolder<?>> execElement = sortedUnits
-                            .get(sortedUnitId);
-
-                    addLineSeparatorIfIsRequiredAfterExecElement(model, lines, execHolder, execElement);
-
-                    IExecutableSectionElementDumper elemDumper = null;
-                    for (final IExecutableSectionElementDumper dumper : dumpers) {
-                        if (dumper.isServedType(execElement)) {
-                            elemDumper = dumper;
-                            break;
-                        }
-                    }
-
-                    elemDumper.dump(model, sections, sectionWithHeaderPos, th, sortedUnits, execElement, lines);
-
-                    last = execElement;
-                }
-
-                if (sortedUnits.isEmpty()) {
-                    last = null;
-                }
-                getEmptyDumperHelper().dumpEmptyLines(model, lines, execUnit, execUnitIndex == lastIndexToDump);
+                last = dumpExecUnit(model, sections, sectionWithHeaderPos, th, execUnit,
+                        execUnitIndex == lastIndexToDump, lines);
             }
 
             if (last != null) {
@@ -142,6 +97,75 @@ public abstract class AExecutableTableDumper implements ISectionTableDumper {
         }
     }
 
+    @Override
+    public void dumpElement(final RobotFile model, final List<Section> sections, final int sectionWithHeaderPos,
+            final TableHeader<? extends ARobotSectionTable> th, final List<AModelElement<ARobotSectionTable>> sorted,
+            final int elementIndex, final List<RobotLine> lines) {
+        addLineSeparatorIfIsRequired(model, lines);
+
+        final AModelElement<ARobotSectionTable> execUnit = sorted.get(elementIndex);
+        final boolean isLastUnit = elementIndex == sorted.size() - 1;
+        final AModelElement<?> last = dumpExecUnit(model, sections, sectionWithHeaderPos, th, execUnit, isLastUnit,
+                lines);
+
+        if (!isLastUnit) {
+            getDumperHelper().getHashCommentDumper().dumpHashCommentsIfTheyExists(execUnit,
+                    sorted.get(elementIndex + 1), model, lines);
+        } else if (last != null) {
+            getDumperHelper().getHashCommentDumper().dumpHashCommentsIfTheyExists(last, null, model, lines);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private AModelElement<?> dumpExecUnit(final RobotFile model, final List<Section> sections,
+            final int sectionWithHeaderPos, final TableHeader<? extends ARobotSectionTable> th,
+            final AModelElement<ARobotSectionTable> execUnit, final boolean isLastUnit, final List<RobotLine> lines) {
+        @SuppressWarnings("rawtypes")
+        final IExecutableStepsHolder execHolder = (IExecutableStepsHolder) execUnit;
+
+        final RobotToken elemDeclaration = execHolder.getHolder().getDeclaration();
+        final FilePosition filePosition = elemDeclaration.getFilePosition();
+        int fileOffset = -1;
+        if (filePosition != null && !filePosition.isNotSet()) {
+            fileOffset = filePosition.getOffset();
+        }
+
+        final RobotLine currentLine = getLineForToken(model, fileOffset);
+
+        addSeparatorInTheBeginning(model, lines, elemDeclaration, currentLine);
+
+        if (!elemDeclaration.isDirty() && currentLine != null) {
+            getLineDumperHelper().updateLine(model, lines, elemDeclaration);
+            addSuffixAfterTokenDeclaration(model, lines, elemDeclaration, currentLine);
+        } else {
+            getLineDumperHelper().updateLine(model, lines, elemDeclaration);
+        }
+
+        AModelElement<?> last = null;
+        final List<AModelElement<? extends IExecutableStepsHolder<?>>> sortedUnits = execHolder.getElements();
+        final int sortedUnitsSize = sortedUnits.size();
+        for (int sortedUnitId = 0; sortedUnitId < sortedUnitsSize; sortedUnitId++) {
+            final AModelElement<? extends IExecutableStepsHolder<?>> execElement = sortedUnits.get(sortedUnitId);
+
+            addLineSeparatorIfIsRequiredAfterExecElement(model, lines, execHolder, execElement);
+
+            IExecutableSectionElementDumper elemDumper = null;
+            for (final IExecutableSectionElementDumper dumper : dumpers) {
+                if (dumper.isServedType(execElement)) {
+                    elemDumper = dumper;
+                    break;
+                }
+            }
+
+            elemDumper.dump(model, sections, sectionWithHeaderPos, th, sortedUnits, execElement, lines);
+
+            last = execElement;
+        }
+
+        getEmptyDumperHelper().dumpEmptyLines(model, lines, execUnit, isLastUnit);
+        return last;
+    }
+
     private void addLineSeparatorIfIsRequiredAfterExecElement(final RobotFile model, final List<RobotLine> lines,
             final IExecutableStepsHolder<AModelElement<? extends ARobotSectionTable>> execHolder,
             final AModelElement<? extends IExecutableStepsHolder<?>> execElement) {
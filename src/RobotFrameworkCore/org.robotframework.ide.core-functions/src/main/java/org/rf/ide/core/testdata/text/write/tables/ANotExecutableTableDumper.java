@@ -93,6 +93,32 @@ public abstract class ANotExecutableTableDumper implements ISectionTableDumper {
         }
     }
 
+    @Override
+    public void dumpElement(final RobotFile model, final List<Section> sections, final int sectionWithHeaderPos,
+            final TableHeader<? extends ARobotSectionTable> th, final List<AModelElement<ARobotSectionTable>> sorted,
+            final int elementIndex, final List<RobotLine> lines) {
+        addLineSeparatorIfIsRequired(model, lines);
+
+        final AModelElement<ARobotSectionTable> setting = sorted.get(elementIndex);
+
+        ISectionElementDumper elemDumper = null;
+        for (final ISectionElementDumper dumper : dumpers) {
+            if (dumper.isServedType(setting)) {
+                elemDumper = dumper;
+                break;
+            }
+        }
+
+        final List<Section> settingSections = SectionType.filterByType(sections, sectionWithHeaderPos,
+                getSectionType());
+        elemDumper.dump(model, settingSections, sectionWithHeaderPos, th, sorted, setting, lines);
+
+        final AModelElement<ARobotSectionTable> next = elementIndex < sorted.size() - 1
+                ? sorted.get(elementIndex + 1)
+                : null;
+        getDumperHelper().getHashCommentDumper().dumpHashCommentsIfTheyExists(setting, next, model, lines);
+    }
+
     private void addLineSeparatorIfIsRequired(final RobotFile model, final List<RobotLine> lines) {
         if (!lines.isEmpty()) {
             final RobotLine lastLine = lines.get(lines.size() - 1);
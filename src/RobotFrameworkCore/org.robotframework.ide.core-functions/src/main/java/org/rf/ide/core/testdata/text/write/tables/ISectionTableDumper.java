@@ -24,4 +24,12 @@ public interface ISectionTableDumper {
     void dump(final RobotFile model, final List<Section> sections, final int sectionWithHeaderPos,
             final TableHeader<? extends ARobotSectionTable> th, final List<AModelElement<ARobotSectionTable>> sorted,
             final List<RobotLine> lines);
+
+    /**
+     * Dumps single element of sorted elements of the table followed by empty and hash comment lines
+     * which are placed after it, in the same way as it is done when the whole table is dumped.
+     */
+    void dumpElement(final RobotFile model, final List<Section> sections, final int sectionWithHeaderPos,
+            final TableHeader<? extends ARobotSectionTable> th, final List<AModelElement<ARobotSectionTable>> sorted,
+            final int elementIndex, final List<RobotLine> lines);
 }
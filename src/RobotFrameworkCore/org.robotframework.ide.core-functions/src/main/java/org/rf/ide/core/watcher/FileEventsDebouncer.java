@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.watcher;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Coalesces modification events of files. File is settled when there were no events for it
+ * during the debounce window, so that single save producing several events is reported once.
+ */
+class FileEventsDebouncer {
+
+    private final long windowMillis;
+
+    private final Map<Path, Long> lastEventTimes = new HashMap<>();
+
+    FileEventsDebouncer(final long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    void fileModified(final Path file, final long time) {
+        lastEventTimes.put(file, time);
+    }
+
+    boolean hasPendingFiles() {
+        return !lastEventTimes.isEmpty();
+    }
+
+    long getMillisToNextSettle(final long now) {
+        final long oldestEventTime = lastEventTimes.values().stream().mapToLong(Long::longValue).min().orElse(now);
+        return Math.max(1, oldestEventTime + windowMillis - now);
+    }
+
+    Set<Path> takeSettledFiles(final long now) {
+        final Set<Path> settledFiles = new LinkedHashSet<>();
+        final Iterator<Entry<Path, Long>> iterator = lastEventTimes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Entry<Path, Long> entry = iterator.next();
+            if (now - entry.getValue() >= windowMillis) {
+                settledFiles.add(entry.getKey());
+                iterator.remove();
+            }
+        }
+        return settledFiles;
+    }
+}
@@ -5,12 +5,21 @@
  */
 package org.rf.ide.core.watcher;
 
+import java.nio.file.Path;
+import java.util.Set;
+
 /**
  * @author mmarzec
  */
 public interface IWatchEventHandler {
 
-    void handleModifyEvent(final String fileName);
+    /**
+     * Called with all the registered files which content was changed since last notification.
+     *
+     * @param modifiedFiles
+     *            absolute, normalized paths of modified files
+     */
+    void handleModifyEvents(final Set<Path> modifiedFiles);
 
     void watchServiceInterrupted();
 }
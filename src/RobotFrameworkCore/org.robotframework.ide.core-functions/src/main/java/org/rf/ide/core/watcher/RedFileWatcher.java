@@ -5,8 +5,6 @@
  */
 package org.rf.ide.core.watcher;
 
-import static com.google.common.collect.Lists.newArrayList;
-
 import java.io.IOException;
 import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.FileSystems;
@@ -15,20 +13,34 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
 
 /**
+ * Watches registered files using single thread. Files are identified by absolute, normalized
+ * paths. Events of single file are coalesced within debounce window and files which content
+ * did not change (e.g. were only touched) are not reported. All files modified at once are
+ * reported to each handler in single batch.
+ *
  * @author mmarzec
  */
 public class RedFileWatcher {
 
+    private static final long DEBOUNCE_WINDOW_MILLIS = 400;
+
     private static class InstanceHolder {
 
         private static final RedFileWatcher INSTANCE = new RedFileWatcher();
@@ -38,42 +50,43 @@ public class RedFileWatcher {
         return InstanceHolder.INSTANCE;
     }
 
-    private WatchService watcher;
-
-    private final List<String> registeredDirs = new ArrayList<>();
+    private final long debounceWindowMillis;
 
-    private final Map<String, Collection<IWatchEventHandler>> registeredFiles = Collections
-            .synchronizedMap(new HashMap<>());
+    private WatchService watcher;
 
-    private final LinkedBlockingQueue<String> modifiedFilesQueue = new LinkedBlockingQueue<>(100);
+    private final Set<Path> registeredDirs = new HashSet<>();
 
-    private final AtomicBoolean isEventProducerThreadStarted = new AtomicBoolean(false);
+    private final Map<Path, Set<IWatchEventHandler>> registeredFiles = new ConcurrentHashMap<>();
 
-    private final AtomicBoolean isEventConsumerThreadStarted = new AtomicBoolean(false);
+    private final Map<Path, HashCode> contentHashes = new ConcurrentHashMap<>();
 
     private RedFileWatcher() {
-        // instance of this class should not be created outside
+        this(DEBOUNCE_WINDOW_MILLIS);
     }
 
-    public synchronized void registerPath(final Path fileDir, final String fileName,
-            final IWatchEventHandler watchEventHandler) {
+    @VisibleForTesting
+    RedFileWatcher(final long debounceWindowMillis) {
+        this.debounceWindowMillis = debounceWindowMillis;
+    }
 
+    public synchronized void registerFile(final Path file, final IWatchEventHandler watchEventHandler) {
+        if (file == null || file.toAbsolutePath().getParent() == null) {
+            return;
+        }
         setupWatcher();
 
-        if (watcher != null && fileDir != null && fileName != null) {
+        if (watcher != null) {
+            final Path path = normalize(file);
+            final Path dir = path.getParent();
             try {
-                if (!registeredDirs.contains(fileDir.toString()) && isEventProducerThreadStarted.get()
-                        && isEventConsumerThreadStarted.get()) {
-                    fileDir.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY);
-                    registeredDirs.add(fileDir.toString());
+                if (!registeredDirs.contains(dir)) {
+                    // files saved by replacing them are reported as created
+                    dir.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+                    registeredDirs.add(dir);
                 }
-                final Collection<IWatchEventHandler> handlers = registeredFiles.get(fileName);
-                if (handlers == null) {
-                    registeredFiles.put(fileName, newArrayList(watchEventHandler));
-                } else {
-                    if (!handlers.contains(watchEventHandler)) {
-                        handlers.add(watchEventHandler);
-                    }
+                registeredFiles.computeIfAbsent(path, p -> new CopyOnWriteArraySet<>()).add(watchEventHandler);
+                if (!contentHashes.containsKey(path)) {
+                    hashContent(path).ifPresent(hash -> contentHashes.put(path, hash));
                 }
             } catch (final IOException e) {
                 e.printStackTrace();
@@ -81,20 +94,21 @@ public class RedFileWatcher {
         }
     }
 
-    public synchronized void unregisterFile(final String fileName, final IWatchEventHandler watchEventHandler) {
-        if (fileName != null) {
-            final Collection<IWatchEventHandler> handlers = registeredFiles.get(fileName);
-            if (handlers != null && !handlers.isEmpty()) {
-                if (handlers.size() == 1 && handlers.contains(watchEventHandler)) {
-                    registeredFiles.remove(fileName);
-                } else {
-                    handlers.remove(watchEventHandler);
+    public synchronized void unregisterFile(final Path file, final IWatchEventHandler watchEventHandler) {
+        if (file != null) {
+            final Path path = normalize(file);
+            final Set<IWatchEventHandler> handlers = registeredFiles.get(path);
+            if (handlers != null) {
+                handlers.remove(watchEventHandler);
+                if (handlers.isEmpty()) {
+                    registeredFiles.remove(path);
+                    contentHashes.remove(path);
                 }
             }
         }
     }
 
-    public void closeWatchService() {
+    public synchronized void closeWatchService() {
         try {
             if (watcher != null) {
                 watcher.close();
@@ -109,113 +123,104 @@ public class RedFileWatcher {
     private void setupWatcher() {
         if (watcher == null) {
             registeredDirs.clear();
-            modifiedFilesQueue.clear();
             try {
                 watcher = FileSystems.getDefault().newWatchService();
             } catch (final IOException e) {
                 e.printStackTrace();
+                return;
             }
+            // thread of previous watch service finishes by itself once the service is closed
+            final WatchService watchService = watcher;
+            final Thread watchingThread = new Thread(() -> watchFiles(watchService), "RED file watcher");
+            watchingThread.setDaemon(true);
+            watchingThread.start();
         }
-        setupWatchEventProducerThread();
-        setupWatchEventConsumerThread();
     }
 
-    private void setupWatchEventProducerThread() {
-        if (!isEventProducerThreadStarted.getAndSet(true)) {
-            new Thread(() -> {
-
-                while (true) {
-                    if (watcher == null) {
-                        break;
-                    }
-                    WatchKey key;
-                    try {
-                        key = watcher.take();
-                    } catch (InterruptedException | ClosedWatchServiceException e) {
-                        break;
-                    }
-                    for (final WatchEvent<?> eventFromKey : key.pollEvents()) {
-                        final WatchEvent.Kind<?> kind = eventFromKey.kind();
-                        final Path eventContext = (Path) eventFromKey.context();
-
-                        if (kind == StandardWatchEventKinds.OVERFLOW) {
-                            continue;
-                        } else if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-
-                            final String fileName = eventContext.getFileName().toString();
-                            if (registeredFiles.get(fileName) != null) {
-                                try {
-                                    if (!modifiedFilesQueue.contains(fileName)) {
-                                        modifiedFilesQueue.put(fileName);
-                                    }
-                                } catch (final InterruptedException e) {
-                                    break;
-                                }
+    private void watchFiles(final WatchService watchService) {
+        final FileEventsDebouncer debouncer = new FileEventsDebouncer(debounceWindowMillis);
+        try {
+            while (true) {
+                final WatchKey key = debouncer.hasPendingFiles()
+                        ? watchService.poll(debouncer.getMillisToNextSettle(now()), TimeUnit.MILLISECONDS)
+                        : watchService.take();
+                if (key != null) {
+                    final Path dir = (Path) key.watchable();
+                    for (final WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() != StandardWatchEventKinds.OVERFLOW) {
+                            final Path file = dir.resolve((Path) event.context());
+                            if (registeredFiles.containsKey(file)) {
+                                debouncer.fileModified(file, now());
                             }
                         }
                     }
-                    final boolean valid = key.reset();
-                    if (!valid) {
-                        break;
+                    if (!key.reset()) {
+                        unregisterDirectory(dir);
                     }
                 }
-                isEventProducerThreadStarted.set(false);
-                closeWatchService();
-                sendWatchServiceInterruptedEvent();
-            }).start();
+                notifyHandlers(debouncer.takeSettledFiles(now()));
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException e) {
+            // watching is finished
         }
+        closeWatchService(watchService);
+        sendWatchServiceInterruptedEvent();
     }
 
-    private void setupWatchEventConsumerThread() {
-        if (!isEventConsumerThreadStarted.getAndSet(true)) {
-            new Thread(() -> {
-                while (true) {
-                    try {
-                        final String fileName = modifiedFilesQueue.take();
-                        final Collection<IWatchEventHandler> eventHandlers = registeredFiles.get(fileName);
-                        if (eventHandlers != null && !eventHandlers.isEmpty()) {
-                            for (final IWatchEventHandler watchEventHandler : eventHandlers) {
-                                watchEventHandler.handleModifyEvent(fileName);
-                            }
-                        }
-                        waitForAndRemovePossibleDuplicatedEvents(fileName);
-                    } catch (final InterruptedException e) {
-                        break;
-                    }
+    private synchronized void unregisterDirectory(final Path dir) {
+        registeredDirs.remove(dir);
+    }
+
+    private synchronized void closeWatchService(final WatchService watchService) {
+        if (watcher == watchService) {
+            closeWatchService();
+        }
+    }
+
+    private void notifyHandlers(final Set<Path> settledFiles) {
+        final Map<IWatchEventHandler, Set<Path>> modifiedFilesByHandler = new HashMap<>();
+        for (final Path file : settledFiles) {
+            if (isContentChanged(file)) {
+                for (final IWatchEventHandler handler : registeredFiles.getOrDefault(file, Collections.emptySet())) {
+                    modifiedFilesByHandler.computeIfAbsent(handler, h -> new LinkedHashSet<>()).add(file);
                 }
-                isEventConsumerThreadStarted.set(false);
-                closeWatchService();
-                sendWatchServiceInterruptedEvent();
-            }).start();
+            }
         }
+        modifiedFilesByHandler.forEach(IWatchEventHandler::handleModifyEvents);
+    }
+
+    @VisibleForTesting
+    boolean isContentChanged(final Path file) {
+        final Optional<HashCode> newHash = hashContent(file);
+        final HashCode oldHash = newHash.isPresent() ? contentHashes.put(file, newHash.get())
+                : contentHashes.remove(file);
+        return !newHash.isPresent() || !newHash.get().equals(oldHash);
     }
 
-    private void waitForAndRemovePossibleDuplicatedEvents(final String fileName) {
+    private static Optional<HashCode> hashContent(final Path file) {
         try {
-            Thread.sleep(400);
-        } catch (final InterruptedException e) {
-            return;
-        }
-        String nextFileName = modifiedFilesQueue.peek();
-        if (nextFileName != null && nextFileName.equals(fileName)) {
-            modifiedFilesQueue.remove();
-            try {
-                Thread.sleep(200);
-            } catch (final InterruptedException e) {
-                return;
-            }
-            nextFileName = modifiedFilesQueue.peek();
-            if (nextFileName != null && nextFileName.equals(fileName)) {
-                modifiedFilesQueue.remove();
-            }
+            return Optional.of(Files.asByteSource(file.toFile()).hash(Hashing.murmur3_128()));
+        } catch (final IOException e) {
+            return Optional.empty();
         }
     }
 
     private void sendWatchServiceInterruptedEvent() {
-        registeredFiles.forEach((file, eventHandlers) -> {
-            if (eventHandlers != null) {
-                eventHandlers.forEach(IWatchEventHandler::watchServiceInterrupted);
-            }
-        });
+        final Set<IWatchEventHandler> handlers = new HashSet<>();
+        registeredFiles.values().forEach(handlers::addAll);
+        handlers.forEach(IWatchEventHandler::watchServiceInterrupted);
+    }
+
+    private static Path normalize(final Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    @VisibleForTesting
+    Set<Path> getRegisteredFiles() {
+        return registeredFiles.keySet();
     }
 }
@@ -46,10 +46,12 @@
 import os
 import sys
 import socket
+import select
 import inspect
 import copy
 import json
 import time
+import threading
 import traceback
 import platform
 import re
@@ -121,16 +123,43 @@ def _truncate(max_length, s):
     return s[:max_length] + ' <truncated>' if len(s) > max_length else s
 
 
-def _label_with_types(data):
+def _serialize_value(limits, data, expanded_paths=frozenset(), path=()):
+    # limits are (max text length, max depth, max items); containers exceeding them are sent
+    # as summary, unless expansion of given path was requested
+    max_length, max_depth, max_items = limits
     value_type = type(data).__name__
-    if isinstance(data, Mapping):
-        return (value_type, dict((k, _label_with_types(data[k])) for k in data))
-    elif isinstance(data, list):
-        return (value_type, list(_label_with_types(el) for el in data))
-    elif isinstance(data, tuple):
-        return (value_type, tuple(list(_label_with_types(el) for el in data)))
+    if isinstance(data, (list, tuple, Mapping)):
+        if path not in expanded_paths and (len(path) >= max_depth or len(data) > max_items):
+            return (value_type, {'<summary>': len(data)})
+        elif isinstance(data, Mapping):
+            children = {}
+            for k in data:
+                key = _fix_unicode(max_length, k)
+                children[key] = _serialize_value(limits, data[k], expanded_paths, path + (key,))
+            return (value_type, children)
+        else:
+            return (value_type, list(_serialize_value(limits, el, expanded_paths, path + (str(i),))
+                                     for i, el in enumerate(data)))
     else:
-        return (value_type, data)
+        return (value_type, _fix_unicode(max_length, data))
+
+
+def _variables_delta(previous_frames, frames):
+    # frames are lists of (frame, serialized variables) pairs; frame which was already sent
+    # is described only by variables changed or added since then and names of removed ones
+    var_scopes = []
+    deltas = []
+    for frame, frame_vars in frames:
+        base = next((i for i, (previous, _) in enumerate(previous_frames) if previous is frame), -1)
+        if base < 0:
+            var_scopes.append(frame_vars)
+            deltas.append(None)
+        else:
+            base_vars = previous_frames[base][1]
+            var_scopes.append(OrderedDict((var, value) for var, value in frame_vars.items()
+                                          if base_vars.get(var) != value))
+            deltas.append({'base': base, 'removed': [var for var in base_vars if var not in frame_vars]})
+    return var_scopes, deltas
 
 
 def _extract_source_path(source):
@@ -165,6 +194,8 @@ class RedResponseMessage:
     EVALUATE_CONDITION = 'evaluate_condition'
     GET_VARIABLES = 'get_variables'
     CHANGE_VARIABLE = 'change_variable'
+    EXPAND_VARIABLE = 'expand_variable'
+    CHECK_PAUSING_POINTS = 'check_pausing_points'
     
 class AgentEventMessage:
     
@@ -205,6 +236,66 @@ class PausingPoint:
     PRE_END_KEYWORD = 'PRE_END_KEYWORD'
     END_KEYWORD = 'END_KEYWORD'
 
+def _normalize_name(name):
+    return re.sub(r'[\s_]', '', name).lower()
+
+
+class _NamesMatcher(object):
+
+    def __init__(self, names):
+        self._names = set()
+        self._patterns = []
+        for name in names:
+            normalized = _normalize_name(name)
+            # names with embedded arguments are matched against any value of those arguments
+            parts = re.split(r'[$@&%]\{.*?\}', normalized)
+            if len(parts) > 1:
+                self._patterns.append(re.compile('^' + '.*'.join(re.escape(part) for part in parts) + '$'))
+            else:
+                self._names.add(normalized)
+
+    def matches(self, *names):
+        for name in names:
+            normalized = _normalize_name(name)
+            if normalized in self._names or any(pattern.match(normalized) for pattern in self._patterns):
+                return True
+        return False
+
+
+class PausingPointsChecks(object):
+    """Decides whether agent has to ask RED if execution should be paused
+
+    By default agent asks at every pausing point. When RED sends names of tests and keywords
+    which contain breakpoints, agent only asks before starting keywords called directly from
+    them (for loops are transparent), from setups, teardowns or from suite level. When RED
+    has to pause on errors it asks to check before starting every keyword, because the
+    keyword itself may be erroneous and it is only known after RED receives its start.
+    """
+
+    def __init__(self, check_all=True, tests=(), keywords=(), check_starts=False):
+        self.check_all = check_all
+        self.check_starts = check_starts
+        self._tests = _NamesMatcher(tests)
+        self._keywords = _NamesMatcher(keywords)
+
+    @staticmethod
+    def from_response(response):
+        checks = response[RedResponseMessage.CHECK_PAUSING_POINTS]
+        return PausingPointsChecks(checks['all'], checks['tests'], checks['keywords'], checks.get('starts', False))
+
+    def should_check_keyword_start(self, keyword_type, test_name, parent_keywords):
+        if self.check_all or self.check_starts:
+            return True
+        keyword_type = keyword_type.lower()
+        if 'setup' in keyword_type or 'teardown' in keyword_type:
+            return True
+
+        for parent_type, parent_names in reversed(parent_keywords):
+            if not parent_type.lower().startswith('for'):
+                return self._keywords.matches(*parent_names)
+        return test_name is None or self._tests.matches(test_name)
+
+
 class TestRunnerAgent:
     """Pass all listener events to a remote listener
 
@@ -216,10 +307,14 @@ class TestRunnerAgent:
     
     CONNECTION_SLEEP_BETWEEN_TRIALS = 2
     
-    RED_AGENT_PROTOCOL_VERSION = 2
+    RED_AGENT_PROTOCOL_VERSION = 3
     
     MAX_VARIABLE_VALUE_TEXT_LENGTH = 2048
 
+    MAX_VARIABLE_VALUE_DEPTH = 3
+
+    MAX_VARIABLE_VALUE_ITEMS = 100
+
     def __init__(self, *args):
         if len(args) == 1:
             host, port, connection_timeout = 'localhost', int(args[0]), 30
@@ -229,6 +324,12 @@ class TestRunnerAgent:
             host, port, connection_timeout = args[0], int(args[1]), int(args[2])
 
         self._last_pause_check = time.time()
+        self._pausing_points_checks = PausingPointsChecks()
+        self._current_test = None
+        self._keywords_stack = []
+        self._sent_frames = []
+        self._expanded_paths = {}
+        self._pending_responses = []
         self._is_connected, self.sock, self.decoder_encoder = self._connect(host, port, connection_timeout)
         
         if self._is_connected:
@@ -283,11 +384,13 @@ class TestRunnerAgent:
         self._send_to_server(AgentEventMessage.END_SUITE, name, attrs_copy)
 
     def start_test(self, name, attrs):
+        self._current_test = name
         attrs_copy = copy.copy(attrs)
         del attrs_copy['doc']
         self._send_to_server(AgentEventMessage.START_TEST, name, attrs_copy)
 
     def end_test(self, name, attrs):
+        self._current_test = None
         attrs_copy = copy.copy(attrs)
         del attrs_copy['doc']
         self._send_to_server(AgentEventMessage.END_TEST, name, attrs_copy)
@@ -306,8 +409,16 @@ class TestRunnerAgent:
         # this is done in order to reuse json encoded objects as they are sent twice in DEBUG mode
         json_obj = self._encode_to_json((name, attrs_copy))
         if self._mode == AgentMode.DEBUG:
+            self._receive_pausing_points_checks()
+            keyword_type = attrs.get('type', '')
+            should_check = self._pausing_points_checks.should_check_keyword_start(keyword_type,
+                self._current_test, self._keywords_stack)
+            # keyword is identified by its name with and without library/resource prefix
+            keyword_names = (attrs.get('kwname', name), name, name.split('.', 1)[-1])
+            self._keywords_stack.append((keyword_type, keyword_names))
+
             self._send_to_server_json(AgentEventMessage.PRE_START_KEYWORD, json_obj)
-            if self._should_pause(PausingPoint.PRE_START_KEYWORD):
+            if should_check and self._should_pause(PausingPoint.PRE_START_KEYWORD):
                 self._wait_for_resume()
 
         self._send_to_server_json(AgentEventMessage.START_KEYWORD, json_obj)
@@ -327,7 +438,7 @@ class TestRunnerAgent:
             else:
                 return False
         else:
-            return True
+            return self._pausing_points_checks.check_all
 
     def end_keyword(self, name, attrs):
         if not self._is_connected:
@@ -340,8 +451,12 @@ class TestRunnerAgent:
         
         json_obj = self._encode_to_json((name, attrs_copy))
         if self._mode == AgentMode.DEBUG:
+            self._receive_pausing_points_checks()
+            if self._keywords_stack:
+                self._keywords_stack.pop()
+
             self._send_to_server_json(AgentEventMessage.PRE_END_KEYWORD, json_obj)
-            if self._should_pause(PausingPoint.PRE_END_KEYWORD):
+            if self._pausing_points_checks.check_all and self._should_pause(PausingPoint.PRE_END_KEYWORD):
                 self._wait_for_resume()
         
         self._send_to_server_json(AgentEventMessage.END_KEYWORD, json_obj)
@@ -350,7 +465,17 @@ class TestRunnerAgent:
                 self._wait_for_resume()
             
     def _should_ask_for_pause_on_end(self):
-        return self._is_connected and self._mode == AgentMode.DEBUG
+        return self._is_connected and self._mode == AgentMode.DEBUG and self._pausing_points_checks.check_all
+
+    def _receive_pausing_points_checks(self):
+        # RED sends pausing points checks without being asked, so those are read if already available;
+        # other responses are kept until agent waits for a response
+        while self._is_connected and self.decoder_encoder.has_message_to_load():
+            response = self._receive_from_server()
+            if RedResponseMessage.CHECK_PAUSING_POINTS in response:
+                self._pausing_points_checks = PausingPointsChecks.from_response(response)
+            else:
+                self._pending_responses.append(response)
             
     def _should_pause(self, pausing_point):
         self._send_to_server(AgentEventMessage.SHOULD_CONTINUE, {'pausing_point' : pausing_point})
@@ -429,6 +554,7 @@ class TestRunnerAgent:
             RedResponseMessage.DISCONNECT] 
         if self._mode == AgentMode.DEBUG:
             possible_responses.append(RedResponseMessage.CHANGE_VARIABLE)
+            possible_responses.append(RedResponseMessage.EXPAND_VARIABLE)
         
         self._send_variables()
         while True:
@@ -454,6 +580,9 @@ class TestRunnerAgent:
                 except ValueError as e:
                     self._print_error_message(str(e))
                     self._send_variables(str(e))
+            elif response_name == RedResponseMessage.EXPAND_VARIABLE:
+                self._expand_variable(response)
+                self._send_variables()
                     
     def _change_variable_value(self, response):
         try:
@@ -525,12 +654,23 @@ class TestRunnerAgent:
         else:
             raise RuntimeError('Requested to change value in ' + val_kind + ' object type, but ' + type(object).__name__ + ' found')
 
+    def _expand_variable(self, response):
+        # WARNING : this method uses protected RF methods/fields so it is sensitive for RF changes;
+        # currently works fine for RF 2.9 - 3.0
+        arguments = response[RedResponseMessage.EXPAND_VARIABLE]
+        level = arguments['level'] + 1 # adding one because globals are not taken into account
+        frame = self._built_in._variables._scopes[level]
+        path = tuple(_fix_unicode(self.MAX_VARIABLE_VALUE_TEXT_LENGTH, addr) for addr in arguments['path'])
+        self._expanded_paths.setdefault((id(frame), arguments['name']), set()).add(path)
+
     def _send_variables(self, error=None):
-        vars = self._collect_variables()
+        frames = self._collect_variables()
+        vars, deltas = _variables_delta(self._sent_frames, frames)
+        self._sent_frames = frames
+        message = {'var_scopes': vars, 'deltas': deltas}
         if error:
-            self._send_to_server(AgentEventMessage.VARIABLES, {'var_scopes': vars, 'error': error})
-        else:
-            self._send_to_server(AgentEventMessage.VARIABLES, {'var_scopes': vars})
+            message['error'] = error
+        self._send_to_server(AgentEventMessage.VARIABLES, message)
             
     def _collect_variables(self):
         # WARNING : this method uses protected RF methods/fields so it is sensitive for RF changes;
@@ -543,6 +683,9 @@ class TestRunnerAgent:
         i = 0
         last_suite_index = frames.index(variables._suite)
         test_index = frames.index(variables._test) if variables._test else -1
+        limits = (self.MAX_VARIABLE_VALUE_TEXT_LENGTH, self.MAX_VARIABLE_VALUE_DEPTH, self.MAX_VARIABLE_VALUE_ITEMS)
+        self._expanded_paths = dict((key, paths) for key, paths in self._expanded_paths.items()
+                                    if any(key[0] == id(frame) for frame in frames))
         for current_frame in frames:
 
             current_frame_values = {}
@@ -552,7 +695,8 @@ class TestRunnerAgent:
                 var, _ = current_frame.store._decorate(variable, value)
                 if i == 0:
                     identified_scope = 'global'
-                elif var in previous_frame_values and value == previous_frame_values[var][1]:
+                elif var in previous_frame_values and (value is previous_frame_values[var][1]
+                                                       or value == previous_frame_values[var][1]):
                     identified_scope = previous_frame_values[var][0]
                 elif i <= last_suite_index:
                     identified_scope = 'suite'
@@ -567,18 +711,15 @@ class TestRunnerAgent:
                     frame_vars[var] = (type_name, type_name + '@' + str(id(value)), identified_scope)
                 else:
                     try:
-                        labeled = _label_with_types(value)
-                        fixed = _fix_unicode(self.MAX_VARIABLE_VALUE_TEXT_LENGTH, labeled)
-                        if isinstance(value, (list, tuple, Mapping)):
-                            frame_vars[var] = (fixed[0], fixed[1], identified_scope)
-                        else:
-                            frame_vars[var] = (fixed[0], str(fixed[1]), identified_scope)
+                        expanded_paths = self._expanded_paths.get((id(current_frame), var), frozenset())
+                        serialized = _serialize_value(limits, value, expanded_paths)
+                        frame_vars[var] = (serialized[0], serialized[1], identified_scope)
                     except:
                         frame_vars[var] = (type(value).__name__, '<error retrieving value>', identified_scope)
 
                 current_frame_values[var] = (identified_scope, value)    
             
-            all_frames.append(frame_vars)
+            all_frames.append((current_frame, frame_vars))
             previous_frame_values = current_frame_values
             i += 1
         all_frames.reverse()
@@ -687,11 +828,13 @@ class TestRunnerAgent:
             raise
         
     def _wait_for_reponse(self, *expected_responses):
-        response = self._receive_from_server()
-        response_key = next(iter(response))
-        while not response_key in expected_responses:
-            response = self._receive_from_server()
-        return response_key, response
+        while True:
+            response = self._pending_responses.pop(0) if self._pending_responses else self._receive_from_server()
+            response_key = next(iter(response))
+            if response_key == RedResponseMessage.CHECK_PAUSING_POINTS:
+                self._pausing_points_checks = PausingPointsChecks.from_response(response)
+            elif response_key in expected_responses:
+                return response_key, response
     
     def _receive_from_server(self):
         try:
@@ -715,15 +858,31 @@ class TestRunnerAgent:
             
 
 class MessagesDecoderEncoder(object):
-    
-    def __init__(self, sock):
+
+    # events are sent in batches, which are flushed when they grow too large, when they wait for
+    # too long or before reading, as agent reads only when it needs response for the last event
+    def __init__(self, sock, max_batch_size=64 * 1024, max_batch_delay=0.1, read_chunk_size=64 * 1024):
         self._string_encoder = (lambda s : s) if sys.version_info < (3, 0, 0) else (lambda s : bytes(s, 'UTF-8'))
         self._string_decoder = (lambda s : s) if sys.version_info < (3, 0, 0) else (lambda s : str(s, 'UTF-8')) 
         self._json_encoder = json.JSONEncoder(separators=(',', ':'), sort_keys=True).encode
         self._json_decoder = json.JSONDecoder(strict=False).decode
         # IronPython does not return right object type if not binary mode
         self._file_to_write = sock.makefile('wb')
-        self._file_to_read = sock.makefile('rb')
+        # messages are read in chunks and buffered, so select() on socket tells whether there are
+        # messages to read only when there is no whole message buffered already
+        self._sock_to_read = sock
+        self._read_buffer = b''
+        self._read_chunk_size = read_chunk_size
+
+        self._max_batch_size = max_batch_size
+        self._max_batch_delay = max_batch_delay
+        self._batch = []
+        self._batch_size = 0
+        self._batch_lock = threading.Lock()
+        self._closed = threading.Event()
+        batches_sender = threading.Thread(target=self._flush_periodically, name='RED agent events sender')
+        batches_sender.daemon = True
+        batches_sender.start()
 
     def _encode(self, obj):
         return self._json_encoder(obj)
@@ -734,24 +893,70 @@ class MessagesDecoderEncoder(object):
     def _write(self, json_encoded_obj):
         if not self._can_write():
             return
-        json_string = json_encoded_obj + '\n'
-        self._file_to_write.write(self._string_encoder(json_string))
-        self._file_to_write.flush()
+        json_string = self._string_encoder(json_encoded_obj + '\n')
+        with self._batch_lock:
+            self._batch.append(json_string)
+            self._batch_size += len(json_string)
+            # writing thread waits until large batch is sent, so that memory used by events is bounded
+            if self._batch_size >= self._max_batch_size:
+                self._flush_batch()
+
+    def flush(self):
+        with self._batch_lock:
+            self._flush_batch()
+
+    def _flush_batch(self):
+        if self._batch and self._can_write():
+            self._file_to_write.write(self._string_encoder('').join(self._batch))
+            self._file_to_write.flush()
+        del self._batch[:]
+        self._batch_size = 0
+
+    def _flush_periodically(self):
+        try:
+            while not self._closed.is_set():
+                self._closed.wait(self._max_batch_delay)
+                self.flush()
+        except Exception:
+            # connection is broken, the error is reported when writing next event
+            pass
             
     def load(self):
         if not self._can_read():
             return
-        json_string = self._file_to_read.readline();
+        self.flush()
+        json_string = self._readline()
         return self._json_decoder(self._string_decoder(json_string))
+
+    def has_message_to_load(self):
+        if not self._can_read():
+            return False
+        return b'\n' in self._read_buffer or bool(select.select([self._sock_to_read], [], [], 0)[0])
+
+    def _readline(self):
+        end = self._read_buffer.find(b'\n')
+        while end < 0:
+            chunk = self._sock_to_read.recv(self._read_chunk_size)
+            if not chunk:
+                # connection is closed, so whatever was buffered is the last line
+                line, self._read_buffer = self._read_buffer, b''
+                return line
+            searched_length = len(self._read_buffer)
+            self._read_buffer += chunk
+            end = self._read_buffer.find(b'\n', searched_length)
+        line, self._read_buffer = self._read_buffer[:end + 1], self._read_buffer[end + 1:]
+        return line
     
     def _can_write(self):
         return self._file_to_write is not None
     
     def _can_read(self):
-        return self._file_to_read is not None
+        return self._sock_to_read is not None
     
     def close(self):
+        self._closed.set()
+        self.flush()
         if self._can_write():
             self._file_to_write.close()
-        if self._can_read():
-            self._file_to_read.close()
\ No newline at end of file
+        self._sock_to_read = None
+        self._read_buffer = b''
\ No newline at end of file
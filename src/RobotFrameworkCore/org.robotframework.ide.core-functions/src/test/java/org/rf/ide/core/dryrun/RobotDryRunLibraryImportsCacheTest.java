@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.dryrun;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RobotDryRunLibraryImportsCacheTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private File libFile;
+
+    private RobotDryRunLibraryImportsCache cache;
+
+    @Before
+    public void beforeTest() throws Exception {
+        libFile = tempFolder.newFile("Lib.py");
+        Files.write(libFile.toPath(), "def kw():\n    pass\n".getBytes(UTF_8));
+        cache = new RobotDryRunLibraryImportsCache();
+    }
+
+    @Test
+    public void nothingIsReturned_whenImportWasNotCached() {
+        assertThat(cache.get("Lib", Collections.emptyList(), "paths")).isNotPresent();
+    }
+
+    @Test
+    public void copiesOfCachedImportsAreReturned_whenSourceWasNotModified() {
+        final RobotDryRunLibraryImport libImport = createImport("Lib", libFile.toURI(), "arg");
+        cache.put("Lib", Collections.emptyList(), "paths", Arrays.asList(libImport));
+
+        final Optional<List<RobotDryRunLibraryImport>> cachedImports = cache.get("Lib", Collections.emptyList(),
+                "paths");
+        assertThat(cachedImports).hasValueSatisfying(imports -> {
+            assertThat(imports).containsExactly(libImport);
+            assertThat(imports.get(0)).isNotSameAs(libImport);
+            assertThat(imports.get(0).getArgs()).containsExactly("arg");
+            assertThat(imports.get(0).getImporters()).isEmpty();
+        });
+    }
+
+    @Test
+    public void nothingIsReturned_whenImportWasCachedForDifferentArgumentsOrSearchPaths() {
+        cache.put("Lib", Collections.emptyList(), "paths", Arrays.asList(createImport("Lib", libFile.toURI())));
+
+        assertThat(cache.get("Lib", Arrays.asList("arg"), "paths")).isNotPresent();
+        assertThat(cache.get("Lib", Collections.emptyList(), "other paths")).isNotPresent();
+        assertThat(cache.get("Other", Collections.emptyList(), "paths")).isNotPresent();
+    }
+
+    @Test
+    public void nothingIsReturned_whenSourceWasModified() throws Exception {
+        cache.put("Lib", Collections.emptyList(), "paths", Arrays.asList(createImport("Lib", libFile.toURI())));
+
+        Files.write(libFile.toPath(), "def kw():\n    return 1\n".getBytes(UTF_8));
+
+        assertThat(cache.get("Lib", Collections.emptyList(), "paths")).isNotPresent();
+    }
+
+    @Test
+    public void nothingIsReturned_whenSourceWasRemoved() {
+        cache.put("Lib", Collections.emptyList(), "paths", Arrays.asList(createImport("Lib", libFile.toURI())));
+
+        libFile.delete();
+
+        assertThat(cache.get("Lib", Collections.emptyList(), "paths")).isNotPresent();
+    }
+
+    @Test
+    public void importsAreNotCached_whenSomeOfThemAreUnknownOrRemote() {
+        cache.put("Lib", Collections.emptyList(), "paths",
+                Arrays.asList(createImport("Lib", libFile.toURI()), RobotDryRunLibraryImport.createUnknown("Lib")));
+        cache.put("Remote", Collections.emptyList(), "paths",
+                Arrays.asList(createImport("Remote", URI.create("http://127.0.0.1:8270/"))));
+
+        assertThat(cache.get("Lib", Collections.emptyList(), "paths")).isNotPresent();
+        assertThat(cache.get("Remote", Collections.emptyList(), "paths")).isNotPresent();
+    }
+
+    @Test
+    public void previouslyCachedImportsAreRemoved_whenImportsWhichCannotBeCachedAreAdded() {
+        cache.put("Lib", Collections.emptyList(), "paths", Arrays.asList(createImport("Lib", libFile.toURI())));
+        cache.put("Lib", Collections.emptyList(), "paths",
+                Arrays.asList(RobotDryRunLibraryImport.createUnknown("Lib")));
+
+        assertThat(cache.get("Lib", Collections.emptyList(), "paths")).isNotPresent();
+    }
+
+    @Test
+    public void nothingIsReturned_afterClearing() {
+        cache.put("Lib", Collections.emptyList(), "paths", Arrays.asList(createImport("Lib", libFile.toURI())));
+
+        cache.clear();
+
+        assertThat(cache.get("Lib", Collections.emptyList(), "paths")).isNotPresent();
+    }
+
+    private static RobotDryRunLibraryImport createImport(final String name, final URI source,
+            final String... args) {
+        return RobotDryRunLibraryImport.createKnown(name, source, new HashSet<>(), Arrays.asList(args));
+    }
+}
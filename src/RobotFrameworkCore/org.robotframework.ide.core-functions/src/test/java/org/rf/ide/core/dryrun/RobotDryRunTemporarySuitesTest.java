@@ -10,6 +10,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.File;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -31,6 +32,42 @@ public class RobotDryRunTemporarySuitesTest {
         assertThat(file).isNotPresent();
     }
 
+    @Test
+    public void libraryImportFilesAreCreatedForEachShard() throws Exception {
+        final List<File> files = RobotDryRunTemporarySuites
+                .createLibraryImportFiles(Arrays.asList("lib_1", "lib_2", "lib_3", "lib_4", "lib_5"), 2);
+        assertThat(files).hasSize(2);
+        assertThat(files.get(0)).satisfies(sameLinesRequirement("*** Test Cases ***", "T1", "*** Settings ***",
+                "Library  lib_1", "Library  lib_2", "Library  lib_3"));
+        assertThat(files.get(1)).satisfies(sameLinesRequirement("*** Test Cases ***", "T1", "*** Settings ***",
+                "Library  lib_4", "Library  lib_5"));
+    }
+
+    @Test
+    public void lessLibraryImportFilesAreCreated_whenThereAreLessLibrariesThanShards() throws Exception {
+        final List<File> files = RobotDryRunTemporarySuites.createLibraryImportFiles(Arrays.asList("lib_1", "lib_2"),
+                4);
+        assertThat(files).hasSize(2);
+        assertThat(files.get(0))
+                .satisfies(sameLinesRequirement("*** Test Cases ***", "T1", "*** Settings ***", "Library  lib_1"));
+        assertThat(files.get(1))
+                .satisfies(sameLinesRequirement("*** Test Cases ***", "T1", "*** Settings ***", "Library  lib_2"));
+    }
+
+    @Test
+    public void singleLibraryImportFileIsCreated_forSingleShard() throws Exception {
+        final List<File> files = RobotDryRunTemporarySuites.createLibraryImportFiles(Arrays.asList("lib_1", "lib_2"),
+                1);
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0)).satisfies(sameLinesRequirement("*** Test Cases ***", "T1", "*** Settings ***",
+                "Library  lib_1", "Library  lib_2"));
+    }
+
+    @Test
+    public void noLibraryImportFilesAreCreated_whenLibraryNamesAreEmpty() throws Exception {
+        assertThat(RobotDryRunTemporarySuites.createLibraryImportFiles(Collections.emptyList(), 3)).isEmpty();
+    }
+
     private Consumer<File> sameLinesRequirement(final String... lines) {
         return file -> {
             assertThat(file).hasContent(String.join(System.lineSeparator(), lines));
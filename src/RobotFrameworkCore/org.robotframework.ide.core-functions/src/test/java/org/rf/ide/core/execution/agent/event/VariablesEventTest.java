@@ -147,6 +147,61 @@ public class VariablesEventTest {
         assertThat(event.getVariables()).isEqualTo(expectedVars);
     }
 
+    @Test
+    public void eventIsProperlyConstructed_whenThereAreSummarizedValues() {
+        final Map<String, Object> scope1 = new LinkedHashMap<>();
+        scope1.put("@{b}", typeValueScope("list", mapValue("<summary>", 1000), "suite"));
+        scope1.put("&{c}", typeValueScope("dict", mapValue("k", typeValue("list", mapValue("<summary>", 5))), "local"));
+
+        final Map<String, Object> eventMap = ImmutableMap.of("variables",
+                newArrayList(ImmutableMap.of("var_scopes", newArrayList(scope1))));
+        final VariablesEvent event = VariablesEvent.from(eventMap);
+
+        final List<Map<Variable, VariableTypedValue>> expectedVars = newArrayList(ImmutableMap.of(
+                new Variable("@{b}", VariableScope.TEST_SUITE), new VariableTypedValue("list", new ValueSummary(1000)),
+                new Variable("&{c}", VariableScope.LOCAL), new VariableTypedValue("dict",
+                        ImmutableMap.of("k", new VariableTypedValue("list", new ValueSummary(5))))));
+
+        assertThat(event.getVariables()).isEqualTo(expectedVars);
+    }
+
+    @Test
+    public void eventIsProperlyConstructed_whenFramesAreSentAsChangesAgainstPreviousFrames() {
+        final VariableTypedValue aValue = new VariableTypedValue("int", 1);
+        final VariableTypedValue cValue = new VariableTypedValue("int", 3);
+        final List<Map<Variable, VariableTypedValue>> previousVars = newArrayList(
+                ImmutableMap.of(new Variable("${a}", VariableScope.GLOBAL), aValue),
+                ImmutableMap.of(new Variable("${b}", VariableScope.LOCAL), new VariableTypedValue("int", 2),
+                        new Variable("${c}", VariableScope.LOCAL), cValue,
+                        new Variable("${d}", VariableScope.LOCAL), new VariableTypedValue("int", 4)));
+
+        final Map<String, Object> newFrame = new LinkedHashMap<>();
+        newFrame.put("${x}", typeValueScope("int", 0, "local"));
+        final Map<String, Object> changedFrame = new LinkedHashMap<>();
+        changedFrame.put("${e}", typeValueScope("int", 5, "local"));
+        changedFrame.put("${b}", typeValueScope("int", 20, "test"));
+        final Map<String, Object> unchangedFrame = new LinkedHashMap<>();
+
+        final Map<String, Object> eventMap = ImmutableMap.of("variables",
+                newArrayList(ImmutableMap.of("var_scopes", newArrayList(newFrame, changedFrame, unchangedFrame),
+                        "deltas", newArrayList(null, ImmutableMap.of("base", 1, "removed", newArrayList("${d}")),
+                                ImmutableMap.of("base", 0, "removed", newArrayList())))));
+        final VariablesEvent event = VariablesEvent.from(eventMap, previousVars);
+
+        final List<Map<Variable, VariableTypedValue>> expectedVars = newArrayList(
+                ImmutableMap.of(new Variable("${x}", VariableScope.LOCAL), new VariableTypedValue("int", 0)),
+                ImmutableMap.of(new Variable("${b}", VariableScope.TEST_CASE), new VariableTypedValue("int", 20),
+                        new Variable("${c}", VariableScope.LOCAL), new VariableTypedValue("int", 3),
+                        new Variable("${e}", VariableScope.LOCAL), new VariableTypedValue("int", 5)),
+                ImmutableMap.of(new Variable("${a}", VariableScope.GLOBAL), new VariableTypedValue("int", 1)));
+
+        assertThat(event.getVariables()).isEqualTo(expectedVars);
+        assertThat(newArrayList(event.getVariables().get(1).keySet())).containsExactlyElementsOf(
+                expectedVars.get(1).keySet());
+        assertThat(event.getVariables().get(1).get(new Variable("${c}", VariableScope.LOCAL))).isSameAs(cValue);
+        assertThat(event.getVariables().get(2).get(new Variable("${a}", VariableScope.GLOBAL))).isSameAs(aValue);
+    }
+
     @Test
     public void equalsTests() {
         final List<Map<Variable, VariableTypedValue>> vars1 = newArrayList(
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.debug;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.rf.ide.core.execution.context.RobotModelTestProvider;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.text.read.separators.TokenSeparatorBuilder.FileFormat;
+
+public class BreakpointHoldersTest {
+
+    @Test
+    public void noneHoldersAreKnownAndEmpty() {
+        final BreakpointHolders holders = BreakpointHolders.none();
+
+        assertThat(holders.isKnown()).isTrue();
+        assertThat(holders.getTests()).isEmpty();
+        assertThat(holders.getKeywords()).isEmpty();
+    }
+
+    @Test
+    public void unknownHoldersAreNotKnown() {
+        assertThat(BreakpointHolders.unknown().isKnown()).isFalse();
+        assertThat(new BreakpointHolders.Builder().addUnknownHolder().build().isKnown()).isFalse();
+    }
+
+    @Test
+    public void testsAndKeywordsContainingLinesAreCollected() {
+        final RobotFile model = parse("*** Test Cases ***",
+                "test 1",
+                "  log  1",
+                "  log  2",
+                "test 2",
+                "  log  3",
+                "*** Keywords ***",
+                "kw 1",
+                "  log  4",
+                "kw 2",
+                "  log  5");
+
+        final BreakpointHolders holders = new BreakpointHolders.Builder().addHolderOf(model, 3)
+                .addHolderOf(model, 4)
+                .addHolderOf(model, 6)
+                .addHolderOf(model, 11)
+                .build();
+
+        assertThat(holders.isKnown()).isTrue();
+        assertThat(holders.getTests()).containsExactly("test 1", "test 2");
+        assertThat(holders.getKeywords()).containsExactly("kw 2");
+    }
+
+    @Test
+    public void nothingIsCollected_forLinesOutsideOfTestsAndKeywords() {
+        final RobotFile model = parse("*** Settings ***",
+                "Suite Setup  log  1",
+                "*** Variables ***",
+                "${x}  1",
+                "*** Test Cases ***",
+                "test 1",
+                "  log  2");
+
+        final BreakpointHolders holders = new BreakpointHolders.Builder().addHolderOf(model, 1)
+                .addHolderOf(model, 2)
+                .addHolderOf(model, 4)
+                .addHolderOf(model, 5)
+                .build();
+
+        assertThat(holders).isEqualTo(BreakpointHolders.none());
+    }
+
+    @Test
+    public void elementsOfPreviousTableAreNotCollected_whenTableIsDefinedSeveralTimes() {
+        final RobotFile model = parse("*** Test Cases ***",
+                "test 1",
+                "  log  1",
+                "*** Settings ***",
+                "Suite Setup  log  2",
+                "*** Test Cases ***",
+                "test 2",
+                "  log  3");
+
+        final BreakpointHolders holders = new BreakpointHolders.Builder().addHolderOf(model, 5)
+                .addHolderOf(model, 6)
+                .build();
+
+        assertThat(holders.getTests()).isEmpty();
+        assertThat(new BreakpointHolders.Builder().addHolderOf(model, 8).build().getTests())
+                .containsExactly("test 2");
+    }
+
+    private static RobotFile parse(final String... lines) {
+        return RobotModelTestProvider.getModelFile(String.join("\n", lines), FileFormat.TXT_OR_ROBOT,
+                RobotModelTestProvider.getLazyParser());
+    }
+}
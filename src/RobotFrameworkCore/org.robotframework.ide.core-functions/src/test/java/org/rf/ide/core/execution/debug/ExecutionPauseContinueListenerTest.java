@@ -9,17 +9,23 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
 import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.RobotAgentEventListener.RobotAgentEventsListenerException;
+import org.rf.ide.core.execution.agent.event.AgentInitializingEvent;
+import org.rf.ide.core.execution.agent.event.AgentInitializingEvent.AgentInitializingEventResponder;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
+import org.rf.ide.core.execution.agent.event.KeywordStartedEvent;
 import org.rf.ide.core.execution.agent.event.PausedEvent;
 import org.rf.ide.core.execution.agent.event.PausedEvent.PausedEventResponder;
 import org.rf.ide.core.execution.agent.event.ShouldContinueEvent;
@@ -106,4 +112,39 @@ public class ExecutionPauseContinueListenerTest {
         verify(controller).conditionEvaluated(event);
         verifyNoMoreInteractions(controller);
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void controllerGetsResponsesSender_whenAgentIsInitializing() {
+        final UserProcessController controller = mock(UserProcessController.class);
+
+        final AgentInitializingEventResponder responder = mock(AgentInitializingEventResponder.class);
+        final AgentInitializingEvent event = new AgentInitializingEvent(responder);
+
+        final ExecutionPauseContinueListener listener = new ExecutionPauseContinueListener(controller);
+        listener.handleAgentInitializing(event);
+
+        final ArgumentCaptor<Consumer<ServerResponse>> senderCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(controller).agentInitializing(senderCaptor.capture());
+        verifyNoMoreInteractions(controller);
+
+        final ServerResponse response = new ContinueExecution();
+        senderCaptor.getValue().accept(response);
+        verify(responder).respond(same(response));
+        verifyNoMoreInteractions(responder);
+    }
+
+    @Test
+    public void controllerIsNotified_whenKeywordIsStarting() {
+        final UserProcessController controller = mock(UserProcessController.class);
+
+        final KeywordStartedEvent event = new KeywordStartedEvent("kw", "Keyword", "lib");
+
+        final ExecutionPauseContinueListener listener = new ExecutionPauseContinueListener(controller);
+        listener.handleKeywordAboutToStart(event);
+        listener.handleKeywordStarted(event);
+
+        verify(controller, times(2)).keywordStarting();
+        verifyNoMoreInteractions(controller);
+    }
 }
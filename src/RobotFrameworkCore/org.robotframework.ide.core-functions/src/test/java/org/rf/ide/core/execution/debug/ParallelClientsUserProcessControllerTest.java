@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.debug;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.concurrent.FutureTask;
+
+import org.junit.Test;
+import org.rf.ide.core.execution.agent.PausingPoint;
+import org.rf.ide.core.execution.server.response.PauseExecution;
+import org.rf.ide.core.execution.server.response.ResumeExecution;
+import org.rf.ide.core.execution.server.response.ServerResponse;
+import org.rf.ide.core.execution.server.response.TerminateExecution;
+
+public class ParallelClientsUserProcessControllerTest {
+
+    @Test
+    public void actionIsPassedToEveryClient_andCallbackIsRunOnlyOnce() {
+        final Runnable callback = mock(Runnable.class);
+
+        final ParallelClientsUserProcessController controller = new ParallelClientsUserProcessController();
+        final UserProcessController client1 = controller.createClientController();
+        final UserProcessController client2 = controller.createClientController();
+        controller.pause(callback);
+
+        assertThat(controller.manualUserResponse).isEmpty();
+        assertThat(client1.takeCurrentResponse(PausingPoint.START_KEYWORD)).containsInstanceOf(PauseExecution.class);
+        assertThat(client2.takeCurrentResponse(PausingPoint.START_KEYWORD)).containsInstanceOf(PauseExecution.class);
+        verify(callback).run();
+    }
+
+    @Test
+    public void callbackIsNotRun_untilAnyClientTakesResponse() {
+        final Runnable callback = mock(Runnable.class);
+
+        final ParallelClientsUserProcessController controller = new ParallelClientsUserProcessController();
+        controller.createClientController();
+        controller.createClientController();
+        controller.terminate(callback);
+
+        verifyZeroInteractions(callback);
+    }
+
+    @Test
+    public void actionOrderedBeforeAnyClientConnected_isPassedToFirstClient() {
+        final Runnable callback = mock(Runnable.class);
+
+        final ParallelClientsUserProcessController controller = new ParallelClientsUserProcessController();
+        controller.terminate(callback);
+        final UserProcessController client1 = controller.createClientController();
+        final UserProcessController client2 = controller.createClientController();
+
+        assertThat(controller.manualUserResponse).isEmpty();
+        assertThat(client1.takeCurrentResponse(PausingPoint.START_KEYWORD))
+                .containsInstanceOf(TerminateExecution.class);
+        assertThat(client2.takeCurrentResponse(PausingPoint.START_KEYWORD)).isEmpty();
+        verify(callback).run();
+    }
+
+    @Test
+    public void everyPausedClientIsResumed() throws Exception {
+        final Runnable callback = mock(Runnable.class);
+
+        final ParallelClientsUserProcessController controller = new ParallelClientsUserProcessController();
+        final FutureTask<ServerResponse> response1 = controller.createClientController().takeFutureResponse();
+        final FutureTask<ServerResponse> response2 = controller.createClientController().takeFutureResponse();
+        controller.resume(callback);
+        response1.run();
+        response2.run();
+
+        assertThat(response1.get()).isInstanceOf(ResumeExecution.class);
+        assertThat(response2.get()).isInstanceOf(ResumeExecution.class);
+        verify(callback).run();
+    }
+}
@@ -15,9 +15,12 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Test;
 import org.junit.experimental.theories.DataPoints;
@@ -26,6 +29,7 @@ import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
+import org.rf.ide.core.execution.agent.event.ValueSummary;
 import org.rf.ide.core.execution.debug.StackFrame.FrameCategory;
 import org.rf.ide.core.execution.debug.UserProcessController.ResponseWithCallback;
 import org.rf.ide.core.execution.debug.UserProcessDebugController.DebuggerPreferences;
@@ -37,6 +41,7 @@ import org.rf.ide.core.execution.debug.contexts.KeywordContext;
 import org.rf.ide.core.execution.server.response.ChangeVariable;
 import org.rf.ide.core.execution.server.response.DisconnectExecution;
 import org.rf.ide.core.execution.server.response.EvaluateCondition;
+import org.rf.ide.core.execution.server.response.ExpandVariable;
 import org.rf.ide.core.execution.server.response.PauseExecution;
 import org.rf.ide.core.execution.server.response.ResumeExecution;
 import org.rf.ide.core.execution.server.response.ServerResponse;
@@ -1139,6 +1144,29 @@ public class UserProcessDebugControllerTest {
         assertThat(controller.getSuspensionData().data).containsExactly(2);
     }
 
+    @Test
+    public void whenVariableExpansionIsRequested_properResponseIsQueued() {
+        final Stacktrace stack = new Stacktrace();
+        stack.push(new StackFrame("Suite", FrameCategory.SUITE, 0, context()));
+        stack.push(new StackFrame("Test", FrameCategory.TEST, 1, context()));
+        stack.push(new StackFrame("keyword", FrameCategory.KEYWORD, 2, context()));
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.TEST_SUITE, true, "var", "list",
+                new ValueSummary(1000));
+        controller.expandVariable(stack.peekCurrentFrame().get(), variable, newArrayList());
+
+        assertThat(controller.manualUserResponse).hasSize(1);
+        final Optional<ServerResponse> response = controller.takeCurrentResponse(PausingPoint.START_KEYWORD);
+
+        assertThat(controller.manualUserResponse).isEmpty();
+        assertThat(response).containsInstanceOf(ExpandVariable.class);
+        assertThat(controller.getSuspensionData().reason).isEqualTo(SuspendReason.VARIABLE_CHANGE);
+        assertThat(controller.getSuspensionData().data).containsExactly(2);
+    }
+
     @Test
     public void whenFutureResponseWasOrdered_itIsReturnedAsFutureTask() throws Exception {
         final Stacktrace stack = new Stacktrace();
@@ -1158,6 +1186,145 @@ public class UserProcessDebugControllerTest {
         verify(callback).run();
     }
 
+    @Test
+    public void pausingPointsChecksAreNotSent_whenBreakpointHoldersAreUnknown() {
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(new Stacktrace(), prefs);
+
+        final List<String> messages = new ArrayList<>();
+        controller.agentInitializing(response -> messages.add(response.toMessage()));
+        controller.setBreakpointHolders(BreakpointHolders.unknown());
+
+        assertThat(messages).isEmpty();
+    }
+
+    @Test
+    public void pausingPointsChecksAreSentOnce_whenBreakpointHoldersAreKnown() {
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(new Stacktrace(), prefs);
+        controller.setBreakpointHolders(BreakpointHolders.none());
+
+        final List<String> messages = new ArrayList<>();
+        controller.agentInitializing(response -> messages.add(response.toMessage()));
+        controller.setBreakpointHolders(BreakpointHolders.none());
+        controller.takeCurrentResponse(PausingPoint.PRE_START_KEYWORD);
+
+        assertThat(messages).containsExactly(checkMessage(false));
+    }
+
+    @Test
+    public void allPausingPointsAreChecked_untilExecutionPausesOnUserRequest() {
+        final Stacktrace stack = new Stacktrace();
+        stack.push(new StackFrame("Suite", FrameCategory.SUITE, 0, context()));
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        controller.setBreakpointHolders(BreakpointHolders.none());
+
+        final List<String> messages = new ArrayList<>();
+        controller.agentInitializing(response -> messages.add(response.toMessage()));
+        controller.pause(() -> {});
+        controller.takeCurrentResponse(PausingPoint.PRE_START_KEYWORD);
+
+        assertThat(messages).containsExactly(checkMessage(false), checkMessage(true));
+
+        controller.executionPaused();
+
+        assertThat(messages).containsExactly(checkMessage(false), checkMessage(true), checkMessage(false));
+    }
+
+    @Test
+    public void allPausingPointsAreChecked_whenSteppingBeforeAgentIsResumed() throws Exception {
+        final Stacktrace stack = new Stacktrace();
+        stack.push(new StackFrame("Suite", FrameCategory.SUITE, 0, context()));
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        controller.setBreakpointHolders(BreakpointHolders.none());
+
+        final List<String> messages = new ArrayList<>();
+        controller.agentInitializing(response -> messages.add(response.toMessage()));
+        controller.stepInto(() -> {}, () -> {});
+        final FutureTask<ServerResponse> futureResponse = controller.takeFutureResponse();
+        futureResponse.run();
+
+        assertThat(futureResponse.get()).isInstanceOf(ResumeExecution.class);
+        assertThat(messages).containsExactly(checkMessage(false), checkMessage(true));
+    }
+
+    @Test
+    public void everyKeywordStartIsChecked_whenExecutionShouldPauseOnErrors() {
+        final Stacktrace stack = new Stacktrace();
+        stack.push(new StackFrame("Suite", FrameCategory.SUITE, 0, context()));
+        stack.push(new StackFrame("Test", FrameCategory.TEST, 1, context()));
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> true, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        controller.setBreakpointHolders(BreakpointHolders.none());
+
+        final List<String> messages = new ArrayList<>();
+        controller.agentInitializing(response -> messages.add(response.toMessage()));
+        stack.push(new StackFrame("keyword", FrameCategory.KEYWORD, 2, erroneousContext("error msg")));
+        controller.keywordStarting();
+
+        assertThat(messages).containsExactly(checkMessage(false, true));
+
+        final Optional<ServerResponse> response = controller.takeCurrentResponse(PausingPoint.PRE_START_KEYWORD);
+
+        assertThat(response).containsInstanceOf(PauseExecution.class);
+        assertThat(controller.getSuspensionData().reason).isEqualTo(SuspendReason.ERRONEOUS_STATE);
+        assertThat(controller.getSuspensionData().data).containsOnly("error msg");
+    }
+
+    @Test
+    public void keywordStartsChecksAreUpdated_whenPauseOnErrorPreferenceChangesDuringExecution() {
+        final Stacktrace stack = new Stacktrace();
+        stack.push(new StackFrame("Suite", FrameCategory.SUITE, 0, context()));
+
+        final AtomicBoolean pauseOnError = new AtomicBoolean(false);
+        final DebuggerPreferences prefs = new DebuggerPreferences(pauseOnError::get, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        controller.setBreakpointHolders(BreakpointHolders.none());
+
+        final List<String> messages = new ArrayList<>();
+        controller.agentInitializing(response -> messages.add(response.toMessage()));
+        controller.keywordStarting();
+        pauseOnError.set(true);
+        controller.keywordStarting();
+        controller.keywordStarting();
+        pauseOnError.set(false);
+        controller.keywordStarting();
+
+        assertThat(messages).containsExactly(checkMessage(false, false), checkMessage(false, true),
+                checkMessage(false, false));
+    }
+
+    @Test
+    public void erroneousKeywordDoesNotForceCheckingAllPoints_whenExecutionShouldNotPauseOnErrors() {
+        final Stacktrace stack = new Stacktrace();
+        stack.push(new StackFrame("Suite", FrameCategory.SUITE, 0, context()));
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        controller.setBreakpointHolders(BreakpointHolders.none());
+
+        final List<String> messages = new ArrayList<>();
+        controller.agentInitializing(response -> messages.add(response.toMessage()));
+        stack.push(new StackFrame("keyword", FrameCategory.KEYWORD, 1, erroneousContext("error msg")));
+        controller.keywordStarting();
+
+        assertThat(messages).containsExactly(checkMessage(false, false));
+    }
+
+    private static String checkMessage(final boolean checkAll) {
+        return checkMessage(checkAll, false);
+    }
+
+    private static String checkMessage(final boolean checkAll, final boolean checkStarts) {
+        return "{\"check_pausing_points\":{\"all\":" + checkAll + ",\"starts\":" + checkStarts
+                + ",\"tests\":[],\"keywords\":[]}}";
+    }
+
     private static StackFrameContext context() {
         return mock(StackFrameContext.class);
     }
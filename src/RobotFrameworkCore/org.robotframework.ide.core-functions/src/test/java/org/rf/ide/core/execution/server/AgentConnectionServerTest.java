@@ -5,10 +5,14 @@
  */
 package org.rf.ide.core.execution.server;
 
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -18,9 +22,14 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.net.BindException;
+import java.net.ConnectException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.codehaus.jackson.map.ObjectMapper;
@@ -172,6 +181,110 @@ public class AgentConnectionServerTest {
         verifyNoMoreInteractions(serverStatusListener);
     }
 
+    @Test
+    public void connectionTimeoutErrorIsHandledByListener_whenNoClientConnectsToServerForManyClients()
+            throws Exception {
+        final String host = "127.0.0.1";
+        final int port = findFreePort();
+
+        final AgentServerStatusListener serverStatusListener = mock(AgentServerStatusListener.class);
+        final List<Integer> createdListeners = new ArrayList<>();
+
+        final AgentConnectionServer server = new AgentConnectionServer(host, port, 100, TimeUnit.MILLISECONDS);
+        server.addStatusListener(serverStatusListener);
+        server.startForManyClients(clientNumber -> {
+            createdListeners.add(clientNumber);
+            return new ArrayList<>();
+        });
+
+        assertThat(createdListeners).isEmpty();
+        verify(serverStatusListener).serverEstablished(host, port);
+        verify(serverStatusListener).clientConnectionTimedOut(any(SocketTimeoutException.class));
+        verifyNoMoreInteractions(serverStatusListener);
+    }
+
+    @Test
+    public void eachConnectionIsHandledByItsOwnListeners_whenManyClientsConnectToServerForManyClients()
+            throws Exception {
+        final String host = "127.0.0.1";
+        final int port = findFreePort();
+
+        final AgentServerStatusListener serverStatusListener = mock(AgentServerStatusListener.class);
+        final Map<Integer, RobotAgentEventListener> robotEventListeners = new ConcurrentHashMap<>();
+
+        final AgentConnectionServer server = new AgentConnectionServer(host, port, 500, TimeUnit.MILLISECONDS);
+        server.addStatusListener(serverStatusListener);
+
+        final Thread serverThread = new Thread(() -> {
+            try {
+                server.startForManyClients(clientNumber -> {
+                    final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+                    when(listener.isHandlingEvents()).thenReturn(true);
+                    robotEventListeners.put(clientNumber, listener);
+                    return newArrayList(listener);
+                });
+            } catch (final IOException e1) {
+            }
+        });
+        serverThread.start();
+        server.waitForServerToSetup();
+
+        final List<Thread> clientThreads = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final Thread clientThread = new Thread(() -> {
+                try (final Socket clientSocket = connect(host, port)) {
+                    try (BufferedWriter writer = new BufferedWriter(
+                            new OutputStreamWriter(clientSocket.getOutputStream()))) {
+                        final Object msgObject = ImmutableMap.of("ready_to_start", 0);
+                        writer.write(new ObjectMapper().writeValueAsString(msgObject));
+                    }
+                } catch (final Exception e) {
+                }
+            });
+            clientThreads.add(clientThread);
+            clientThread.start();
+        }
+        for (final Thread clientThread : clientThreads) {
+            clientThread.join();
+        }
+        serverThread.join();
+
+        assertThat(robotEventListeners).containsOnlyKeys(1, 2, 3);
+        for (final RobotAgentEventListener robotEventListener : robotEventListeners.values()) {
+            verify(robotEventListener).handleAgentIsReadyToStart(any(ReadyToStartEvent.class));
+        }
+        verify(serverStatusListener).serverEstablished(host, port);
+        verify(serverStatusListener, times(3)).clientConnected(anyInt());
+        verify(serverStatusListener, times(3)).clientConnectionClosed(anyInt());
+        verifyNoMoreInteractions(serverStatusListener);
+    }
+
+    @Test(timeout = 5_000)
+    public void serverForManyClientsFinishes_whenItIsStopped() throws Exception {
+        final String host = "127.0.0.1";
+        final int port = findFreePort();
+
+        final AgentServerStatusListener serverStatusListener = mock(AgentServerStatusListener.class);
+
+        final AgentConnectionServer server = new AgentConnectionServer(host, port, 60, TimeUnit.SECONDS);
+        server.addStatusListener(serverStatusListener);
+
+        final Thread serverThread = new Thread(() -> {
+            try {
+                server.startForManyClients(clientNumber -> new ArrayList<>());
+            } catch (final IOException e1) {
+            }
+        });
+        serverThread.start();
+        server.waitForServerToSetup();
+        verify(serverStatusListener, timeout(2_000)).serverEstablished(host, port);
+
+        server.stop();
+        serverThread.join();
+
+        verifyNoMoreInteractions(serverStatusListener);
+    }
+
     @Test(expected = BindException.class)
     public void exceptionIsThrown_whenHostCannotBeReached() throws Exception {
         final String host = "123456789";
@@ -228,6 +341,18 @@ public class AgentConnectionServerTest {
         verifyZeroInteractions(serverStatusListener);
     }
 
+    private static Socket connect(final String host, final int port) throws Exception {
+        // server socket may not be bound yet right after the server was set up
+        for (int i = 0; i < 20; i++) {
+            try {
+                return new Socket(host, port);
+            } catch (final ConnectException e) {
+                Thread.sleep(50);
+            }
+        }
+        return new Socket(host, port);
+    }
+
     private static int findFreePort() throws IOException {
         try (ServerSocket socket = new ServerSocket(0)) {
             return socket.getLocalPort();
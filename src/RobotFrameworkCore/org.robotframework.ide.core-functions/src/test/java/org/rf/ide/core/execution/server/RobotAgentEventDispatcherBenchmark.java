@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.type.TypeReference;
+import org.rf.ide.core.execution.agent.RobotAgentEventListener.RobotAgentEventsListenerException;
+import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.event.KeywordEndedEvent;
+import org.rf.ide.core.execution.agent.event.KeywordStartedEvent;
+import org.rf.ide.core.execution.agent.event.MessageEvent;
+import org.rf.ide.core.execution.agent.event.SuiteEndedEvent;
+import org.rf.ide.core.execution.agent.event.SuiteStartedEvent;
+import org.rf.ide.core.execution.agent.event.TestEndedEvent;
+import org.rf.ide.core.execution.agent.event.TestStartedEvent;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.io.Files;
+
+/**
+ * Compares decoding of recorded agent events log done by {@link RobotAgentEventDispatcher}, which
+ * reads keyword events directly from JSON stream, with decoding of every event into a map first.
+ * It is not a part of the tests (surefire excludes benchmarks); run the main method with the path
+ * of events log and optional number of rounds. The log can be recorded with
+ * src/test/python/scripts/record_agent_events.py script.
+ */
+public class RobotAgentEventDispatcherBenchmark {
+
+    public static void main(final String[] args) throws Exception {
+        final String eventsLog = Files.toString(new File(args[0]), StandardCharsets.UTF_8);
+        final int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        System.out.println(String.format("%d events, %d MB", eventsLog.split("\n").length,
+                eventsLog.length() / (1024 * 1024)));
+        for (int i = 0; i < rounds; i++) {
+            final long mapsTime = measure(() -> decodeToMaps(eventsLog));
+            final long streamingTime = measure(() -> decodeWithDispatcher(eventsLog));
+            System.out.println(String.format("round %d: maps %d ms, streaming %d ms", i + 1, mapsTime,
+                    streamingTime));
+        }
+    }
+
+    private static int decodeToMaps(final String eventsLog) throws IOException {
+        final ObjectMapper mapper = new ObjectMapper();
+        final BufferedReader reader = new BufferedReader(new StringReader(eventsLog));
+        int decoded = 0;
+        String event = reader.readLine();
+        while (event != null) {
+            final Map<String, Object> eventMap = mapper.readValue(event, new TypeReference<Map<String, Object>>() {
+            });
+            switch (eventMap.keySet().iterator().next()) {
+                case "pre_start_keyword":
+                    KeywordStartedEvent.fromPre(eventMap);
+                    break;
+                case "start_keyword":
+                    KeywordStartedEvent.from(eventMap);
+                    break;
+                case "pre_end_keyword":
+                    KeywordEndedEvent.fromPre(eventMap);
+                    break;
+                case "end_keyword":
+                    KeywordEndedEvent.from(eventMap);
+                    break;
+                case "start_suite":
+                    SuiteStartedEvent.from(eventMap);
+                    break;
+                case "end_suite":
+                    SuiteEndedEvent.from(eventMap);
+                    break;
+                case "start_test":
+                    TestStartedEvent.from(eventMap);
+                    break;
+                case "end_test":
+                    TestEndedEvent.from(eventMap);
+                    break;
+                case "log_message":
+                    MessageEvent.fromLogMessage(eventMap);
+                    break;
+                default:
+                    break;
+            }
+            decoded++;
+            event = reader.readLine();
+        }
+        return decoded;
+    }
+
+    private static int decodeWithDispatcher(final String eventsLog)
+            throws IOException, RobotAgentEventsListenerException {
+        final CountingListener listener = new CountingListener();
+        new RobotAgentEventDispatcher(null, listener).runEventsLoop(new BufferedReader(new StringReader(eventsLog)));
+        return listener.decoded;
+    }
+
+    private static long measure(final Decoding decoding) throws IOException, RobotAgentEventsListenerException {
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        decoding.decode();
+        return stopwatch.elapsed(TimeUnit.MILLISECONDS);
+    }
+
+    @FunctionalInterface
+    private interface Decoding {
+
+        int decode() throws IOException, RobotAgentEventsListenerException;
+    }
+
+    private static class CountingListener extends RobotDefaultAgentEventListener {
+
+        private int decoded = 0;
+
+        @Override
+        public boolean isHandlingEvents() {
+            return true;
+        }
+
+        @Override
+        public void handleKeywordAboutToStart(final KeywordStartedEvent event) {
+            decoded++;
+        }
+
+        @Override
+        public void handleKeywordStarted(final KeywordStartedEvent event) {
+            decoded++;
+        }
+
+        @Override
+        public void handleKeywordAboutToEnd(final KeywordEndedEvent event) {
+            decoded++;
+        }
+
+        @Override
+        public void handleKeywordEnded(final KeywordEndedEvent event) {
+            decoded++;
+        }
+
+        @Override
+        public void handleSuiteStarted(final SuiteStartedEvent event) {
+            decoded++;
+        }
+
+        @Override
+        public void handleSuiteEnded(final SuiteEndedEvent event) {
+            decoded++;
+        }
+
+        @Override
+        public void handleTestStarted(final TestStartedEvent event) {
+            decoded++;
+        }
+
+        @Override
+        public void handleTestEnded(final TestEndedEvent event) {
+            decoded++;
+        }
+
+        @Override
+        public void handleLogMessage(final MessageEvent event) {
+            decoded++;
+        }
+    }
+}
@@ -6,8 +6,10 @@
 package org.rf.ide.core.execution.server;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -24,7 +26,9 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.type.TypeReference;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.rf.ide.core.execution.agent.LogLevel;
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.RobotAgentEventListener;
@@ -413,6 +417,46 @@ public class RobotAgentEventDispatcherTest {
         verifyNoMoreInteractions(listener);
     }
 
+    @Test
+    public void listenerIsNotifiedAboutKeywordEventsInOrder_whenTheyContainNestedAttributesAndOtherEventsComeBetween()
+            throws Exception {
+        final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+        when(listener.isHandlingEvents()).thenReturn(true);
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        final Map<String, Object> startAttributes = ImmutableMap.<String, Object> of("args",
+                newArrayList("a", newArrayList(1, 2), ImmutableMap.of("kwname", "nested")), "kwname", "kw", "type",
+                "Keyword", "status", ImmutableMap.of("libname", "nested"), "libname", "lib");
+        final Map<String, Object> endAttributes = ImmutableMap.<String, Object> of("kwname", "kw", "elapsedtime", 10,
+                "type", "Keyword");
+        final String json = toJson(ImmutableMap.of("start_keyword",
+                newArrayList(ImmutableMap.of("x", "y"), startAttributes, "ignored"))) + "\n"
+                + toJson(ImmutableMap.of("resumed", newArrayList())) + "\n"
+                + toJson(ImmutableMap.of("end_keyword", newArrayList("kw", endAttributes)));
+        dispatcher.runEventsLoop(readerFor(json));
+
+        final InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).eventsProcessingAboutToStart();
+        inOrder.verify(listener).handleKeywordStarted(new KeywordStartedEvent("kw", "Keyword", "lib"));
+        inOrder.verify(listener).handleResumed();
+        inOrder.verify(listener).handleKeywordEnded(new KeywordEndedEvent("kw", "Keyword"));
+        inOrder.verify(listener).eventsProcessingFinished();
+    }
+
+    @Test
+    public void exceptionIsThrown_whenKeywordEventDoesNotHaveRequiredAttributes() throws Exception {
+        final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+        when(listener.isHandlingEvents()).thenReturn(true);
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        final Map<String, Object> attributes = ImmutableMap.<String, Object> of("kwname", "kw", "type", 1);
+        final String json = toJson(ImmutableMap.of("end_keyword", newArrayList("kw", attributes)));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> dispatcher.runEventsLoop(readerFor(json)));
+    }
+
     @Test
     public void listenerIsNotifiedAboutVariablesChangedEvent() throws Exception {
         final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
@@ -436,6 +480,36 @@ public class RobotAgentEventDispatcherTest {
         verifyNoMoreInteractions(listener);
     }
 
+    @Test
+    public void listenerIsNotifiedAboutVariablesEventsWithAllVariables_whenVariablesAreSentAsChanges()
+            throws Exception {
+        final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+        when(listener.isHandlingEvents()).thenReturn(true);
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        final String json1 = toJson(ImmutableMap.of("variables", newArrayList(ImmutableMap.of("var_scopes",
+                newArrayList(ImmutableMap.of("a", newArrayList("t", 1, "test"), "b", newArrayList("t", 2, "suite"))),
+                "deltas", newArrayList((Object) null)))));
+        final String json2 = toJson(ImmutableMap.of("variables", newArrayList(ImmutableMap.of("var_scopes",
+                newArrayList(ImmutableMap.of("b", newArrayList("t", 3, "suite"))),
+                "deltas", newArrayList(ImmutableMap.of("base", 0, "removed", newArrayList()))))));
+        dispatcher.runEventsLoop(readerFor(json1 + "\n" + json2));
+
+        verify(listener).eventsProcessingAboutToStart();
+        verify(listener, atLeast(1)).isHandlingEvents();
+        verify(listener).handleVariables(new VariablesEvent(
+                newArrayList(ImmutableMap.of(new Variable("a", VariableScope.TEST_CASE), new VariableTypedValue("t", 1),
+                        new Variable("b", VariableScope.TEST_SUITE), new VariableTypedValue("t", 2))),
+                null));
+        verify(listener).handleVariables(new VariablesEvent(
+                newArrayList(ImmutableMap.of(new Variable("a", VariableScope.TEST_CASE), new VariableTypedValue("t", 1),
+                        new Variable("b", VariableScope.TEST_SUITE), new VariableTypedValue("t", 3))),
+                null));
+        verify(listener).eventsProcessingFinished();
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test
     public void listenerIsNotifiedAboutShouldContinueConditionEvent() throws Exception {
         final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
@@ -634,6 +708,66 @@ public class RobotAgentEventDispatcherTest {
         verifyNoMoreInteractions(listener);
     }
 
+    @Test
+    public void keywordEventsAreSameAsDecodedFromMaps_whenKeywordsLogIsDispatched() throws Exception {
+        final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+        when(listener.isHandlingEvents()).thenReturn(true);
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        final ObjectMapper mapper = new ObjectMapper();
+        final StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            final Map<String, Object> startAttributes = ImmutableMap.<String, Object> builder()
+                    .put("doc", "Documentation of \"keyword\" \u00e4 " + i)
+                    .put("args", newArrayList("${arg1}", "value " + i, ImmutableMap.of("type", "nested")))
+                    .put("kwname", "Keyword " + i)
+                    .put("assign", newArrayList())
+                    .put("libname", "Library" + i % 3)
+                    .put("tags", newArrayList("tag"))
+                    .put("type", i % 2 == 0 ? "Keyword" : "Setup")
+                    .put("starttime", "20170101 12:00:00.000")
+                    .build();
+            final Map<String, Object> endAttributes = ImmutableMap.<String, Object> builder()
+                    .putAll(startAttributes)
+                    .put("elapsedtime", 10)
+                    .put("status", "PASS")
+                    .build();
+            final String name = "Library.Keyword " + i;
+            for (final String event : newArrayList("pre_start_keyword", "start_keyword")) {
+                log.append(mapper.writeValueAsString(ImmutableMap.of(event, newArrayList(name, startAttributes))))
+                        .append('\n');
+            }
+            for (final String event : newArrayList("pre_end_keyword", "end_keyword")) {
+                log.append(mapper.writeValueAsString(ImmutableMap.of(event, newArrayList(name, endAttributes))))
+                        .append('\n');
+            }
+        }
+        dispatcher.runEventsLoop(readerFor(log.toString()));
+
+        final InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).eventsProcessingAboutToStart();
+        final BufferedReader reader = readerFor(log.toString());
+        String event = reader.readLine();
+        while (event != null) {
+            final Map<String, Object> eventMap = mapper.readValue(event,
+                    new TypeReference<Map<String, Object>>() {
+                    });
+            final String eventType = eventMap.keySet().iterator().next();
+            if (eventType.equals("pre_start_keyword")) {
+                inOrder.verify(listener).handleKeywordAboutToStart(KeywordStartedEvent.fromPre(eventMap));
+            } else if (eventType.equals("start_keyword")) {
+                inOrder.verify(listener).handleKeywordStarted(KeywordStartedEvent.from(eventMap));
+            } else if (eventType.equals("pre_end_keyword")) {
+                inOrder.verify(listener).handleKeywordAboutToEnd(KeywordEndedEvent.fromPre(eventMap));
+            } else {
+                inOrder.verify(listener).handleKeywordEnded(KeywordEndedEvent.from(eventMap));
+            }
+            event = reader.readLine();
+        }
+        inOrder.verify(listener).eventsProcessingFinished();
+    }
+
     private static String toJson(final Object object) throws Exception {
         return new ObjectMapper().writeValueAsString(object);
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Test;
+import org.rf.ide.core.execution.context.RobotModelTestProvider;
+import org.rf.ide.core.execution.debug.BreakpointHolders;
+import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.text.read.separators.TokenSeparatorBuilder.FileFormat;
+
+public class CheckPausingPointsTest {
+
+    @Test
+    public void properMessageIsConstructed_whenAllPointsHaveToBeChecked() {
+        assertThat(new CheckPausingPoints(true, false, BreakpointHolders.none()).toMessage())
+                .isEqualTo("{\"check_pausing_points\":{\"all\":true,\"starts\":false,\"tests\":[],\"keywords\":[]}}");
+    }
+
+    @Test
+    public void properMessageIsConstructed_whenHoldersAreNotKnown() {
+        assertThat(new CheckPausingPoints(false, false, BreakpointHolders.unknown()).toMessage())
+                .isEqualTo("{\"check_pausing_points\":{\"all\":true,\"starts\":false,\"tests\":[],\"keywords\":[]}}");
+    }
+
+    @Test
+    public void properMessageIsConstructed_whenThereAreNoHolders() {
+        assertThat(new CheckPausingPoints(false, false, BreakpointHolders.none()).toMessage())
+                .isEqualTo("{\"check_pausing_points\":{\"all\":false,\"starts\":false,\"tests\":[],\"keywords\":[]}}");
+    }
+
+    @Test
+    public void properMessageIsConstructed_whenKeywordStartsHaveToBeChecked() {
+        assertThat(new CheckPausingPoints(false, true, BreakpointHolders.none()).toMessage())
+                .isEqualTo("{\"check_pausing_points\":{\"all\":false,\"starts\":true,\"tests\":[],\"keywords\":[]}}");
+    }
+
+    @Test
+    public void properMessageIsConstructed_forKnownHolders() {
+        final RobotFile model = RobotModelTestProvider.getModelFile(String.join("\n",
+                "*** Test Cases ***",
+                "test 1",
+                "  log  1",
+                "*** Keywords ***",
+                "kw 1",
+                "  log  2",
+                "kw 2",
+                "  log  3"), FileFormat.TXT_OR_ROBOT, RobotModelTestProvider.getLazyParser());
+        final BreakpointHolders holders = new BreakpointHolders.Builder().addHolderOf(model, 3)
+                .addHolderOf(model, 6)
+                .addHolderOf(model, 8)
+                .build();
+
+        assertThat(new CheckPausingPoints(false, false, holders).toMessage())
+                .isEqualTo("{\"check_pausing_points\":{\"all\":false,\"starts\":false,"
+                        + "\"tests\":[\"test 1\"],\"keywords\":[\"kw 1\",\"kw 2\"]}}");
+    }
+
+    @Test(expected = ResponseException.class)
+    public void mapperIOExceptionIsWrappedAsResponseException() throws Exception {
+        final ObjectMapper mapper = mock(ObjectMapper.class);
+        when(mapper.writeValueAsString(any(Object.class))).thenThrow(IOException.class);
+
+        final CheckPausingPoints response = new CheckPausingPoints(mapper, false, false, BreakpointHolders.none());
+
+        response.toMessage();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server.response;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Test;
+import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
+
+public class ExpandVariableTest {
+
+    @Test
+    public void properMessageIsConstructed_forVariableExpandMessage() {
+        assertThat(new ExpandVariable("${a}", 1, newArrayList()).toMessage())
+                .isEqualTo("{\"expand_variable\":{\"name\":\"${a}\",\"level\":1,\"path\":[]}}");
+        assertThat(new ExpandVariable("&{b}", 3, newArrayList("key", 2)).toMessage())
+                .isEqualTo("{\"expand_variable\":{\"name\":\"&{b}\",\"level\":3,\"path\":[\"key\",2]}}");
+    }
+
+    @Test(expected = ResponseException.class)
+    public void mapperIOExceptionIsWrappedAsResponseException() throws Exception {
+        final ObjectMapper mapper = mock(ObjectMapper.class);
+        when(mapper.writeValueAsString(any(Object.class))).thenThrow(IOException.class);
+
+        final ExpandVariable response = new ExpandVariable(mapper, "${a}", 1, newArrayList());
+
+        response.toMessage();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.rf.ide.core.executor.RobotCommandRpcExecutor.RobotCommandExecutorException;
+
+public class RobotCommandExecutorsPoolTest {
+
+    private final List<RobotCommandRpcExecutor> createdExecutors = new ArrayList<>();
+
+    private final AtomicLong time = new AtomicLong(0);
+
+    @Test
+    public void releasedExecutorIsReused() {
+        final RobotCommandExecutorsPool pool = createPool(1, 2, 1000);
+
+        final RobotCommandRpcExecutor executor = pool.acquire();
+        pool.release(executor);
+
+        assertThat(pool.acquire()).isSameAs(executor);
+        assertThat(createdExecutors).hasSize(1);
+    }
+
+    @Test
+    public void newExecutorsAreStarted_whenAllAreBusy() {
+        final RobotCommandExecutorsPool pool = createPool(1, 2, 1000);
+
+        final RobotCommandRpcExecutor executor1 = pool.acquire();
+        final RobotCommandRpcExecutor executor2 = pool.acquire();
+
+        assertThat(executor1).isNotSameAs(executor2);
+        assertThat(createdExecutors).containsExactly(executor1, executor2);
+        assertThat(pool.getBusySize()).isEqualTo(2);
+        assertThat(pool.getIdleSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void acquiringWaitsForReleasedExecutor_whenMaximalNumberIsBusy() throws Exception {
+        final RobotCommandExecutorsPool pool = createPool(1, 1, 1000);
+        final RobotCommandRpcExecutor executor = pool.acquire();
+
+        final CompletableFuture<RobotCommandRpcExecutor> waiting = CompletableFuture.supplyAsync(pool::acquire);
+        assertThat(isCompletedWithin(waiting, 200)).isFalse();
+
+        pool.release(executor);
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isSameAs(executor);
+        assertThat(createdExecutors).hasSize(1);
+    }
+
+    @Test
+    public void idleExecutorIsReplaced_whenItIsNotResponding() {
+        final RobotCommandExecutorsPool pool = createPool(1, 1, 1000);
+        final RobotCommandRpcExecutor executor = pool.acquire();
+        pool.release(executor);
+        when(executor.isResponding()).thenReturn(false);
+
+        final RobotCommandRpcExecutor newExecutor = pool.acquire();
+
+        assertThat(newExecutor).isNotSameAs(executor);
+        verify(executor).kill();
+        assertThat(pool.getBusySize()).isEqualTo(1);
+    }
+
+    @Test
+    public void idleExecutorsAboveMinimumAreStopped_afterIdleTimeout() {
+        final RobotCommandExecutorsPool pool = createPool(1, 3, 1000);
+        final RobotCommandRpcExecutor executor1 = pool.acquire();
+        final RobotCommandRpcExecutor executor2 = pool.acquire();
+        final RobotCommandRpcExecutor executor3 = pool.acquire();
+        pool.release(executor1);
+        time.set(500);
+        pool.release(executor2);
+        pool.release(executor3);
+
+        time.set(1200);
+        pool.evictIdleExecutors();
+
+        assertThat(pool.getIdleSize()).isEqualTo(2);
+        verify(executor1).kill();
+        verify(executor2, never()).kill();
+
+        time.set(5000);
+        pool.evictIdleExecutors();
+
+        assertThat(pool.getIdleSize()).isEqualTo(1);
+        verify(executor2).kill();
+        verify(executor3, never()).kill();
+    }
+
+    @Test
+    public void deadIdleExecutorsAreStopped_evenWhenBelowMinimum() {
+        final RobotCommandExecutorsPool pool = createPool(1, 1, 1000);
+        final RobotCommandRpcExecutor executor = pool.acquire();
+        pool.release(executor);
+        when(executor.isAlive()).thenReturn(false);
+
+        pool.evictIdleExecutors();
+
+        assertThat(pool.getIdleSize()).isEqualTo(0);
+        verify(executor).kill();
+    }
+
+    @Test
+    public void allExecutorsAreStoppedAndPoolIsUnusable_whenDisposed() {
+        final RobotCommandExecutorsPool pool = createPool(1, 2, 1000);
+        final RobotCommandRpcExecutor executor1 = pool.acquire();
+        final RobotCommandRpcExecutor executor2 = pool.acquire();
+        pool.release(executor1);
+
+        pool.dispose();
+
+        verify(executor1).kill();
+        verify(executor2).kill();
+        assertThat(pool.getIdleSize()).isEqualTo(0);
+        assertThat(pool.getBusySize()).isEqualTo(0);
+
+        assertThatExceptionOfType(RobotCommandExecutorException.class).isThrownBy(pool::acquire);
+    }
+
+    private RobotCommandExecutorsPool createPool(final int minIdle, final int maxSize, final long idleTimeout) {
+        return new RobotCommandExecutorsPool(() -> {
+            final RobotCommandRpcExecutor executor = mock(RobotCommandRpcExecutor.class);
+            when(executor.isAlive()).thenReturn(true);
+            when(executor.isResponding()).thenReturn(true);
+            synchronized (createdExecutors) {
+                createdExecutors.add(executor);
+            }
+            return executor;
+        }, time::get, minIdle, maxSize, idleTimeout);
+    }
+
+    private static boolean isCompletedWithin(final CompletableFuture<?> future, final long millis)
+            throws InterruptedException, ExecutionException {
+        try {
+            future.get(millis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (final TimeoutException e) {
+            return false;
+        }
+    }
+}
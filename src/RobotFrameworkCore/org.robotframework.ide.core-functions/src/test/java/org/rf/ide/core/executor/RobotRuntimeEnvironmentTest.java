@@ -8,7 +8,10 @@ package org.rf.ide.core.executor;
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assume.assumeTrue;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -23,7 +26,9 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.rf.ide.core.RedSystemProperties;
+import org.rf.ide.core.executor.RobotRuntimeEnvironment.LibdocFormat;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment.PythonInstallationDirectory;
+import org.rf.ide.core.executor.RobotRuntimeEnvironment.RobotEnvironmentException;
 
 public class RobotRuntimeEnvironmentTest {
 
@@ -105,6 +110,44 @@ public class RobotRuntimeEnvironmentTest {
         assertThat(modulesSearchPaths.stream().map(File::getName)).containsOnly("MoDuLe", "module2");
     }
 
+    @Test
+    public void libdocIsCreatedUsingAcquiredExecutor_whichIsReleasedAfterwards() {
+        final RobotCommandExecutor executor = mock(RobotCommandExecutor.class);
+        final PythonInstallationDirectory location = new PythonInstallationDirectory(
+                URI.create("file:///path/to/python"), SuiteExecutor.Python);
+
+        final RobotCommandsExecutors executors = mock(RobotCommandsExecutors.class);
+        when(executors.acquireRobotCommandExecutor(location)).thenReturn(executor);
+
+        final RobotRuntimeEnvironment env = new RobotRuntimeEnvironment(executors, location, "3.0.0");
+        final File outputFile = new File(folder.getRoot(), "lib.libspec");
+        final EnvironmentSearchPaths searchPaths = new EnvironmentSearchPaths();
+        env.createLibdoc("lib", outputFile, LibdocFormat.XML, searchPaths);
+
+        verify(executor).createLibdoc("lib", outputFile, LibdocFormat.XML, searchPaths);
+        verify(executors).releaseRobotCommandExecutor(location, executor);
+    }
+
+    @Test
+    public void acquiredExecutorIsReleased_evenWhenLibdocCreationFails() {
+        final RobotCommandExecutor executor = mock(RobotCommandExecutor.class);
+        final PythonInstallationDirectory location = new PythonInstallationDirectory(
+                URI.create("file:///path/to/python"), SuiteExecutor.Python);
+
+        final RobotCommandsExecutors executors = mock(RobotCommandsExecutors.class);
+        when(executors.acquireRobotCommandExecutor(location)).thenReturn(executor);
+
+        final RobotRuntimeEnvironment env = new RobotRuntimeEnvironment(executors, location, "3.0.0");
+        final File outputFile = new File(folder.getRoot(), "lib.libspec");
+        final EnvironmentSearchPaths searchPaths = new EnvironmentSearchPaths();
+        doThrow(RobotEnvironmentException.class).when(executor).createLibdoc("lib", outputFile, LibdocFormat.XML,
+                searchPaths);
+
+        assertThatExceptionOfType(RobotEnvironmentException.class)
+                .isThrownBy(() -> env.createLibdoc("lib", outputFile, LibdocFormat.XML, searchPaths));
+        verify(executors).releaseRobotCommandExecutor(location, executor);
+    }
+
     @Test
     public void emptyPossibleInstallationDirectoriesAreReturned_whenLocationDoesNotExist() throws Exception {
         assertThat(RobotRuntimeEnvironment.possibleInstallationsFor(new File("not_existing_location"))).isEmpty();
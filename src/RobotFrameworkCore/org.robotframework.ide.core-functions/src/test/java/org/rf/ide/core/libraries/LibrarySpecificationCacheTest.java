@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.libraries;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LibrarySpecificationCacheTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private File xmlFile;
+
+    private LibrarySpecificationCache cache;
+
+    @Before
+    public void beforeTest() throws IOException {
+        xmlFile = tempFolder.newFile("lib.libspec");
+        writeXml("kw", "Keyword documentation äö");
+        cache = new LibrarySpecificationCache(new File(tempFolder.getRoot(), "cache"));
+    }
+
+    @Test
+    public void specificationReadFromCacheIsSameAsReadFromXml() {
+        final LibrarySpecification xmlSpec = LibrarySpecificationReader.readSpecification(xmlFile);
+
+        final LibrarySpecification firstSpec = cache.readSpecification(xmlFile);
+        assertThat(cache.getCacheFile(xmlFile)).exists();
+        final LibrarySpecification cachedSpec = cache.readSpecification(xmlFile);
+
+        for (final LibrarySpecification spec : new LibrarySpecification[] { firstSpec, cachedSpec }) {
+            assertThat(spec).isEqualTo(xmlSpec);
+            assertThat(spec.getScope()).isEqualTo(xmlSpec.getScope());
+            assertThat(spec.getFormat()).isEqualTo(xmlSpec.getFormat());
+            assertThat(spec.getDocumentation()).isEqualTo(xmlSpec.getDocumentation());
+            assertThat(spec.getConstructor().getDocumentation())
+                    .isEqualTo(xmlSpec.getConstructor().getDocumentation());
+            assertThat(spec.getConstructor().getArguments()).isEqualTo(xmlSpec.getConstructor().getArguments());
+            assertThat(spec.getKeywords()).hasSize(2);
+            for (int i = 0; i < 2; i++) {
+                final KeywordSpecification keyword = spec.getKeywords().get(i);
+                final KeywordSpecification xmlKeyword = xmlSpec.getKeywords().get(i);
+                assertThat(keyword.getArguments()).isEqualTo(xmlKeyword.getArguments());
+                assertThat(keyword.getDocumentation()).isEqualTo(xmlKeyword.getDocumentation());
+                assertThat(keyword.isDeprecated()).isEqualTo(xmlKeyword.isDeprecated());
+            }
+        }
+    }
+
+    @Test
+    public void specificationIsReadFromXmlAgain_whenXmlFileWasChanged() throws IOException {
+        cache.readSpecification(xmlFile);
+
+        writeXml("other_kw", "Other documentation");
+        xmlFile.setLastModified(xmlFile.lastModified() + 2000);
+        final LibrarySpecification spec = cache.readSpecification(xmlFile);
+
+        assertThat(spec.getKeywords().get(0).getName()).isEqualTo("other_kw");
+        assertThat(spec.getKeywords().get(0).getDocumentation()).isEqualTo("Other documentation");
+        assertThat(cache.readSpecification(xmlFile)).isEqualTo(spec);
+    }
+
+    @Test
+    public void outdatedCacheFileIsReplaced_whenXmlFileWasChangedAfterCachedSpecificationWasRead()
+            throws IOException {
+        cache.readSpecification(xmlFile);
+        final LibrarySpecification cachedSpec = cache.readSpecification(xmlFile);
+        final File oldCacheFile = cache.getCacheFile(xmlFile);
+
+        writeXml("other_kw", "Other documentation");
+        xmlFile.setLastModified(xmlFile.lastModified() + 2000);
+        cache.readSpecification(xmlFile);
+
+        final File cacheFile = cache.getCacheFile(xmlFile);
+        assertThat(cacheFile).isNotEqualTo(oldCacheFile);
+        assertThat(cacheFile.getParentFile().listFiles()).containsOnly(cacheFile);
+        final LibrarySpecification newCachedSpec = cache.readSpecification(xmlFile);
+        assertThat(newCachedSpec.getKeywords().get(0).getName()).isEqualTo("other_kw");
+        assertThat(newCachedSpec.getKeywords().get(0).getDocumentation()).isEqualTo("Other documentation");
+
+        assertThat(cachedSpec.getKeywords().get(0).getName()).isEqualTo("kw");
+        assertThat(cachedSpec.getKeywords().get(0).getDocumentation()).isEqualTo("Keyword documentation äö");
+    }
+
+    @Test
+    public void documentationOfCachedSpecificationIsAvailable_whenCacheFileWasRemovedAfterReading() {
+        cache.readSpecification(xmlFile);
+        final LibrarySpecification cachedSpec = cache.readSpecification(xmlFile);
+
+        assertThat(cache.getCacheFile(xmlFile).delete()).isTrue();
+
+        assertThat(cachedSpec.getKeywords().get(0).getDocumentation()).isEqualTo("Keyword documentation äö");
+        assertThat(cachedSpec.getKeywords().get(1).getDocumentation()).isEqualTo("*DEPRECATED* do not use");
+    }
+
+    @Test
+    public void specificationIsReadFromXml_whenCacheFileIsCorrupted() throws IOException {
+        cache.readSpecification(xmlFile);
+
+        final File cacheFile = cache.getCacheFile(xmlFile);
+        final byte[] bytes = Files.readAllBytes(cacheFile.toPath());
+        Files.write(cacheFile.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThat(cache.readSpecification(xmlFile)).isEqualTo(LibrarySpecificationReader.readSpecification(xmlFile));
+    }
+
+    private void writeXml(final String keywordName, final String keywordDoc) throws IOException {
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<keywordspec generated=\"20170101 12:00:00\" type=\"library\" name=\"lib\" format=\"ROBOT\">\n"
+                + "<version>1.0</version>\n"
+                + "<scope>global</scope>\n"
+                + "<namedargs>yes</namedargs>\n"
+                + "<doc>Library documentation</doc>\n"
+                + "<init>\n"
+                + "<arguments><arg>x</arg><arg>y=1</arg></arguments>\n"
+                + "<doc>Constructor documentation</doc>\n"
+                + "</init>\n"
+                + "<kw name=\"" + keywordName + "\">\n"
+                + "<arguments><arg>a</arg><arg>*rest</arg></arguments>\n"
+                + "<doc>" + keywordDoc + "</doc>\n"
+                + "</kw>\n"
+                + "<kw name=\"deprecated_kw\">\n"
+                + "<arguments></arguments>\n"
+                + "<doc>*DEPRECATED* do not use</doc>\n"
+                + "</kw>\n"
+                + "</keywordspec>\n";
+        Files.write(xmlFile.toPath(), xml.getBytes(UTF_8));
+    }
+}
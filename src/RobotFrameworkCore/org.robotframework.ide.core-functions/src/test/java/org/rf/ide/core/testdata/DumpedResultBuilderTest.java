@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.rf.ide.core.testdata.DumpedResultBuilder.ChangedLines;
+import org.rf.ide.core.testdata.DumpedResultBuilder.DumpedResult;
+import org.rf.ide.core.testdata.text.read.LineReader.Constant;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+import com.google.common.collect.ImmutableList;
+
+public class DumpedResultBuilderTest {
+
+    @Test
+    public void noLinesAreChanged_whenContentIsTheSame() {
+        final DumpedResult result = dumpedResult("a", "b", "c");
+        assertThat(result.newContent()).isEqualTo("a\nb\nc\n");
+
+        final ChangedLines changed = result.changedLinesComparedTo("a\nb\nc\n");
+
+        assertThat(changed.isEmpty()).isTrue();
+        assertThat(changed.getFirstLine()).isEqualTo(3);
+        assertThat(changed.getPreviousLinesCount()).isEqualTo(0);
+        assertThat(changed.getNewLinesCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void onlyModifiedLineIsChanged() {
+        final DumpedResult result = dumpedResult("a", "x", "c");
+
+        final ChangedLines changed = result.changedLinesComparedTo("a\nb\nc\n");
+
+        assertThat(changed.isEmpty()).isFalse();
+        assertThat(changed.getFirstLine()).isEqualTo(1);
+        assertThat(changed.getPreviousLinesCount()).isEqualTo(1);
+        assertThat(changed.getNewLinesCount()).isEqualTo(1);
+        assertThat(changed.getOffset()).isEqualTo(2);
+        assertThat(changed.getLength()).isEqualTo(2);
+        assertThat(changed.getText()).isEqualTo("x\n");
+    }
+
+    @Test
+    public void onlyAddedLinesAreChanged() {
+        final DumpedResult result = dumpedResult("a", "b", "new1", "new2", "c");
+
+        final ChangedLines changed = result.changedLinesComparedTo("a\nb\nc\n");
+
+        assertThat(changed.getFirstLine()).isEqualTo(2);
+        assertThat(changed.getPreviousLinesCount()).isEqualTo(0);
+        assertThat(changed.getNewLinesCount()).isEqualTo(2);
+        assertThat(changed.getOffset()).isEqualTo(4);
+        assertThat(changed.getLength()).isEqualTo(0);
+        assertThat(changed.getText()).isEqualTo("new1\nnew2\n");
+    }
+
+    @Test
+    public void onlyRemovedLinesAreChanged_whenPreviousContentHasDifferentLineSeparators() {
+        final DumpedResult result = dumpedResult("a", "c");
+
+        final ChangedLines changed = result.changedLinesComparedTo("a\nb\r\nb2\rc\n");
+
+        assertThat(changed.getFirstLine()).isEqualTo(1);
+        assertThat(changed.getPreviousLinesCount()).isEqualTo(2);
+        assertThat(changed.getNewLinesCount()).isEqualTo(0);
+        assertThat(changed.getOffset()).isEqualTo(2);
+        assertThat(changed.getLength()).isEqualTo(6);
+        assertThat(changed.getText()).isEmpty();
+    }
+
+    @Test
+    public void applyingChangedLinesToPreviousContentGivesDumpedContent() {
+        final String previous = "a\nb\nb\nc";
+        final DumpedResult result = dumpedResult("a", "b", "c");
+
+        final ChangedLines changed = result.changedLinesComparedTo(previous);
+
+        final String applied = previous.substring(0, changed.getOffset()) + changed.getText()
+                + previous.substring(changed.getOffset() + changed.getLength());
+        assertThat(applied).isEqualTo(result.newContent());
+    }
+
+    private static DumpedResult dumpedResult(final String... linesTexts) {
+        final List<RobotLine> lines = new ArrayList<>();
+        for (int i = 0; i < linesTexts.length; i++) {
+            final RobotLine line = new RobotLine(i + 1, null);
+            line.addLineElement(RobotToken.create(linesTexts[i]));
+            line.setEndOfLine(ImmutableList.of(Constant.LF), 0, 0);
+            lines.add(line);
+        }
+        return new DumpedResultBuilder().producedLines(lines).build();
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.rf.ide.core.execution.context.RobotModelTestProvider;
+import org.rf.ide.core.testdata.DumpedResultBuilder.ChangedLines;
+import org.rf.ide.core.testdata.DumpedResultBuilder.DumpedResult;
+import org.rf.ide.core.testdata.mapping.QuickTokenListenerBaseTwoModelReferencesLinker;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.table.RobotExecutableRow;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.separators.TokenSeparatorBuilder.FileFormat;
+
+public class RobotFileDumperTest {
+
+    private static final String CONTENT = "not a table line\n"
+            + "*** Settings ***\n"
+            + "Library    Collections\n"
+            + "Documentation    doc\n"
+            + "*** Variables ***\n"
+            + "${var}    1\n"
+            + "@{list}    a    b\n"
+            + "*** Test Cases ***\n"
+            + "case\n"
+            + "    kw 1    ${var}\n"
+            + "    # comment\n"
+            + "\n"
+            + "*** Keywords ***\n"
+            + "kw 1\n"
+            + "    [Arguments]    ${x}\n"
+            + "    Log    ${x}\n"
+            + "\n"
+            + "kw 2\n"
+            + "    Log    2    # comment\n"
+            + "    ...    3\n"
+            + "\n"
+            + "kw 3\n"
+            + "    Log    3\n"
+            + "*** User Table ***\n"
+            + "whatever\n";
+
+    @Test
+    public void unchangedModelIsCopiedVerbatim_whenDumpedIncrementally() {
+        final RobotFile model = parse(CONTENT);
+
+        final DumpedResult result = dumpIncrementally(model);
+
+        assertThat(result.newContent()).isEqualTo(CONTENT);
+        assertThat(result.changedLines()).hasValueSatisfying(changed -> assertThat(changed).isEmpty());
+    }
+
+    @Test
+    public void changedLinesAreNotTracked_whenModelIsDumpedAsWhole() {
+        final RobotFile model = parse(CONTENT);
+
+        final DumpedResult result = new RobotFileDumper().dumpToResultObject(model.getParent());
+
+        assertThat(result.newContent()).isEqualTo(CONTENT);
+        assertThat(result.changedLines()).isEmpty();
+    }
+
+    @Test
+    public void onlyKeywordWithDirtyTokenIsDumped() {
+        final RobotFile model = parse(CONTENT);
+        keyword(model, "kw 2").getExecutionContext().get(0).getArguments().get(0).setText("20");
+
+        final DumpedResult result = dumpIncrementally(model);
+
+        final List<ChangedLines> changed = result.changedLines().get();
+        assertThat(changed).hasSize(1);
+        assertThat(changed.get(0).getFirstLine()).isEqualTo(17);
+        assertThat(changed.get(0).getPreviousLinesCount()).isEqualTo(4);
+        assertThat(changed.get(0).getNewLinesCount()).isEqualTo(4);
+        assertThat(changed.get(0).getOffset()).isEqualTo(CONTENT.indexOf("kw 2\n"));
+        assertThat(changed.get(0).getLength()).isEqualTo("kw 2\n    Log    2    # comment\n    ...    3\n\n".length());
+        assertThat(changed.get(0).getText()).isEqualTo("kw 2\n    Log    20    # comment\n    ...    3\n\n");
+        assertThat(result.newContent()).isEqualTo(CONTENT.replace("Log    2    #", "Log    20    #"));
+        assertThat(applyChanges(CONTENT, changed)).isEqualTo(result.newContent());
+    }
+
+    @Test
+    public void onlyElementsWithDirtyTokensAreDumped_whenSeveralElementsAreChanged() {
+        final RobotFile model = parse(CONTENT);
+        model.getSettingTable().getDocumentation().get(0).getDocumentationText().get(0).setText("changed");
+        keyword(model, "kw 3").getExecutionContext().get(0).getArguments().get(0).setText("30");
+
+        final DumpedResult result = dumpIncrementally(model);
+
+        final List<ChangedLines> changed = result.changedLines().get();
+        assertThat(changed).hasSize(2);
+        assertThat(changed.get(0).getFirstLine()).isEqualTo(3);
+        assertThat(changed.get(0).getPreviousLinesCount()).isEqualTo(1);
+        assertThat(changed.get(1).getFirstLine()).isEqualTo(21);
+        assertThat(changed.get(1).getPreviousLinesCount()).isEqualTo(2);
+        assertThat(result.newContent()).isEqualTo(fullDumpAfter(model));
+        assertThat(applyChanges(CONTENT, changed)).isEqualTo(result.newContent());
+    }
+
+    @Test
+    public void incrementalDumpGivesTheSameContentAsFullDump_forEveryChangedToken() {
+        final int tokensCount = parse(CONTENT).getFileContent()
+                .stream()
+                .mapToInt(line -> (int) line.getLineElements().stream().filter(RobotToken.class::isInstance).count())
+                .sum();
+        for (int i = 0; i < tokensCount; i++) {
+            final RobotFile model = parse(CONTENT);
+            final RobotToken token = model.getFileContent()
+                    .stream()
+                    .flatMap(line -> line.getLineElements().stream())
+                    .filter(RobotToken.class::isInstance)
+                    .map(RobotToken.class::cast)
+                    .skip(i)
+                    .findFirst()
+                    .get();
+            token.setText(token.getText() + "_x");
+
+            final DumpedResult result = dumpIncrementally(model);
+
+            assertThat(result.newContent()).isEqualTo(fullDumpAfter(model));
+            if (result.changedLines().isPresent()) {
+                assertThat(applyChanges(CONTENT, result.changedLines().get())).isEqualTo(result.newContent());
+            }
+        }
+    }
+
+    @Test
+    public void modelIsLinkedWithIncrementallyDumpedLines() {
+        final RobotFile model = parse(CONTENT);
+        model.getSettingTable().getDocumentation().get(0).getDocumentationText().get(0).setText("changed");
+        final RobotToken action = keyword(model, "kw 3").getExecutionContext().get(0).getAction();
+
+        final DumpedResult result = dumpIncrementally(model);
+        new QuickTokenListenerBaseTwoModelReferencesLinker().update(model.getParent(), result);
+
+        assertThat(model.getFileContent()).hasSize(result.newProducedLines().size());
+        assertThat(action.getStartOffset()).isEqualTo(result.newContent().indexOf("Log    3\n"));
+        assertThat(action.getLineNumber()).isEqualTo(23);
+    }
+
+    @Test
+    public void onlyKeywordIsDumped_whenRowWasAddedToIt() {
+        final RobotFile model = parse(CONTENT);
+        final RobotExecutableRow<UserKeyword> row = new RobotExecutableRow<>();
+        row.setAction(RobotToken.create("Log"));
+        row.addArgument(RobotToken.create("new"));
+        keyword(model, "kw 1").addElement(row);
+
+        final DumpedResult result = dumpIncrementally(model);
+
+        final List<ChangedLines> changed = result.changedLines().get();
+        assertThat(changed).hasSize(1);
+        assertThat(changed.get(0).getFirstLine()).isEqualTo(13);
+        assertThat(changed.get(0).getPreviousLinesCount()).isEqualTo(4);
+        assertThat(changed.get(0).getNewLinesCount()).isEqualTo(5);
+        assertThat(result.newContent()).isEqualTo(fullDumpAfter(model));
+        assertThat(applyChanges(CONTENT, changed)).isEqualTo(result.newContent());
+    }
+
+    @Test
+    public void changedLineIsReported_whenLineOutsideOfModelWasChanged() {
+        final RobotFile model = parse(CONTENT);
+        final RobotToken userTableToken = (RobotToken) model.getFileContent().get(24).getLineElements().get(0);
+        userTableToken.setText("changed");
+
+        final DumpedResult result = dumpIncrementally(model);
+
+        final List<ChangedLines> changed = result.changedLines().get();
+        assertThat(changed).hasSize(1);
+        assertThat(changed.get(0).getFirstLine()).isEqualTo(24);
+        assertThat(changed.get(0).getText()).isEqualTo("changed\n");
+        assertThat(applyChanges(CONTENT, changed)).isEqualTo(result.newContent());
+    }
+
+    @Test
+    public void wholeModelIsDumped_whenKeywordWasAdded() {
+        final RobotFile model = parse(CONTENT);
+        model.getKeywordTable().createUserKeyword("kw 4");
+
+        final DumpedResult result = dumpIncrementally(model);
+
+        assertThat(result.changedLines()).isEmpty();
+        assertThat(result.newContent()).isEqualTo(fullDumpAfter(model));
+    }
+
+    @Test
+    public void wholeModelIsDumped_whenTableWasAdded() {
+        final RobotFile model = parse("*** Keywords ***\nkw\n    Log    1\n");
+        model.includeTestCaseTableSection();
+        model.getTestCaseTable().createTestCase("case");
+
+        final DumpedResult result = dumpIncrementally(model);
+
+        assertThat(result.changedLines()).isEmpty();
+        assertThat(result.newContent()).isEqualTo(fullDumpAfter(model));
+    }
+
+    private static RobotFile parse(final String content) {
+        return RobotModelTestProvider.getModelFile(content, FileFormat.TXT_OR_ROBOT,
+                RobotModelTestProvider.getParser());
+    }
+
+    private static DumpedResult dumpIncrementally(final RobotFile model) {
+        return new RobotFileDumper().dumpIncrementallyToResultObject(model.getParent());
+    }
+
+    private static String fullDumpAfter(final RobotFile model) {
+        return new RobotFileDumper().dumpToResultObject(model.getParent()).newContent();
+    }
+
+    private static UserKeyword keyword(final RobotFile model, final String name) {
+        return model.getKeywordTable()
+                .getKeywords()
+                .stream()
+                .filter(keyword -> keyword.getName().getText().equals(name))
+                .findFirst()
+                .get();
+    }
+
+    private static String applyChanges(final String content, final List<ChangedLines> changedLines) {
+        final StringBuilder applied = new StringBuilder(content);
+        for (int i = changedLines.size() - 1; i >= 0; i--) {
+            final ChangedLines changed = changedLines.get(i);
+            applied.replace(changed.getOffset(), changed.getOffset() + changed.getLength(), changed.getText());
+        }
+        return applied.toString();
+    }
+}
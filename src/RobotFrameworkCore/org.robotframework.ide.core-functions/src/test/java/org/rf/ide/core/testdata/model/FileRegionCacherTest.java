@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class FileRegionCacherTest {
+
+    @Test
+    public void nothingIsFound_inEmptyCacher() {
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+
+        assertThat(cacher.findByOffset(0)).isEmpty();
+        assertThat(cacher.findByLineNumber(1)).isEmpty();
+    }
+
+    @Test
+    public void nothingIsFound_forNotSetPositions() {
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(new Cacheable("a", -1, -1, -1, -1));
+
+        assertThat(cacher.findByOffset(-1)).isEmpty();
+        assertThat(cacher.findByLineNumber(-1)).isEmpty();
+    }
+
+    @Test
+    public void regionsContainingPositionAreFound_inRegistrationOrder() {
+        final Cacheable a = new Cacheable("a", 5, 7, 50, 70);
+        final Cacheable b = new Cacheable("b", 1, 10, 10, 100);
+        final Cacheable c = new Cacheable("c", 8, 9, 80, 90);
+        final Cacheable d = new Cacheable("d", 6, 6, 60, 65);
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(a);
+        cacher.register(b);
+        cacher.register(c);
+        cacher.register(d);
+
+        assertThat(cacher.findByOffset(9)).isEmpty();
+        assertThat(cacher.findByOffset(10)).containsExactly(b);
+        assertThat(cacher.findByOffset(60)).containsExactly(a, b, d);
+        assertThat(cacher.findByOffset(70)).containsExactly(a, b);
+        assertThat(cacher.findByOffset(85)).containsExactly(b, c);
+        assertThat(cacher.findByOffset(101)).isEmpty();
+
+        assertThat(cacher.findByLineNumber(0)).isEmpty();
+        assertThat(cacher.findByLineNumber(6)).containsExactly(a, b, d);
+        assertThat(cacher.findByLineNumber(8)).containsExactly(b, c);
+        assertThat(cacher.findByLineNumber(11)).isEmpty();
+    }
+
+    @Test
+    public void cacheableWithManyRegionsIsFoundOnce() {
+        final Cacheable a = new Cacheable("a", 1, 2, 10, 20);
+        a.addRegion(2, 4, 20, 40);
+        a.addRegion(7, 8, 70, 80);
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(a);
+
+        assertThat(cacher.findByOffset(20)).containsExactly(a);
+        assertThat(cacher.findByOffset(50)).isEmpty();
+        assertThat(cacher.findByOffset(75)).containsExactly(a);
+        assertThat(cacher.findByLineNumber(2)).containsExactly(a);
+        assertThat(cacher.findByLineNumber(5)).isEmpty();
+    }
+
+    @Test
+    public void regionsAreFoundCorrectly_inCacherWithManyRegions() {
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        final List<Cacheable> cacheables = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final Cacheable cacheable = new Cacheable("c" + i, i * 3, i * 3 + 1, i * 30, i * 30 + 15);
+            cacheables.add(cacheable);
+            cacher.register(cacheable);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(cacher.findByOffset(i * 30 + 10)).containsExactly(cacheables.get(i));
+            assertThat(cacher.findByOffset(i * 30 + 20)).isEmpty();
+            assertThat(cacher.findByLineNumber(i * 3 + 1)).containsExactly(cacheables.get(i));
+            assertThat(cacher.findByLineNumber(i * 3 + 2)).isEmpty();
+        }
+    }
+
+    @Test
+    public void unregisteredCacheableIsNoLongerFound() {
+        final Cacheable a = new Cacheable("a", 1, 2, 10, 20);
+        final Cacheable b = new Cacheable("b", 1, 2, 10, 20);
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(a);
+        cacher.register(b);
+        assertThat(cacher.findByOffset(15)).containsExactly(a, b);
+
+        cacher.unregister(a);
+
+        assertThat(cacher.findByOffset(15)).containsExactly(b);
+        assertThat(cacher.findByLineNumber(1)).containsExactly(b);
+    }
+
+    @Test
+    public void regionsAreFoundAtNewPositions_whenCacherWasInvalidated() {
+        final Cacheable a = new Cacheable("a", 1, 2, 10, 20);
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(a);
+        assertThat(cacher.findByOffset(15)).containsExactly(a);
+
+        a.moveBy(3, 30);
+        assertThat(cacher.findByOffset(15)).isEmpty();
+
+        cacher.invalidate();
+
+        assertThat(cacher.findByOffset(15)).isEmpty();
+        assertThat(cacher.findByOffset(45)).containsExactly(a);
+        assertThat(cacher.findByLineNumber(4)).containsExactly(a);
+    }
+
+    private static class Cacheable implements IRegionCacheable<String> {
+
+        private final String name;
+
+        private final List<FileRegion> regions = new ArrayList<>();
+
+        Cacheable(final String name, final int startLine, final int endLine, final int startOffset,
+                final int endOffset) {
+            this.name = name;
+            addRegion(startLine, endLine, startOffset, endOffset);
+        }
+
+        void addRegion(final int startLine, final int endLine, final int startOffset, final int endOffset) {
+            regions.add(new FileRegion(new FilePosition(startLine, 0, startOffset),
+                    new FilePosition(endLine, 0, endOffset)));
+        }
+
+        void moveBy(final int lines, final int offset) {
+            for (final FileRegion region : regions) {
+                final FilePosition start = region.getStart();
+                final FilePosition end = region.getEnd();
+                region.setStart(new FilePosition(start.getLine() + lines, 0, start.getOffset() + offset));
+                region.setEnd(new FilePosition(end.getLine() + lines, 0, end.getOffset() + offset));
+            }
+        }
+
+        @Override
+        public List<FileRegion> getContinuousRegions() {
+            return regions;
+        }
+
+        @Override
+        public String getCached() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.rf.ide.core.testdata.text.read.LineReader.Constant;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+import com.google.common.collect.ImmutableList;
+
+public class RobotFileTest {
+
+    @Test
+    public void lineIsNotFound_forNegativeOffsetOrOffsetOutsideOfTheFile() {
+        final RobotFile file = createFile("abc", "de", "");
+
+        assertThat(file.getRobotLineIndexBy(-1)).isEmpty();
+        assertThat(file.getRobotLineIndexBy(8)).isEmpty();
+        assertThat(file.getRobotLineIndexBy(100)).isEmpty();
+    }
+
+    @Test
+    public void lineIsFound_forOffsetsOfTokensAndEndOfLines() {
+        final RobotFile file = createFile("abc", "", "de", "");
+
+        assertThat(file.getRobotLineIndexBy(0)).hasValue(0);
+        assertThat(file.getRobotLineIndexBy(2)).hasValue(0);
+        assertThat(file.getRobotLineIndexBy(3)).hasValue(0);
+        assertThat(file.getRobotLineIndexBy(4)).hasValue(1);
+        assertThat(file.getRobotLineIndexBy(5)).hasValue(2);
+        assertThat(file.getRobotLineIndexBy(7)).hasValue(2);
+        assertThat(file.getRobotLineIndexBy(8)).hasValue(3);
+        assertThat(file.getRobotLineIndexBy(9)).isEmpty();
+    }
+
+    @Test
+    public void linesAreFoundCorrectly_inBigFile() {
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            lines.add("line" + i);
+        }
+        final RobotFile file = createFile(lines.toArray(new String[0]));
+
+        int offset = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            assertThat(file.getRobotLineIndexBy(offset)).hasValue(i);
+            offset += lines.get(i).length();
+            assertThat(file.getRobotLineIndexBy(offset)).hasValue(i);
+            offset++;
+        }
+    }
+
+    @Test
+    public void lineIsFound_whenLineWasAddedAfterPreviousSearch() {
+        final RobotFile file = createFile("abc");
+        assertThat(file.getRobotLineIndexBy(5)).isEmpty();
+
+        file.addNewLine(createLine(file, 1, 4, "de"));
+
+        assertThat(file.getRobotLineIndexBy(5)).hasValue(1);
+    }
+
+    @Test
+    public void lineIsFound_whenLineWasModifiedInPlaceAfterPreviousSearch() {
+        final RobotFile file = createFile("abc", "de");
+        assertThat(file.getRobotLineIndexBy(7)).isEmpty();
+
+        final RobotLine line = file.getFileContent().get(1);
+        line.addLineElement(createToken(1, 6, "fgh"));
+        line.setEndOfLine(ImmutableList.of(Constant.LF), 9, 5);
+
+        assertThat(file.getRobotLineIndexBy(7)).hasValue(1);
+        assertThat(file.getRobotLineIndexBy(9)).hasValue(1);
+    }
+
+    @Test
+    public void lineIsFound_whenLinesAreNotOrderedByOffsets() {
+        final RobotFile file = new RobotFile(null);
+        file.addNewLine(createLine(file, 0, 4, "de"));
+        file.addNewLine(createLine(file, 1, 0, "abc"));
+
+        assertThat(file.getRobotLineIndexBy(1)).hasValue(1);
+        assertThat(file.getRobotLineIndexBy(5)).hasValue(0);
+    }
+
+    @Test
+    public void nothingIsFound_whenLinesWereRemoved() {
+        final RobotFile file = createFile("abc", "de");
+        assertThat(file.getRobotLineIndexBy(1)).hasValue(0);
+
+        file.removeLines();
+
+        assertThat(file.getRobotLineIndexBy(1)).isEmpty();
+    }
+
+    @Test
+    public void documentationCacherIsInvalidated_whenLinesAreChanged() {
+        final RobotFileOutput output = new RobotFileOutput(new RobotVersion(3, 0));
+        final RobotFile file = output.getFileModel();
+        file.addNewLine(createLine(file, 0, 0, "abc"));
+
+        @SuppressWarnings("unchecked")
+        final IRegionCacheable<IDocumentationHolder> doc = mock(IRegionCacheable.class);
+        when(doc.getContinuousRegions()).thenReturn(newArrayList(region(1, 0, 1, 3)));
+        output.getDocumentationCacher().register(doc);
+        assertThat(output.getDocumentationCacher().findByOffset(5)).isEmpty();
+
+        when(doc.getContinuousRegions()).thenReturn(newArrayList(region(2, 4, 2, 6)));
+        file.addNewLine(createLine(file, 1, 4, "de"));
+
+        assertThat(output.getDocumentationCacher().findByOffset(5)).containsExactly(doc);
+    }
+
+    private static RobotFile createFile(final String... lines) {
+        final RobotFile file = new RobotFile(null);
+        int offset = 0;
+        for (int i = 0; i < lines.length; i++) {
+            file.addNewLine(createLine(file, i, offset, lines[i]));
+            offset += lines[i].length() + 1;
+        }
+        return file;
+    }
+
+    private static FileRegion region(final int startLine, final int startOffset, final int endLine,
+            final int endOffset) {
+        return new FileRegion(new FilePosition(startLine, 0, startOffset), new FilePosition(endLine, 0, endOffset));
+    }
+
+    private static RobotLine createLine(final RobotFile file, final int index, final int offset, final String text) {
+        final RobotLine line = new RobotLine(index + 1, file);
+        if (!text.isEmpty()) {
+            line.addLineElement(createToken(index + 1, offset, text));
+        }
+        line.setEndOfLine(ImmutableList.of(Constant.LF), offset + text.length(), text.length());
+        return line;
+    }
+
+    private static RobotToken createToken(final int lineNumber, final int offset, final String text) {
+        final RobotToken token = RobotToken.create(text);
+        token.setLineNumber(lineNumber);
+        token.setStartOffset(offset);
+        return token;
+    }
+}
@@ -13,17 +13,20 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
 import org.rf.ide.core.executor.RobotRuntimeEnvironment;
+import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
 import org.rf.ide.core.project.RobotProjectConfig;
 import org.rf.ide.core.project.RobotProjectConfig.VariableMapping;
 import org.rf.ide.core.testdata.imported.ARobotInternalVariable;
 import org.rf.ide.core.testdata.imported.DictionaryRobotInternalVariable;
 import org.rf.ide.core.testdata.imported.ListRobotInternalVariable;
 import org.rf.ide.core.testdata.imported.ScalarRobotInternalVariable;
+import org.rf.ide.core.testdata.importer.VariablesFileImportReference;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -165,4 +168,118 @@ public class RobotProjectHolderTest {
         verify(robotRuntime, times(2)).getGlobalVariables();
         verifyNoMoreInteractions(robotRuntime);
     }
+
+    @Test
+    public void modelFileIsFoundByName_regardlessOfPathNormalization() {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        final RobotFileOutput output = createOutput(new File(PROJECT_LOCATION, "suite.robot"));
+        projectHolder.addModelFile(output);
+
+        assertThat(projectHolder.findFileByName(new File(PROJECT_LOCATION, "suite.robot"))).isSameAs(output);
+        assertThat(projectHolder.findFileByName(new File(PROJECT_LOCATION, "dir/../suite.robot"))).isSameAs(output);
+        assertThat(projectHolder.findFileByName(new File(PROJECT_LOCATION, "other.robot"))).isNull();
+    }
+
+    @Test
+    public void modelFileIsReplaced_whenFileWithSamePathIsAdded() {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        final File file = new File(PROJECT_LOCATION, "suite.robot");
+        final RobotFileOutput output1 = createOutput(file);
+        final RobotFileOutput output2 = createOutput(file);
+        projectHolder.addModelFile(output1);
+        projectHolder.addModelFile(output2);
+
+        assertThat(projectHolder.findFileByName(file)).isSameAs(output2);
+        assertThat(projectHolder.getModelFilesCount()).isEqualTo(1);
+
+        projectHolder.removeModelFile(output1);
+        assertThat(projectHolder.findFileByName(file)).isSameAs(output2);
+
+        projectHolder.removeModelFile(output2);
+        assertThat(projectHolder.findFileByName(file)).isNull();
+    }
+
+    @Test
+    public void modelFilesAreEvicted_whenLimitIsExceeded() {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder(null, 2);
+        projectHolder.addModelFile(createOutput(new File(PROJECT_LOCATION, "a.robot")));
+        projectHolder.addModelFile(createOutput(new File(PROJECT_LOCATION, "b.robot")));
+        projectHolder.addModelFile(createOutput(new File(PROJECT_LOCATION, "c.robot")));
+
+        assertThat(projectHolder.getModelFilesCount()).isEqualTo(2);
+        assertThat(projectHolder.findFileByName(new File(PROJECT_LOCATION, "a.robot"))).isNull();
+        assertThat(projectHolder.findFileByName(new File(PROJECT_LOCATION, "c.robot"))).isNotNull();
+    }
+
+    @Test
+    public void fileImportingVariablesFileIsFound_alsoWhenIndexed() {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        final File varsFile = new File(PROJECT_LOCATION, "vars.py");
+        final RobotFileOutput output1 = createOutput(new File(PROJECT_LOCATION, "a.robot"));
+        final RobotFileOutput output2 = createOutput(new File(PROJECT_LOCATION, "b.robot"),
+                new File(PROJECT_LOCATION, "other.py"));
+        final RobotFileOutput output3 = createOutput(new File(PROJECT_LOCATION, "c.robot"), varsFile);
+        projectHolder.addModelFile(output1);
+        projectHolder.addModelFile(output2);
+        projectHolder.addModelFile(output3);
+
+        final PathsProvider pathsProvider = mock(PathsProvider.class);
+        assertThat(projectHolder.findFileWithImportedVariableFile(pathsProvider, varsFile)).isSameAs(output3);
+        assertThat(projectHolder.findFileWithImportedVariableFile(pathsProvider, varsFile)).isSameAs(output3);
+        assertThat(projectHolder.findFileWithImportedVariableFile(pathsProvider, new File(PROJECT_LOCATION, "x.py")))
+                .isNull();
+
+        projectHolder.removeModelFile(output3);
+        assertThat(projectHolder.findFileWithImportedVariableFile(pathsProvider, varsFile)).isNull();
+    }
+
+    @Test
+    public void modelFileWithoutProcessedFileIsKept_andCanBeRemoved() {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        final File varsFile = new File(PROJECT_LOCATION, "vars.py");
+        final RobotFileOutput output = createOutput(null, varsFile);
+        projectHolder.addModelFile(output);
+        projectHolder.addModelFile(output);
+
+        final PathsProvider pathsProvider = mock(PathsProvider.class);
+        assertThat(projectHolder.getModelFilesCount()).isEqualTo(1);
+        assertThat(projectHolder.findFileWithImportedVariableFile(pathsProvider, varsFile)).isSameAs(output);
+
+        projectHolder.removeModelFile(output);
+        assertThat(projectHolder.getModelFilesCount()).isEqualTo(0);
+        assertThat(projectHolder.findFileWithImportedVariableFile(pathsProvider, varsFile)).isNull();
+    }
+
+    @Test
+    public void firstAddedFileImportingVariablesFileIsFound() {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        final File varsFile = new File(PROJECT_LOCATION, "vars.py");
+        final List<RobotFileOutput> outputs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            outputs.add(createOutput(new File(PROJECT_LOCATION, "suite" + i + ".robot"), varsFile));
+        }
+        outputs.forEach(projectHolder::addModelFile);
+
+        final PathsProvider pathsProvider = mock(PathsProvider.class);
+        assertThat(projectHolder.findFileWithImportedVariableFile(pathsProvider, varsFile)).isSameAs(outputs.get(0));
+        assertThat(projectHolder.findFileWithImportedVariableFile(pathsProvider, varsFile)).isSameAs(outputs.get(0));
+
+        projectHolder.removeModelFile(outputs.get(0));
+        assertThat(projectHolder.findFileWithImportedVariableFile(pathsProvider, varsFile)).isSameAs(outputs.get(1));
+    }
+
+    private static RobotFileOutput createOutput(final File file, final File... variablesFiles) {
+        final RobotFileOutput output = new RobotFileOutput(RobotVersion.from("3.0.0"));
+        if (file != null) {
+            output.setProcessedFile(file);
+        }
+        final List<VariablesFileImportReference> references = new ArrayList<>();
+        for (final File variablesFile : variablesFiles) {
+            final VariablesFileImportReference reference = new VariablesFileImportReference(null);
+            reference.setVariablesFile(variablesFile);
+            references.add(reference);
+        }
+        output.setVariablesImportReferences(references);
+        return output;
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher.SearchableKeyword;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+
+public class KeywordsIndexTest {
+
+    private static final Keyword LOG = new Keyword("BuiltIn", "Log");
+
+    private static final Keyword LOG_MANY = new Keyword("BuiltIn", "Log Many");
+
+    private static final Keyword OTHER_LOG = new Keyword("res", "log");
+
+    private static final Keyword EMBEDDED = new Keyword("res", "open ${page} page");
+
+    private static final Keyword UNDERSCORED = new Keyword("Collections", "Get_From_List");
+
+    private static final List<Keyword> KEYWORDS = ImmutableList.of(LOG, LOG_MANY, OTHER_LOG, EMBEDDED, UNDERSCORED);
+
+    @Test
+    public void onlyKeywordsWithMatchingNamesAndEmbeddedOnesAreCandidates() {
+        final KeywordsIndex<Keyword> index = new KeywordsIndex<>(KEYWORDS);
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.getCandidates(ImmutableList.of("log"))).containsExactly(LOG, OTHER_LOG, EMBEDDED);
+        assertThat(index.getCandidates(ImmutableList.of("LOG MANY"))).containsExactly(LOG_MANY, EMBEDDED);
+        assertThat(index.getCandidates(ImmutableList.of("getfromlist"))).containsExactly(EMBEDDED, UNDERSCORED);
+        assertThat(index.getCandidates(ImmutableList.of("unknown"))).containsExactly(EMBEDDED);
+    }
+
+    @Test
+    public void keywordsAreCandidates_whenQualifiedWithSourceName() {
+        final KeywordsIndex<Keyword> index = new KeywordsIndex<>(KEYWORDS);
+
+        assertThat(index.getCandidates(ImmutableList.of("builtin.log"))).containsExactly(LOG, EMBEDDED);
+        assertThat(index.getCandidates(ImmutableList.of("Res.Log"))).containsExactly(OTHER_LOG, EMBEDDED);
+        assertThat(index.getCandidates(ImmutableList.of("Collections.Get From List"))).containsExactly(EMBEDDED,
+                UNDERSCORED);
+    }
+
+    @Test
+    public void keywordsAreFoundProperly() {
+        final KeywordSearcher searcher = new KeywordSearcher();
+        final KeywordsIndex<Keyword> index = new KeywordsIndex<>(KEYWORDS);
+        final Map<String, Collection<Keyword>> accessibleKeywords = accessibleKeywords();
+
+        assertThat(searcher.findKeywords(accessibleKeywords, index, "Given Log", false).values())
+                .containsExactly(LOG, OTHER_LOG);
+        assertThat(searcher.findKeywords(accessibleKeywords, index, "res.log", false).get("res.log"))
+                .containsExactly(OTHER_LOG);
+        assertThat(searcher.findKeywords(accessibleKeywords, index, "Open Main Page", false).values())
+                .containsExactly(EMBEDDED);
+        assertThat(searcher.findKeywords(accessibleKeywords, index, "Res.Open Main Page", false)
+                .get("res.open main page")).containsExactly(EMBEDDED);
+        assertThat(searcher.findKeywords(accessibleKeywords, index, "get from list", true).values())
+                .containsExactly(UNDERSCORED);
+        assertThat(searcher.findKeywords(accessibleKeywords, index, "unknown", false).values()).isEmpty();
+    }
+
+    private static Map<String, Collection<Keyword>> accessibleKeywords() {
+        final Map<String, Collection<Keyword>> accessibleKeywords = new HashMap<>();
+        for (final Keyword keyword : KEYWORDS) {
+            accessibleKeywords
+                    .computeIfAbsent(QualifiedKeywordName.unifyDefinition(keyword.getKeywordName()),
+                            name -> new ArrayList<>())
+                    .add(keyword);
+        }
+        return accessibleKeywords;
+    }
+
+    private static final class Keyword implements SearchableKeyword {
+
+        private final String sourceName;
+
+        private final String name;
+
+        private Keyword(final String sourceName, final String name) {
+            this.sourceName = sourceName;
+            this.name = name;
+        }
+
+        @Override
+        public String getSourceNameInUse() {
+            return sourceName;
+        }
+
+        @Override
+        public String getKeywordName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return sourceName + "." + name;
+        }
+    }
+}
@@ -7,9 +7,14 @@ package org.rf.ide.core.testdata.model.table;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.File;
 import java.util.List;
 
 import org.junit.Test;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotVersion;
+import org.rf.ide.core.testdata.model.table.exec.descs.IExecutableRowDescriptor;
 import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
@@ -176,4 +181,76 @@ public class RobotExecutableRowTest {
         assertThat(elementTokens.get(6)).isSameAs(cmt);
         assertThat(elementTokens.get(6).getTypes()).contains(RobotTokenType.START_HASH_COMMENT);
     }
+
+    @Test
+    public void lineDescriptionIsReused_whenRowWasNotModified() {
+        final RobotExecutableRow<UserKeyword> row = createRowInKeyword("Log", "${x}");
+
+        final IExecutableRowDescriptor<UserKeyword> descriptor = row.buildLineDescription();
+
+        assertThat(row.buildLineDescription()).isSameAs(descriptor);
+        assertThat(descriptor.getUsedVariables()).hasSize(1);
+    }
+
+    @Test
+    public void lineDescriptionIsRebuilt_whenTokenTextIsChanged() {
+        final RobotExecutableRow<UserKeyword> row = createRowInKeyword("Log", "${x}");
+        final IExecutableRowDescriptor<UserKeyword> descriptor = row.buildLineDescription();
+
+        row.getArguments().get(0).setText("text");
+        final IExecutableRowDescriptor<UserKeyword> newDescriptor = row.buildLineDescription();
+
+        assertThat(newDescriptor).isNotSameAs(descriptor);
+        assertThat(newDescriptor.getUsedVariables()).isEmpty();
+    }
+
+    @Test
+    public void lineDescriptionIsRebuilt_whenTokenPositionIsChanged() {
+        final RobotExecutableRow<UserKeyword> row = createRowInKeyword("Log", "${x}");
+        final IExecutableRowDescriptor<UserKeyword> descriptor = row.buildLineDescription();
+
+        row.getAction().setStartOffset(10);
+
+        assertThat(row.buildLineDescription()).isNotSameAs(descriptor);
+    }
+
+    @Test
+    public void lineDescriptionIsRebuilt_whenRowTokensAreAddedOrRemoved() {
+        final RobotExecutableRow<UserKeyword> row = createRowInKeyword("Log", "${x}");
+        final IExecutableRowDescriptor<UserKeyword> descriptor1 = row.buildLineDescription();
+
+        row.addArgument(RobotToken.create("${y}"));
+        final IExecutableRowDescriptor<UserKeyword> descriptor2 = row.buildLineDescription();
+        assertThat(descriptor2).isNotSameAs(descriptor1);
+        assertThat(descriptor2.getUsedVariables()).hasSize(2);
+
+        row.removeElementToken(0);
+        final IExecutableRowDescriptor<UserKeyword> descriptor3 = row.buildLineDescription();
+        assertThat(descriptor3).isNotSameAs(descriptor2);
+        assertThat(descriptor3.getUsedVariables()).hasSize(1);
+    }
+
+    @Test
+    public void lineDescriptionIsNotReused_forRowWhichMayContinueForLoop() {
+        final RobotExecutableRow<UserKeyword> row = createRowInKeyword("\\", "Log", "${x}");
+
+        assertThat(row.buildLineDescription()).isNotSameAs(row.buildLineDescription());
+    }
+
+    private static RobotExecutableRow<UserKeyword> createRowInKeyword(final String action,
+            final String... arguments) {
+        final RobotFileOutput out = new RobotFileOutput(RobotVersion.from("3.0"));
+        out.setProcessedFile(new File("robot.robot"));
+        final RobotFile model = new RobotFile(out);
+        model.includeKeywordTableSection();
+        final UserKeyword userKeyword = model.getKeywordTable().createUserKeyword("kw");
+
+        final RobotExecutableRow<UserKeyword> row = new RobotExecutableRow<>();
+        row.setAction(RobotToken.create(action));
+        for (final String argument : arguments) {
+            row.addArgument(RobotToken.create(argument));
+        }
+        userKeyword.addElement(row);
+        return row;
+    }
 }
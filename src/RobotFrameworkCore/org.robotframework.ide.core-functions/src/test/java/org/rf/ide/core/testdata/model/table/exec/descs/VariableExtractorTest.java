@@ -11,6 +11,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Test;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.table.exec.descs.ast.VariableStructureExtractor;
+import org.rf.ide.core.testdata.model.table.exec.descs.ast.mapping.DeclarationMapper;
 import org.rf.ide.core.testdata.model.table.exec.descs.ast.mapping.IElementDeclaration;
 import org.rf.ide.core.testdata.model.table.exec.descs.ast.mapping.IndexDeclaration;
 import org.rf.ide.core.testdata.model.table.exec.descs.ast.mapping.JoinedTextDeclarations;
@@ -402,4 +405,41 @@ public class VariableExtractorTest {
         assertThat(mapResult.getMappedElements().get(2)).isNotInstanceOf(IndexDeclaration.class);
         assertThat(mapResult.getMappedElements().get(2).getStart().getText()).isEqualTo("id");
     }
+
+    @Test
+    public void textWithoutVariables_isMappedInTheSameWayAsByDeclarationMapper() {
+        final VariableExtractor extractor = new VariableExtractor();
+        final FilePosition position = new FilePosition(2, 4, 30);
+
+        for (final String text : new String[] { "", "text", " ", "\t  \t", "some text with  spaces",
+                "  leading and trailing\t", "ąęść żółw" }) {
+            final MappingResult expected = new DeclarationMapper().map(position,
+                    new VariableStructureExtractor().buildStructureTree(text), "file.robot");
+            for (final IElementDeclaration dec : expected.getMappedElements()) {
+                dec.setRobotTokenPosition(position);
+            }
+
+            final MappingResult actual = extractor.extract(position, text, "file.robot");
+
+            assertThat(describe(actual.getMappedElements())).isEqualTo(describe(expected.getMappedElements()));
+            for (int i = 0; i < expected.getMappedElements().size(); i++) {
+                assertThat(actual.getMappedElements().get(i).getStartFromFile())
+                        .isEqualTo(expected.getMappedElements().get(i).getStartFromFile());
+                assertThat(actual.getMappedElements().get(i).getEndFromFile())
+                        .isEqualTo(expected.getMappedElements().get(i).getEndFromFile());
+            }
+            assertThat(actual.getLastFilePosition()).isEqualTo(expected.getLastFilePosition());
+            assertThat(actual.getCorrectVariables()).isEmpty();
+            assertThat(actual.getMessages()).isEmpty();
+        }
+    }
+
+    private static List<String> describe(final List<IElementDeclaration> declarations) {
+        final List<String> descriptions = new ArrayList<>();
+        for (final IElementDeclaration dec : declarations) {
+            descriptions.add(dec.getClass().getSimpleName() + dec.getTypes() + "[" + dec.getStart().getStart() + ":"
+                    + dec.getEnd().getEnd() + "]" + describe(dec.getElementsDeclarationInside()));
+        }
+        return descriptions;
+    }
 }
@@ -117,6 +117,45 @@ public class EmbeddedKeywordNamesSupportTest {
         assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("Łączę ${x}", "ŁąCzĘ z SeRwErEm")).isTrue();
     }
 
+    @Test
+    public void nameMatchesTest_whenLiteralPrefixOrSuffixDiffers() {
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("Open ${x} page", "open main page")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("Open ${x} page", "close main page")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("Open ${x} page", "open main tab")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("Open ${x} page", "open  page")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("Open ${x} page", "open page")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("${x} and ${y}", "a and b")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("${x} and ${y}", "a or b")).isFalse();
+    }
+
+    @Test
+    public void nameMatchesTest_whenCustomRegexContainsAlternatives() {
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("x ${a:b|c} y", "c y")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("x ${a:b|c} y", "x b")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("x ${a:b|c} y", "x d y")).isFalse();
+    }
+
+    @Test
+    public void nameMatchesTest_whenCustomRegexIsInvalid() {
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("x ${a:[} y", "x [ y")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("x ${a:[} y", "x ${a:[} y")).isTrue();
+    }
+
+    @Test
+    public void compiledMatchersAreReused_whenSameDefinitionIsMatchedAgain() {
+        EmbeddedKeywordNamesSupport.clearMatchersCache();
+        final long hits = EmbeddedKeywordNamesSupport.getMatchersCacheStats().hitCount();
+        final long misses = EmbeddedKeywordNamesSupport.getMatchersCacheStats().missCount();
+
+        EmbeddedKeywordNamesSupport.matchesIgnoreCase("kw with ${x}", "kw with 1");
+        EmbeddedKeywordNamesSupport.matchesIgnoreCase("kw with ${x}", "kw with 2");
+        EmbeddedKeywordNamesSupport.matchesIgnoreCase("kw with ${x}", "other");
+        EmbeddedKeywordNamesSupport.matchesIgnoreCase("kw without args", "other");
+
+        assertThat(EmbeddedKeywordNamesSupport.getMatchersCacheStats().missCount() - misses).isEqualTo(1);
+        assertThat(EmbeddedKeywordNamesSupport.getMatchersCacheStats().hitCount() - hits).isEqualTo(2);
+    }
+
     @Test
     public void variableRangesAreFoundProperly() {
         assertThat(EmbeddedKeywordNamesSupport.findEmbeddedArgumentsRanges("")).is(empty());
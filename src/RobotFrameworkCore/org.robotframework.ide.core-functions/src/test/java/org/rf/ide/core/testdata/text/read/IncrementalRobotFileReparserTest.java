@@ -0,0 +1,420 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.RobotParser.RobotParserConfig;
+import org.rf.ide.core.testdata.model.AModelElement;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.RobotVersion;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+public class IncrementalRobotFileReparserTest {
+
+    private static final String KEYWORDS_CONTENT = "*** Settings ***\n"
+            + "Library    Collections\n"
+            + "*** Keywords ***\n"
+            + "kw1\n"
+            + "    [Documentation]    doc of kw1\n"
+            + "    Log    1\n"
+            + "# comment\n"
+            + "    ...    2\n"
+            + "kw2\n"
+            + "    [Arguments]    ${x}\n"
+            + "    :FOR    ${i}    IN RANGE    10\n"
+            + "    \\    Log    ${i}\n"
+            + "\n"
+            + "kw3    Log    3\n"
+            + "*** Variables ***\n"
+            + "${var}    1\n";
+
+    private static final String MANY_KEYWORDS_CONTENT = "*** Keywords ***\n"
+            + "kw1\n"
+            + "    [Documentation]    doc of kw1\n"
+            + "    Log    1\n"
+            + "kw2\n"
+            + "    [Tags]    a    b\n"
+            + "    Log    2\n"
+            + "    [Teardown]    Log    teardown\n"
+            + "kw3\n"
+            + "    [Documentation]    doc of kw3\n"
+            + "    [Arguments]    ${x}\n"
+            + "    ${y}=    Set Variable    ${x}\n"
+            + "    [Return]    ${y}\n"
+            + "*** Settings ***\n"
+            + "Library    Collections    WITH NAME    coll\n"
+            + "Resource    res.robot\n"
+            + "Documentation    suite doc\n"
+            + "Metadata    key    value\n"
+            + "Suite Setup    Log    setup\n"
+            + "Force Tags    tag\n"
+            + "Test Timeout    10    message\n"
+            + "*** Test Cases ***\n"
+            + "case\n"
+            + "    [Documentation]    doc of case\n"
+            + "    [Setup]    Log    x\n"
+            + "    [Tags]    t\n"
+            + "    [Template]    Log\n"
+            + "    [Timeout]    5\n"
+            + "    \n"
+            + "    1    # comment\n"
+            + "*** Variables ***\n"
+            + "${scalar}    1\n"
+            + "@{list}    1    2\n"
+            + "&{dict}    a=1    b=2\n"
+            + "*** Keywords ***\n"
+            + "kw4\n"
+            + "    Log    4\n";
+
+    private static final String TESTS_CONTENT = "| *** Test Cases *** |\n"
+            + "| case 1 | [Documentation] | doc |\n"
+            + "| | Log | 1 |\n"
+            + "| case 2 |\n"
+            + "| | Log | 2 |\n"
+            + "| case 3 |\n";
+
+    @Test
+    public void keywordIsReparsedIncrementally_whenChangeIsInsideKeywordBody() {
+        assertIncrementallyReparsed(KEYWORDS_CONTENT, KEYWORDS_CONTENT.indexOf("Log    1") + 7, 1, "42");
+    }
+
+    @Test
+    public void keywordIsReparsedIncrementally_whenNewLineIsAdded() {
+        assertIncrementallyReparsed(KEYWORDS_CONTENT, KEYWORDS_CONTENT.indexOf("\nkw2"), 0, "\n    Log    new");
+    }
+
+    @Test
+    public void keywordIsReparsedIncrementally_whenNewKeywordIsAdded() {
+        assertIncrementallyReparsed(KEYWORDS_CONTENT, KEYWORDS_CONTENT.indexOf("kw2"), 0, "new kw\n    Log    x\n");
+    }
+
+    @Test
+    public void keywordIsReparsedIncrementally_whenKeywordIsRemoved() {
+        final int start = KEYWORDS_CONTENT.indexOf("kw2");
+        final int end = KEYWORDS_CONTENT.indexOf("kw3");
+        assertIncrementallyReparsed(KEYWORDS_CONTENT, start, end - start, "");
+    }
+
+    @Test
+    public void keywordIsReparsedIncrementally_whenDocumentationIsChanged() {
+        final RobotFileOutput output = assertIncrementallyReparsed(KEYWORDS_CONTENT,
+                KEYWORDS_CONTENT.indexOf("doc of kw1"), 3, "documentation");
+        assertThat(output.getDocumentationCacher().getUnmodificableCacheContent()).hasSize(1);
+    }
+
+    @Test
+    public void testIsReparsedIncrementally_whenChangeIsInsidePipeSeparatedTest() {
+        assertIncrementallyReparsed(TESTS_CONTENT, TESTS_CONTENT.indexOf("Log | 1") + 6, 1, "changed");
+    }
+
+    @Test
+    public void keywordIsReparsedIncrementally_whenOtherTablesArePlacedAfterIt() {
+        assertIncrementallyReparsed(MANY_KEYWORDS_CONTENT, MANY_KEYWORDS_CONTENT.indexOf("Log    1") + 7, 1,
+                "\n    Log    x\n    Log    y");
+    }
+
+    @Test
+    public void keywordIsReparsedIncrementally_whenLinesAreRemovedBeforeOtherTables() {
+        final int start = MANY_KEYWORDS_CONTENT.indexOf("    [Arguments]");
+        final int end = MANY_KEYWORDS_CONTENT.indexOf("    [Return]");
+        assertIncrementallyReparsed(MANY_KEYWORDS_CONTENT, start, end - start, "");
+    }
+
+    @Test
+    public void keywordIsReparsedIncrementally_whenChangeIsInsideSecondKeywordsTable() {
+        assertIncrementallyReparsed(MANY_KEYWORDS_CONTENT, MANY_KEYWORDS_CONTENT.indexOf("kw4"), 3, "new name");
+    }
+
+    @Test
+    public void onlyLinesOfChangedKeywordAreParsed_whenKeywordIsFollowedByOtherOnes() {
+        final RobotFileOutput output = parse(MANY_KEYWORDS_CONTENT);
+        final int offset = MANY_KEYWORDS_CONTENT.indexOf("Log    1") + 7;
+        final String inserted = "2\n    Log    3";
+        final String newContent = MANY_KEYWORDS_CONTENT.substring(0, offset) + inserted
+                + MANY_KEYWORDS_CONTENT.substring(offset + 1);
+
+        final LinesCountingParser parser = new LinesCountingParser();
+        final Optional<RobotFileOutput> reparsed = new IncrementalRobotFileReparser(parser).reparse(output,
+                newContent, new File("f.robot"), offset, 1, inserted.length());
+
+        assertThat(reparsed).isPresent();
+        // keywords table header, 4 lines of kw1 and empty line reported at the end of parsed region
+        assertThat(parser.parsedLines).isEqualTo(6);
+        assertSameOutputs(reparsed.get(), parse(newContent));
+    }
+
+    @Test
+    public void tokensBeforeRegionAreSharedAndTokensAfterItAreCopied_whenOutputIsReparsedIncrementally() {
+        final RobotFileOutput output = parse(MANY_KEYWORDS_CONTENT);
+        final List<RobotLine> lines = output.getFileModel().getFileContent();
+        final int offset = MANY_KEYWORDS_CONTENT.indexOf("Log    2");
+        final String newContent = MANY_KEYWORDS_CONTENT.substring(0, offset) + "Log    0\n    "
+                + MANY_KEYWORDS_CONTENT.substring(offset);
+
+        final RobotFileOutput reparsed = reparse(output, newContent, offset, 0, 13).get();
+
+        final List<RobotLine> newLines = reparsed.getFileModel().getFileContent();
+        assertThat(reparsed).isNotSameAs(output);
+        assertThat(newLines.get(1).getLineTokens().get(0)).isSameAs(lines.get(1).getLineTokens().get(0));
+        assertThat(newLines.get(9).getLineTokens().get(0)).isNotSameAs(lines.get(8).getLineTokens().get(0));
+        assertThat(reparsed.getFileModel().getKeywordTable().getKeywords().get(0).getKeywordName())
+                .isSameAs(lines.get(1).getLineTokens().get(0));
+        assertThat(reparsed.getFileModel().getKeywordTable().getKeywords().get(2).getKeywordName())
+                .isSameAs(newLines.get(9).getLineTokens().get(0));
+        assertThat(reparsed.getFileModel().getKeywordTable().getKeywords().get(0).getParent())
+                .isSameAs(reparsed.getFileModel().getKeywordTable());
+        assertThat(output.getFileModel().getKeywordTable().getKeywords().get(0).getParent())
+                .isSameAs(output.getFileModel().getKeywordTable());
+        assertSameOutputs(reparsed, parse(newContent));
+    }
+
+    @Test
+    public void outputIsNotChanged_whenTableHeaderIsChanged() {
+        assertNotReparsedIncrementally(KEYWORDS_CONTENT, KEYWORDS_CONTENT.indexOf("Keywords"), 8, "Test Cases");
+    }
+
+    @Test
+    public void outputIsNotChanged_whenChangeIsInsideSettingsTable() {
+        assertNotReparsedIncrementally(KEYWORDS_CONTENT, KEYWORDS_CONTENT.indexOf("Collections"), 0, "x");
+    }
+
+    @Test
+    public void testIsReparsedIncrementally_whenChangeIsInsideLastTest() {
+        assertIncrementallyReparsed(TESTS_CONTENT, TESTS_CONTENT.indexOf("case 3"), 0, "x");
+    }
+
+    @Test
+    public void keywordIsReparsedIncrementally_whenChangeIsInsideLastKeyword() {
+        assertIncrementallyReparsed(KEYWORDS_CONTENT, KEYWORDS_CONTENT.indexOf("Log    3"), 3, "Comment");
+    }
+
+    @Test
+    public void previousOutputIsNotModified_whenOutputIsReparsedIncrementally() {
+        for (final String content : new String[] { KEYWORDS_CONTENT, MANY_KEYWORDS_CONTENT }) {
+            final RobotFileOutput output = parse(content);
+            final List<RobotLine> previousLines = output.getFileModel().getFileContent();
+            final List<IRobotLineElement> previousElements = new ArrayList<>();
+            final List<String> previousTexts = new ArrayList<>();
+            final List<List<?>> previousTypes = new ArrayList<>();
+            final List<FilePosition> previousPositions = new ArrayList<>();
+            for (final RobotLine line : previousLines) {
+                for (final IRobotLineElement element : line.getLineElements()) {
+                    previousElements.add(element);
+                    previousTexts.add(element.getText());
+                    previousTypes.add(new ArrayList<>(element.getTypes()));
+                    previousPositions.add(element.getFilePosition());
+                }
+            }
+
+            final int offset = content.indexOf("Log    1");
+            final String newContent = content.substring(0, offset) + "Log    0\n    " + content.substring(offset);
+            final Optional<RobotFileOutput> reparsed = reparse(output, newContent, offset, 0, 13);
+
+            assertThat(reparsed).isPresent();
+            final List<IRobotLineElement> elements = new ArrayList<>();
+            for (final RobotLine line : output.getFileModel().getFileContent()) {
+                elements.addAll(line.getLineElements());
+            }
+            assertThat(output.getFileModel().getFileContent()).isEqualTo(previousLines);
+            assertThat(elements).hasSameSizeAs(previousElements);
+            for (int i = 0; i < elements.size(); i++) {
+                assertThat(elements.get(i)).isSameAs(previousElements.get(i));
+                assertThat(elements.get(i).getText()).isEqualTo(previousTexts.get(i));
+                assertThat(elements.get(i).getTypes()).isEqualTo(previousTypes.get(i));
+                assertThat(elements.get(i).getFilePosition()).isEqualTo(previousPositions.get(i));
+            }
+            assertSameOutputs(output, parse(content));
+            assertSameOutputs(reparsed.get(), parse(newContent));
+        }
+    }
+
+    @Test
+    public void keywordIsReparsedIncrementally_whenSettingsTableIsPlacedAfterChange() {
+        final String content = KEYWORDS_CONTENT + "*** Settings ***\nResource    res.robot\n";
+        assertIncrementallyReparsed(content, content.indexOf("Log    1") + 7, 1, "42");
+    }
+
+    @Test
+    public void outputIsNotChanged_whenKeywordNameIsRemoved() {
+        assertNotReparsedIncrementally(KEYWORDS_CONTENT, KEYWORDS_CONTENT.indexOf("kw2"), 3, "");
+    }
+
+    @Test
+    public void outputIsNotChanged_whenTableHeaderIsAddedInsideKeyword() {
+        assertNotReparsedIncrementally(KEYWORDS_CONTENT, KEYWORDS_CONTENT.indexOf("kw2"), 0, "*** Test Cases ***\n");
+    }
+
+    @Test
+    public void incrementallyReparsedOutputIsSameAsFullyParsed_forRandomChanges() {
+        final String[] insertions = { "a", "kw", " ", "    ", "\t", "\n", "\r\n", "...", "#", "\\", "${x}",
+                "[Documentation]", "[Return]", "| ", "*" };
+        final Random random = new Random(2017);
+        for (final String initialContent : new String[] { KEYWORDS_CONTENT, MANY_KEYWORDS_CONTENT,
+                TESTS_CONTENT }) {
+            String content = initialContent;
+            RobotFileOutput output = parse(content);
+            for (int i = 0; i < 300; i++) {
+                final int offset = random.nextInt(content.length() + 1);
+                final int length = Math.min(random.nextInt(4), content.length() - offset);
+                final String inserted = random.nextBoolean() ? insertions[random.nextInt(insertions.length)] : "";
+                content = content.substring(0, offset) + inserted + content.substring(offset + length);
+
+                output = createParser().reparseEditorContent(output, content, new File("f.robot"), offset, length,
+                        inserted.length());
+                assertSameOutputs(output, parse(content));
+            }
+        }
+    }
+
+    private static RobotFileOutput assertIncrementallyReparsed(final String content, final int offset,
+            final int length, final String inserted) {
+        final RobotFileOutput output = parse(content);
+        final String newContent = content.substring(0, offset) + inserted + content.substring(offset + length);
+
+        final Optional<RobotFileOutput> reparsed = reparse(output, newContent, offset, length, inserted.length());
+
+        assertThat(reparsed).isPresent();
+        assertSameOutputs(reparsed.get(), parse(newContent));
+        assertSameOutputs(output, parse(content));
+        return reparsed.get();
+    }
+
+    private static void assertNotReparsedIncrementally(final String content, final int offset, final int length,
+            final String inserted) {
+        final RobotFileOutput output = parse(content);
+        final String newContent = content.substring(0, offset) + inserted + content.substring(offset + length);
+
+        final Optional<RobotFileOutput> reparsed = reparse(output, newContent, offset, length, inserted.length());
+
+        assertThat(reparsed).isEmpty();
+        assertSameOutputs(output, parse(content));
+    }
+
+    private static Optional<RobotFileOutput> reparse(final RobotFileOutput output, final String content,
+            final int offset, final int length, final int insertedLength) {
+        return new IncrementalRobotFileReparser(new TxtRobotFileParser()).reparse(output, content,
+                new File("f.robot"), offset, length, insertedLength);
+    }
+
+    private static RobotFileOutput parse(final String content) {
+        return createParser().parseEditorContent(content, new File("f.robot"));
+    }
+
+    private static RobotParser createParser() {
+        return RobotParser.create(new RobotProjectHolder(), RobotParserConfig.allImportsLazy(new RobotVersion(3, 0)));
+    }
+
+    private static void assertSameOutputs(final RobotFileOutput actual, final RobotFileOutput expected) {
+        final RobotFile actualModel = actual.getFileModel();
+        final RobotFile expectedModel = expected.getFileModel();
+
+        final List<RobotLine> actualLines = actualModel.getFileContent();
+        final List<RobotLine> expectedLines = expectedModel.getFileContent();
+        assertThat(actualLines).hasSameSizeAs(expectedLines);
+        for (int i = 0; i < actualLines.size(); i++) {
+            final RobotLine actualLine = actualLines.get(i);
+            final RobotLine expectedLine = expectedLines.get(i);
+            assertThat(actualLine.getParent()).isSameAs(actualModel);
+            assertThat(actualLine.getLineNumber()).isEqualTo(expectedLine.getLineNumber());
+            assertThat(actualLine.getSeparatorForLine()).isEqualTo(expectedLine.getSeparatorForLine());
+            assertThat(actualLine.getLineElements()).hasSameSizeAs(expectedLine.getLineElements());
+            for (int j = 0; j < actualLine.getLineElements().size(); j++) {
+                assertSameElements(actualLine.getLineElements().get(j), expectedLine.getLineElements().get(j));
+            }
+            assertSameElements(actualLine.getEndOfLine(), expectedLine.getEndOfLine());
+        }
+
+        assertSameUnits(actualModel.getKeywordTable().getKeywords(), expectedModel.getKeywordTable().getKeywords());
+        assertSameUnits(actualModel.getTestCaseTable().getTestCases(),
+                expectedModel.getTestCaseTable().getTestCases());
+        assertSameUnits(actualModel.getVariableTable().getVariables(),
+                expectedModel.getVariableTable().getVariables());
+        assertSameUnits(actualModel.getSettingTable().getImports(), expectedModel.getSettingTable().getImports());
+        assertSameUnits(actualModel.getSettingTable().getDocumentation(),
+                expectedModel.getSettingTable().getDocumentation());
+        assertSameUnits(actualModel.getSettingTable().getMetadatas(), expectedModel.getSettingTable().getMetadatas());
+        assertSameUnits(actualModel.getSettingTable().getSuiteSetups(),
+                expectedModel.getSettingTable().getSuiteSetups());
+        assertSameUnits(actualModel.getSettingTable().getForceTags(), expectedModel.getSettingTable().getForceTags());
+        assertSameUnits(actualModel.getSettingTable().getTestTimeouts(),
+                expectedModel.getSettingTable().getTestTimeouts());
+        assertSameUnits(actualModel.getSettingTable().getUnknownSettings(),
+                expectedModel.getSettingTable().getUnknownSettings());
+        assertSameUnits(actualModel.getSettingTable().getHeaders(), expectedModel.getSettingTable().getHeaders());
+        assertSameUnits(actualModel.getTestCaseTable().getHeaders(), expectedModel.getTestCaseTable().getHeaders());
+        assertSameUnits(actualModel.getKeywordTable().getHeaders(), expectedModel.getKeywordTable().getHeaders());
+        assertSameUnits(actualModel.getVariableTable().getHeaders(), expectedModel.getVariableTable().getHeaders());
+        assertUnitsTokensArePlacedInLines(actualModel);
+        assertThat(actual.getDocumentationCacher().getUnmodificableCacheContent())
+                .hasSameSizeAs(expected.getDocumentationCacher().getUnmodificableCacheContent());
+    }
+
+    private static void assertUnitsTokensArePlacedInLines(final RobotFile model) {
+        final Set<RobotToken> lineTokens = Collections.newSetFromMap(new IdentityHashMap<>());
+        model.getFileContent().forEach(line -> lineTokens.addAll(line.getLineTokens()));
+
+        final List<AModelElement<?>> units = new ArrayList<>();
+        units.addAll(model.getKeywordTable().getKeywords());
+        units.addAll(model.getTestCaseTable().getTestCases());
+        units.addAll(model.getVariableTable().getVariables());
+        units.addAll(model.getSettingTable().getImports());
+        for (final AModelElement<?> unit : units) {
+            for (final RobotToken token : unit.getElementTokens()) {
+                if (token.getFilePosition().isNotSet()) {
+                    continue;
+                }
+                assertThat(lineTokens).as("token %s is not placed in lines", token).contains(token);
+            }
+        }
+    }
+
+    private static void assertSameUnits(final List<? extends AModelElement<?>> actualUnits,
+            final List<? extends AModelElement<?>> expectedUnits) {
+        assertThat(actualUnits).hasSameSizeAs(expectedUnits);
+        for (int i = 0; i < actualUnits.size(); i++) {
+            final List<RobotToken> actualTokens = actualUnits.get(i).getElementTokens();
+            final List<RobotToken> expectedTokens = expectedUnits.get(i).getElementTokens();
+            assertThat(actualTokens).hasSameSizeAs(expectedTokens);
+            for (int j = 0; j < actualTokens.size(); j++) {
+                assertSameElements(actualTokens.get(j), expectedTokens.get(j));
+            }
+        }
+    }
+
+    private static class LinesCountingParser extends TxtRobotFileParser {
+
+        private int parsedLines;
+
+        @Override
+        public void parse(final RobotFileOutput output, final InputStream inputStream, final File robotFile) {
+            super.parse(output, inputStream, robotFile);
+            parsedLines += output.getFileModel().getFileContent().size();
+        }
+    }
+
+    private static void assertSameElements(final IRobotLineElement actual, final IRobotLineElement expected) {
+        assertThat(actual.getClass()).isEqualTo(expected.getClass());
+        assertThat(actual.getText()).isEqualTo(expected.getText());
+        assertThat(actual.getTypes()).isEqualTo(expected.getTypes());
+        assertThat(actual.getFilePosition()).isEqualTo(expected.getFilePosition());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.rf.ide.core.testdata.model.RobotVersion;
+import org.rf.ide.core.testdata.text.read.recognizer.header.SettingsTableHeaderRecognizer;
+import org.rf.ide.core.testdata.text.read.recognizer.settings.LibraryDeclarationRecognizer;
+import org.rf.ide.core.testdata.text.read.recognizer.variables.ScalarVariableDeclarationRecognizer;
+
+public class TokenRecognizersDispatcherTest {
+
+    private static final String[] TEXTS = { "", "text", "*** Settings ***", "*** Test Cases ***", "** keywords",
+            "*Variables*", "${var}", " @{list}", "&{dict}=", "%{ENV}", "kw ${var} arg", "[Tags]", "[ Setup ]",
+            "kw [Return] x", "# comment", "  #", "\\#", "...", "x...", "Library", "| Library |", "Suite Setup",
+            "Documentation:", "Test Template", "WITH NAME", "Metadata", "[Documentation] ${x} # *" };
+
+    @Test
+    public void dispatcherIsSharedForSameVersion() {
+        assertThat(TokenRecognizersDispatcher.forVersion(new RobotVersion(3, 0)))
+                .isSameAs(TokenRecognizersDispatcher.forVersion(RobotVersion.from("3.0")));
+        assertThat(TokenRecognizersDispatcher.forVersion(new RobotVersion(3, 0)))
+                .isNotSameAs(TokenRecognizersDispatcher.forVersion(new RobotVersion(2, 9)));
+    }
+
+    @Test
+    public void onlyRecognizersNotRequiringAnyCharacter_areDispatchedForPlainText() {
+        final List<ATokenRecognizer> recognizers = TokenRecognizersDispatcher.forVersion(new RobotVersion(3, 0))
+                .getRecognizers("Library");
+
+        assertThat(recognizers).hasAtLeastOneElementOfType(LibraryDeclarationRecognizer.class);
+        assertThat(recognizers).allMatch(rec -> rec.getRequiredCharacters().isEmpty());
+    }
+
+    @Test
+    public void recognizersRequiringCharacter_areDispatchedWhenTextContainsIt() {
+        final TokenRecognizersDispatcher dispatcher = TokenRecognizersDispatcher.forVersion(new RobotVersion(3, 0));
+
+        assertThat(dispatcher.getRecognizers("kw ${var}"))
+                .hasAtLeastOneElementOfType(ScalarVariableDeclarationRecognizer.class)
+                .allMatch(rec -> !(rec instanceof SettingsTableHeaderRecognizer));
+        assertThat(dispatcher.getRecognizers("*** Settings ***"))
+                .hasAtLeastOneElementOfType(SettingsTableHeaderRecognizer.class)
+                .allMatch(rec -> !(rec instanceof ScalarVariableDeclarationRecognizer));
+    }
+
+    @Test
+    public void dispatchedRecognizers_findSameTokensAsAllRecognizers() {
+        for (final RobotVersion version : new RobotVersion[] { new RobotVersion(2, 8), new RobotVersion(3, 0) }) {
+            final List<ATokenRecognizer> allRecognizers = new ArrayList<>();
+            allRecognizers.addAll(new SettingsRecognizersProvider().getRecognizers(version));
+            allRecognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
+            allRecognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(version));
+            allRecognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(version));
+
+            final TokenRecognizersDispatcher dispatcher = TokenRecognizersDispatcher.forVersion(version);
+            for (final String text : TEXTS) {
+                assertThat(findAll(dispatcher.getRecognizers(text), text)).as(text)
+                        .containsExactlyElementsOf(findAll(allRecognizers, text));
+            }
+        }
+    }
+
+    @Test
+    public void findingFirstToken_doesNotDependOnPreviousCalls() {
+        final ATokenRecognizer recognizer = new ScalarVariableDeclarationRecognizer();
+
+        for (int i = 0; i < 3; i++) {
+            final Optional<RobotToken> token = recognizer.findFirst("${var}", 4);
+            assertThat(token).isPresent();
+            assertThat(token.get().getText()).isEqualTo("${var}");
+            assertThat(token.get().getLineNumber()).isEqualTo(4);
+            assertThat(token.get().getStartColumn()).isEqualTo(0);
+            assertThat(token.get().getTypes()).containsExactly(recognizer.getProducedType());
+        }
+        assertThat(recognizer.findFirst("var", 4)).isEmpty();
+    }
+
+    private static List<String> findAll(final List<ATokenRecognizer> recognizers, final String text) {
+        final List<String> tokens = new ArrayList<>();
+        for (final ATokenRecognizer recognizer : recognizers) {
+            recognizer.findFirst(text, 1).ifPresent(token -> tokens.add(
+                    token.getTypes() + ":" + token.getStartColumn() + ":" + token.getText()));
+        }
+        return tokens;
+    }
+}
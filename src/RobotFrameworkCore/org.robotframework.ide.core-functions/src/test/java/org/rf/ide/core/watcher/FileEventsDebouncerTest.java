@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.watcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+public class FileEventsDebouncerTest {
+
+    private final Path file1 = Paths.get("/dir/lib.py");
+
+    private final Path file2 = Paths.get("/other/lib.py");
+
+    @Test
+    public void thereAreNoSettledFiles_whenThereWereNoEvents() {
+        final FileEventsDebouncer debouncer = new FileEventsDebouncer(100);
+
+        assertThat(debouncer.hasPendingFiles()).isFalse();
+        assertThat(debouncer.takeSettledFiles(1000)).isEmpty();
+    }
+
+    @Test
+    public void fileIsSettled_whenThereWereNoEventsForItDuringWindow() {
+        final FileEventsDebouncer debouncer = new FileEventsDebouncer(100);
+        debouncer.fileModified(file1, 1000);
+
+        assertThat(debouncer.hasPendingFiles()).isTrue();
+        assertThat(debouncer.getMillisToNextSettle(1040)).isEqualTo(60);
+        assertThat(debouncer.takeSettledFiles(1099)).isEmpty();
+        assertThat(debouncer.takeSettledFiles(1100)).containsExactly(file1);
+        assertThat(debouncer.hasPendingFiles()).isFalse();
+    }
+
+    @Test
+    public void consecutiveEventsOfSameFileAreCoalesced() {
+        final FileEventsDebouncer debouncer = new FileEventsDebouncer(100);
+        debouncer.fileModified(file1, 1000);
+        debouncer.fileModified(file1, 1050);
+        debouncer.fileModified(file1, 1120);
+
+        assertThat(debouncer.takeSettledFiles(1200)).isEmpty();
+        assertThat(debouncer.takeSettledFiles(1220)).containsExactly(file1);
+        assertThat(debouncer.takeSettledFiles(1500)).isEmpty();
+    }
+
+    @Test
+    public void filesWithSameNameAreSettledSeparately() {
+        final FileEventsDebouncer debouncer = new FileEventsDebouncer(100);
+        debouncer.fileModified(file1, 1000);
+        debouncer.fileModified(file2, 1080);
+
+        assertThat(debouncer.getMillisToNextSettle(1050)).isEqualTo(50);
+        assertThat(debouncer.takeSettledFiles(1100)).containsExactly(file1);
+        assertThat(debouncer.getMillisToNextSettle(1100)).isEqualTo(80);
+        assertThat(debouncer.takeSettledFiles(1180)).containsExactly(file2);
+    }
+
+    @Test
+    public void allSettledFilesAreTakenAtOnce() {
+        final FileEventsDebouncer debouncer = new FileEventsDebouncer(100);
+        debouncer.fileModified(file1, 1000);
+        debouncer.fileModified(file2, 1010);
+
+        assertThat(debouncer.takeSettledFiles(1200)).containsOnly(file1, file2);
+    }
+}
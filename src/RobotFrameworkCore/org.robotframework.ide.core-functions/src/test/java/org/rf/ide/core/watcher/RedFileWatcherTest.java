@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.watcher;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableSet;
+
+public class RedFileWatcherTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final RedFileWatcher watcher = new RedFileWatcher(50);
+
+    @After
+    public void afterTest() {
+        watcher.closeWatchService();
+    }
+
+    @Test
+    public void filesAreRegisteredByNormalizedPaths() throws IOException {
+        final File dir = tempFolder.newFolder("dir");
+        final Path file = write(new File(dir, "lib.py"), "content");
+        final IWatchEventHandler handler = mock(IWatchEventHandler.class);
+
+        watcher.registerFile(dir.toPath().resolve("..").resolve("dir").resolve("lib.py"), handler);
+        assertThat(watcher.getRegisteredFiles()).containsOnly(file.toAbsolutePath().normalize());
+
+        watcher.unregisterFile(file, handler);
+        assertThat(watcher.getRegisteredFiles()).isEmpty();
+    }
+
+    @Test
+    public void contentIsNotChanged_whenFileIsOnlyTouched() throws IOException {
+        final Path file = write(tempFolder.newFile("lib.py"), "content");
+        watcher.registerFile(file, mock(IWatchEventHandler.class));
+
+        file.toFile().setLastModified(file.toFile().lastModified() + 2000);
+        assertThat(watcher.isContentChanged(file)).isFalse();
+
+        write(file.toFile(), "changed content");
+        assertThat(watcher.isContentChanged(file)).isTrue();
+        assertThat(watcher.isContentChanged(file)).isFalse();
+    }
+
+    @Test
+    public void handlerIsNotifiedOnlyAboutModifiedFile_whenThereAreOtherFilesWithSameName() throws IOException {
+        final Path file = write(new File(tempFolder.newFolder("dir1"), "lib.py"), "content");
+        final Path sameNamedFile = write(new File(tempFolder.newFolder("dir2"), "lib.py"), "content");
+        final IWatchEventHandler handler = mock(IWatchEventHandler.class);
+        final IWatchEventHandler otherHandler = mock(IWatchEventHandler.class);
+        watcher.registerFile(file, handler);
+        watcher.registerFile(sameNamedFile, otherHandler);
+
+        write(file.toFile(), "changed content");
+
+        verify(handler, timeout(10_000)).handleModifyEvents(ImmutableSet.of(file.toAbsolutePath().normalize()));
+        verify(otherHandler, after(200).never()).handleModifyEvents(any());
+    }
+
+    private static Path write(final File file, final String content) throws IOException {
+        return Files.write(file.toPath(), content.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,119 @@
+"""Measures how long agent needs to report synthetic suite of keywords in debug mode
+
+Agent is connected through localhost socket to a fake RED which answers every should_continue
+question immediately, so the measured time is the cost of reporting events and of round trips
+between agent and RED for each pausing point checks configuration. This script is not a part
+of unit tests; run it from this directory with agent script and Robot Framework importable:
+
+    PYTHONPATH=../../../main/python/scripts python benchmark_pausing_points.py [keywords] [repeats]
+"""
+import socket
+import sys
+import threading
+import time
+
+from TestRunnerAgent import AgentMode
+from TestRunnerAgent import MessagesDecoderEncoder
+from TestRunnerAgent import PausingPointsChecks
+from TestRunnerAgent import TestRunnerAgent
+
+TESTS = 100
+USER_KEYWORDS_PER_TEST = 100
+LIBRARY_KEYWORDS_PER_USER_KEYWORD = 9
+
+
+class FakeRed(object):
+
+    def __init__(self, server_socket):
+        self.questions = 0
+        self._connection, _ = server_socket.accept()
+        self._thread = threading.Thread(target=self._answer)
+        self._thread.daemon = True
+        self._thread.start()
+
+    def _answer(self):
+        reader = self._connection.makefile('rb')
+        for line in reader:
+            if line.startswith(b'{"should_continue"'):
+                self.questions += 1
+                self._connection.sendall(b'{"continue":[]}\n')
+
+    def close(self):
+        self._connection.shutdown(socket.SHUT_WR)
+        self._thread.join()
+        self._connection.close()
+
+
+def _connected_agent(checks):
+    server_socket = socket.socket(socket.AF_INET, socket.SOCK_STREAM)
+    server_socket.bind(('localhost', 0))
+    server_socket.listen(1)
+
+    agent_socket = socket.create_connection(server_socket.getsockname())
+    red = FakeRed(server_socket)
+    server_socket.close()
+
+    agent = TestRunnerAgent.__new__(TestRunnerAgent)
+    agent._is_connected = True
+    agent._mode = AgentMode.DEBUG
+    agent._last_pause_check = time.time()
+    agent._pausing_points_checks = checks
+    agent._current_test = None
+    agent._keywords_stack = []
+    agent._sent_frames = []
+    agent._expanded_paths = {}
+    agent._pending_responses = []
+    agent.sock = agent_socket
+    agent.decoder_encoder = MessagesDecoderEncoder(agent_socket)
+    return agent, red
+
+
+def _keyword_attrs(name, kw_type):
+    return {'kwname': name, 'libname': '', 'type': kw_type, 'args': [], 'doc': '', 'assign': [],
+            'status': 'PASS', 'starttime': '', 'endtime': '', 'elapsedtime': 0}
+
+
+def _run_suite(agent, keywords):
+    user_keywords = keywords // (LIBRARY_KEYWORDS_PER_USER_KEYWORD + 1)
+    tests = max(1, user_keywords // USER_KEYWORDS_PER_TEST)
+    lib_attrs = _keyword_attrs('Log', 'Keyword')
+    for test_index in range(tests):
+        test_name = 'test %d' % test_index
+        agent._current_test = test_name
+        for kw_index in range(user_keywords // tests):
+            kw_name = 'kw %d' % kw_index
+            kw_attrs = _keyword_attrs(kw_name, 'Keyword')
+            agent.start_keyword(kw_name, kw_attrs)
+            for _ in range(LIBRARY_KEYWORDS_PER_USER_KEYWORD):
+                agent.start_keyword('BuiltIn.Log', lib_attrs)
+                agent.end_keyword('BuiltIn.Log', lib_attrs)
+            agent.end_keyword(kw_name, kw_attrs)
+        agent._current_test = None
+
+
+def _measure(label, checks_factory, keywords, repeats):
+    times = []
+    questions = 0
+    for _ in range(repeats):
+        agent, red = _connected_agent(checks_factory())
+        start = time.time()
+        _run_suite(agent, keywords)
+        agent.decoder_encoder.flush()
+        times.append(time.time() - start)
+        agent._close_connection()
+        red.close()
+        questions = red.questions
+    print('%-40s %8.2f s (best of %d) %10d should_continue questions' % (label, min(times), repeats, questions))
+
+
+def main(keywords=100000, repeats=3):
+    print('%d keywords, %s' % (keywords, sys.version.split()[0]))
+    _measure('all points checked (protocol 2)', lambda: PausingPointsChecks(True), keywords, repeats)
+    _measure('keyword starts checked (pause on error)',
+             lambda: PausingPointsChecks(False, check_starts=True), keywords, repeats)
+    _measure('breakpoint inside one keyword', lambda: PausingPointsChecks(False, [], ['kw 1']), keywords, repeats)
+    _measure('no breakpoints', lambda: PausingPointsChecks(False), keywords, repeats)
+
+
+if __name__ == '__main__':
+    main(*[int(arg) for arg in sys.argv[1:]])
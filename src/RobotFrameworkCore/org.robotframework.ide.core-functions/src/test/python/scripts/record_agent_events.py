@@ -0,0 +1,128 @@
+"""Records events which agent sends to RED while running synthetic keyword-heavy suite in run mode
+
+Agent is connected through localhost socket to a fake RED which writes every received line into
+the given file and answers should_continue questions immediately. The recorded log can be given to
+RobotAgentEventDispatcherBenchmark. This script is not a part of unit tests; run it from this
+directory with agent script and Robot Framework importable:
+
+    PYTHONPATH=../../../main/python/scripts python record_agent_events.py <log file> [keywords]
+"""
+import socket
+import sys
+import threading
+import time
+
+from TestRunnerAgent import AgentMode
+from TestRunnerAgent import MessagesDecoderEncoder
+from TestRunnerAgent import PausingPointsChecks
+from TestRunnerAgent import TestRunnerAgent
+
+SUITES = 10
+USER_KEYWORDS_PER_TEST = 20
+LIBRARY_KEYWORDS_PER_USER_KEYWORD = 4
+TIME = '20171018 12:00:00.000'
+
+
+class RecordingRed(object):
+
+    def __init__(self, server_socket, log_file):
+        self.events = 0
+        self._log_file = log_file
+        self._connection, _ = server_socket.accept()
+        self._thread = threading.Thread(target=self._record)
+        self._thread.daemon = True
+        self._thread.start()
+
+    def _record(self):
+        reader = self._connection.makefile('rb')
+        for line in reader:
+            self.events += 1
+            self._log_file.write(line)
+            if line.startswith(b'{"should_continue"'):
+                self._connection.sendall(b'{"continue":[]}\n')
+
+    def close(self):
+        self._connection.shutdown(socket.SHUT_WR)
+        self._thread.join()
+        self._connection.close()
+
+
+def _connected_agent(log_file):
+    server_socket = socket.socket(socket.AF_INET, socket.SOCK_STREAM)
+    server_socket.bind(('localhost', 0))
+    server_socket.listen(1)
+
+    agent_socket = socket.create_connection(server_socket.getsockname())
+    red = RecordingRed(server_socket, log_file)
+    server_socket.close()
+
+    agent = TestRunnerAgent.__new__(TestRunnerAgent)
+    agent._is_connected = True
+    agent._mode = AgentMode.RUN
+    agent._last_pause_check = time.time()
+    agent._pausing_points_checks = PausingPointsChecks(False)
+    agent._current_test = None
+    agent._keywords_stack = []
+    agent._sent_frames = []
+    agent._expanded_paths = {}
+    agent._pending_responses = []
+    agent.sock = agent_socket
+    agent.decoder_encoder = MessagesDecoderEncoder(agent_socket)
+    return agent, red
+
+
+def _suite_attrs(index, tests):
+    return {'id': 's1-s%d' % (index + 1), 'longname': 'Root.Suite %d' % index, 'doc': '', 'metadata': {},
+            'source': '/project/suite_%d.robot' % index, 'suites': [], 'tests': tests, 'totaltests': len(tests),
+            'starttime': TIME, 'endtime': TIME, 'elapsedtime': 0, 'status': 'PASS', 'message': '',
+            'statistics': ''}
+
+
+def _test_attrs(suite_index, index, name):
+    return {'id': 's1-s%d-t%d' % (suite_index + 1, index + 1), 'longname': 'Root.Suite %d.%s' % (suite_index, name),
+            'doc': '', 'tags': ['tag'], 'critical': 'yes', 'template': '', 'starttime': TIME, 'endtime': TIME,
+            'elapsedtime': 0, 'status': 'PASS', 'message': ''}
+
+
+def _keyword_attrs(name, libname, args):
+    return {'kwname': name, 'libname': libname, 'type': 'Keyword', 'doc': 'Documentation of keyword',
+            'args': args, 'assign': [], 'tags': [], 'starttime': TIME, 'endtime': TIME, 'elapsedtime': 0,
+            'status': 'PASS'}
+
+
+def _run_suites(agent, keywords):
+    user_keywords = max(1, keywords // (LIBRARY_KEYWORDS_PER_USER_KEYWORD + 1))
+    tests_per_suite = max(1, user_keywords // USER_KEYWORDS_PER_TEST // SUITES)
+    for suite_index in range(SUITES):
+        tests = ['test %d' % index for index in range(tests_per_suite)]
+        suite_attrs = _suite_attrs(suite_index, tests)
+        agent.start_suite('Suite %d' % suite_index, suite_attrs)
+        for test_index, test_name in enumerate(tests):
+            test_attrs = _test_attrs(suite_index, test_index, test_name)
+            agent.start_test(test_name, test_attrs)
+            for kw_index in range(USER_KEYWORDS_PER_TEST):
+                kw_attrs = _keyword_attrs('kw %d' % kw_index, 'resource', ['${arg}', 'value %d' % kw_index])
+                agent.start_keyword('resource.kw %d' % kw_index, kw_attrs)
+                for lib_index in range(LIBRARY_KEYWORDS_PER_USER_KEYWORD):
+                    lib_attrs = _keyword_attrs('Log', 'BuiltIn', ['message %d' % lib_index])
+                    agent.start_keyword('BuiltIn.Log', lib_attrs)
+                    agent.log_message({'message': 'message %d' % lib_index, 'level': 'INFO', 'timestamp': TIME,
+                                       'html': 'no'})
+                    agent.end_keyword('BuiltIn.Log', lib_attrs)
+                agent.end_keyword('resource.kw %d' % kw_index, kw_attrs)
+            agent.end_test(test_name, test_attrs)
+        agent.end_suite('Suite %d' % suite_index, suite_attrs)
+
+
+def main(log_path, keywords=100000):
+    with open(log_path, 'wb') as log_file:
+        agent, red = _connected_agent(log_file)
+        _run_suites(agent, keywords)
+        agent.decoder_encoder.flush()
+        agent._close_connection()
+        red.close()
+    print('%d events recorded into %s' % (red.events, log_path))
+
+
+if __name__ == '__main__':
+    main(sys.argv[1], *[int(arg) for arg in sys.argv[2:]])
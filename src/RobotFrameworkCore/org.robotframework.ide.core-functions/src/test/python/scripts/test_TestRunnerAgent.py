@@ -1,7 +1,14 @@
 import unittest
+import socket
+import select
 
 from TestRunnerAgent import _truncate
 from TestRunnerAgent import _extract_source_path
+from TestRunnerAgent import PausingPointsChecks
+from TestRunnerAgent import _serialize_value
+from TestRunnerAgent import _variables_delta
+from TestRunnerAgent import MessagesDecoderEncoder
+from TestRunnerAgent import TestRunnerAgent
 
 
 class TruncationTests(unittest.TestCase):
@@ -42,3 +49,235 @@ class SourcePathExtractionTests(unittest.TestCase):
         self.assertEqual('/path_to_file.py', _extract_source_path('file:/path_to_file.py'))
         self.assertEqual('/path_to_file.py', _extract_source_path('file:/path_to_file.pyc'))
         self.assertEqual('/path_to_file.py', _extract_source_path('file:/path_to_file$py.class'))
+
+
+class PausingPointsChecksTests(unittest.TestCase):
+
+    def test_every_keyword_is_checked_by_default(self):
+        checks = PausingPointsChecks()
+
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'test', [('Keyword', ('kw',))]))
+        self.assertTrue(checks.should_check_keyword_start('Keyword', None, []))
+
+    def test_every_keyword_is_checked_when_all_points_have_to_be_checked(self):
+        checks = PausingPointsChecks(True, [], [])
+
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'test', [('Keyword', ('kw',))]))
+
+    def test_setups_teardowns_and_suite_level_keywords_are_always_checked(self):
+        checks = PausingPointsChecks(False, [], [])
+
+        self.assertTrue(checks.should_check_keyword_start('Setup', 'test', [('Keyword', ('kw',))]))
+        self.assertTrue(checks.should_check_keyword_start('Teardown', 'test', []))
+        self.assertTrue(checks.should_check_keyword_start('Keyword', None, []))
+        self.assertFalse(checks.should_check_keyword_start('Keyword', 'test', []))
+
+    def test_keywords_called_directly_from_test_holding_breakpoint_are_checked(self):
+        checks = PausingPointsChecks(False, ['Holding Test'], [])
+
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'holding_test', []))
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'holding_test', [('For', ('loop',)),
+                                                                                    ('For Item', ('i = 1',))]))
+        self.assertFalse(checks.should_check_keyword_start('Keyword', 'holding_test', [('Keyword', ('kw',))]))
+        self.assertFalse(checks.should_check_keyword_start('Keyword', 'other test', []))
+
+    def test_keywords_called_directly_from_keyword_holding_breakpoint_are_checked(self):
+        checks = PausingPointsChecks(False, [], ['My Keyword'])
+
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'test', [('Keyword', ('my keyword',))]))
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'test', [('Keyword', ('res.My Keyword',
+                                                                                           'My Keyword'))]))
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'test', [('Keyword', ('My Keyword',)),
+                                                                            ('For', ('loop',))]))
+        self.assertFalse(checks.should_check_keyword_start('Keyword', 'test', [('Keyword', ('My Keyword',)),
+                                                                             ('Keyword', ('other',))]))
+
+    def test_keywords_with_embedded_arguments_are_matched_with_any_argument_values(self):
+        checks = PausingPointsChecks(False, [], ['Open ${page} page in ${browser}'])
+
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'test', [('Keyword', ('Open main page in ff',))]))
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'test', [('Keyword', ('open "x" page in y',))]))
+        self.assertFalse(checks.should_check_keyword_start('Keyword', 'test', [('Keyword', ('Open main page',))]))
+
+    def test_every_keyword_start_is_checked_when_starts_have_to_be_checked(self):
+        checks = PausingPointsChecks(False, [], [], check_starts=True)
+
+        self.assertFalse(checks.check_all)
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'test', [('Keyword', ('kw',))]))
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'test', []))
+
+    def test_checks_of_keyword_starts_are_created_from_red_response(self):
+        checks = PausingPointsChecks.from_response(
+            {'check_pausing_points': {'all': False, 'starts': True, 'tests': [], 'keywords': []}})
+
+        self.assertFalse(checks.check_all)
+        self.assertTrue(checks.check_starts)
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'x', [('Keyword', ('k',))]))
+
+    def test_checks_are_created_from_red_response(self):
+        checks = PausingPointsChecks.from_response(
+            {'check_pausing_points': {'all': False, 'tests': ['t'], 'keywords': ['k']}})
+
+        self.assertFalse(checks.check_all)
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 't', []))
+        self.assertTrue(checks.should_check_keyword_start('Keyword', 'x', [('Keyword', ('k',))]))
+        self.assertFalse(checks.should_check_keyword_start('Keyword', 'x', []))
+
+
+class ValueSerializationTests(unittest.TestCase):
+
+    LIMITS = (10, 2, 3)
+
+    def test_scalars_are_labeled_with_types_and_truncated(self):
+        self.assertEqual(('int', '42'), _serialize_value(self.LIMITS, 42))
+        self.assertEqual(('NoneType', 'None'), _serialize_value(self.LIMITS, None))
+        self.assertEqual(('str', 'abcdefghij <truncated>'), _serialize_value(self.LIMITS, 'abcdefghijkl'))
+
+    def test_small_containers_are_serialized_with_children(self):
+        self.assertEqual(('list', [('int', '1'), ('tuple', [('str', 'a')])]),
+                         _serialize_value(self.LIMITS, [1, ('a',)]))
+        self.assertEqual(('dict', {'k': ('int', '1')}), _serialize_value(self.LIMITS, {'k': 1}))
+
+    def test_large_containers_are_summarized(self):
+        self.assertEqual(('list', {'<summary>': 4}), _serialize_value(self.LIMITS, [1, 2, 3, 4]))
+        self.assertEqual(('dict', {'<summary>': 4}), _serialize_value(self.LIMITS, dict.fromkeys('abcd', 1)))
+
+    def test_deep_containers_are_summarized(self):
+        self.assertEqual(('list', [('list', [('list', {'<summary>': 1})])]),
+                         _serialize_value(self.LIMITS, [[[1]]]))
+        self.assertEqual(('dict', {'a': ('dict', {'b': ('dict', {'<summary>': 1})})}),
+                         _serialize_value(self.LIMITS, {'a': {'b': {'c': 1}}}))
+
+    def test_containers_at_expanded_paths_are_not_summarized(self):
+        expanded = set([(), ('0',), ('0', '0')])
+
+        self.assertEqual(('list', [('list', [('list', [('int', '1')])]), ('int', '2'), ('int', '3'), ('int', '4')]),
+                         _serialize_value(self.LIMITS, [[[1]], 2, 3, 4], expanded))
+
+
+class VariablesDeltaTests(unittest.TestCase):
+
+    def test_frames_which_were_not_sent_are_sent_fully(self):
+        frame = object()
+        frames = [(frame, {'${a}': ('int', '1', 'local')})]
+
+        self.assertEqual(([{'${a}': ('int', '1', 'local')}], [None]), _variables_delta([], frames))
+
+    def test_frames_which_were_sent_are_sent_as_changes_against_previously_sent_frame(self):
+        frame_1, frame_2 = object(), object()
+        previous = [(frame_1, {'${a}': ('int', '1', 'global')}),
+                    (frame_2, {'${b}': ('int', '1', 'local'), '${c}': ('int', '2', 'local')})]
+        frames = [(frame_2, {'${b}': ('int', '5', 'local'), '${d}': ('int', '3', 'local')}),
+                  (frame_1, {'${a}': ('int', '1', 'global')})]
+
+        var_scopes, deltas = _variables_delta(previous, frames)
+
+        self.assertEqual([{'${b}': ('int', '5', 'local'), '${d}': ('int', '3', 'local')}, {}], var_scopes)
+        self.assertEqual([{'base': 1, 'removed': ['${c}']}, {'base': 0, 'removed': []}], deltas)
+
+
+class MessagesBatchingTests(unittest.TestCase):
+
+    def setUp(self):
+        self.agent_socket, self.server_socket = socket.socketpair()
+        self.encoder = MessagesDecoderEncoder(self.agent_socket, max_batch_size=50, max_batch_delay=60)
+
+    def tearDown(self):
+        self.encoder.close()
+        self.agent_socket.close()
+        self.server_socket.close()
+
+    def _server_has_data(self):
+        return bool(select.select([self.server_socket], [], [], 0.2)[0])
+
+    def _read_server_data(self):
+        data = b''
+        while self._server_has_data():
+            data += self.server_socket.recv(1024 * 1024)
+        return data
+
+    def test_events_are_not_sent_until_batch_is_flushed(self):
+        self.encoder.dump({'start_keyword': []})
+        self.encoder.dump({'end_keyword': []})
+
+        self.assertFalse(self._server_has_data())
+
+        self.encoder.flush()
+
+        self.assertEqual(b'{"start_keyword":[]}\n{"end_keyword":[]}\n', self._read_server_data())
+
+    def test_events_are_sent_before_reading_response(self):
+        self.encoder.dump({'should_continue': []})
+        self.server_socket.sendall(b'{"continue":[]}\n')
+
+        self.assertEqual({'continue': []}, self.encoder.load())
+        self.assertEqual(b'{"should_continue":[]}\n', self._read_server_data())
+
+    def test_events_are_sent_after_delay(self):
+        encoder = MessagesDecoderEncoder(self.agent_socket, max_batch_delay=0.05)
+        encoder.dump({'start_keyword': []})
+
+        self.assertEqual(b'{"start_keyword":[]}\n', self._read_server_data())
+        encoder.close()
+
+    def test_events_are_sent_when_batch_grows_too_large(self):
+        self.encoder.dump({'start_keyword': ['a' * 20]})
+
+        self.assertFalse(self._server_has_data())
+
+        self.encoder.dump({'end_keyword': ['a' * 20]})
+
+        data = self._read_server_data()
+        self.assertEqual(2, data.count(b'\n'))
+
+
+class MessagesReadingTests(unittest.TestCase):
+
+    def setUp(self):
+        self.agent_socket, self.server_socket = socket.socketpair()
+        self.encoder = MessagesDecoderEncoder(self.agent_socket, max_batch_delay=60, read_chunk_size=8)
+
+    def tearDown(self):
+        self.encoder.close()
+        self.agent_socket.close()
+        self.server_socket.close()
+
+    def _agent_socket_has_data(self):
+        return bool(select.select([self.agent_socket], [], [], 0)[0])
+
+    def test_there_is_no_message_to_load_when_nothing_was_sent(self):
+        self.assertFalse(self.encoder.has_message_to_load())
+
+    def test_messages_longer_than_read_chunk_are_loaded(self):
+        self.server_socket.sendall(b'{"continue":[]}\n{"pause":[]}\n')
+
+        self.assertEqual({'continue': []}, self.encoder.load())
+        self.assertEqual({'pause': []}, self.encoder.load())
+
+    def test_buffered_message_is_available_when_socket_has_no_more_data(self):
+        encoder = MessagesDecoderEncoder(self.agent_socket, max_batch_delay=60)
+        self.server_socket.sendall(b'{"continue":[]}\n{"pause":[]}\n')
+        select.select([self.agent_socket], [], [], 1)
+
+        self.assertEqual({'continue': []}, encoder.load())
+        self.assertFalse(self._agent_socket_has_data())
+        self.assertTrue(encoder.has_message_to_load())
+        self.assertEqual({'pause': []}, encoder.load())
+        self.assertFalse(encoder.has_message_to_load())
+        encoder.close()
+
+    def test_responses_other_than_pausing_points_checks_are_kept_for_agent_waiting_for_response(self):
+        agent = TestRunnerAgent.__new__(TestRunnerAgent)
+        agent._is_connected = True
+        agent.decoder_encoder = self.encoder
+        agent._pending_responses = []
+        agent._pausing_points_checks = PausingPointsChecks()
+        self.server_socket.sendall(b'{"resume":[]}\n'
+                                   b'{"check_pausing_points":{"all":false,"tests":[],"keywords":[]}}\n')
+        select.select([self.agent_socket], [], [], 1)
+
+        agent._receive_pausing_points_checks()
+
+        self.assertFalse(agent._pausing_points_checks.check_all)
+        self.assertFalse(self.encoder.has_message_to_load())
+        self.assertEqual(('resume', {'resume': []}), agent._wait_for_reponse('resume'))